@@ -5,7 +5,9 @@ import dev.lsdmc.arcaniteCrystals.command.ArcaniteCommand;
 import dev.lsdmc.arcaniteCrystals.command.LevelUpCommand;
 import dev.lsdmc.arcaniteCrystals.config.ConfigManager;
 import dev.lsdmc.arcaniteCrystals.database.DatabaseManager;
+import dev.lsdmc.arcaniteCrystals.database.PlayerDataManager;
 import dev.lsdmc.arcaniteCrystals.listener.CrystalListener;
+import dev.lsdmc.arcaniteCrystals.listener.PlayerProfileListener;
 import dev.lsdmc.arcaniteCrystals.manager.UpgradeManager;
 import dev.lsdmc.arcaniteCrystals.manager.CrystalRecipeManager;
 import dev.lsdmc.arcaniteCrystals.manager.CrystalCraftingManager;
@@ -57,6 +59,7 @@ public class ArcaniteCrystals extends JavaPlugin {
         // Register PlaceholderAPI expansion if available
         if (getServer().getPluginManager().getPlugin("PlaceholderAPI") != null) {
             new ArcaniteExpansion().register();
+            getServer().getPluginManager().registerEvents(new dev.lsdmc.arcaniteCrystals.listener.PlaceholderInvalidationListener(), this);
             getLogger().info("PlaceholderAPI expansion registered!");
         }
         
@@ -68,22 +71,35 @@ public class ArcaniteCrystals extends JavaPlugin {
         // Cleanup managers
         UpgradeManager.cleanup();
         
-        // Close database connections
+        // Write unsaved statistic deltas while the database is still open
+        PlayerStatisticsManager.shutdown();
+        
+        // Flush pending player data, then close database connections
+        PlayerDataManager.shutdown();
         DatabaseManager.shutdown();
         
         // BEGIN PATCH stop crystal manager tasks
         dev.lsdmc.arcaniteCrystals.manager.CrystalManager.shutdown();
         // END PATCH
         
+        // Stop particle animations
+        dev.lsdmc.arcaniteCrystals.util.ParticleQueue.stop();
+        
+        // Stop the cooldown ticker; deadlines stay in player profiles
+        dev.lsdmc.arcaniteCrystals.manager.CrystalCooldownManager.cleanup();
+        
         // Cleanup server level manager
         dev.lsdmc.arcaniteCrystals.manager.ServerLevelManager.cleanup();
         
+        // Flush the crystal event log and close the registry index
+        dev.lsdmc.arcaniteCrystals.manager.CrystalRegistry.cleanup();
+        
         getLogger().info("ArcaniteCrystals has been disabled!");
     }
     
     private void initializeManagers() {
-        // Initialize database
-        DatabaseManager.initialize(this);
+        // Initialize database and player profile cache
+        PlayerDataManager.initialize(this);
         
         // Initialize crystal listener
         crystalListener = new CrystalListener();
@@ -94,6 +110,12 @@ public class ArcaniteCrystals extends JavaPlugin {
         // BEGIN PATCH initialize crystal manager
         dev.lsdmc.arcaniteCrystals.manager.CrystalManager.initialize();
         // END PATCH
+        
+        // Open the persistent crystal registry
+        dev.lsdmc.arcaniteCrystals.manager.CrystalRegistry.initialize();
+        
+        // Start the shared particle queue and animation scheduler
+        dev.lsdmc.arcaniteCrystals.util.ParticleQueue.start();
     }
     
     private void registerCommands() {
@@ -105,6 +127,9 @@ public class ArcaniteCrystals extends JavaPlugin {
     }
     
     private void registerListeners() {
+        // Register player profile loading/unloading
+        getServer().getPluginManager().registerEvents(new PlayerProfileListener(), this);
+        
         // Register crystal listener
         getServer().getPluginManager().registerEvents(crystalListener, this);
         
@@ -116,6 +141,12 @@ public class ArcaniteCrystals extends JavaPlugin {
         
         // Register server level manager listener for player join events
         getServer().getPluginManager().registerEvents(new dev.lsdmc.arcaniteCrystals.manager.ServerLevelManager(), this);
+        
+        // Register the shared dispatcher for all plugin menus
+        getServer().getPluginManager().registerEvents(new dev.lsdmc.arcaniteCrystals.menu.MenuDispatcher(), this);
+        
+        // Register equipment tracking for socketed crystal stats
+        getServer().getPluginManager().registerEvents(new dev.lsdmc.arcaniteCrystals.manager.SocketStatManager(), this);
     }
     
     private boolean setupEconomy() {
@@ -2,13 +2,16 @@
 package dev.lsdmc.arcaniteCrystals.command;
 
 import dev.lsdmc.arcaniteCrystals.config.ConfigManager;
+import dev.lsdmc.arcaniteCrystals.database.PlayerDataManager;
 import dev.lsdmc.arcaniteCrystals.menu.TalentMenu;
+import dev.lsdmc.arcaniteCrystals.util.EffectLod;
 import dev.lsdmc.arcaniteCrystals.util.MessageManager;
 import dev.lsdmc.arcaniteCrystals.manager.CrystalManager;
 import dev.lsdmc.arcaniteCrystals.manager.CrystalRecipeManager;
 import dev.lsdmc.arcaniteCrystals.manager.ServerLevelManager;
 import dev.lsdmc.arcaniteCrystals.menu.CraftingMenu;
 import dev.lsdmc.arcaniteCrystals.menu.ArcaniteMainMenu;
+import dev.lsdmc.arcaniteCrystals.placeholder.PlaceholderCache;
 import org.bukkit.Bukkit;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -30,7 +33,7 @@ public class ArcaniteCommand implements CommandExecutor, TabCompleter {
 
     // Define available subcommands with proper organization
     private static final List<String> BASIC_COMMANDS = Arrays.asList(
-            "help", "talents", "mystery", "stats", "health", "levels", "levelinfo"
+            "help", "talents", "mystery", "stats", "health", "levels", "levelinfo", "effects"
     );
     
     private static final List<String> ADMIN_COMMANDS = Arrays.asList(
@@ -48,6 +51,10 @@ public class ArcaniteCommand implements CommandExecutor, TabCompleter {
     private static final List<String> CATALYST_TYPES = Arrays.asList(
             "identification", "socketing", "fusion"
     );
+    
+    private static final List<String> EFFECT_OPTIONS = Arrays.asList(
+            "animations", "particles", "sounds"
+    );
 
     @Override
     public boolean onCommand(CommandSender sender, Command cmd, String label, String[] args) {
@@ -186,6 +193,11 @@ public class ArcaniteCommand implements CommandExecutor, TabCompleter {
                 }
                 try {
                     ConfigManager.reloadConfig();
+                    PlaceholderCache.invalidateAll();
+                    dev.lsdmc.arcaniteCrystals.menu.ItemTemplates.clear();
+                    dev.lsdmc.arcaniteCrystals.util.ParticleManager.reloadConfig();
+                    dev.lsdmc.arcaniteCrystals.listener.MiningListener.reloadConfig();
+                    dev.lsdmc.arcaniteCrystals.manager.SocketStatManager.reloadConfig();
                     sender.sendMessage(ChatColor.GREEN + "Configuration reloaded successfully!");
                 } catch (Exception e) {
                     sender.sendMessage(ChatColor.RED + "Error reloading configuration: " + e.getMessage());
@@ -200,6 +212,14 @@ public class ArcaniteCommand implements CommandExecutor, TabCompleter {
                 handleCatalystCommand(sender, args);
                 break;
                 
+            case "effects":
+                if (!(sender instanceof Player)) {
+                    sender.sendMessage(ChatColor.RED + "This command can only be used by players!");
+                    return true;
+                }
+                handleEffectsCommand((Player) sender, args);
+                break;
+                
             default:
                 sender.sendMessage(ChatColor.RED + "Unknown subcommand. Use /arcanite help for help.");
                 break;
@@ -208,6 +228,34 @@ public class ArcaniteCommand implements CommandExecutor, TabCompleter {
         return true;
     }
 
+    /**
+     * Shows or toggles the player's effect opt-outs, which are saved with their profile.
+     */
+    private void handleEffectsCommand(Player player, String[] args) {
+        int settings = PlayerDataManager.getEffectSettings(player.getUniqueId());
+        if (args.length >= 2) {
+            int flag = switch (args[1].toLowerCase()) {
+                case "animations" -> EffectLod.NO_ANIMATIONS;
+                case "particles" -> EffectLod.REDUCED_PARTICLES;
+                case "sounds" -> EffectLod.NO_LAYERED_SOUNDS;
+                default -> 0;
+            };
+            if (flag == 0) {
+                player.sendMessage(ChatColor.RED + "Usage: /arcanite effects [animations|particles|sounds]");
+                return;
+            }
+            settings ^= flag;
+            if (!PlayerDataManager.setEffectSettings(player.getUniqueId(), settings)) {
+                player.sendMessage(ChatColor.RED + "Your profile is still loading, try again in a moment.");
+                return;
+            }
+        }
+        player.sendMessage("§6Effect settings §7(toggle with /arcanite effects <option>)");
+        player.sendMessage("§7Animations: " + ((settings & EffectLod.NO_ANIMATIONS) != 0 ? "§cOff" : "§aOn"));
+        player.sendMessage("§7Particles: " + ((settings & EffectLod.REDUCED_PARTICLES) != 0 ? "§eReduced" : "§aFull"));
+        player.sendMessage("§7Layered sounds: " + ((settings & EffectLod.NO_LAYERED_SOUNDS) != 0 ? "§cOff" : "§aOn"));
+    }
+
     private void sendHelp(Player p) {
         p.sendMessage("§6§l=== ArcaniteCrystals Help ===");
         p.sendMessage("§e/arcanite talents §7- Open the Crystal Upgrades menu");
@@ -217,6 +265,7 @@ public class ArcaniteCommand implements CommandExecutor, TabCompleter {
         p.sendMessage("§e/arcanite levelinfo <#> §7- View details for a specific level");
         p.sendMessage("§e/arcanite stats §7- View system statistics");
         p.sendMessage("§e/arcanite health §7- Check system health");
+        p.sendMessage("§e/arcanite effects [option] §7- Turn off particle animations, extra particles or layered sounds");
         p.sendMessage("§e/levelup §7- Level up if you meet the requirements");
         
         if (p.hasPermission("arcanite.admin")) {
@@ -245,8 +294,22 @@ public class ArcaniteCommand implements CommandExecutor, TabCompleter {
 
     private void showStats(CommandSender sender) {
         sender.sendMessage("§6=== ArcaniteCrystals Statistics ===");
-        sender.sendMessage("§7Effect Manager: §e" + 
-                          dev.lsdmc.arcaniteCrystals.manager.EffectApplierManager.getStats());
+        sender.sendMessage("§7Crystal Runtime: §e" + 
+                          dev.lsdmc.arcaniteCrystals.manager.CrystalRuntime.getStats());
+        sender.sendMessage("§7Crystal State: §e" + 
+                          dev.lsdmc.arcaniteCrystals.manager.CrystalManager.getStateCacheStats());
+        sender.sendMessage("§7Crystal Registry: §e" + 
+                          dev.lsdmc.arcaniteCrystals.manager.CrystalRegistry.getStats());
+        sender.sendMessage("§7Player Statistics: §e" + 
+                          dev.lsdmc.arcaniteCrystals.manager.PlayerStatisticsManager.getEngineStats());
+        sender.sendMessage("§7Placeholders: §e" + PlaceholderCache.getStats());
+        sender.sendMessage("§7Menus: §e" + dev.lsdmc.arcaniteCrystals.menu.MenuDispatcher.getStats());
+        sender.sendMessage("§7Particles: §e" + dev.lsdmc.arcaniteCrystals.util.ParticleManager.getStats());
+        sender.sendMessage("§7Effect Detail: §e" + EffectLod.getStats());
+        sender.sendMessage("§7Mining: §e" + dev.lsdmc.arcaniteCrystals.listener.MiningListener.getStats());
+        sender.sendMessage("§7Cooldowns: §e" + dev.lsdmc.arcaniteCrystals.manager.CrystalCooldownManager.getStats());
+        sender.sendMessage("§7Sockets: §e" + dev.lsdmc.arcaniteCrystals.manager.CrystalSocketManager.getStats());
+        sender.sendMessage("§7Socket Stats: §e" + dev.lsdmc.arcaniteCrystals.manager.SocketStatManager.getStats());
         sender.sendMessage("§7Player Data: §e" + 
                           dev.lsdmc.arcaniteCrystals.database.PlayerDataManager.getCacheStats());
         sender.sendMessage("§7Database: §e" + 
@@ -260,9 +323,9 @@ public class ArcaniteCommand implements CommandExecutor, TabCompleter {
         boolean dbHealthy = dev.lsdmc.arcaniteCrystals.database.SqliteDataManager.isConnected();
         sender.sendMessage("§7Database: " + (dbHealthy ? "§aHealthy" : "§cUnhealthy"));
         
-        // Effect manager health  
-        boolean effectsRunning = dev.lsdmc.arcaniteCrystals.manager.EffectApplierManager.isRunning();
-        sender.sendMessage("§7Effect Manager: " + (effectsRunning ? "§aRunning" : "§cStopped"));
+        // Crystal runtime health  
+        boolean effectsRunning = dev.lsdmc.arcaniteCrystals.manager.CrystalRuntime.isRunning();
+        sender.sendMessage("§7Crystal Runtime: " + (effectsRunning ? "§aRunning" : "§cStopped"));
         
         // Memory usage
         Runtime runtime = Runtime.getRuntime();
@@ -447,7 +510,7 @@ public class ArcaniteCommand implements CommandExecutor, TabCompleter {
             return true;
         }
         
-        dev.lsdmc.arcaniteCrystals.database.PlayerDataManager.setCooldown(target.getUniqueId(), 0L);
+        dev.lsdmc.arcaniteCrystals.manager.CrystalCooldownManager.cancelCooldown(target);
         
         String message = MessageManager.getMessage("success.resetCooldown", "player", target.getName());
         sender.sendMessage(message);
@@ -643,6 +706,11 @@ public class ArcaniteCommand implements CommandExecutor, TabCompleter {
                     }
                     break;
                     
+                case "effects":
+                    return EFFECT_OPTIONS.stream()
+                            .filter(option -> option.startsWith(part))
+                            .collect(Collectors.toList());
+                    
                 case "give":
                     if (sender.hasPermission("arcanite.give")) {
                         // Return online player names
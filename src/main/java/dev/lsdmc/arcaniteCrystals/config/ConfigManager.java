@@ -60,7 +60,8 @@ public class ConfigManager {
         
         // Fusion Settings
         setDefault("fusion.success-chance", 0.7);
-        setDefault("fusion.cooldown", 3600); // 1 hour
+        setDefault("fusion.cooldown-enabled", false);
+        setDefault("fusion.cooldown", 3600); // 1 hour, only used when cooldown-enabled is true
         setDefault("fusion.max-level-difference", 2);
         
         // Socket Settings
@@ -74,8 +75,23 @@ public class ConfigManager {
         setDefault("decay.corruption-chance", 0.2);
         setDefault("decay.max-corruption-level", 3);
         
+        // Particle Settings
+        setDefault("particles.viewer-budget", 48); // Particle packets per player per tick
+        setDefault("particles.lod.enabled", true);
+        setDefault("particles.lod.reduced-mspt", 40.0); // Halve particles, fewer sound layers
+        setDefault("particles.lod.minimal-mspt", 48.0); // Main effects only
+        setDefault("particles.lod.recover-margin", 5.0);
+        setDefault("particles.lod.hold-ticks", 100); // Minimum time at a level before stepping down
+        setDefault("particles.lod.crowd-size", 12); // Viewers before broadcast bursts are thinned
+        
+        // Placeholder Settings
+        setDefault("placeholders.requirements-refresh-ms", 1000); // Balance/kill/playtime based values
+        
         // Statistics Settings
         setDefault("statistics.save-interval", 300); // 5 minutes
+        setDefault("statistics.leaderboard-size", 100);
+        setDefault("statistics.history-size", 1000); // Usage/purchase records kept in memory per player
+        setDefault("statistics.history-file-records", 10000); // Records kept on disk per player and kind
         
         // Save the config if any defaults were added
         saveConfig();
@@ -0,0 +1,156 @@
+package dev.lsdmc.arcaniteCrystals.database;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Circuit breaker guarding the primary DataStore.
+ * <p>
+ * CLOSED lets every call through and opens after {@code failureThreshold} consecutive failures.
+ * OPEN rejects calls (callers go straight to the fallback) until {@code openMillis} have passed,
+ * then HALF_OPEN lets exactly one probe through: success closes the circuit, failure reopens it.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /**
+     * Notified after every state change, outside the breaker's lock.
+     */
+    @FunctionalInterface
+    public interface TransitionListener {
+        void onTransition(State from, State to);
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long stateSince = System.currentTimeMillis();
+    private boolean probeInFlight;
+
+    private final Map<String, AtomicLong> transitions = new ConcurrentHashMap<>();
+    private final AtomicLong rejectedCalls = new AtomicLong();
+    private final List<TransitionListener> listeners = new CopyOnWriteArrayList<>();
+
+    public CircuitBreaker(String name, int failureThreshold, long openMillis) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = Math.max(0, openMillis);
+    }
+
+    public void addListener(TransitionListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Returns true if the call may go to the protected store.
+     */
+    public boolean allowRequest() {
+        State from = null;
+        synchronized (this) {
+            switch (state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (System.currentTimeMillis() - stateSince < openMillis) {
+                        rejectedCalls.incrementAndGet();
+                        return false;
+                    }
+                    from = transition(State.HALF_OPEN);
+                    probeInFlight = true;
+                    break;
+                case HALF_OPEN:
+                    if (probeInFlight) {
+                        rejectedCalls.incrementAndGet();
+                        return false;
+                    }
+                    probeInFlight = true;
+                    return true;
+            }
+        }
+        notifyListeners(from, State.HALF_OPEN);
+        return true;
+    }
+
+    public void recordSuccess() {
+        State from = null;
+        synchronized (this) {
+            consecutiveFailures = 0;
+            if (state == State.HALF_OPEN) {
+                probeInFlight = false;
+                from = transition(State.CLOSED);
+            }
+        }
+        if (from != null) notifyListeners(from, State.CLOSED);
+    }
+
+    public void recordFailure() {
+        State from = null;
+        synchronized (this) {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+                probeInFlight = false;
+                from = transition(State.OPEN);
+            }
+        }
+        if (from != null) notifyListeners(from, State.OPEN);
+    }
+
+    /**
+     * Forces the circuit open, e.g. when the store reports itself unhealthy at startup.
+     */
+    public void trip() {
+        State from = null;
+        synchronized (this) {
+            if (state != State.OPEN) {
+                probeInFlight = false;
+                from = transition(State.OPEN);
+            }
+        }
+        if (from != null) notifyListeners(from, State.OPEN);
+    }
+
+    private State transition(State to) {
+        State from = state;
+        state = to;
+        stateSince = System.currentTimeMillis();
+        transitions.computeIfAbsent(from + "->" + to, k -> new AtomicLong()).incrementAndGet();
+        return from;
+    }
+
+    private void notifyListeners(State from, State to) {
+        for (TransitionListener listener : listeners) {
+            listener.onTransition(from, to);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized long getMillisInState() {
+        return System.currentTimeMillis() - stateSince;
+    }
+
+    public long getTransitionCount(State from, State to) {
+        AtomicLong count = transitions.get(from + "->" + to);
+        return count == null ? 0 : count.get();
+    }
+
+    public long getRejectedCalls() {
+        return rejectedCalls.get();
+    }
+
+    public String getStats() {
+        StringBuilder stats = new StringBuilder(String.format("%s breaker: %s for %ds, Short-circuited: %d",
+                name, getState(), getMillisInState() / 1000, rejectedCalls.get()));
+        transitions.forEach((key, count) -> stats.append(", ").append(key).append(": ").append(count.get()));
+        return stats.toString();
+    }
+}
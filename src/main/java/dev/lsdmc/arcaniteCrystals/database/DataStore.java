@@ -1,29 +1,68 @@
-package dev.lsdmc.arcaniteCrystals.database;
-
-import java.util.Map;
-import java.util.Set;
-import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
-
-/**
- * Interface defining the contract for all database implementations.
- * All operations are asynchronous to prevent blocking the main thread.
- */
-public interface DataStore {
-    // Player data operations
-    CompletableFuture<Integer> getLevel(UUID playerId);
-    CompletableFuture<Void> setLevel(UUID playerId, int level);
-    CompletableFuture<Set<String>> getUnlockedUpgrades(UUID playerId);
-    CompletableFuture<Void> unlockUpgrade(UUID playerId, String upgradeId);
-    CompletableFuture<Void> revokeUpgrade(UUID playerId, String upgradeId);
-    CompletableFuture<Long> getCooldown(UUID playerId);
-    CompletableFuture<Void> setCooldown(UUID playerId, long timestamp);
-    
-    // Batch operations
-    CompletableFuture<Void> saveBatch(Map<UUID, PlayerData> data);
-    
-    // Health and management
-    boolean isHealthy();
-    CompletableFuture<Void> shutdown();
-    String getStats();
+package dev.lsdmc.arcaniteCrystals.database;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interface defining the contract for all database implementations.
+ * All operations are asynchronous to prevent blocking the main thread.
+ */
+public interface DataStore {
+    // Player data operations
+    CompletableFuture<Integer> getLevel(UUID playerId);
+    CompletableFuture<Void> setLevel(UUID playerId, int level);
+    CompletableFuture<Set<String>> getUnlockedUpgrades(UUID playerId);
+    CompletableFuture<Void> unlockUpgrade(UUID playerId, String upgradeId);
+    CompletableFuture<Void> revokeUpgrade(UUID playerId, String upgradeId);
+    CompletableFuture<Long> getCooldown(UUID playerId);
+    CompletableFuture<Void> setCooldown(UUID playerId, long timestamp);
+    
+    // Batch operations
+    CompletableFuture<Void> saveBatch(Map<UUID, PlayerData> data);
+    
+    /**
+     * Loads everything a session profile needs. Stores that can fetch the whole
+     * profile in fewer round-trips should override this.
+     */
+    default CompletableFuture<PlayerData> loadPlayerData(UUID playerId) {
+        CompletableFuture<Integer> level = getLevel(playerId);
+        CompletableFuture<Set<String>> upgrades = getUnlockedUpgrades(playerId);
+        CompletableFuture<Long> cooldown = getCooldown(playerId);
+        return CompletableFuture.allOf(level, upgrades, cooldown)
+                .thenApply(v -> new PlayerData(level.join(), upgrades.join(), cooldown.join()));
+    }
+    
+    // Statistics operations
+    CompletableFuture<Map<String, Long>> loadStatistics(UUID playerId);
+    
+    /**
+     * Adds each delta to the player's stored counter (creating it at zero), so concurrent
+     * or repeated flushes never overwrite each other.
+     */
+    CompletableFuture<Void> addStatistics(Map<UUID, Map<String, Long>> deltas);
+    
+    /**
+     * Loads the highest stored values of one statistic, best first.
+     */
+    CompletableFuture<Map<UUID, Long>> loadTopStatistic(String stat, int limit);
+    
+    /**
+     * Keeps a player's data resident in the store's cache while they are online.
+     * Stores without a cache ignore this.
+     */
+    default void pin(UUID playerId) {
+    }
+    
+    /**
+     * Releases a pinned player so their cached data can be evicted normally.
+     */
+    default void unpin(UUID playerId) {
+    }
+    
+    // Health and management
+    boolean isHealthy();
+    CompletableFuture<Void> shutdown();
+    String getStats();
 } 
\ No newline at end of file
@@ -0,0 +1,234 @@
+package dev.lsdmc.arcaniteCrystals.database;
+
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Dedicated executor for blocking DataStore I/O (JDBC, Jedis), kept off the shared
+ * {@code ForkJoinPool.commonPool()}.
+ * <p>
+ * At most {@code threads} operations run at once and at most {@code queue-size} more may wait.
+ * When full, async callers block until a slot frees up (backpressure), while callers on the
+ * server thread fail fast with a {@link DatabaseException} so a tick is never stalled.
+ * On Java 21 the work can run on virtual threads; concurrency is still capped by {@code threads}.
+ */
+public class DatabaseExecutor {
+
+    private final ExecutorService delegate;
+    private final Semaphore slots;
+    private final Semaphore running;
+    private final Logger logger;
+    private final boolean virtualThreads;
+    private final int threads;
+    private final int queueSize;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private final Map<String, OperationStats> operationStats = new ConcurrentHashMap<>();
+
+    /**
+     * Per-operation timing, in nanoseconds.
+     */
+    public static class OperationStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalWait = new LongAdder();
+        private final LongAdder totalExec = new LongAdder();
+        private final AtomicLong maxWait = new AtomicLong();
+        private final AtomicLong maxExec = new AtomicLong();
+
+        void record(long waitNanos, long execNanos, boolean failed) {
+            count.increment();
+            if (failed) failures.increment();
+            totalWait.add(waitNanos);
+            totalExec.add(execNanos);
+            maxWait.accumulateAndGet(waitNanos, Math::max);
+            maxExec.accumulateAndGet(execNanos, Math::max);
+        }
+
+        public long getCount() { return count.sum(); }
+        public long getFailures() { return failures.sum(); }
+        public double getAverageWaitMillis() { return average(totalWait); }
+        public double getAverageExecMillis() { return average(totalExec); }
+        public double getMaxWaitMillis() { return maxWait.get() / 1_000_000.0; }
+        public double getMaxExecMillis() { return maxExec.get() / 1_000_000.0; }
+
+        private double average(LongAdder total) {
+            long n = count.sum();
+            return n == 0 ? 0 : total.sum() / (double) n / 1_000_000.0;
+        }
+    }
+
+    public DatabaseExecutor(int threads, int queueSize, boolean virtualThreads, Logger logger) {
+        this.threads = Math.max(1, threads);
+        this.queueSize = Math.max(0, queueSize);
+        this.virtualThreads = virtualThreads;
+        this.logger = logger;
+        this.slots = new Semaphore(this.threads + this.queueSize);
+        this.running = new Semaphore(this.threads);
+
+        if (virtualThreads) {
+            delegate = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("arcanite-db-", 0).factory());
+        } else {
+            AtomicInteger counter = new AtomicInteger();
+            ThreadFactory factory = runnable -> {
+                Thread thread = new Thread(runnable, "arcanite-db-" + counter.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            };
+            // Unbounded queue is safe here: admission is already bounded by the slot semaphore
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(this.threads, this.threads,
+                    60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), factory);
+            pool.allowCoreThreadTimeOut(true);
+            delegate = pool;
+        }
+    }
+
+    /**
+     * Creates an executor from the {@code database.executor} config section.
+     */
+    public static DatabaseExecutor fromConfig(FileConfiguration config, Logger logger) {
+        int threads = config.getInt("database.executor.threads", 4);
+        int queueSize = config.getInt("database.executor.queue-size", 1000);
+        boolean virtual = config.getBoolean("database.executor.virtual-threads", false);
+        logger.info("Database executor: " + threads + " " + (virtual ? "virtual" : "platform")
+                + " threads, queue size " + queueSize);
+        return new DatabaseExecutor(threads, queueSize, virtual, logger);
+    }
+
+    /**
+     * Runs a blocking operation on the executor and completes the future with its result.
+     */
+    public <T> CompletableFuture<T> supply(String operation, Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (!acquireSlot()) {
+            rejected.incrementAndGet();
+            future.completeExceptionally(new DatabaseException(
+                    "Database executor saturated, rejected '" + operation + "' on the server thread"));
+            return future;
+        }
+
+        long submitted = System.nanoTime();
+        queued.incrementAndGet();
+        try {
+            delegate.execute(() -> execute(operation, task, future, submitted));
+        } catch (Exception e) {
+            queued.decrementAndGet();
+            slots.release();
+            rejected.incrementAndGet();
+            future.completeExceptionally(new DatabaseException("Database executor unavailable", e));
+        }
+        return future;
+    }
+
+    /**
+     * Runs a blocking operation with no result on the executor.
+     */
+    public CompletableFuture<Void> run(String operation, Runnable task) {
+        return supply(operation, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    private <T> void execute(String operation, Supplier<T> task, CompletableFuture<T> future, long submitted) {
+        boolean permit = false;
+        long started = submitted;
+        boolean failed = false;
+        try {
+            running.acquire();
+            permit = true;
+            started = System.nanoTime();
+            queued.decrementAndGet();
+            future.complete(task.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed = true;
+            queued.decrementAndGet();
+            future.completeExceptionally(new DatabaseException("Interrupted waiting for database executor", e));
+        } catch (Throwable t) {
+            failed = true;
+            future.completeExceptionally(t);
+        } finally {
+            long finished = System.nanoTime();
+            if (permit) running.release();
+            slots.release();
+            operationStats.computeIfAbsent(operation, k -> new OperationStats())
+                    .record(started - submitted, finished - started, failed);
+        }
+    }
+
+    private boolean acquireSlot() {
+        if (slots.tryAcquire()) {
+            return true;
+        }
+        if (Bukkit.isPrimaryThread()) {
+            return false;
+        }
+        try {
+            slots.acquire();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    public int getActiveCount() {
+        return threads - running.availablePermits();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    public Map<String, OperationStats> getOperationStats() {
+        return operationStats;
+    }
+
+    public String getStats() {
+        StringBuilder stats = new StringBuilder(String.format("Executor: %s x%d, Active: %d, Queued: %d/%d, Rejected: %d",
+                virtualThreads ? "virtual" : "platform", threads, getActiveCount(), queued.get(), queueSize, rejected.get()));
+        operationStats.forEach((name, op) -> stats.append(String.format(
+                " | %s n=%d wait %.2f/%.2fms exec %.2f/%.2fms",
+                name, op.getCount(), op.getAverageWaitMillis(), op.getMaxWaitMillis(),
+                op.getAverageExecMillis(), op.getMaxExecMillis())));
+        return stats.toString();
+    }
+
+    /**
+     * Stops accepting work and waits for in-flight operations to finish.
+     */
+    public void shutdown(long timeoutMillis) {
+        delegate.shutdown();
+        try {
+            if (!delegate.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                logger.warning("Database executor did not finish in " + timeoutMillis + "ms, forcing shutdown");
+                delegate.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            delegate.shutdownNow();
+        }
+    }
+}
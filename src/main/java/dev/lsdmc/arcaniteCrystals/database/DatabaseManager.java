@@ -1,297 +1,568 @@
-package dev.lsdmc.arcaniteCrystals.database;
-
-import com.zaxxer.hikari.HikariConfig;
-import com.zaxxer.hikari.HikariDataSource;
-import dev.lsdmc.arcaniteCrystals.ArcaniteCrystals;
-import dev.lsdmc.arcaniteCrystals.config.ConfigManager;
-import org.bukkit.plugin.java.JavaPlugin;
-
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
-import java.util.logging.Logger;
-import java.util.function.Function;
-
-/**
- * Professional database manager that switches between Redis and SQLite based on configuration.
- * Provides unified interface for all database operations with proper fallback handling.
- */
-public class DatabaseManager {
-    
-    private static DataStore primaryStore;
-    private static DataStore fallbackStore;
-    private static boolean usingFallback = false;
-    private static JavaPlugin plugin;
-    private static Logger logger;
-    private static boolean initialized = false;
-    private static HikariDataSource dataSource;
-    
-    /**
-     * Initialize the database system with automatic mode detection and fallback.
-     */
-    public static boolean initialize(JavaPlugin pluginInstance) {
-        plugin = pluginInstance;
-        logger = plugin.getLogger();
-        
-        try {
-            // Always initialize SQLite as fallback
-            fallbackStore = new SqliteDataStore(plugin);
-            logger.info("SQLite fallback store initialized");
-            
-            String mode = ConfigManager.getConfig().getString("database.mode", "sqlite");
-            if ("redis".equalsIgnoreCase(mode)) {
-                try {
-                    primaryStore = new RedisDataStore(ConfigManager.getConfig(), plugin);
-                    if (primaryStore.isHealthy()) {
-                        logger.info("Redis primary store initialized successfully");
-                        initialized = true;
-                        return true;
-                    } else {
-                        logger.warning("Redis unhealthy, falling back to SQLite");
-                        primaryStore = fallbackStore;
-                        usingFallback = true;
-                        initialized = true;
-                        return true;
-                    }
-                } catch (Exception e) {
-                    logger.warning("Redis initialization failed: " + e.getMessage());
-                    primaryStore = fallbackStore;
-                    usingFallback = true;
-                    initialized = true;
-                    return true;
-                }
-            } else {
-                primaryStore = fallbackStore;
-                logger.info("Using SQLite as primary store");
-                initialized = true;
-                return true;
-            }
-        } catch (Exception e) {
-            logger.severe("Critical: All database initialization failed: " + e.getMessage());
-            return false;
-        }
-    }
-    
-    /**
-     * Get player level with automatic fallback handling.
-     */
-    public static CompletableFuture<Integer> getLevel(UUID playerId) {
-        return executeWithFailover(store -> store.getLevel(playerId), 1);
-    }
-    
-    /**
-     * Set player level with automatic fallback handling.
-     */
-    public static CompletableFuture<Void> setLevel(UUID playerId, int level) {
-        return executeWithFailover(store -> store.setLevel(playerId, level), null);
-    }
-    
-    /**
-     * Get unlocked upgrades with automatic fallback handling.
-     */
-    public static CompletableFuture<Set<String>> getUnlockedUpgrades(UUID playerId) {
-        return executeWithFailover(store -> store.getUnlockedUpgrades(playerId), Set.of());
-    }
-    
-    /**
-     * Unlock upgrade with automatic fallback handling.
-     */
-    public static CompletableFuture<Void> unlockUpgrade(UUID playerId, String upgradeId) {
-        return executeWithFailover(store -> store.unlockUpgrade(playerId, upgradeId), null);
-    }
-    
-    /**
-     * Revoke upgrade with automatic fallback handling.
-     */
-    public static CompletableFuture<Void> revokeUpgrade(UUID playerId, String upgradeId) {
-        return executeWithFailover(store -> store.revokeUpgrade(playerId, upgradeId), null);
-    }
-    
-    /**
-     * Get player cooldown with automatic fallback handling.
-     */
-    public static CompletableFuture<Long> getCooldown(UUID playerId) {
-        return executeWithFailover(store -> store.getCooldown(playerId), 0L);
-    }
-    
-    /**
-     * Set player cooldown with automatic fallback handling.
-     */
-    public static CompletableFuture<Void> setCooldown(UUID playerId, long timestamp) {
-        return executeWithFailover(store -> store.setCooldown(playerId, timestamp), null);
-    }
-    
-    /**
-     * Save all data with automatic fallback handling.
-     */
-    public static CompletableFuture<Void> saveBatch(Map<UUID, PlayerData> data) {
-        return executeWithFailover(store -> store.saveBatch(data), null);
-    }
-    
-    /**
-     * Execute operation with automatic failover to fallback store.
-     */
-    private static <T> CompletableFuture<T> executeWithFailover(
-            Function<DataStore, CompletableFuture<T>> operation, T defaultValue) {
-        if (!initialized) {
-            logger.warning("Database not initialized, returning default value");
-            return CompletableFuture.completedFuture(defaultValue);
-        }
-        
-        return operation.apply(primaryStore)
-            .exceptionally(throwable -> {
-                if (!usingFallback && fallbackStore != primaryStore) {
-                    logger.warning("Primary store failed, attempting fallback: " + throwable.getMessage());
-                    try {
-                        return operation.apply(fallbackStore).join();
-                    } catch (Exception fallbackError) {
-                        logger.severe("Both primary and fallback failed: " + fallbackError.getMessage());
-                        return defaultValue;
-                    }
-                }
-                logger.severe("Database operation failed: " + throwable.getMessage());
-                return defaultValue;
-            });
-    }
-    
-    /**
-     * Check if database system is properly initialized.
-     */
-    public static boolean isInitialized() {
-        return initialized;
-    }
-    
-    /**
-     * Get current database mode.
-     */
-    public static String getCurrentMode() {
-        if (!initialized) return "Not Initialized";
-        if (usingFallback) return "SQLite (Fallback)";
-        return primaryStore instanceof RedisDataStore ? "Redis" : "SQLite";
-    }
-    
-    /**
-     * Get database statistics.
-     */
-    public static String getStats() {
-        if (!initialized) {
-            return "Database not initialized";
-        }
-        
-        try {
-            String modeInfo = "Mode: " + getCurrentMode() + " | ";
-            return modeInfo + primaryStore.getStats();
-        } catch (Exception e) {
-            return "Error getting stats: " + e.getMessage();
-        }
-    }
-    
-    /**
-     * Check database health.
-     */
-    public static boolean isHealthy() {
-        if (!initialized) {
-            return false;
-        }
-        
-        try {
-            return primaryStore.isHealthy();
-        } catch (Exception e) {
-            logger.warning("Error checking database health: " + e.getMessage());
-            return false;
-        }
-    }
-    
-    /**
-     * Shutdown database connections.
-     */
-    public static CompletableFuture<Void> shutdown() {
-        if (!initialized) {
-            return CompletableFuture.completedFuture(null);
-        }
-        
-        return CompletableFuture.allOf(
-            primaryStore.shutdown(),
-            fallbackStore.shutdown()
-        ).whenComplete((v, e) -> {
-            if (e != null) {
-                logger.severe("Error during database shutdown: " + e.getMessage());
-            } else {
-                logger.info("Database connections closed successfully.");
-            }
-            initialized = false;
-        });
-    }
-
-    public static CompletableFuture<PlayerData> getPlayerData(UUID playerId) {
-        return CompletableFuture.supplyAsync(() -> {
-            try (Connection conn = getConnection()) {
-                String sql = "SELECT * FROM player_data WHERE player_id = ?";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    stmt.setString(1, playerId.toString());
-                    try (ResultSet rs = stmt.executeQuery()) {
-                        if (rs.next()) {
-                            int level = rs.getInt("level");
-                            Set<String> unlockedUpgrades = new HashSet<>();
-                            String upgradesStr = rs.getString("unlocked_upgrades");
-                            if (upgradesStr != null && !upgradesStr.isEmpty()) {
-                                unlockedUpgrades.addAll(Arrays.asList(upgradesStr.split(",")));
-                            }
-                            long cooldown = rs.getLong("cooldown");
-                            return new PlayerData(level, unlockedUpgrades, cooldown);
-                        }
-                    }
-                }
-            } catch (SQLException e) {
-                e.printStackTrace();
-            }
-            return null;
-        });
-    }
-
-    private static Connection getConnection() throws SQLException {
-        return dataSource.getConnection();
-    }
-
-    public static void initialize() {
-        HikariConfig config = new HikariConfig();
-        config.setJdbcUrl("jdbc:sqlite:" + plugin.getDataFolder() + "/database.db");
-        config.setDriverClassName("org.sqlite.JDBC");
-        config.setMaximumPoolSize(10);
-        config.setMinimumIdle(5);
-        
-        dataSource = new HikariDataSource(config);
-        createTables();
-    }
-    
-    private static void createTables() {
-        try (Connection conn = getConnection()) {
-            String sql = """
-                CREATE TABLE IF NOT EXISTS player_data (
-                    player_id TEXT PRIMARY KEY,
-                    level INTEGER DEFAULT 1,
-                    unlocked_upgrades TEXT,
-                    cooldown BIGINT DEFAULT 0
-                )
-            """;
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.execute();
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-    }
-    
-    public static void cleanup() {
-        if (dataSource != null) {
-            dataSource.close();
-        }
-    }
+package dev.lsdmc.arcaniteCrystals.database;
+
+import dev.lsdmc.arcaniteCrystals.config.ConfigManager;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.function.Function;
+
+/**
+ * Professional database manager that switches between Redis and SQLite based on configuration.
+ * Provides unified interface for all database operations with proper fallback handling.
+ * <p>
+ * Calls to the primary store go through a {@link CircuitBreaker}. While it is open, calls are
+ * routed straight to SQLite and every player written there is journaled; once a half-open probe
+ * succeeds, journaled players are copied from SQLite back to the primary before it takes traffic again.
+ * Every write is also sent to SQLite at the moment it is issued, even while the primary is healthy,
+ * so SQLite rows are always current and replaying them never puts stale data over newer primary data.
+ */
+public class DatabaseManager {
+    
+    private static final String JOURNAL_FILE = "failover-journal.txt";
+    private static final int REPLAY_CHUNK_SIZE = 100;
+    
+    private static DataStore primaryStore;
+    private static DataStore fallbackStore;
+    private static DatabaseExecutor executor;
+    private static CircuitBreaker breaker;
+    private static boolean usingFallback = false;
+    private static JavaPlugin plugin;
+    private static Logger logger;
+    private static boolean initialized = false;
+    
+    // Players written to the fallback while the primary was unavailable
+    private static final Set<UUID> outageJournal = ConcurrentHashMap.newKeySet();
+    private static final AtomicBoolean replaying = new AtomicBoolean(false);
+    private static final AtomicLong fallbackCalls = new AtomicLong();
+    private static final AtomicLong replayedPlayers = new AtomicLong();
+    
+    /**
+     * Initialize the database system with automatic mode detection and fallback.
+     */
+    public static boolean initialize(JavaPlugin pluginInstance) {
+        plugin = pluginInstance;
+        logger = plugin.getLogger();
+        
+        try {
+            // All blocking store I/O runs on one dedicated, bounded executor
+            executor = DatabaseExecutor.fromConfig(ConfigManager.getConfig(), logger);
+            
+            // Always initialize SQLite as fallback
+            fallbackStore = new SqliteDataStore(plugin, ConfigManager.getConfig(), executor);
+            logger.info("SQLite fallback store initialized");
+            
+            breaker = new CircuitBreaker("Redis",
+                    ConfigManager.getConfig().getInt("database.failover.failure-threshold", 3),
+                    ConfigManager.getConfig().getLong("database.failover.open-seconds", 30) * 1000L);
+            breaker.addListener(DatabaseManager::onBreakerTransition);
+            
+            String mode = ConfigManager.getConfig().getString("database.mode", "sqlite");
+            if ("redis".equalsIgnoreCase(mode)) {
+                try {
+                    primaryStore = new RedisDataStore(ConfigManager.getConfig(), plugin, executor);
+                    initialized = true;
+                    loadJournal();
+                    if (primaryStore.isHealthy()) {
+                        logger.info("Redis primary store initialized successfully");
+                        if (!outageJournal.isEmpty()) {
+                            startReplay();
+                        }
+                    } else {
+                        // Keep Redis as primary so the breaker can probe it and recover later
+                        logger.warning("Redis unhealthy, routing to SQLite until it recovers");
+                        breaker.trip();
+                    }
+                    return true;
+                } catch (Exception e) {
+                    logger.warning("Redis initialization failed: " + e.getMessage());
+                    primaryStore = fallbackStore;
+                    usingFallback = true;
+                    initialized = true;
+                    return true;
+                }
+            } else {
+                primaryStore = fallbackStore;
+                logger.info("Using SQLite as primary store");
+                initialized = true;
+                return true;
+            }
+        } catch (Exception e) {
+            logger.severe("Critical: All database initialization failed: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Get player level with automatic fallback handling.
+     */
+    public static CompletableFuture<Integer> getLevel(UUID playerId) {
+        return executeWithFailover(store -> store.getLevel(playerId), 1);
+    }
+    
+    /**
+     * Set player level with automatic fallback handling.
+     */
+    public static CompletableFuture<Void> setLevel(UUID playerId, int level) {
+        return executeWithFailover(store -> store.setLevel(playerId, level), null, Set.of(playerId));
+    }
+    
+    /**
+     * Get unlocked upgrades with automatic fallback handling.
+     */
+    public static CompletableFuture<Set<String>> getUnlockedUpgrades(UUID playerId) {
+        return executeWithFailover(store -> store.getUnlockedUpgrades(playerId), Set.of());
+    }
+    
+    /**
+     * Unlock upgrade with automatic fallback handling.
+     */
+    public static CompletableFuture<Void> unlockUpgrade(UUID playerId, String upgradeId) {
+        return executeWithFailover(store -> store.unlockUpgrade(playerId, upgradeId), null, Set.of(playerId));
+    }
+    
+    /**
+     * Revoke upgrade with automatic fallback handling.
+     */
+    public static CompletableFuture<Void> revokeUpgrade(UUID playerId, String upgradeId) {
+        return executeWithFailover(store -> store.revokeUpgrade(playerId, upgradeId), null, Set.of(playerId));
+    }
+    
+    /**
+     * Get player cooldown with automatic fallback handling.
+     */
+    public static CompletableFuture<Long> getCooldown(UUID playerId) {
+        return executeWithFailover(store -> store.getCooldown(playerId), 0L);
+    }
+    
+    /**
+     * Set player cooldown with automatic fallback handling.
+     */
+    public static CompletableFuture<Void> setCooldown(UUID playerId, long timestamp) {
+        return executeWithFailover(store -> store.setCooldown(playerId, timestamp), null, Set.of(playerId));
+    }
+    
+    /**
+     * Save all data with automatic fallback handling. The future fails if no store took the
+     * batch, so the write-behind queue can keep the profiles dirty and retry them.
+     */
+    public static CompletableFuture<Void> saveBatch(Map<UUID, PlayerData> data) {
+        return routeWithFailover(store -> store.saveBatch(data), data.keySet());
+    }
+    
+    /**
+     * Load a player's stored statistic totals, falling back like any other read.
+     */
+    public static CompletableFuture<Map<String, Long>> loadStatistics(UUID playerId) {
+        return executeWithFailover(store -> store.loadStatistics(playerId), Map.of());
+    }
+    
+    /**
+     * Load the stored leaders for one statistic.
+     */
+    public static CompletableFuture<Map<UUID, Long>> loadTopStatistic(String stat, int limit) {
+        return executeWithFailover(store -> store.loadTopStatistic(stat, limit), Map.of());
+    }
+    
+    /**
+     * Add statistic deltas to the serving store. Unlike other writes these never land on the
+     * fallback during an outage: deltas cannot be replayed from a snapshot, so the future fails
+     * and the caller keeps them until the primary is back.
+     */
+    public static CompletableFuture<Void> addStatistics(Map<UUID, Map<String, Long>> deltas) {
+        if (!initialized) {
+            return CompletableFuture.failedFuture(new DatabaseException("Database not initialized"));
+        }
+        if (primaryStore == fallbackStore) {
+            return apply(store -> store.addStatistics(deltas), primaryStore);
+        }
+        if (replaying.get() || !breaker.allowRequest()) {
+            return CompletableFuture.failedFuture(new DatabaseException("Primary store unavailable"));
+        }
+        return apply(store -> store.addStatistics(deltas), primaryStore).whenComplete((v, error) -> {
+            if (error == null) {
+                breaker.recordSuccess();
+            } else {
+                breaker.recordFailure();
+            }
+        });
+    }
+    
+    /**
+     * Execute a read with automatic failover to fallback store.
+     */
+    private static <T> CompletableFuture<T> executeWithFailover(
+            Function<DataStore, CompletableFuture<T>> operation, T defaultValue) {
+        return executeWithFailover(operation, defaultValue, null);
+    }
+    
+    /**
+     * Execute operation with automatic failover to fallback store. Never blocks: the fallback
+     * is composed onto the failed primary call, or used directly while the circuit is open.
+     *
+     * @param writtenPlayers players modified by the operation, or null for reads; writes also go to SQLite
+     */
+    private static <T> CompletableFuture<T> executeWithFailover(
+            Function<DataStore, CompletableFuture<T>> operation, T defaultValue, Collection<UUID> writtenPlayers) {
+        if (!initialized) {
+            logger.warning("Database not initialized, returning default value");
+            return CompletableFuture.completedFuture(defaultValue);
+        }
+        return routeWithFailover(operation, writtenPlayers).exceptionally(throwable -> {
+            logger.severe("Database operation failed on every store: " + throwable.getMessage());
+            return defaultValue;
+        });
+    }
+    
+    /**
+     * Routes an operation like {@link #executeWithFailover} but lets failures through, for callers
+     * that must not mistake an outage for missing data.
+     */
+    private static <T> CompletableFuture<T> routeWithFailover(
+            Function<DataStore, CompletableFuture<T>> operation, Collection<UUID> writtenPlayers) {
+        if (!initialized) {
+            return CompletableFuture.failedFuture(new DatabaseException("Database not initialized"));
+        }
+        
+        if (primaryStore == fallbackStore) {
+            return apply(operation, primaryStore);
+        }
+        
+        if (writtenPlayers != null) {
+            return writeThrough(operation, writtenPlayers);
+        }
+        
+        // Stay on the fallback while replaying so the primary never sees writes out of order
+        if (replaying.get() || !breaker.allowRequest()) {
+            return executeOnFallback(operation);
+        }
+        
+        return apply(operation, primaryStore)
+            .handle((result, throwable) -> {
+                if (throwable == null) {
+                    breaker.recordSuccess();
+                    return CompletableFuture.completedFuture(result);
+                }
+                breaker.recordFailure();
+                logger.warning("Primary store failed, attempting fallback: " + throwable.getMessage());
+                return executeOnFallback(operation);
+            })
+            .thenCompose(Function.identity());
+    }
+    
+    /**
+     * Sends a write to SQLite and, when it is available, to the primary at the same time. SQLite
+     * therefore applies writes in the order they were issued, and if the primary fails the SQLite
+     * result stands in for it without writing twice.
+     */
+    private static <T> CompletableFuture<T> writeThrough(
+            Function<DataStore, CompletableFuture<T>> operation, Collection<UUID> writtenPlayers) {
+        CompletableFuture<T> mirrored = apply(operation, fallbackStore);
+        
+        // Stay on the fallback while replaying so the primary never sees writes out of order
+        if (replaying.get() || !breaker.allowRequest()) {
+            fallbackCalls.incrementAndGet();
+            outageJournal.addAll(writtenPlayers);
+            return mirrored;
+        }
+        
+        return apply(operation, primaryStore)
+            .handle((result, throwable) -> {
+                if (throwable == null) {
+                    breaker.recordSuccess();
+                    mirrored.whenComplete((v, mirrorError) -> {
+                        if (mirrorError != null) {
+                            logger.warning("SQLite write-through failed for " + writtenPlayers.size()
+                                    + " players: " + mirrorError.getMessage());
+                        }
+                    });
+                    return CompletableFuture.completedFuture(result);
+                }
+                breaker.recordFailure();
+                logger.warning("Primary store failed, keeping the SQLite write: " + throwable.getMessage());
+                fallbackCalls.incrementAndGet();
+                outageJournal.addAll(writtenPlayers);
+                return mirrored;
+            })
+            .thenCompose(Function.identity());
+    }
+    
+    private static <T> CompletableFuture<T> executeOnFallback(Function<DataStore, CompletableFuture<T>> operation) {
+        fallbackCalls.incrementAndGet();
+        return apply(operation, fallbackStore);
+    }
+    
+    private static <T> CompletableFuture<T> apply(Function<DataStore, CompletableFuture<T>> operation, DataStore store) {
+        try {
+            return operation.apply(store);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
+    // ===== OUTAGE RECOVERY =====
+    
+    private static void onBreakerTransition(CircuitBreaker.State from, CircuitBreaker.State to) {
+        switch (to) {
+            case OPEN -> logger.warning("Primary store circuit opened (" + from + " -> OPEN), routing to SQLite");
+            case HALF_OPEN -> logger.info("Probing primary store after outage");
+            case CLOSED -> {
+                logger.info("Primary store recovered");
+                if (!outageJournal.isEmpty()) {
+                    startReplay();
+                }
+            }
+        }
+    }
+    
+    /**
+     * Copies every journaled player from the fallback to the primary on an async thread.
+     * Traffic keeps going to the fallback (and into the journal) until the journal is drained.
+     */
+    private static void startReplay() {
+        if (!replaying.compareAndSet(false, true)) return;
+        if (!plugin.isEnabled()) {
+            replaying.set(false);
+            return;
+        }
+        logger.info("Replaying " + outageJournal.size() + " players written to SQLite during the outage");
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, DatabaseManager::replayJournal);
+    }
+    
+    private static void replayJournal() {
+        long replayed = 0;
+        try {
+            while (!outageJournal.isEmpty()) {
+                List<UUID> chunk = new ArrayList<>(REPLAY_CHUNK_SIZE);
+                Iterator<UUID> iterator = outageJournal.iterator();
+                while (iterator.hasNext() && chunk.size() < REPLAY_CHUNK_SIZE) {
+                    chunk.add(iterator.next());
+                    iterator.remove();
+                }
+                
+                try {
+                    Map<UUID, CompletableFuture<PlayerData>> loads = new HashMap<>();
+                    for (UUID playerId : chunk) {
+                        loads.put(playerId, fallbackStore.loadPlayerData(playerId));
+                    }
+                    Map<UUID, PlayerData> data = new HashMap<>();
+                    for (Map.Entry<UUID, CompletableFuture<PlayerData>> entry : loads.entrySet()) {
+                        data.put(entry.getKey(), entry.getValue().join());
+                    }
+                    primaryStore.saveBatch(data).join();
+                    replayed += chunk.size();
+                    replayedPlayers.addAndGet(chunk.size());
+                } catch (Exception e) {
+                    outageJournal.addAll(chunk);
+                    logger.warning("Outage replay failed, keeping " + outageJournal.size()
+                            + " players journaled: " + e.getMessage());
+                    breaker.trip();
+                    return;
+                }
+            }
+            logger.info("Outage replay complete, " + replayed + " players copied to the primary store");
+        } finally {
+            replaying.set(false);
+        }
+    }
+    
+    private static File journalFile() {
+        return new File(plugin.getDataFolder(), JOURNAL_FILE);
+    }
+    
+    /**
+     * Restores players journaled before the last shutdown, so an outage spanning a restart is still replayed.
+     */
+    private static void loadJournal() {
+        File file = journalFile();
+        if (!file.exists()) return;
+        try {
+            for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    outageJournal.add(UUID.fromString(line.trim()));
+                }
+            }
+            logger.info("Loaded " + outageJournal.size() + " journaled players from the last outage");
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warning("Could not read failover journal: " + e.getMessage());
+        }
+    }
+    
+    private static void saveJournal() {
+        File file = journalFile();
+        try {
+            if (outageJournal.isEmpty()) {
+                Files.deleteIfExists(file.toPath());
+                return;
+            }
+            List<String> lines = new ArrayList<>();
+            for (UUID playerId : outageJournal) {
+                lines.add(playerId.toString());
+            }
+            Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+            logger.info("Saved " + lines.size() + " journaled players for replay on next start");
+        } catch (IOException e) {
+            logger.warning("Could not save failover journal: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Check if database system is properly initialized.
+     */
+    public static boolean isInitialized() {
+        return initialized;
+    }
+    
+    /**
+     * Get current database mode.
+     */
+    public static String getCurrentMode() {
+        if (!initialized) return "Not Initialized";
+        if (usingFallback) return "SQLite (Fallback)";
+        if (isFailedOver()) return "SQLite (Failover)";
+        return primaryStore instanceof RedisDataStore ? "Redis" : "SQLite";
+    }
+    
+    /**
+     * True while calls that would go to the primary are being served by the fallback.
+     */
+    public static boolean isFailedOver() {
+        return primaryStore != fallbackStore
+                && (replaying.get() || breaker.getState() != CircuitBreaker.State.CLOSED);
+    }
+    
+    /**
+     * Circuit breaker and outage journal statistics.
+     */
+    public static String getFailoverStats() {
+        if (!initialized || primaryStore == fallbackStore) {
+            return "Failover: not applicable";
+        }
+        return String.format("%s, Fallback calls: %d, Journaled: %d, Replayed: %d%s",
+                breaker.getStats(), fallbackCalls.get(), outageJournal.size(), replayedPlayers.get(),
+                replaying.get() ? " (replaying)" : "");
+    }
+    
+    /**
+     * Get database statistics.
+     */
+    public static String getStats() {
+        if (!initialized) {
+            return "Database not initialized";
+        }
+        
+        try {
+            String modeInfo = "Mode: " + getCurrentMode() + " | ";
+            String storeStats = isFailedOver() ? fallbackStore.getStats() : primaryStore.getStats();
+            return modeInfo + storeStats + " | " + getFailoverStats() + " | " + executor.getStats();
+        } catch (Exception e) {
+            return "Error getting stats: " + e.getMessage();
+        }
+    }
+    
+    /**
+     * Check database health.
+     */
+    public static boolean isHealthy() {
+        if (!initialized) {
+            return false;
+        }
+        
+        try {
+            // Report on whichever store is actually serving calls
+            if (isFailedOver()) {
+                return fallbackStore.isHealthy();
+            }
+            return primaryStore != fallbackStore || primaryStore.isHealthy();
+        } catch (Exception e) {
+            logger.warning("Error checking database health: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Shutdown database connections.
+     */
+    public static CompletableFuture<Void> shutdown() {
+        if (!initialized) {
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        if (primaryStore != fallbackStore) {
+            saveJournal();
+        }
+        
+        CompletableFuture<Void> closed = CompletableFuture.allOf(
+            primaryStore.shutdown(),
+            fallbackStore.shutdown()
+        ).whenComplete((v, e) -> {
+            if (e != null) {
+                logger.severe("Error during database shutdown: " + e.getMessage());
+            } else {
+                logger.info("Database connections closed successfully.");
+            }
+            initialized = false;
+        });
+        
+        // Stores close on the executor, so wait for them before stopping it
+        try {
+            closed.join();
+        } catch (Exception ignored) {
+            // Already logged above
+        }
+        executor.shutdown(5000);
+        return closed;
+    }
+    
+    /**
+     * Get the dedicated database executor (for metrics).
+     */
+    public static DatabaseExecutor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Keeps an online player's data resident in the stores' caches.
+     */
+    public static void pinPlayer(UUID playerId) {
+        if (!initialized) return;
+        primaryStore.pin(playerId);
+        if (fallbackStore != primaryStore) {
+            fallbackStore.pin(playerId);
+        }
+    }
+    
+    /**
+     * Lets a player's cached data age out after they go offline.
+     */
+    public static void unpinPlayer(UUID playerId) {
+        if (!initialized) return;
+        primaryStore.unpin(playerId);
+        if (fallbackStore != primaryStore) {
+            fallbackStore.unpin(playerId);
+        }
+    }
+    
+    /**
+     * Load a full player profile with automatic fallback handling. Fails if no store can serve
+     * it, since the caller would otherwise save defaults over the stored profile.
+     */
+    public static CompletableFuture<PlayerData> getPlayerData(UUID playerId) {
+        return routeWithFailover(store -> store.loadPlayerData(playerId), null);
+    }
 } 
\ No newline at end of file
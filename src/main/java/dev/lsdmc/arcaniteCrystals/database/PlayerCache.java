@@ -0,0 +1,184 @@
+package dev.lsdmc.arcaniteCrystals.database;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded read-through cache of player rows for a DataStore.
+ * <p>
+ * Entries are loaded on demand, evicted least-recently-used once {@code maxSize} is exceeded
+ * and expired after {@code expireAfterAccess} without a read. Pinned players (those online)
+ * are held outside the LRU and never evicted until unpinned.
+ */
+public class PlayerCache {
+
+    private static class Entry {
+        final PlayerData data;
+        final long lastAccess;
+
+        Entry(PlayerData data) {
+            this.data = data;
+            this.lastAccess = System.nanoTime();
+        }
+    }
+
+    private final int maxSize;
+    private final long expireNanos;
+
+    // Access-ordered so the eldest entry is always the next eviction candidate
+    private final LinkedHashMap<UUID, Entry> lru = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<UUID, Entry> pinnedEntries = new ConcurrentHashMap<>();
+    private final Set<UUID> pinned = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public PlayerCache(int maxSize, long expireAfterAccess, TimeUnit unit) {
+        this.maxSize = Math.max(1, maxSize);
+        this.expireNanos = unit.toNanos(Math.max(1, expireAfterAccess));
+    }
+
+    /**
+     * Returns the cached data, or null if the player is not cached.
+     */
+    public PlayerData get(UUID playerId) {
+        Entry entry = pinnedEntries.get(playerId);
+        if (entry == null) {
+            synchronized (lru) {
+                entry = lru.get(playerId);
+                if (entry != null) {
+                    if (System.nanoTime() - entry.lastAccess > expireNanos) {
+                        lru.remove(playerId);
+                        evictions.incrementAndGet();
+                        entry = null;
+                    } else {
+                        // Refresh the access time; the map has already moved it to the tail
+                        lru.put(playerId, new Entry(entry.data));
+                    }
+                }
+            }
+        }
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.data;
+    }
+
+    /**
+     * Caches freshly loaded data unless a newer value is already present.
+     */
+    public void putIfAbsent(UUID playerId, PlayerData data) {
+        if (pinned.contains(playerId)) {
+            pinnedEntries.putIfAbsent(playerId, new Entry(data));
+            return;
+        }
+        synchronized (lru) {
+            lru.putIfAbsent(playerId, new Entry(data));
+            evictExcess();
+        }
+    }
+
+    /**
+     * Caches data that was just written, replacing any previous value.
+     */
+    public void put(UUID playerId, PlayerData data) {
+        if (pinned.contains(playerId)) {
+            pinnedEntries.put(playerId, new Entry(data));
+            return;
+        }
+        synchronized (lru) {
+            lru.put(playerId, new Entry(data));
+            evictExcess();
+        }
+    }
+
+    /**
+     * Applies a change to a cached player. Returns false (and does nothing) if the player is not cached.
+     */
+    public boolean update(UUID playerId, UnaryOperator<PlayerData> change) {
+        if (pinned.contains(playerId)) {
+            return pinnedEntries.computeIfPresent(playerId, (id, entry) -> new Entry(change.apply(entry.data))) != null;
+        }
+        synchronized (lru) {
+            Entry entry = lru.get(playerId);
+            if (entry == null) return false;
+            lru.put(playerId, new Entry(change.apply(entry.data)));
+            return true;
+        }
+    }
+
+    public void invalidate(UUID playerId) {
+        pinnedEntries.remove(playerId);
+        synchronized (lru) {
+            lru.remove(playerId);
+        }
+    }
+
+    /**
+     * Keeps the player's entry resident until {@link #unpin} (the player is online).
+     */
+    public void pin(UUID playerId) {
+        if (!pinned.add(playerId)) return;
+        synchronized (lru) {
+            Entry entry = lru.remove(playerId);
+            if (entry != null) {
+                pinnedEntries.putIfAbsent(playerId, entry);
+            }
+        }
+    }
+
+    /**
+     * Returns the player's entry to the LRU, where it ages out normally.
+     */
+    public void unpin(UUID playerId) {
+        if (!pinned.remove(playerId)) return;
+        Entry entry = pinnedEntries.remove(playerId);
+        if (entry != null) {
+            synchronized (lru) {
+                lru.putIfAbsent(playerId, new Entry(entry.data));
+                evictExcess();
+            }
+        }
+    }
+
+    // Caller holds the lru lock
+    private void evictExcess() {
+        long now = System.nanoTime();
+        Iterator<Entry> iterator = lru.values().iterator();
+        while (iterator.hasNext()) {
+            Entry eldest = iterator.next();
+            if (lru.size() <= maxSize && now - eldest.lastAccess <= expireNanos) {
+                break;
+            }
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    public int size() {
+        synchronized (lru) {
+            return lru.size() + pinnedEntries.size();
+        }
+    }
+
+    public String getStats() {
+        long h = hits.get();
+        long total = h + misses.get();
+        int lruSize;
+        synchronized (lru) {
+            lruSize = lru.size();
+        }
+        return String.format("Cache: %d/%d (+%d pinned), Hit rate: %.1f%%, Evictions: %d",
+                lruSize, maxSize, pinnedEntries.size(), total == 0 ? 0 : h * 100.0 / total, evictions.get());
+    }
+}
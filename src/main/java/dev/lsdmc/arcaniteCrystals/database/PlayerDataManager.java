@@ -1,27 +1,68 @@
 // src/main/java/dev/lsdmc/arcaniteCrystals/database/PlayerDataManager.java
 package dev.lsdmc.arcaniteCrystals.database;
 
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
-import dev.lsdmc.arcaniteCrystals.manager.PlayerStatisticsManager;
+import dev.lsdmc.arcaniteCrystals.config.ConfigManager;
+import dev.lsdmc.arcaniteCrystals.placeholder.PlaceholderCache;
 
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.Map;
-import java.util.HashMap;
+import java.util.logging.Logger;
 
 /**
- * Compatibility wrapper for PlayerDataManager that delegates to DatabaseManager.
- * This maintains backward compatibility with existing code while providing
- * proper database abstraction and fallback handling.
+ * Non-blocking player data facade backed by session-scoped {@link PlayerProfile}s.
+ * Profiles are loaded asynchronously before join, read from memory on the main thread,
+ * and written back to the {@link DatabaseManager} through a coalescing {@link WriteBehindQueue}.
  */
 public class PlayerDataManager {
 
+    private static final Map<UUID, PlayerProfile> profiles = new ConcurrentHashMap<>();
+    private static final Map<UUID, CompletableFuture<PlayerProfile>> pendingLoads = new ConcurrentHashMap<>();
+    // Open sessions per player; a fast relog holds two until the old connection quits
+    private static final Map<UUID, Integer> activeSessions = new ConcurrentHashMap<>();
+    private static final long LOAD_RETRY_TICKS = 100L;
+
+    private static JavaPlugin plugin;
+    private static Logger logger;
+    private static WriteBehindQueue writeQueue;
+
     /**
-     * Initialize the data manager (delegates to DatabaseManager).
+     * Initialize the data manager, the underlying DatabaseManager and the write-behind flush.
      */
-    public static void initialize(JavaPlugin plugin) {
+    public static void initialize(JavaPlugin pluginInstance) {
+        plugin = pluginInstance;
+        logger = plugin.getLogger();
         DatabaseManager.initialize(plugin);
+
+        writeQueue = new WriteBehindQueue(plugin,
+                ConfigManager.getConfig().getLong("database.write-behind.flush-interval", 5),
+                ConfigManager.getConfig().getInt("database.write-behind.max-batch-size", 250));
+        writeQueue.start(plugin);
+
+        // Players already online (plugin reload) never fire a pre-login event
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            beginSession(player.getUniqueId());
+            loadUntilResident(player.getUniqueId());
+        }
+    }
+
+    /**
+     * Loads an online player's profile, retrying in the background for as long as the session
+     * lasts. Until it succeeds their changes go straight to the database.
+     */
+    private static void loadUntilResident(UUID playerId) {
+        loadProfile(playerId).exceptionally(error -> {
+            if (activeSessions.containsKey(playerId) && plugin.isEnabled()) {
+                Bukkit.getScheduler().runTaskLaterAsynchronously(plugin,
+                        () -> loadUntilResident(playerId), LOAD_RETRY_TICKS);
+            }
+            return null;
+        });
     }
 
     /**
@@ -31,172 +72,299 @@ public class PlayerDataManager {
         // Handled by DatabaseManager fallback system
     }
 
+    // ===== SESSION LIFECYCLE =====
+
+    /**
+     * Loads a player's profile into memory. Safe to call from any thread;
+     * concurrent calls for the same player share one database round-trip.
+     * <p>
+     * The future fails if the profile could not be read, and no profile is created in that case,
+     * so a default profile is never written over stored data. Profiles are only kept resident
+     * for players with an active session.
+     */
+    public static CompletableFuture<PlayerProfile> loadProfile(UUID playerId) {
+        PlayerProfile existing = profiles.get(playerId);
+        if (existing != null) {
+            return CompletableFuture.completedFuture(existing);
+        }
+
+        return pendingLoads.computeIfAbsent(playerId, id ->
+            DatabaseManager.getPlayerData(id)
+                .thenApply(data -> activeSessions.containsKey(id)
+                        ? profiles.computeIfAbsent(id, k -> new PlayerProfile(k, data))
+                        : new PlayerProfile(id, data))
+                .whenComplete((profile, error) -> {
+                    pendingLoads.remove(id);
+                    // Anything resolved before the profile arrived saw defaults
+                    PlaceholderCache.invalidate(id, PlaceholderCache.ALL);
+                    if (error != null && logger != null) {
+                        logger.warning("Failed to load profile for " + id + ": " + error.getMessage());
+                    }
+                }));
+    }
+
+    /**
+     * Marks the start of a player session; the profile stays resident until every session begun
+     * for the player has been ended with {@link #endSession}.
+     */
+    public static void beginSession(UUID playerId) {
+        activeSessions.merge(playerId, 1, Integer::sum);
+        DatabaseManager.pinPlayer(playerId);
+    }
+
+    /**
+     * Ends one player session, writes back any pending changes and evicts the profile
+     * once the write completes, unless another session for the player is still open.
+     */
+    public static CompletableFuture<Void> endSession(UUID playerId) {
+        activeSessions.computeIfPresent(playerId, (id, count) -> count > 1 ? count - 1 : null);
+        PlayerProfile profile = profiles.get(playerId);
+        if (profile == null) {
+            if (!activeSessions.containsKey(playerId)) {
+                DatabaseManager.unpinPlayer(playerId);
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        if (profile.isDirty()) {
+            writeQueue.enqueue(profile);
+        }
+        return writeQueue.flush().whenComplete((v, e) -> releaseWhenWritten(playerId, profile));
+    }
+
+    /**
+     * Evicts a profile whose session has ended once its changes are stored. A failed flush
+     * leaves the profile dirty and queued, so it stays resident until a later flush lands.
+     */
+    private static void releaseWhenWritten(UUID playerId, PlayerProfile profile) {
+        if (activeSessions.containsKey(playerId)) {
+            return;
+        }
+        if (!profile.isDirty()) {
+            DatabaseManager.unpinPlayer(playerId);
+            profiles.remove(playerId, profile);
+        } else if (plugin.isEnabled()) {
+            Bukkit.getScheduler().runTaskLaterAsynchronously(plugin, () -> writeQueue.flush()
+                    .whenComplete((v, e) -> releaseWhenWritten(playerId, profile)), LOAD_RETRY_TICKS);
+        }
+    }
+
+    /**
+     * Returns the in-memory profile, or null if the player has no loaded session.
+     */
+    public static PlayerProfile getProfile(UUID playerId) {
+        return profiles.get(playerId);
+    }
+
+    /**
+     * Returns the loaded profile, or a transient default profile that is never cached or saved.
+     * Players without a session are not loaded here, since nothing would evict their profile.
+     */
+    private static PlayerProfile profileOrDefault(UUID playerId) {
+        PlayerProfile profile = profiles.get(playerId);
+        if (profile != null) {
+            return profile;
+        }
+        return new PlayerProfile(playerId, null);
+    }
+
+    private static void markDirty(PlayerProfile profile) {
+        writeQueue.enqueue(profile);
+    }
+
+    // ===== SYNCHRONOUS, MEMORY-ONLY ACCESSORS =====
+
     /**
      * Get player level.
      */
     public static int getLevel(UUID playerId) {
-        return DatabaseManager.getLevel(playerId).join();
+        return profileOrDefault(playerId).getLevel();
     }
 
     /**
      * Set player level.
      */
     public static void setLevel(UUID playerId, int level) {
-        DatabaseManager.setLevel(playerId, level).join();
+        PlayerProfile profile = profiles.get(playerId);
+        if (profile == null) {
+            DatabaseManager.setLevel(playerId, level);
+            return;
+        }
+        profile.setLevel(level);
+        markDirty(profile);
+        PlaceholderCache.invalidate(playerId, PlaceholderCache.LEVEL | PlaceholderCache.REQUIREMENTS);
     }
 
     /**
      * Get unlocked upgrades.
      */
     public static Set<String> getUnlockedUpgrades(UUID playerId) {
-        return DatabaseManager.getUnlockedUpgrades(playerId).join();
+        return profileOrDefault(playerId).getUnlockedUpgrades();
     }
 
     /**
      * Unlock an upgrade.
      */
     public static void unlockUpgrade(UUID playerId, String upgradeId) {
-        DatabaseManager.unlockUpgrade(playerId, upgradeId).join();
+        PlayerProfile profile = profiles.get(playerId);
+        if (profile == null) {
+            DatabaseManager.unlockUpgrade(playerId, upgradeId);
+            return;
+        }
+        if (profile.unlockUpgrade(upgradeId)) {
+            markDirty(profile);
+            PlaceholderCache.invalidate(playerId, PlaceholderCache.UPGRADES);
+        }
     }
 
     /**
      * Revoke an upgrade.
      */
     public static void revokeUpgrade(UUID playerId, String upgradeId) {
-        DatabaseManager.revokeUpgrade(playerId, upgradeId).join();
+        PlayerProfile profile = profiles.get(playerId);
+        if (profile == null) {
+            DatabaseManager.revokeUpgrade(playerId, upgradeId);
+            return;
+        }
+        if (profile.revokeUpgrade(upgradeId)) {
+            markDirty(profile);
+            PlaceholderCache.invalidate(playerId, PlaceholderCache.UPGRADES);
+        }
     }
 
     /**
      * Get player cooldown.
      */
     public static long getCooldown(UUID playerId) {
-        return DatabaseManager.getCooldown(playerId).join();
+        return profileOrDefault(playerId).getCooldown();
     }
 
     /**
      * Set player cooldown.
      */
     public static void setCooldown(UUID playerId, long timestamp) {
-        DatabaseManager.setCooldown(playerId, timestamp).join();
+        PlayerProfile profile = profiles.get(playerId);
+        if (profile == null) {
+            DatabaseManager.setCooldown(playerId, timestamp);
+            return;
+        }
+        profile.setCooldown(timestamp);
+        markDirty(profile);
     }
 
     /**
-     * Save all data.
+     * Get the deadline of one of the player's named cooldowns, or 0 if it is not set.
      */
-    public static void saveAll() {
-        // Create batch data from current state
-        Map<UUID, PlayerData> batchData = new HashMap<>();
-        // TODO: Implement batch data collection
-        DatabaseManager.saveBatch(batchData).join();
+    public static long getCooldown(UUID playerId, String name) {
+        PlayerProfile profile = profiles.get(playerId);
+        return profile != null ? profile.getCooldown(name) : 0L;
     }
 
     /**
-     * Get cache statistics.
+     * Get all of the player's named cooldowns.
      */
-    public static String getCacheStats() {
-        return DatabaseManager.getStats();
+    public static Map<String, Long> getCooldowns(UUID playerId) {
+        PlayerProfile profile = profiles.get(playerId);
+        return profile != null ? profile.getCooldowns() : Map.of();
     }
 
     /**
-     * Clear cache (handled by DatabaseManager).
+     * Set or, with a deadline of 0, clear one of the player's named cooldowns. Only online players
+     * have named cooldowns; the value is written with the rest of the profile.
      */
-    public static void clearCache() {
-        // Handled by DatabaseManager internally
+    public static boolean setCooldown(UUID playerId, String name, long deadline) {
+        PlayerProfile profile = profiles.get(playerId);
+        if (profile == null) {
+            return false;
+        }
+        profile.setCooldown(name, deadline);
+        markDirty(profile);
+        return true;
     }
-    
+
     /**
-     * Check if database is healthy.
+     * Get the player's particle and sound opt-out flags.
      */
-    public static boolean isHealthy() {
-        return DatabaseManager.isHealthy();
+    public static int getEffectSettings(UUID playerId) {
+        PlayerProfile profile = profiles.get(playerId);
+        return profile != null ? profile.getEffectSettings() : 0;
     }
-    
+
     /**
-     * Check if database is initialized.
+     * Set the player's particle and sound opt-out flags. Only online players can change them;
+     * the value is written with the rest of the profile.
      */
-    public static boolean isInitialized() {
-        return DatabaseManager.isInitialized();
+    public static boolean setEffectSettings(UUID playerId, int effectSettings) {
+        PlayerProfile profile = profiles.get(playerId);
+        if (profile == null) {
+            return false;
+        }
+        profile.setEffectSettings(effectSettings);
+        markDirty(profile);
+        return true;
     }
-    
-    /**
-     * Async version of getLevel.
-     */
-    public static CompletableFuture<Integer> getLevelAsync(UUID playerId) {
-        return DatabaseManager.getLevel(playerId);
+
+    public static int getPlayerLevel(UUID playerId) {
+        return getLevel(playerId);
     }
-    
+
+    // ===== WRITE-BEHIND =====
+
     /**
-     * Async version of setLevel.
+     * Flushes every queued profile. Never blocks the caller.
      */
-    public static CompletableFuture<Void> setLevelAsync(UUID playerId, int level) {
-        return DatabaseManager.setLevel(playerId, level);
+    public static void saveAll() {
+        if (writeQueue != null) {
+            writeQueue.flush();
+        }
     }
-    
+
     /**
-     * Async version of getUnlockedUpgrades.
+     * Stops the write-behind queue and synchronously writes all pending changes.
+     * Only called from onDisable, where blocking is expected.
      */
-    public static CompletableFuture<Set<String>> getUnlockedUpgradesAsync(UUID playerId) {
-        return DatabaseManager.getUnlockedUpgrades(playerId);
+    public static void shutdown() {
+        if (writeQueue != null) {
+            writeQueue.shutdown();
+        }
+        profiles.clear();
+        activeSessions.clear();
     }
-    
+
     /**
-     * Async version of unlockUpgrade.
+     * Get cache statistics.
      */
-    public static CompletableFuture<Void> unlockUpgradeAsync(UUID playerId, String upgradeId) {
-        return DatabaseManager.unlockUpgrade(playerId, upgradeId);
+    public static String getCacheStats() {
+        return String.format("Profiles: %d | %s | %s",
+                profiles.size(), getWriteBehindStats(), DatabaseManager.getStats());
     }
-    
+
     /**
-     * Async version of revokeUpgrade.
+     * Write-behind queue depth and flush latency.
      */
-    public static CompletableFuture<Void> revokeUpgradeAsync(UUID playerId, String upgradeId) {
-        return DatabaseManager.revokeUpgrade(playerId, upgradeId);
+    public static String getWriteBehindStats() {
+        return writeQueue != null ? writeQueue.getStats() : "Write-behind not started";
     }
-    
+
     /**
-     * Async version of getCooldown.
+     * Drops cached profiles of players without an active session.
      */
-    public static CompletableFuture<Long> getCooldownAsync(UUID playerId) {
-        return DatabaseManager.getCooldown(playerId);
+    public static void clearCache() {
+        profiles.entrySet().removeIf(entry ->
+            !activeSessions.containsKey(entry.getKey()) && !entry.getValue().isDirty());
     }
-    
+
     /**
-     * Async version of setCooldown.
+     * Check if database is healthy.
      */
-    public static CompletableFuture<Void> setCooldownAsync(UUID playerId, long timestamp) {
-        return DatabaseManager.setCooldown(playerId, timestamp);
+    public static boolean isHealthy() {
+        return DatabaseManager.isHealthy();
     }
 
     /**
-     * Save player statistics.
+     * Check if database is initialized.
      */
-    public static void savePlayerStats(UUID playerId, PlayerStatisticsManager.PlayerStats stats) {
-        // Create batch data
-        Map<UUID, PlayerData> batchData = new HashMap<>();
-        PlayerData data = new PlayerData(
-            getLevel(playerId),
-            getUnlockedUpgrades(playerId),
-            getCooldown(playerId)
-        );
-        
-        // Set statistics
-        data.setCrystalsActivated(stats.crystalsActivated.get());
-        data.setSuccessfulFusions(stats.successfulFusions.get());
-        data.setFailedFusions(stats.failedFusions.get());
-        data.setSuccessfulSockets(stats.successfulSockets.get());
-        data.setFailedSockets(stats.failedSockets.get());
-        data.setTotalEnergyUsed(stats.totalEnergyUsed.get());
-        data.setCrystalsDecayed(stats.crystalsDecayed.get());
-        data.setCrystalsCorrupted(stats.crystalsCorrupted.get());
-        data.setSuccessfulIdentifications(stats.successfulIdentifications.get());
-        data.setFailedIdentifications(stats.failedIdentifications.get());
-        
-        batchData.put(playerId, data);
-        DatabaseManager.saveBatch(batchData).join();
-    }
-
-    public static int getPlayerLevel(UUID playerId) {
-        PlayerData data = DatabaseManager.getPlayerData(playerId).join();
-        return data != null ? data.getLevel() : 1;
+    public static boolean isInitialized() {
+        return DatabaseManager.isInitialized();
     }
 }
@@ -0,0 +1,147 @@
+package dev.lsdmc.arcaniteCrystals.database;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Session-scoped, in-memory copy of a player's persisted data.
+ * Loaded asynchronously before the player joins and read synchronously afterwards.
+ * Every mutation marks the profile dirty so the write-behind flush picks it up.
+ */
+public class PlayerProfile {
+    private final UUID playerId;
+    private volatile int level;
+    private final Set<String> unlockedUpgrades = ConcurrentHashMap.newKeySet();
+    private volatile long cooldown;
+    private volatile int effectSettings;
+    private final Map<String, Long> cooldowns = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    PlayerProfile(UUID playerId, PlayerData data) {
+        this.playerId = playerId;
+        if (data != null) {
+            this.level = data.getLevel();
+            this.unlockedUpgrades.addAll(data.getUnlockedUpgrades());
+            this.cooldown = data.getCooldown();
+            this.effectSettings = data.getEffectSettings();
+            this.cooldowns.putAll(data.getCooldowns());
+        } else {
+            this.level = 1;
+            this.cooldown = 0L;
+        }
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns a copy so callers can keep and modify their own view.
+     */
+    public Set<String> getUnlockedUpgrades() {
+        return new HashSet<>(unlockedUpgrades);
+    }
+
+    public boolean hasUpgrade(String upgradeId) {
+        return unlockedUpgrades.contains(upgradeId);
+    }
+
+    public long getCooldown() {
+        return cooldown;
+    }
+
+    public int getEffectSettings() {
+        return effectSettings;
+    }
+
+    /**
+     * Returns the deadline of a named cooldown, or 0 if it is not set.
+     */
+    public long getCooldown(String name) {
+        return cooldowns.getOrDefault(name, 0L);
+    }
+
+    /**
+     * Returns a copy of the named cooldowns.
+     */
+    public Map<String, Long> getCooldowns() {
+        return new HashMap<>(cooldowns);
+    }
+
+    void setLevel(int level) {
+        this.level = level;
+        dirty.set(true);
+    }
+
+    boolean unlockUpgrade(String upgradeId) {
+        boolean changed = unlockedUpgrades.add(upgradeId);
+        if (changed) dirty.set(true);
+        return changed;
+    }
+
+    boolean revokeUpgrade(String upgradeId) {
+        boolean changed = unlockedUpgrades.remove(upgradeId);
+        if (changed) dirty.set(true);
+        return changed;
+    }
+
+    void setCooldown(long cooldown) {
+        this.cooldown = cooldown;
+        dirty.set(true);
+    }
+
+    void setCooldown(String name, long deadline) {
+        if (deadline > 0) {
+            cooldowns.put(name, deadline);
+        } else {
+            cooldowns.remove(name);
+        }
+        dirty.set(true);
+    }
+
+    void setEffectSettings(int effectSettings) {
+        this.effectSettings = effectSettings;
+        dirty.set(true);
+    }
+
+    public boolean isDirty() {
+        return dirty.get();
+    }
+
+    void markDirty() {
+        dirty.set(true);
+    }
+
+    /**
+     * Clears the dirty flag before a snapshot is taken, so any mutation racing
+     * with the flush re-marks the profile and is written on the next cycle.
+     */
+    boolean clearDirty() {
+        return dirty.compareAndSet(true, false);
+    }
+
+    /**
+     * Creates an immutable snapshot suitable for {@link DataStore#saveBatch}.
+     */
+    PlayerData snapshot() {
+        // Expired cooldowns are dropped rather than written
+        long now = System.currentTimeMillis();
+        cooldowns.values().removeIf(deadline -> deadline <= now);
+        return new PlayerData(level, unlockedUpgrades, cooldown, effectSettings, cooldowns);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PlayerProfile{id=%s, level=%d, upgrades=%d, cooldown=%d, effectSettings=%d, cooldowns=%d, dirty=%s}",
+                playerId, level, unlockedUpgrades.size(), cooldown, effectSettings, cooldowns.size(), dirty.get());
+    }
+}
@@ -1,233 +1,511 @@
-package dev.lsdmc.arcaniteCrystals.database;
-
-import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.plugin.java.JavaPlugin;
-import redis.clients.jedis.Jedis;
-import redis.clients.jedis.JedisPool;
-import redis.clients.jedis.JedisPoolConfig;
-import redis.clients.jedis.exceptions.JedisException;
-
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
-import java.util.logging.Logger;
-
-/**
- * Redis implementation of DataStore interface with proper connection pooling,
- * error handling, and async operations.
- */
-public class RedisDataStore implements DataStore {
-    private static final String LEVEL_KEY_PREFIX = "arcanite:level:";
-    private static final String UPGRADES_KEY_PREFIX = "arcanite:upgrades:";
-    private static final String COOLDOWN_KEY_PREFIX = "arcanite:cooldown:";
-    private static final int DEFAULT_TTL = 86400 * 30; // 30 days
-    
-    private final JedisPool pool;
-    private final Logger logger;
-    private volatile boolean isHealthy = false;
-    
-    public RedisDataStore(FileConfiguration config, JavaPlugin plugin) {
-        this.logger = plugin.getLogger();
-        
-        // Configure connection pool
-        JedisPoolConfig poolConfig = new JedisPoolConfig();
-        poolConfig.setMaxTotal(config.getInt("database.redis.max-total", 128));
-        poolConfig.setMaxIdle(config.getInt("database.redis.max-idle", 16));
-        poolConfig.setMinIdle(config.getInt("database.redis.min-idle", 1));
-        poolConfig.setTestOnBorrow(true);
-        poolConfig.setTestOnReturn(true);
-        poolConfig.setTestWhileIdle(true);
-        
-        // Create connection pool
-        String host = config.getString("database.redis.host", "localhost");
-        int port = config.getInt("database.redis.port", 6379);
-        String password = config.getString("database.redis.password", "");
-        int timeout = config.getInt("database.redis.timeout", 2000);
-        
-        if (password == null || password.trim().isEmpty()) {
-            pool = new JedisPool(poolConfig, host, port, timeout);
-        } else {
-            pool = new JedisPool(poolConfig, host, port, timeout, password.trim());
-        }
-        
-        // Test connection
-        isHealthy = testConnection();
-        if (isHealthy) {
-            logger.info("Successfully connected to Redis at " + host + ":" + port);
-        } else {
-            logger.severe("Failed to establish Redis connection!");
-        }
-    }
-    
-    @Override
-    public CompletableFuture<Integer> getLevel(UUID playerId) {
-        return CompletableFuture.supplyAsync(() -> {
-            try (Jedis jedis = pool.getResource()) {
-                String levelStr = jedis.get(LEVEL_KEY_PREFIX + playerId.toString());
-                return levelStr != null ? Integer.parseInt(levelStr) : 1;
-            } catch (Exception e) {
-                logger.warning("Redis getLevel failed for " + playerId + ": " + e.getMessage());
-                return 1; // Default level
-            }
-        });
-    }
-    
-    @Override
-    public CompletableFuture<Void> setLevel(UUID playerId, int level) {
-        return CompletableFuture.runAsync(() -> {
-            try (Jedis jedis = pool.getResource()) {
-                jedis.setex(LEVEL_KEY_PREFIX + playerId.toString(), 
-                           DEFAULT_TTL,
-                           String.valueOf(level));
-            } catch (Exception e) {
-                logger.severe("Redis setLevel failed for " + playerId + ": " + e.getMessage());
-                throw new DatabaseException("Redis operation failed", e);
-            }
-        });
-    }
-    
-    @Override
-    public CompletableFuture<Set<String>> getUnlockedUpgrades(UUID playerId) {
-        return CompletableFuture.supplyAsync(() -> {
-            try (Jedis jedis = pool.getResource()) {
-                Set<String> upgrades = jedis.smembers(UPGRADES_KEY_PREFIX + playerId.toString());
-                return upgrades != null ? upgrades : new HashSet<>();
-            } catch (Exception e) {
-                logger.warning("Redis getUpgrades failed for " + playerId + ": " + e.getMessage());
-                return new HashSet<>();
-            }
-        });
-    }
-    
-    @Override
-    public CompletableFuture<Void> unlockUpgrade(UUID playerId, String upgradeId) {
-        return CompletableFuture.runAsync(() -> {
-            try (Jedis jedis = pool.getResource()) {
-                String key = UPGRADES_KEY_PREFIX + playerId.toString();
-                jedis.sadd(key, upgradeId);
-                jedis.expire(key, DEFAULT_TTL);
-            } catch (Exception e) {
-                logger.severe("Redis unlockUpgrade failed: " + e.getMessage());
-                throw new DatabaseException("Redis operation failed", e);
-            }
-        });
-    }
-    
-    @Override
-    public CompletableFuture<Void> revokeUpgrade(UUID playerId, String upgradeId) {
-        return CompletableFuture.runAsync(() -> {
-            try (Jedis jedis = pool.getResource()) {
-                String key = UPGRADES_KEY_PREFIX + playerId.toString();
-                jedis.srem(key, upgradeId);
-            } catch (Exception e) {
-                logger.severe("Redis revokeUpgrade failed: " + e.getMessage());
-                throw new DatabaseException("Redis operation failed", e);
-            }
-        });
-    }
-    
-    @Override
-    public CompletableFuture<Long> getCooldown(UUID playerId) {
-        return CompletableFuture.supplyAsync(() -> {
-            try (Jedis jedis = pool.getResource()) {
-                String cooldownStr = jedis.get(COOLDOWN_KEY_PREFIX + playerId.toString());
-                return cooldownStr != null ? Long.parseLong(cooldownStr) : 0L;
-            } catch (Exception e) {
-                logger.warning("Redis getCooldown failed for " + playerId + ": " + e.getMessage());
-                return 0L;
-            }
-        });
-    }
-    
-    @Override
-    public CompletableFuture<Void> setCooldown(UUID playerId, long timestamp) {
-        return CompletableFuture.runAsync(() -> {
-            try (Jedis jedis = pool.getResource()) {
-                jedis.setex(COOLDOWN_KEY_PREFIX + playerId.toString(),
-                           DEFAULT_TTL,
-                           String.valueOf(timestamp));
-            } catch (Exception e) {
-                logger.severe("Redis setCooldown failed: " + e.getMessage());
-                throw new DatabaseException("Redis operation failed", e);
-            }
-        });
-    }
-    
-    @Override
-    public CompletableFuture<Void> saveBatch(Map<UUID, PlayerData> data) {
-        return CompletableFuture.runAsync(() -> {
-            try (Jedis jedis = pool.getResource()) {
-                for (Map.Entry<UUID, PlayerData> entry : data.entrySet()) {
-                    UUID playerId = entry.getKey();
-                    PlayerData playerData = entry.getValue();
-                    
-                    // Save level
-                    jedis.setex(LEVEL_KEY_PREFIX + playerId.toString(),
-                               DEFAULT_TTL,
-                               String.valueOf(playerData.getLevel()));
-                    
-                    // Save upgrades
-                    String upgradesKey = UPGRADES_KEY_PREFIX + playerId.toString();
-                    jedis.del(upgradesKey); // Clear existing
-                    if (!playerData.getUnlockedUpgrades().isEmpty()) {
-                        jedis.sadd(upgradesKey, 
-                                 playerData.getUnlockedUpgrades().toArray(new String[0]));
-                        jedis.expire(upgradesKey, DEFAULT_TTL);
-                    }
-                    
-                    // Save cooldown
-                    jedis.setex(COOLDOWN_KEY_PREFIX + playerId.toString(),
-                               DEFAULT_TTL,
-                               String.valueOf(playerData.getCooldown()));
-                }
-            } catch (Exception e) {
-                logger.severe("Redis batch save failed: " + e.getMessage());
-                throw new DatabaseException("Redis batch operation failed", e);
-            }
-        });
-    }
-    
-    @Override
-    public boolean isHealthy() {
-        return isHealthy && pool != null && !pool.isClosed();
-    }
-    
-    @Override
-    public CompletableFuture<Void> shutdown() {
-        return CompletableFuture.runAsync(() -> {
-            if (pool != null && !pool.isClosed()) {
-                try {
-                    pool.close();
-                    isHealthy = false;
-                    logger.info("Redis connection pool closed successfully.");
-                } catch (Exception e) {
-                    logger.warning("Error closing Redis pool: " + e.getMessage());
-                }
-            }
-        });
-    }
-    
-    @Override
-    public String getStats() {
-        if (pool == null) return "Pool not initialized";
-        
-        return String.format("Active: %d, Idle: %d, Total: %d", 
-                pool.getNumActive(), 
-                pool.getNumIdle(), 
-                pool.getNumActive() + pool.getNumIdle());
-    }
-    
-    private boolean testConnection() {
-        if (pool == null) return false;
-        
-        try (Jedis jedis = pool.getResource()) {
-            String response = jedis.ping();
-            return "PONG".equals(response);
-        } catch (Exception e) {
-            logger.warning("Redis connection test failed: " + e.getMessage());
-            return false;
-        }
-    }
+package dev.lsdmc.arcaniteCrystals.database;
+
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.plugin.java.JavaPlugin;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.PipeliningBase;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+import redis.clients.jedis.resps.Tuple;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Redis implementation of DataStore interface with proper connection pooling,
+ * error handling, and async operations.
+ * <p>
+ * Each player is one hash ({@code arcanite:player:<uuid>} with {@code level}, {@code cooldown}
+ * and {@code effect_settings} fields) plus one set of upgrade ids ({@code arcanite:player:<uuid>:upgrades})
+ * and one hash of named cooldown deadlines ({@code arcanite:player:<uuid>:cooldowns}).
+ * A full profile loads in a single pipelined round-trip and batches are written through one
+ * {@link Pipeline}. Any legacy per-field keys a player still has are merged in and removed on load.
+ * Statistics are counters in {@code arcanite:player:<uuid>:stats}, mirrored into one sorted set
+ * per statistic ({@code arcanite:stats:top:<stat>}) for leaderboards.
+ */
+public class RedisDataStore implements DataStore {
+    private static final String PLAYER_KEY_PREFIX = "arcanite:player:";
+    private static final String UPGRADES_KEY_SUFFIX = ":upgrades";
+    private static final String COOLDOWNS_KEY_SUFFIX = ":cooldowns";
+    private static final String STATS_KEY_SUFFIX = ":stats";
+    private static final String TOP_STATS_KEY_PREFIX = "arcanite:stats:top:";
+    private static final String FIELD_LEVEL = "level";
+    private static final String FIELD_COOLDOWN = "cooldown";
+    private static final String FIELD_EFFECT_SETTINGS = "effect_settings";
+    private static final int DEFAULT_TTL = 86400 * 30; // 30 days
+    private static final int MIGRATION_ATTEMPTS = 3;
+    private static final long MIGRATION_RETRY_MS = 60_000L;
+    
+    // Legacy layout: one key per field
+    private static final String LEGACY_LEVEL_KEY_PREFIX = "arcanite:level:";
+    private static final String LEGACY_UPGRADES_KEY_PREFIX = "arcanite:upgrades:";
+    private static final String LEGACY_COOLDOWN_KEY_PREFIX = "arcanite:cooldown:";
+    
+    private final JedisPool pool;
+    private final DatabaseExecutor executor;
+    private final Logger logger;
+    private volatile boolean isHealthy = false;
+    private final AtomicLong legacyMigrations = new AtomicLong();
+    private final boolean migrateLegacyKeys;
+    private final AtomicBoolean legacyScanRunning = new AtomicBoolean();
+    private volatile boolean legacyScanDone = false;
+    private volatile long legacyScanRetryAt = 0L;
+    
+    public RedisDataStore(FileConfiguration config, JavaPlugin plugin, DatabaseExecutor executor) {
+        this.logger = plugin.getLogger();
+        this.executor = executor;
+        
+        // Configure connection pool
+        JedisPoolConfig poolConfig = new JedisPoolConfig();
+        poolConfig.setMaxTotal(config.getInt("database.redis.max-total", 128));
+        poolConfig.setMaxIdle(config.getInt("database.redis.max-idle", 16));
+        poolConfig.setMinIdle(config.getInt("database.redis.min-idle", 1));
+        poolConfig.setTestOnBorrow(true);
+        poolConfig.setTestOnReturn(true);
+        poolConfig.setTestWhileIdle(true);
+        
+        // Create connection pool
+        String host = config.getString("database.redis.host", "localhost");
+        int port = config.getInt("database.redis.port", 6379);
+        String password = config.getString("database.redis.password", "");
+        int timeout = config.getInt("database.redis.timeout", 2000);
+        
+        if (password == null || password.trim().isEmpty()) {
+            pool = new JedisPool(poolConfig, host, port, timeout);
+        } else {
+            pool = new JedisPool(poolConfig, host, port, timeout, password.trim());
+        }
+        
+        // Test connection
+        migrateLegacyKeys = config.getBoolean("database.redis.migrate-legacy-keys", true);
+        isHealthy = testConnection();
+        if (isHealthy) {
+            logger.info("Successfully connected to Redis at " + host + ":" + port);
+            startLegacyScan();
+        } else {
+            logger.severe("Failed to establish Redis connection!");
+        }
+    }
+    
+    private static String playerKey(UUID playerId) {
+        return PLAYER_KEY_PREFIX + playerId;
+    }
+    
+    private static String upgradesKey(UUID playerId) {
+        return PLAYER_KEY_PREFIX + playerId + UPGRADES_KEY_SUFFIX;
+    }
+    
+    private static String cooldownsKey(UUID playerId) {
+        return PLAYER_KEY_PREFIX + playerId + COOLDOWNS_KEY_SUFFIX;
+    }
+    
+    private static String statsKey(UUID playerId) {
+        return PLAYER_KEY_PREFIX + playerId + STATS_KEY_SUFFIX;
+    }
+    
+    /**
+     * Loads the whole profile in one pipelined round-trip (HGETALL + SMEMBERS + HGETALL).
+     * Failures propagate so the DatabaseManager can fail over instead of handing out defaults.
+     */
+    @Override
+    public CompletableFuture<PlayerData> loadPlayerData(UUID playerId) {
+        return executor.supply("redis.loadPlayerData", () -> {
+            try (Jedis jedis = pool.getResource()) {
+                Pipeline pipeline = jedis.pipelined();
+                Response<Map<String, String>> hash = pipeline.hgetAll(playerKey(playerId));
+                Response<Set<String>> upgrades = pipeline.smembers(upgradesKey(playerId));
+                Response<Map<String, String>> cooldowns = pipeline.hgetAll(cooldownsKey(playerId));
+                Response<Long> legacyKeys = pipeline.exists(LEGACY_LEVEL_KEY_PREFIX + playerId,
+                        LEGACY_UPGRADES_KEY_PREFIX + playerId, LEGACY_COOLDOWN_KEY_PREFIX + playerId);
+                pipeline.sync();
+                startLegacyScan();
+                
+                if (legacyKeys.get() != null && legacyKeys.get() > 0) {
+                    // An older server may have written legacy keys after the hash was created
+                    return migrateLegacyPlayer(jedis, playerId);
+                }
+                Map<String, String> fields = hash.get();
+                return toPlayerData(fields != null ? fields : Map.of(), upgrades.get(), cooldowns.get());
+            } catch (Exception e) {
+                logger.warning("Redis loadPlayerData failed for " + playerId + ": " + e.getMessage());
+                throw new DatabaseException("Redis operation failed", e);
+            }
+        });
+    }
+    
+    @Override
+    public CompletableFuture<Integer> getLevel(UUID playerId) {
+        return loadPlayerData(playerId).thenApply(PlayerData::getLevel);
+    }
+    
+    @Override
+    public CompletableFuture<Void> setLevel(UUID playerId, int level) {
+        return executor.run("redis.setLevel", () -> {
+            try (Jedis jedis = pool.getResource()) {
+                Pipeline pipeline = jedis.pipelined();
+                pipeline.hset(playerKey(playerId), FIELD_LEVEL, String.valueOf(level));
+                pipeline.expire(playerKey(playerId), DEFAULT_TTL);
+                pipeline.sync();
+            } catch (Exception e) {
+                logger.severe("Redis setLevel failed for " + playerId + ": " + e.getMessage());
+                throw new DatabaseException("Redis operation failed", e);
+            }
+        });
+    }
+    
+    @Override
+    public CompletableFuture<Set<String>> getUnlockedUpgrades(UUID playerId) {
+        return loadPlayerData(playerId).thenApply(data -> new HashSet<>(data.getUnlockedUpgrades()));
+    }
+    
+    @Override
+    public CompletableFuture<Void> unlockUpgrade(UUID playerId, String upgradeId) {
+        return executor.run("redis.unlockUpgrade", () -> {
+            try (Jedis jedis = pool.getResource()) {
+                // SADD and EXPIRE in one round-trip
+                Pipeline pipeline = jedis.pipelined();
+                pipeline.sadd(upgradesKey(playerId), upgradeId);
+                pipeline.expire(upgradesKey(playerId), DEFAULT_TTL);
+                pipeline.sync();
+            } catch (Exception e) {
+                logger.severe("Redis unlockUpgrade failed: " + e.getMessage());
+                throw new DatabaseException("Redis operation failed", e);
+            }
+        });
+    }
+    
+    @Override
+    public CompletableFuture<Void> revokeUpgrade(UUID playerId, String upgradeId) {
+        return executor.run("redis.revokeUpgrade", () -> {
+            try (Jedis jedis = pool.getResource()) {
+                jedis.srem(upgradesKey(playerId), upgradeId);
+            } catch (Exception e) {
+                logger.severe("Redis revokeUpgrade failed: " + e.getMessage());
+                throw new DatabaseException("Redis operation failed", e);
+            }
+        });
+    }
+    
+    @Override
+    public CompletableFuture<Long> getCooldown(UUID playerId) {
+        return loadPlayerData(playerId).thenApply(PlayerData::getCooldown);
+    }
+    
+    @Override
+    public CompletableFuture<Void> setCooldown(UUID playerId, long timestamp) {
+        return executor.run("redis.setCooldown", () -> {
+            try (Jedis jedis = pool.getResource()) {
+                Pipeline pipeline = jedis.pipelined();
+                pipeline.hset(playerKey(playerId), FIELD_COOLDOWN, String.valueOf(timestamp));
+                pipeline.expire(playerKey(playerId), DEFAULT_TTL);
+                pipeline.sync();
+            } catch (Exception e) {
+                logger.severe("Redis setCooldown failed: " + e.getMessage());
+                throw new DatabaseException("Redis operation failed", e);
+            }
+        });
+    }
+    
+    @Override
+    public CompletableFuture<Void> saveBatch(Map<UUID, PlayerData> data) {
+        return executor.run("redis.saveBatch", () -> {
+            try (Jedis jedis = pool.getResource()) {
+                // Queue every command and send the whole batch in one round-trip
+                Pipeline pipeline = jedis.pipelined();
+                for (Map.Entry<UUID, PlayerData> entry : data.entrySet()) {
+                    queueProfileWrite(pipeline, entry.getKey(), entry.getValue());
+                }
+                pipeline.sync();
+                startLegacyScan();
+            } catch (Exception e) {
+                logger.severe("Redis batch save failed: " + e.getMessage());
+                throw new DatabaseException("Redis batch operation failed", e);
+            }
+        });
+    }
+    
+    @Override
+    public CompletableFuture<Map<String, Long>> loadStatistics(UUID playerId) {
+        return executor.supply("redis.loadStatistics", () -> {
+            try (Jedis jedis = pool.getResource()) {
+                Map<String, Long> statistics = new HashMap<>();
+                jedis.hgetAll(statsKey(playerId)).forEach((stat, value) -> statistics.put(stat, parseLong(value, 0L)));
+                return statistics;
+            } catch (Exception e) {
+                logger.warning("Redis loadStatistics failed for " + playerId + ": " + e.getMessage());
+                throw new DatabaseException("Redis operation failed", e);
+            }
+        });
+    }
+    
+    @Override
+    public CompletableFuture<Void> addStatistics(Map<UUID, Map<String, Long>> deltas) {
+        return executor.run("redis.addStatistics", () -> {
+            try (Jedis jedis = pool.getResource()) {
+                // HINCRBY and ZINCRBY keep both views consistent without reading first
+                Pipeline pipeline = jedis.pipelined();
+                for (Map.Entry<UUID, Map<String, Long>> player : deltas.entrySet()) {
+                    String key = statsKey(player.getKey());
+                    String member = player.getKey().toString();
+                    for (Map.Entry<String, Long> stat : player.getValue().entrySet()) {
+                        pipeline.hincrBy(key, stat.getKey(), stat.getValue());
+                        pipeline.zincrby(TOP_STATS_KEY_PREFIX + stat.getKey(), stat.getValue(), member);
+                    }
+                    pipeline.expire(key, DEFAULT_TTL);
+                }
+                pipeline.sync();
+            } catch (Exception e) {
+                logger.severe("Redis addStatistics failed: " + e.getMessage());
+                throw new DatabaseException("Redis batch operation failed", e);
+            }
+        });
+    }
+    
+    @Override
+    public CompletableFuture<Map<UUID, Long>> loadTopStatistic(String stat, int limit) {
+        return executor.supply("redis.loadTopStatistic", () -> {
+            try (Jedis jedis = pool.getResource()) {
+                List<Tuple> entries = jedis.zrevrangeWithScores(TOP_STATS_KEY_PREFIX + stat, 0, limit - 1);
+                Map<UUID, Long> top = new LinkedHashMap<>();
+                for (Tuple entry : entries) {
+                    top.put(UUID.fromString(entry.getElement()), (long) entry.getScore());
+                }
+                return top;
+            } catch (Exception e) {
+                logger.warning("Redis loadTopStatistic failed for " + stat + ": " + e.getMessage());
+                throw new DatabaseException("Redis operation failed", e);
+            }
+        });
+    }
+    
+    /**
+     * Queues a full overwrite of one player's hash and upgrade set.
+     */
+    private void queueProfileWrite(PipeliningBase pipeline, UUID playerId, PlayerData playerData) {
+        String hashKey = playerKey(playerId);
+        String setKey = upgradesKey(playerId);
+        String cooldownsKey = cooldownsKey(playerId);
+        
+        Map<String, String> fields = new HashMap<>();
+        fields.put(FIELD_LEVEL, String.valueOf(playerData.getLevel()));
+        fields.put(FIELD_COOLDOWN, String.valueOf(playerData.getCooldown()));
+        fields.put(FIELD_EFFECT_SETTINGS, String.valueOf(playerData.getEffectSettings()));
+        pipeline.hset(hashKey, fields);
+        pipeline.expire(hashKey, DEFAULT_TTL);
+        
+        pipeline.del(setKey); // Clear existing
+        if (!playerData.getUnlockedUpgrades().isEmpty()) {
+            pipeline.sadd(setKey, playerData.getUnlockedUpgrades().toArray(new String[0]));
+            pipeline.expire(setKey, DEFAULT_TTL);
+        }
+        
+        pipeline.del(cooldownsKey);
+        if (!playerData.getCooldowns().isEmpty()) {
+            Map<String, String> deadlines = new HashMap<>();
+            playerData.getCooldowns().forEach((name, deadline) -> deadlines.put(name, String.valueOf(deadline)));
+            pipeline.hset(cooldownsKey, deadlines);
+            pipeline.expire(cooldownsKey, DEFAULT_TTL);
+        }
+    }
+    
+    private static PlayerData toPlayerData(Map<String, String> fields, Set<String> upgrades, Map<String, String> cooldowns) {
+        return new PlayerData(
+                parseInt(fields.get(FIELD_LEVEL), 1),
+                upgrades != null ? upgrades : Set.of(),
+                parseLong(fields.get(FIELD_COOLDOWN), 0L),
+                parseInt(fields.get(FIELD_EFFECT_SETTINGS), 0),
+                parseDeadlines(cooldowns));
+    }
+    
+    // ===== LEGACY LAYOUT MIGRATION =====
+    
+    /**
+     * Reads a player and folds any legacy per-field keys into the new layout: the higher level and
+     * later cooldown win and upgrades are combined, then the profile is rewritten and the legacy
+     * keys removed in one MULTI. All keys involved are WATCHed, so a concurrent save aborts the
+     * transaction and the read is retried against the data that save wrote.
+     */
+    private PlayerData migrateLegacyPlayer(Jedis jedis, UUID playerId) {
+        String[] keys = {playerKey(playerId), upgradesKey(playerId), cooldownsKey(playerId),
+                LEGACY_LEVEL_KEY_PREFIX + playerId, LEGACY_UPGRADES_KEY_PREFIX + playerId,
+                LEGACY_COOLDOWN_KEY_PREFIX + playerId};
+        
+        for (int attempt = 0; attempt < MIGRATION_ATTEMPTS; attempt++) {
+            jedis.watch(keys);
+            Pipeline pipeline = jedis.pipelined();
+            Response<Map<String, String>> hash = pipeline.hgetAll(keys[0]);
+            Response<Set<String>> upgrades = pipeline.smembers(keys[1]);
+            Response<Map<String, String>> cooldowns = pipeline.hgetAll(keys[2]);
+            Response<String> legacyLevel = pipeline.get(keys[3]);
+            Response<Set<String>> legacyUpgrades = pipeline.smembers(keys[4]);
+            Response<String> legacyCooldown = pipeline.get(keys[5]);
+            pipeline.sync();
+            
+            Map<String, String> fields = hash.get() != null ? hash.get() : Map.of();
+            PlayerData current = toPlayerData(fields, upgrades.get(), cooldowns.get());
+            boolean hasLegacy = legacyLevel.get() != null || legacyCooldown.get() != null
+                    || (legacyUpgrades.get() != null && !legacyUpgrades.get().isEmpty());
+            if (!hasLegacy) {
+                jedis.unwatch();
+                return current;
+            }
+            
+            Set<String> mergedUpgrades = new HashSet<>(current.getUnlockedUpgrades());
+            if (legacyUpgrades.get() != null) {
+                mergedUpgrades.addAll(legacyUpgrades.get());
+            }
+            PlayerData data = new PlayerData(
+                    Math.max(current.getLevel(), parseInt(legacyLevel.get(), 1)),
+                    mergedUpgrades,
+                    Math.max(current.getCooldown(), parseLong(legacyCooldown.get(), 0L)),
+                    current.getEffectSettings(),
+                    current.getCooldowns());
+            
+            Transaction transaction = jedis.multi();
+            queueProfileWrite(transaction, playerId, data);
+            transaction.del(keys[3], keys[4], keys[5]);
+            List<Object> result = transaction.exec();
+            if (result != null && !result.isEmpty()) {
+                legacyMigrations.incrementAndGet();
+                return data;
+            }
+        }
+        throw new DatabaseException("Legacy migration of " + playerId + " kept racing concurrent writes");
+    }
+    
+    /**
+     * Starts the background legacy scan unless it has finished or is already running. Called after
+     * every successful round-trip, so a scan that could not start or was cut off by an outage is
+     * retried once Redis answers again, at most once a minute.
+     */
+    private void startLegacyScan() {
+        if (!migrateLegacyKeys || legacyScanDone || System.currentTimeMillis() < legacyScanRetryAt
+                || !legacyScanRunning.compareAndSet(false, true)) {
+            return;
+        }
+        executor.run("redis.migrateLegacyKeys", this::migrateLegacyKeys)
+                .whenComplete((v, error) -> legacyScanRunning.set(false));
+    }
+    
+    /**
+     * Migrates every player still stored in the legacy layout. Runs in the background once Redis
+     * is reachable; players who join first are migrated on load instead. Players can have any
+     * subset of the three legacy keys, so all three patterns are scanned.
+     */
+    private void migrateLegacyKeys() {
+        long before = legacyMigrations.get();
+        Set<UUID> seen = new HashSet<>();
+        try (Jedis jedis = pool.getResource()) {
+            for (String prefix : List.of(LEGACY_LEVEL_KEY_PREFIX, LEGACY_UPGRADES_KEY_PREFIX, LEGACY_COOLDOWN_KEY_PREFIX)) {
+                ScanParams params = new ScanParams().match(prefix + "*").count(500);
+                String cursor = ScanParams.SCAN_POINTER_START;
+                do {
+                    ScanResult<String> result = jedis.scan(cursor, params);
+                    for (String key : result.getResult()) {
+                        try {
+                            UUID playerId = UUID.fromString(key.substring(prefix.length()));
+                            if (seen.add(playerId)) {
+                                migrateLegacyPlayer(jedis, playerId);
+                            }
+                        } catch (IllegalArgumentException ignored) {
+                            // Not a player key
+                        }
+                    }
+                    cursor = result.getCursor();
+                } while (!ScanParams.SCAN_POINTER_START.equals(cursor));
+            }
+            
+            legacyScanDone = true;
+            long migrated = legacyMigrations.get() - before;
+            if (migrated > 0) {
+                logger.info("Migrated " + migrated + " players from the legacy Redis key layout");
+            }
+        } catch (Exception e) {
+            legacyScanRetryAt = System.currentTimeMillis() + MIGRATION_RETRY_MS;
+            logger.warning("Legacy Redis key migration stopped after " + (legacyMigrations.get() - before)
+                    + " players, retrying once Redis is reachable: " + e.getMessage());
+        }
+    }
+    
+    private static int parseInt(String value, int def) {
+        try {
+            return value != null ? Integer.parseInt(value) : def;
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+    
+    private static long parseLong(String value, long def) {
+        try {
+            return value != null ? Long.parseLong(value) : def;
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+    
+    private static Map<String, Long> parseDeadlines(Map<String, String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Long> deadlines = new HashMap<>();
+        fields.forEach((name, value) -> deadlines.put(name, parseLong(value, 0L)));
+        return deadlines;
+    }
+    
+    @Override
+    public boolean isHealthy() {
+        return isHealthy && pool != null && !pool.isClosed();
+    }
+    
+    @Override
+    public CompletableFuture<Void> shutdown() {
+        return executor.run("redis.shutdown", () -> {
+            if (pool != null && !pool.isClosed()) {
+                try {
+                    pool.close();
+                    isHealthy = false;
+                    logger.info("Redis connection pool closed successfully.");
+                } catch (Exception e) {
+                    logger.warning("Error closing Redis pool: " + e.getMessage());
+                }
+            }
+        });
+    }
+    
+    @Override
+    public String getStats() {
+        if (pool == null) return "Pool not initialized";
+        
+        return String.format("Active: %d, Idle: %d, Total: %d", 
+                pool.getNumActive(), 
+                pool.getNumIdle(), 
+                pool.getNumActive() + pool.getNumIdle());
+    }
+    
+    private boolean testConnection() {
+        if (pool == null) return false;
+        
+        try (Jedis jedis = pool.getResource()) {
+            String response = jedis.ping();
+            return "PONG".equals(response);
+        } catch (Exception e) {
+            logger.warning("Redis connection test failed: " + e.getMessage());
+            return false;
+        }
+    }
 } 
\ No newline at end of file
@@ -1,394 +1,502 @@
-package dev.lsdmc.arcaniteCrystals.database;
-
-import org.bukkit.plugin.java.JavaPlugin;
-
-import java.io.File;
-import java.sql.*;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.logging.Logger;
-
-/**
- * SQLite implementation of DataStore interface with proper connection management,
- * prepared statements, and async operations.
- */
-public class SqliteDataStore implements DataStore {
-    private static final String DATABASE_VERSION = "1.0";
-    
-    private final Connection connection;
-    private final Logger logger;
-    private final File databaseFile;
-    private volatile boolean isHealthy = false;
-    
-    // Cache for frequently accessed data
-    private final ConcurrentHashMap<UUID, Integer> levelCache = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<UUID, Set<String>> upgradeCache = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<UUID, Long> cooldownCache = new ConcurrentHashMap<>();
-    
-    public SqliteDataStore(JavaPlugin plugin) {
-        this.logger = plugin.getLogger();
-        
-        try {
-            // Create database file
-            databaseFile = new File(plugin.getDataFolder(), "arcanite_data.db");
-            if (!databaseFile.getParentFile().exists()) {
-                databaseFile.getParentFile().mkdirs();
-            }
-            
-            // Establish connection
-            String url = "jdbc:sqlite:" + databaseFile.getAbsolutePath();
-            connection = DriverManager.getConnection(url);
-            
-            // Enable foreign keys and WAL mode for better performance
-            try (Statement stmt = connection.createStatement()) {
-                stmt.execute("PRAGMA foreign_keys = ON;");
-                stmt.execute("PRAGMA journal_mode = WAL;");
-                stmt.execute("PRAGMA synchronous = NORMAL;");
-                stmt.execute("PRAGMA cache_size = 10000;");
-                stmt.execute("PRAGMA temp_store = MEMORY;");
-            }
-            
-            // Create tables
-            createTables();
-            
-            // Load cache from database
-            loadCacheFromDatabase();
-            
-            isHealthy = true;
-            logger.info("SQLite database initialized successfully at: " + databaseFile.getAbsolutePath());
-            logger.info("Database version: " + DATABASE_VERSION);
-            
-        } catch (SQLException e) {
-            logger.severe("Failed to initialize SQLite database: " + e.getMessage());
-            throw new DatabaseException("SQLite initialization failed", e);
-        }
-    }
-    
-    private void createTables() throws SQLException {
-        try (Statement stmt = connection.createStatement()) {
-            // Players table
-            stmt.execute("""
-                CREATE TABLE IF NOT EXISTS players (
-                    uuid TEXT PRIMARY KEY,
-                    level INTEGER NOT NULL DEFAULT 1,
-                    cooldown BIGINT NOT NULL DEFAULT 0
-                )
-            """);
-            
-            // Upgrades table
-            stmt.execute("""
-                CREATE TABLE IF NOT EXISTS upgrades (
-                    uuid TEXT NOT NULL,
-                    upgrade_id TEXT NOT NULL,
-                    PRIMARY KEY (uuid, upgrade_id),
-                    FOREIGN KEY (uuid) REFERENCES players(uuid) ON DELETE CASCADE
-                )
-            """);
-            
-            // Create indexes
-            stmt.execute("CREATE INDEX IF NOT EXISTS idx_upgrades_uuid ON upgrades(uuid)");
-        }
-    }
-    
-    private void loadCacheFromDatabase() {
-        try (Statement stmt = connection.createStatement()) {
-            // Load levels and cooldowns
-            ResultSet rs = stmt.executeQuery("SELECT uuid, level, cooldown FROM players");
-            while (rs.next()) {
-                UUID playerId = UUID.fromString(rs.getString("uuid"));
-                levelCache.put(playerId, rs.getInt("level"));
-                cooldownCache.put(playerId, rs.getLong("cooldown"));
-            }
-            
-            // Load upgrades
-            rs = stmt.executeQuery("SELECT uuid, upgrade_id FROM upgrades");
-            while (rs.next()) {
-                UUID playerId = UUID.fromString(rs.getString("uuid"));
-                String upgradeId = rs.getString("upgrade_id");
-                upgradeCache.computeIfAbsent(playerId, k -> new HashSet<>()).add(upgradeId);
-            }
-        } catch (SQLException e) {
-            logger.warning("Error loading cache from database: " + e.getMessage());
-        }
-    }
-    
-    @Override
-    public CompletableFuture<Integer> getLevel(UUID playerId) {
-        return CompletableFuture.supplyAsync(() -> {
-            // Check cache first
-            Integer cached = levelCache.get(playerId);
-            if (cached != null) {
-                return cached;
-            }
-            
-            try (PreparedStatement stmt = connection.prepareStatement(
-                    "SELECT level FROM players WHERE uuid = ?")) {
-                stmt.setString(1, playerId.toString());
-                ResultSet rs = stmt.executeQuery();
-                
-                if (rs.next()) {
-                    int level = rs.getInt("level");
-                    levelCache.put(playerId, level);
-                    return level;
-                } else {
-                    // Create new player entry
-                    try (PreparedStatement insert = connection.prepareStatement(
-                            "INSERT INTO players (uuid, level) VALUES (?, 1)")) {
-                        insert.setString(1, playerId.toString());
-                        insert.executeUpdate();
-                    }
-                    levelCache.put(playerId, 1);
-                    return 1;
-                }
-            } catch (SQLException e) {
-                logger.warning("Error getting player level: " + e.getMessage());
-                return 1;
-            }
-        });
-    }
-    
-    @Override
-    public CompletableFuture<Void> setLevel(UUID playerId, int level) {
-        return CompletableFuture.runAsync(() -> {
-            try (PreparedStatement stmt = connection.prepareStatement(
-                    "INSERT INTO players (uuid, level) VALUES (?, ?) " +
-                    "ON CONFLICT(uuid) DO UPDATE SET level = ?")) {
-                stmt.setString(1, playerId.toString());
-                stmt.setInt(2, level);
-                stmt.setInt(3, level);
-                stmt.executeUpdate();
-                
-                levelCache.put(playerId, level);
-            } catch (SQLException e) {
-                logger.severe("Error setting player level: " + e.getMessage());
-                throw new DatabaseException("SQLite operation failed", e);
-            }
-        });
-    }
-    
-    @Override
-    public CompletableFuture<Set<String>> getUnlockedUpgrades(UUID playerId) {
-        return CompletableFuture.supplyAsync(() -> {
-            // Check cache first
-            Set<String> cached = upgradeCache.get(playerId);
-            if (cached != null) {
-                return new HashSet<>(cached);
-            }
-            
-            try (PreparedStatement stmt = connection.prepareStatement(
-                    "SELECT upgrade_id FROM upgrades WHERE uuid = ?")) {
-                stmt.setString(1, playerId.toString());
-                ResultSet rs = stmt.executeQuery();
-                
-                Set<String> upgrades = new HashSet<>();
-                while (rs.next()) {
-                    upgrades.add(rs.getString("upgrade_id"));
-                }
-                
-                upgradeCache.put(playerId, new HashSet<>(upgrades));
-                return upgrades;
-            } catch (SQLException e) {
-                logger.warning("Error getting unlocked upgrades: " + e.getMessage());
-                return new HashSet<>();
-            }
-        });
-    }
-    
-    @Override
-    public CompletableFuture<Void> unlockUpgrade(UUID playerId, String upgradeId) {
-        return CompletableFuture.runAsync(() -> {
-            try (PreparedStatement stmt = connection.prepareStatement(
-                    "INSERT INTO upgrades (uuid, upgrade_id) VALUES (?, ?)")) {
-                stmt.setString(1, playerId.toString());
-                stmt.setString(2, upgradeId);
-                stmt.executeUpdate();
-                
-                upgradeCache.computeIfAbsent(playerId, k -> new HashSet<>()).add(upgradeId);
-            } catch (SQLException e) {
-                logger.severe("Error unlocking upgrade: " + e.getMessage());
-                throw new DatabaseException("SQLite operation failed", e);
-            }
-        });
-    }
-    
-    @Override
-    public CompletableFuture<Void> revokeUpgrade(UUID playerId, String upgradeId) {
-        return CompletableFuture.runAsync(() -> {
-            try (PreparedStatement stmt = connection.prepareStatement(
-                    "DELETE FROM upgrades WHERE uuid = ? AND upgrade_id = ?")) {
-                stmt.setString(1, playerId.toString());
-                stmt.setString(2, upgradeId);
-                stmt.executeUpdate();
-                
-                Set<String> upgrades = upgradeCache.get(playerId);
-                if (upgrades != null) {
-                    upgrades.remove(upgradeId);
-                }
-            } catch (SQLException e) {
-                logger.severe("Error revoking upgrade: " + e.getMessage());
-                throw new DatabaseException("SQLite operation failed", e);
-            }
-        });
-    }
-    
-    @Override
-    public CompletableFuture<Long> getCooldown(UUID playerId) {
-        return CompletableFuture.supplyAsync(() -> {
-            // Check cache first
-            Long cached = cooldownCache.get(playerId);
-            if (cached != null) {
-                return cached;
-            }
-            
-            try (PreparedStatement stmt = connection.prepareStatement(
-                    "SELECT cooldown FROM players WHERE uuid = ?")) {
-                stmt.setString(1, playerId.toString());
-                ResultSet rs = stmt.executeQuery();
-                
-                if (rs.next()) {
-                    long cooldown = rs.getLong("cooldown");
-                    cooldownCache.put(playerId, cooldown);
-                    return cooldown;
-                } else {
-                    cooldownCache.put(playerId, 0L);
-                    return 0L;
-                }
-            } catch (SQLException e) {
-                logger.warning("Error getting cooldown: " + e.getMessage());
-                return 0L;
-            }
-        });
-    }
-    
-    @Override
-    public CompletableFuture<Void> setCooldown(UUID playerId, long timestamp) {
-        return CompletableFuture.runAsync(() -> {
-            try (PreparedStatement stmt = connection.prepareStatement(
-                    "INSERT INTO players (uuid, cooldown) VALUES (?, ?) " +
-                    "ON CONFLICT(uuid) DO UPDATE SET cooldown = ?")) {
-                stmt.setString(1, playerId.toString());
-                stmt.setLong(2, timestamp);
-                stmt.setLong(3, timestamp);
-                stmt.executeUpdate();
-                
-                cooldownCache.put(playerId, timestamp);
-            } catch (SQLException e) {
-                logger.severe("Error setting cooldown: " + e.getMessage());
-                throw new DatabaseException("SQLite operation failed", e);
-            }
-        });
-    }
-    
-    @Override
-    public CompletableFuture<Void> saveBatch(Map<UUID, PlayerData> data) {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                connection.setAutoCommit(false);
-                
-                try (PreparedStatement playerStmt = connection.prepareStatement(
-                        "INSERT INTO players (uuid, level, cooldown) VALUES (?, ?, ?) " +
-                        "ON CONFLICT(uuid) DO UPDATE SET level = ?, cooldown = ?");
-                     PreparedStatement upgradeStmt = connection.prepareStatement(
-                        "INSERT INTO upgrades (uuid, upgrade_id) VALUES (?, ?) " +
-                        "ON CONFLICT(uuid, upgrade_id) DO NOTHING")) {
-                    
-                    for (Map.Entry<UUID, PlayerData> entry : data.entrySet()) {
-                        UUID playerId = entry.getKey();
-                        PlayerData playerData = entry.getValue();
-                        
-                        // Update player data
-                        playerStmt.setString(1, playerId.toString());
-                        playerStmt.setInt(2, playerData.getLevel());
-                        playerStmt.setLong(3, playerData.getCooldown());
-                        playerStmt.setInt(4, playerData.getLevel());
-                        playerStmt.setLong(5, playerData.getCooldown());
-                        playerStmt.executeUpdate();
-                        
-                        // Update cache
-                        levelCache.put(playerId, playerData.getLevel());
-                        cooldownCache.put(playerId, playerData.getCooldown());
-                        
-                        // Update upgrades
-                        Set<String> upgrades = playerData.getUnlockedUpgrades();
-                        upgradeCache.put(playerId, new HashSet<>(upgrades));
-                        
-                        for (String upgradeId : upgrades) {
-                            upgradeStmt.setString(1, playerId.toString());
-                            upgradeStmt.setString(2, upgradeId);
-                            upgradeStmt.executeUpdate();
-                        }
-                    }
-                }
-                
-                connection.commit();
-                
-            } catch (SQLException e) {
-                try {
-                    connection.rollback();
-                } catch (SQLException rollbackError) {
-                    logger.severe("Error rolling back batch save: " + rollbackError.getMessage());
-                }
-                logger.severe("Error during batch save: " + e.getMessage());
-                throw new DatabaseException("SQLite batch operation failed", e);
-            } finally {
-                try {
-                    connection.setAutoCommit(true);
-                } catch (SQLException e) {
-                    logger.warning("Error resetting auto-commit: " + e.getMessage());
-                }
-            }
-        });
-    }
-    
-    @Override
-    public boolean isHealthy() {
-        return isHealthy && connection != null;
-    }
-    
-    @Override
-    public CompletableFuture<Void> shutdown() {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                if (connection != null && !connection.isClosed()) {
-                    connection.close();
-                    isHealthy = false;
-                    logger.info("SQLite connection closed successfully.");
-                }
-            } catch (SQLException e) {
-                logger.warning("Error closing SQLite connection: " + e.getMessage());
-            }
-        });
-    }
-    
-    @Override
-    public String getStats() {
-        try {
-            int playerCount = 0;
-            int upgradeCount = 0;
-            
-            try (Statement stmt = connection.createStatement()) {
-                ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM players");
-                if (rs.next()) {
-                    playerCount = rs.getInt(1);
-                }
-                
-                rs = stmt.executeQuery("SELECT COUNT(*) FROM upgrades");
-                if (rs.next()) {
-                    upgradeCount = rs.getInt(1);
-                }
-            }
-            
-            return String.format("Players: %d, Upgrades: %d, Cache Size: %d", 
-                    playerCount, 
-                    upgradeCount,
-                    levelCache.size() + upgradeCache.size() + cooldownCache.size());
-                    
-        } catch (SQLException e) {
-            return "Error getting stats: " + e.getMessage();
-        }
-    }
-} 
\ No newline at end of file
+package dev.lsdmc.arcaniteCrystals.database;
+
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.File;
+import java.sql.*;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import java.util.logging.Logger;
+
+/**
+ * SQLite implementation of DataStore interface.
+ * Writes go through the {@link SqliteEngine}'s single writer thread and are grouped into
+ * transactions; reads run on the database executor against read-only WAL connections.
+ * All SQL uses statements cached per connection. Player rows are loaded lazily into a
+ * bounded {@link PlayerCache} and pinned while the player is online.
+ */
+public class SqliteDataStore implements DataStore {
+    private static final String DATABASE_VERSION = "1.0";
+
+    private static final String SELECT_PLAYER = "SELECT level, cooldown, effect_settings FROM players WHERE uuid = ?";
+    private static final String SELECT_UPGRADES = "SELECT upgrade_id FROM upgrades WHERE uuid = ?";
+    private static final String UPSERT_LEVEL =
+            "INSERT INTO players (uuid, level) VALUES (?, ?) ON CONFLICT(uuid) DO UPDATE SET level = excluded.level";
+    private static final String UPSERT_COOLDOWN =
+            "INSERT INTO players (uuid, cooldown) VALUES (?, ?) ON CONFLICT(uuid) DO UPDATE SET cooldown = excluded.cooldown";
+    private static final String UPSERT_PLAYER =
+            "INSERT INTO players (uuid, level, cooldown, effect_settings) VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT(uuid) DO UPDATE SET level = excluded.level, cooldown = excluded.cooldown, " +
+            "effect_settings = excluded.effect_settings";
+    private static final String ENSURE_PLAYER = "INSERT INTO players (uuid) VALUES (?) ON CONFLICT(uuid) DO NOTHING";
+    private static final String INSERT_UPGRADE =
+            "INSERT INTO upgrades (uuid, upgrade_id) VALUES (?, ?) ON CONFLICT(uuid, upgrade_id) DO NOTHING";
+    private static final String DELETE_UPGRADE = "DELETE FROM upgrades WHERE uuid = ? AND upgrade_id = ?";
+    private static final String DELETE_ALL_UPGRADES = "DELETE FROM upgrades WHERE uuid = ?";
+    private static final String SELECT_COOLDOWNS = "SELECT name, expires_at FROM cooldowns WHERE uuid = ?";
+    private static final String INSERT_COOLDOWN = "INSERT INTO cooldowns (uuid, name, expires_at) VALUES (?, ?, ?)";
+    private static final String DELETE_ALL_COOLDOWNS = "DELETE FROM cooldowns WHERE uuid = ?";
+    private static final String SELECT_STATISTICS = "SELECT stat, value FROM player_statistics WHERE uuid = ?";
+    private static final String ADD_STATISTIC =
+            "INSERT INTO player_statistics (uuid, stat, value) VALUES (?, ?, ?) " +
+            "ON CONFLICT(uuid, stat) DO UPDATE SET value = value + excluded.value";
+    private static final String SELECT_TOP_STATISTIC =
+            "SELECT uuid, value FROM player_statistics WHERE stat = ? ORDER BY value DESC LIMIT ?";
+
+    private final SqliteEngine engine;
+    private final DatabaseExecutor executor;
+    private final Logger logger;
+    private final File databaseFile;
+    private volatile boolean isHealthy = false;
+
+    // Player rows loaded on demand; online players are pinned
+    private final PlayerCache cache;
+
+    public SqliteDataStore(JavaPlugin plugin, FileConfiguration config, DatabaseExecutor executor) {
+        this.logger = plugin.getLogger();
+        this.executor = executor;
+        this.cache = new PlayerCache(
+                config.getInt("database.sqlite.cache.max-size", 10000),
+                config.getLong("database.sqlite.cache.expire-minutes", 30),
+                TimeUnit.MINUTES);
+        long start = System.nanoTime();
+
+        try {
+            // Create database file
+            databaseFile = new File(plugin.getDataFolder(), "arcanite_data.db");
+            if (!databaseFile.getParentFile().exists()) {
+                databaseFile.getParentFile().mkdirs();
+            }
+
+            // Single writer plus read-only WAL readers
+            engine = new SqliteEngine(databaseFile,
+                    config.getInt("database.sqlite.readers", 3),
+                    config.getInt("database.sqlite.max-writes-per-transaction", 500),
+                    logger);
+
+            // Create tables
+            engine.initializeSchema(session -> {
+                createTables(session.getConnection());
+                return null;
+            });
+
+            isHealthy = true;
+            logger.info("SQLite database initialized successfully at: " + databaseFile.getAbsolutePath()
+                    + " in " + (System.nanoTime() - start) / 1_000_000 + "ms");
+            logger.info("Database version: " + DATABASE_VERSION);
+
+        } catch (SQLException e) {
+            logger.severe("Failed to initialize SQLite database: " + e.getMessage());
+            throw new DatabaseException("SQLite initialization failed", e);
+        }
+    }
+
+    private void createTables(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            // Players table
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS players (
+                    uuid TEXT PRIMARY KEY,
+                    level INTEGER NOT NULL DEFAULT 1,
+                    cooldown BIGINT NOT NULL DEFAULT 0,
+                    effect_settings INTEGER NOT NULL DEFAULT 0
+                )
+            """);
+            addColumnIfMissing(stmt, "players", "effect_settings", "INTEGER NOT NULL DEFAULT 0");
+
+            // Upgrades table
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS upgrades (
+                    uuid TEXT NOT NULL,
+                    upgrade_id TEXT NOT NULL,
+                    PRIMARY KEY (uuid, upgrade_id),
+                    FOREIGN KEY (uuid) REFERENCES players(uuid) ON DELETE CASCADE
+                )
+            """);
+
+            // Named cooldowns table; only deadlines still in the future are written
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS cooldowns (
+                    uuid TEXT NOT NULL,
+                    name TEXT NOT NULL,
+                    expires_at BIGINT NOT NULL,
+                    PRIMARY KEY (uuid, name),
+                    FOREIGN KEY (uuid) REFERENCES players(uuid) ON DELETE CASCADE
+                )
+            """);
+
+            // Statistics table; rows may exist before the player row does
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS player_statistics (
+                    uuid TEXT NOT NULL,
+                    stat TEXT NOT NULL,
+                    value INTEGER NOT NULL DEFAULT 0,
+                    PRIMARY KEY (uuid, stat)
+                )
+            """);
+
+            // Create indexes
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_upgrades_uuid ON upgrades(uuid)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_player_statistics_top ON player_statistics(stat, value DESC)");
+        }
+    }
+
+    /**
+     * Adds a column to a table created by an older version of the plugin.
+     */
+    private void addColumnIfMissing(Statement stmt, String table, String column, String definition) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) {
+                if (column.equalsIgnoreCase(rs.getString("name"))) {
+                    return;
+                }
+            }
+        }
+        stmt.execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition);
+        logger.info("Added column " + table + "." + column);
+    }
+
+    /**
+     * Queues a write and applies the same change to the cached row. If the row was not cached,
+     * it is dropped again after commit in case a concurrent load cached the pre-write row;
+     * if the write fails, it is dropped so the next read goes to disk.
+     */
+    private CompletableFuture<Void> write(String operation, UUID playerId,
+                                          UnaryOperator<PlayerData> change, SqliteEngine.SqlWork<Void> work) {
+        boolean cached = cache.update(playerId, change);
+        return engine.write(work).whenComplete((v, error) -> {
+            if (error != null) {
+                logger.severe("Error in " + operation + " for " + playerId + ": " + error.getMessage());
+                cache.invalidate(playerId);
+            } else if (!cached) {
+                cache.invalidate(playerId);
+            }
+        });
+    }
+
+    /**
+     * Loads the player row, upgrades and cooldowns in one read, caching the result.
+     */
+    @Override
+    public CompletableFuture<PlayerData> loadPlayerData(UUID playerId) {
+        PlayerData cached = cache.get(playerId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        return executor.supply("sqlite.loadPlayerData", () -> {
+            try {
+                PlayerData data = engine.read(session -> {
+                    int level = 1;
+                    long cooldown = 0L;
+                    int effectSettings = 0;
+                    PreparedStatement playerStmt = session.prepare(SELECT_PLAYER);
+                    playerStmt.setString(1, playerId.toString());
+                    try (ResultSet rs = playerStmt.executeQuery()) {
+                        // Missing rows are created by the first write
+                        if (rs.next()) {
+                            level = rs.getInt("level");
+                            cooldown = rs.getLong("cooldown");
+                            effectSettings = rs.getInt("effect_settings");
+                        }
+                    }
+
+                    Set<String> upgrades = new HashSet<>();
+                    PreparedStatement upgradeStmt = session.prepare(SELECT_UPGRADES);
+                    upgradeStmt.setString(1, playerId.toString());
+                    try (ResultSet rs = upgradeStmt.executeQuery()) {
+                        while (rs.next()) {
+                            upgrades.add(rs.getString("upgrade_id"));
+                        }
+                    }
+
+                    Map<String, Long> cooldowns = new HashMap<>();
+                    PreparedStatement cooldownStmt = session.prepare(SELECT_COOLDOWNS);
+                    cooldownStmt.setString(1, playerId.toString());
+                    try (ResultSet rs = cooldownStmt.executeQuery()) {
+                        while (rs.next()) {
+                            cooldowns.put(rs.getString("name"), rs.getLong("expires_at"));
+                        }
+                    }
+                    return new PlayerData(level, upgrades, cooldown, effectSettings, cooldowns);
+                });
+                cache.putIfAbsent(playerId, data);
+                return data;
+            } catch (DatabaseException e) {
+                // Never hand out defaults: a default profile saved back would wipe the stored one
+                logger.warning("Error loading player data: " + e.getMessage());
+                throw e;
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Integer> getLevel(UUID playerId) {
+        return loadPlayerData(playerId).thenApply(PlayerData::getLevel);
+    }
+
+    @Override
+    public CompletableFuture<Void> setLevel(UUID playerId, int level) {
+        return write("setLevel", playerId,
+                data -> new PlayerData(level, data.getUnlockedUpgrades(), data.getCooldown(), data.getEffectSettings(),
+                        data.getCooldowns()),
+                session -> {
+                    PreparedStatement stmt = session.prepare(UPSERT_LEVEL);
+                    stmt.setString(1, playerId.toString());
+                    stmt.setInt(2, level);
+                    stmt.executeUpdate();
+                    return null;
+                });
+    }
+
+    @Override
+    public CompletableFuture<Set<String>> getUnlockedUpgrades(UUID playerId) {
+        return loadPlayerData(playerId).thenApply(data -> new HashSet<>(data.getUnlockedUpgrades()));
+    }
+
+    @Override
+    public CompletableFuture<Void> unlockUpgrade(UUID playerId, String upgradeId) {
+        return write("unlockUpgrade", playerId,
+                data -> {
+                    Set<String> upgrades = new HashSet<>(data.getUnlockedUpgrades());
+                    upgrades.add(upgradeId);
+                    return new PlayerData(data.getLevel(), upgrades, data.getCooldown(), data.getEffectSettings(),
+                            data.getCooldowns());
+                },
+                session -> {
+                    PreparedStatement ensure = session.prepare(ENSURE_PLAYER);
+                    ensure.setString(1, playerId.toString());
+                    ensure.executeUpdate();
+
+                    PreparedStatement stmt = session.prepare(INSERT_UPGRADE);
+                    stmt.setString(1, playerId.toString());
+                    stmt.setString(2, upgradeId);
+                    stmt.executeUpdate();
+                    return null;
+                });
+    }
+
+    @Override
+    public CompletableFuture<Void> revokeUpgrade(UUID playerId, String upgradeId) {
+        return write("revokeUpgrade", playerId,
+                data -> {
+                    Set<String> upgrades = new HashSet<>(data.getUnlockedUpgrades());
+                    upgrades.remove(upgradeId);
+                    return new PlayerData(data.getLevel(), upgrades, data.getCooldown(), data.getEffectSettings(),
+                            data.getCooldowns());
+                },
+                session -> {
+                    PreparedStatement stmt = session.prepare(DELETE_UPGRADE);
+                    stmt.setString(1, playerId.toString());
+                    stmt.setString(2, upgradeId);
+                    stmt.executeUpdate();
+                    return null;
+                });
+    }
+
+    @Override
+    public CompletableFuture<Long> getCooldown(UUID playerId) {
+        return loadPlayerData(playerId).thenApply(PlayerData::getCooldown);
+    }
+
+    @Override
+    public CompletableFuture<Void> setCooldown(UUID playerId, long timestamp) {
+        return write("setCooldown", playerId,
+                data -> new PlayerData(data.getLevel(), data.getUnlockedUpgrades(), timestamp, data.getEffectSettings(),
+                        data.getCooldowns()),
+                session -> {
+                    PreparedStatement stmt = session.prepare(UPSERT_COOLDOWN);
+                    stmt.setString(1, playerId.toString());
+                    stmt.setLong(2, timestamp);
+                    stmt.executeUpdate();
+                    return null;
+                });
+    }
+
+    @Override
+    public CompletableFuture<Void> saveBatch(Map<UUID, PlayerData> data) {
+        if (data.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // Batches carry whole profiles, so they replace cached rows outright
+        for (Map.Entry<UUID, PlayerData> entry : data.entrySet()) {
+            cache.put(entry.getKey(), entry.getValue());
+        }
+
+        // The whole batch is one unit inside the writer's current transaction
+        return engine.write(session -> {
+            PreparedStatement playerStmt = session.prepare(UPSERT_PLAYER);
+            PreparedStatement clearUpgradesStmt = session.prepare(DELETE_ALL_UPGRADES);
+            PreparedStatement upgradeStmt = session.prepare(INSERT_UPGRADE);
+            PreparedStatement clearCooldownsStmt = session.prepare(DELETE_ALL_COOLDOWNS);
+            PreparedStatement cooldownStmt = session.prepare(INSERT_COOLDOWN);
+
+            for (Map.Entry<UUID, PlayerData> entry : data.entrySet()) {
+                String uuid = entry.getKey().toString();
+                PlayerData playerData = entry.getValue();
+
+                // Update player data
+                playerStmt.setString(1, uuid);
+                playerStmt.setInt(2, playerData.getLevel());
+                playerStmt.setLong(3, playerData.getCooldown());
+                playerStmt.setInt(4, playerData.getEffectSettings());
+                playerStmt.addBatch();
+
+                // Replace upgrades so revocations are persisted too
+                clearUpgradesStmt.setString(1, uuid);
+                clearUpgradesStmt.addBatch();
+
+                for (String upgradeId : playerData.getUnlockedUpgrades()) {
+                    upgradeStmt.setString(1, uuid);
+                    upgradeStmt.setString(2, upgradeId);
+                    upgradeStmt.addBatch();
+                }
+
+                clearCooldownsStmt.setString(1, uuid);
+                clearCooldownsStmt.addBatch();
+
+                for (Map.Entry<String, Long> cooldown : playerData.getCooldowns().entrySet()) {
+                    cooldownStmt.setString(1, uuid);
+                    cooldownStmt.setString(2, cooldown.getKey());
+                    cooldownStmt.setLong(3, cooldown.getValue());
+                    cooldownStmt.addBatch();
+                }
+            }
+
+            playerStmt.executeBatch();
+            clearUpgradesStmt.executeBatch();
+            upgradeStmt.executeBatch();
+            clearCooldownsStmt.executeBatch();
+            cooldownStmt.executeBatch();
+            return null;
+        }).whenComplete((v, error) -> {
+            if (error != null) {
+                logger.severe("Error during batch save: " + error.getMessage());
+                for (UUID playerId : data.keySet()) {
+                    cache.invalidate(playerId);
+                }
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Long>> loadStatistics(UUID playerId) {
+        return executor.supply("sqlite.loadStatistics", () -> engine.read(session -> {
+            Map<String, Long> statistics = new HashMap<>();
+            PreparedStatement stmt = session.prepare(SELECT_STATISTICS);
+            stmt.setString(1, playerId.toString());
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    statistics.put(rs.getString("stat"), rs.getLong("value"));
+                }
+            }
+            return statistics;
+        }));
+    }
+
+    @Override
+    public CompletableFuture<Void> addStatistics(Map<UUID, Map<String, Long>> deltas) {
+        if (deltas.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return engine.write(session -> {
+            PreparedStatement stmt = session.prepare(ADD_STATISTIC);
+            for (Map.Entry<UUID, Map<String, Long>> player : deltas.entrySet()) {
+                String uuid = player.getKey().toString();
+                for (Map.Entry<String, Long> stat : player.getValue().entrySet()) {
+                    stmt.setString(1, uuid);
+                    stmt.setString(2, stat.getKey());
+                    stmt.setLong(3, stat.getValue());
+                    stmt.addBatch();
+                }
+            }
+            stmt.executeBatch();
+            return null;
+        }).whenComplete((v, error) -> {
+            if (error != null) {
+                logger.severe("Error saving statistics: " + error.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Map<UUID, Long>> loadTopStatistic(String stat, int limit) {
+        return executor.supply("sqlite.loadTopStatistic", () -> engine.read(session -> {
+            Map<UUID, Long> top = new LinkedHashMap<>();
+            PreparedStatement stmt = session.prepare(SELECT_TOP_STATISTIC);
+            stmt.setString(1, stat);
+            stmt.setInt(2, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    top.put(UUID.fromString(rs.getString("uuid")), rs.getLong("value"));
+                }
+            }
+            return top;
+        }));
+    }
+
+    @Override
+    public void pin(UUID playerId) {
+        cache.pin(playerId);
+    }
+
+    @Override
+    public void unpin(UUID playerId) {
+        cache.unpin(playerId);
+    }
+
+    @Override
+    public boolean isHealthy() {
+        return isHealthy && engine.isRunning();
+    }
+
+    @Override
+    public CompletableFuture<Void> shutdown() {
+        return executor.run("sqlite.shutdown", () -> {
+            if (!isHealthy) return;
+            isHealthy = false;
+            engine.shutdown();
+            logger.info("SQLite connection closed successfully.");
+        });
+    }
+
+    @Override
+    public String getStats() {
+        try {
+            return engine.read(session -> {
+                int playerCount = 0;
+                int upgradeCount = 0;
+
+                try (Statement stmt = session.getConnection().createStatement()) {
+                    ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM players");
+                    if (rs.next()) {
+                        playerCount = rs.getInt(1);
+                    }
+
+                    rs = stmt.executeQuery("SELECT COUNT(*) FROM upgrades");
+                    if (rs.next()) {
+                        upgradeCount = rs.getInt(1);
+                    }
+                }
+
+                return String.format("Players: %d, Upgrades: %d, %s | %s",
+                        playerCount,
+                        upgradeCount,
+                        cache.getStats(),
+                        engine.getStats());
+            });
+        } catch (DatabaseException e) {
+            return "Error getting stats: " + e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package dev.lsdmc.arcaniteCrystals.database;
+
+import org.sqlite.SQLiteConfig;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * SQLite access layer with a single writer and a small pool of read-only WAL readers.
+ * <p>
+ * One dedicated writer thread owns the only writable connection and its cached
+ * {@link PreparedStatement}s. Queued writes are drained and applied together in one
+ * transaction, each inside its own savepoint so a failing write does not roll back its
+ * neighbours. Readers borrow one of several read-only connections, each with its own
+ * statement cache, so reads never contend with the writer under WAL.
+ */
+public class SqliteEngine {
+
+    /**
+     * Work executed against a connection with cached statements.
+     */
+    @FunctionalInterface
+    public interface SqlWork<T> {
+        T apply(Session session) throws SQLException;
+    }
+
+    /**
+     * A connection plus its prepared-statement cache. Confined to one thread at a time.
+     */
+    public static class Session {
+        private final Connection connection;
+        private final Map<String, PreparedStatement> statements = new HashMap<>();
+
+        Session(Connection connection) {
+            this.connection = connection;
+        }
+
+        /**
+         * Returns a cached statement for the SQL, preparing it on first use.
+         */
+        public PreparedStatement prepare(String sql) throws SQLException {
+            PreparedStatement statement = statements.get(sql);
+            if (statement == null) {
+                statement = connection.prepareStatement(sql);
+                statements.put(sql, statement);
+            }
+            statement.clearParameters();
+            statement.clearBatch();
+            return statement;
+        }
+
+        public Connection getConnection() {
+            return connection;
+        }
+
+        void close() {
+            for (PreparedStatement statement : statements.values()) {
+                try {
+                    statement.close();
+                } catch (SQLException ignored) {
+                }
+            }
+            statements.clear();
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+
+    private record WriteTask<T>(SqlWork<T> work, CompletableFuture<T> future) {
+    }
+
+    private static final WriteTask<Void> STOP = new WriteTask<>(session -> null, null);
+
+    private final Logger logger;
+    private final Session writer;
+    private final BlockingQueue<Session> readers;
+    private final List<Session> allReaders = new ArrayList<>();
+    private final BlockingQueue<WriteTask<?>> writeQueue = new LinkedBlockingQueue<>();
+    private final Thread writerThread;
+    private final int maxWritesPerTransaction;
+    private volatile boolean running = true;
+
+    // Metrics
+    private final AtomicLong transactions = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong failedWrites = new AtomicLong();
+    private final AtomicLong totalCommitNanos = new AtomicLong();
+    private final AtomicLong reads = new AtomicLong();
+
+    public SqliteEngine(File databaseFile, int readerCount, int maxWritesPerTransaction, Logger logger) throws SQLException {
+        this.logger = logger;
+        this.maxWritesPerTransaction = Math.max(1, maxWritesPerTransaction);
+        String url = "jdbc:sqlite:" + databaseFile.getAbsolutePath();
+
+        // Writer connection: WAL so readers are never blocked by an open write transaction
+        SQLiteConfig writerConfig = new SQLiteConfig();
+        writerConfig.enforceForeignKeys(true);
+        writerConfig.setJournalMode(SQLiteConfig.JournalMode.WAL);
+        writerConfig.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
+        writerConfig.setCacheSize(10000);
+        writerConfig.setTempStore(SQLiteConfig.TempStore.MEMORY);
+        writerConfig.setBusyTimeout(5000);
+        this.writer = new Session(writerConfig.createConnection(url));
+
+        int count = Math.max(1, readerCount);
+        this.readers = new ArrayBlockingQueue<>(count);
+        for (int i = 0; i < count; i++) {
+            SQLiteConfig readerConfig = new SQLiteConfig();
+            readerConfig.setReadOnly(true);
+            readerConfig.setBusyTimeout(5000);
+            Session reader = new Session(readerConfig.createConnection(url));
+            readers.add(reader);
+            allReaders.add(reader);
+        }
+
+        this.writerThread = new Thread(this::writerLoop, "arcanite-sqlite-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Runs schema setup on the writer connection before any other work is accepted.
+     */
+    public void initializeSchema(SqlWork<Void> schema) throws SQLException {
+        synchronized (writer) {
+            schema.apply(writer);
+        }
+    }
+
+    /**
+     * Queues a write for the writer thread. The future completes after its transaction commits.
+     */
+    public <T> CompletableFuture<T> write(SqlWork<T> work) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        // Checked and enqueued under the lock shutdown() takes, so nothing lands behind STOP
+        synchronized (writeQueue) {
+            if (!running) {
+                future.completeExceptionally(new DatabaseException("SQLite engine is shut down"));
+                return future;
+            }
+            writeQueue.add(new WriteTask<>(work, future));
+        }
+        return future;
+    }
+
+    /**
+     * Runs a read on a pooled read-only connection. Blocks the calling (executor) thread
+     * until a reader is free.
+     */
+    public <T> T read(SqlWork<T> work) {
+        Session session;
+        try {
+            session = readers.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseException("Interrupted waiting for SQLite reader", e);
+        }
+        try {
+            reads.incrementAndGet();
+            return work.apply(session);
+        } catch (SQLException e) {
+            throw new DatabaseException("SQLite read failed", e);
+        } finally {
+            readers.add(session);
+        }
+    }
+
+    private void writerLoop() {
+        List<WriteTask<?>> batch = new ArrayList<>();
+        try {
+            while (true) {
+                try {
+                    WriteTask<?> first = writeQueue.poll(1, TimeUnit.SECONDS);
+                    if (first == null) {
+                        if (!running) break;
+                        continue;
+                    }
+                    batch.add(first);
+                    writeQueue.drainTo(batch, maxWritesPerTransaction - 1);
+
+                    boolean stop = batch.remove(STOP);
+                    if (!batch.isEmpty()) {
+                        commit(batch);
+                    }
+                    if (stop) break;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (RuntimeException e) {
+                    // Fail this batch but keep the only writer alive for the writes behind it
+                    logger.severe("SQLite writer failed a batch of " + batch.size() + " writes: " + e.getMessage());
+                    fail(batch, e);
+                } finally {
+                    batch.clear();
+                }
+            }
+        } finally {
+            failPending();
+        }
+    }
+
+    private void fail(List<WriteTask<?>> tasks, Throwable cause) {
+        for (WriteTask<?> task : tasks) {
+            // Tasks commit() already completed are left alone
+            if (task.future() != null
+                    && task.future().completeExceptionally(new DatabaseException("SQLite write failed", cause))) {
+                failedWrites.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Fails every write still queued once the writer has stopped, so no caller waits forever.
+     */
+    private void failPending() {
+        List<WriteTask<?>> leftover = new ArrayList<>();
+        writeQueue.drainTo(leftover);
+        for (WriteTask<?> task : leftover) {
+            if (task.future() != null) {
+                failedWrites.incrementAndGet();
+                task.future().completeExceptionally(new DatabaseException("SQLite engine is shut down"));
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void commit(List<WriteTask<?>> batch) {
+        long start = System.nanoTime();
+        Connection connection = writer.getConnection();
+        Object[] results = new Object[batch.size()];
+        Throwable[] errors = new Throwable[batch.size()];
+
+        synchronized (writer) {
+            try {
+                connection.setAutoCommit(false);
+                for (int i = 0; i < batch.size(); i++) {
+                    Savepoint savepoint = connection.setSavepoint();
+                    try {
+                        results[i] = batch.get(i).work().apply(writer);
+                        connection.releaseSavepoint(savepoint);
+                    } catch (Exception e) {
+                        connection.rollback(savepoint);
+                        errors[i] = e;
+                    }
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                try {
+                    connection.rollback();
+                } catch (SQLException rollbackError) {
+                    logger.severe("Error rolling back SQLite transaction: " + rollbackError.getMessage());
+                }
+                logger.severe("SQLite transaction of " + batch.size() + " writes failed: " + e.getMessage());
+                for (int i = 0; i < batch.size(); i++) {
+                    errors[i] = e;
+                }
+            } finally {
+                try {
+                    connection.setAutoCommit(true);
+                } catch (SQLException e) {
+                    logger.warning("Error resetting auto-commit: " + e.getMessage());
+                }
+            }
+        }
+
+        transactions.incrementAndGet();
+        totalCommitNanos.addAndGet(System.nanoTime() - start);
+        for (int i = 0; i < batch.size(); i++) {
+            CompletableFuture future = batch.get(i).future();
+            if (errors[i] != null) {
+                failedWrites.incrementAndGet();
+                future.completeExceptionally(new DatabaseException("SQLite write failed", errors[i]));
+            } else {
+                writes.incrementAndGet();
+                future.complete(results[i]);
+            }
+        }
+    }
+
+    public boolean isRunning() {
+        return running && writerThread.isAlive();
+    }
+
+    /**
+     * Drains outstanding writes, stops the writer thread and closes every connection.
+     */
+    public void shutdown() {
+        synchronized (writeQueue) {
+            if (!running) return;
+            running = false;
+            writeQueue.add(STOP);
+        }
+        try {
+            writerThread.join(10000);
+            if (writerThread.isAlive()) {
+                logger.warning("SQLite writer did not stop in time, interrupting it");
+                writerThread.interrupt();
+                writerThread.join(2000);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        failPending();
+        if (writerThread.isAlive()) {
+            // Closing the connection under a running commit could corrupt the database
+            logger.severe("SQLite writer is still running after an interrupt, leaving its connection open");
+            for (Session reader : allReaders) {
+                reader.close();
+            }
+            return;
+        }
+        try (Statement statement = writer.getConnection().createStatement()) {
+            statement.execute("PRAGMA wal_checkpoint(TRUNCATE);");
+        } catch (SQLException e) {
+            logger.fine("WAL checkpoint on shutdown failed: " + e.getMessage());
+        }
+        writer.close();
+        for (Session reader : allReaders) {
+            reader.close();
+        }
+    }
+
+    public String getStats() {
+        long tx = transactions.get();
+        return String.format("Writer tx: %d, Writes: %d (failed %d), Writes/tx: %.1f, Commit avg: %.2fms, Pending: %d, Reads: %d, Readers free: %d/%d",
+                tx, writes.get(), failedWrites.get(),
+                tx == 0 ? 0 : (writes.get() + failedWrites.get()) / (double) tx,
+                tx == 0 ? 0 : totalCommitNanos.get() / (double) tx / 1_000_000.0,
+                writeQueue.size(), reads.get(), readers.size(), allReaders.size());
+    }
+}
@@ -0,0 +1,146 @@
+package dev.lsdmc.arcaniteCrystals.database;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Coalescing write-behind queue for player profiles.
+ * Repeated mutations of the same player collapse into one pending entry; the queue is
+ * drained on a fixed interval or as soon as it reaches the size threshold, and each drain
+ * is written with a single {@link DataStore#saveBatch} call (one SQLite transaction or
+ * one Redis pipeline). Flushes are chained so batches for the same player never reorder.
+ */
+public class WriteBehindQueue {
+
+    private final Map<UUID, PlayerProfile> pending = new ConcurrentHashMap<>();
+    private final Logger logger;
+    private final int maxBatchSize;
+    private final long intervalTicks;
+    private BukkitTask flushTask;
+    private CompletableFuture<Void> lastFlush = CompletableFuture.completedFuture(null);
+
+    // Metrics
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+    private final AtomicLong recordsWritten = new AtomicLong();
+    private final AtomicLong totalFlushNanos = new AtomicLong();
+    private volatile long lastFlushNanos;
+    private volatile long maxFlushNanos;
+    private volatile int lastBatchSize;
+
+    public WriteBehindQueue(JavaPlugin plugin, long intervalSeconds, int maxBatchSize) {
+        this.logger = plugin.getLogger();
+        this.intervalTicks = Math.max(1, intervalSeconds) * 20L;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+    }
+
+    /**
+     * Starts the periodic flush on an async scheduler thread.
+     */
+    public void start(JavaPlugin plugin) {
+        flushTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin,
+                this::flush, intervalTicks, intervalTicks);
+    }
+
+    /**
+     * Queues a dirty profile. Triggers an early flush once the size threshold is reached.
+     */
+    public void enqueue(PlayerProfile profile) {
+        pending.put(profile.getPlayerId(), profile);
+        if (pending.size() >= maxBatchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Drains the queue into one batch write. Never blocks the caller.
+     */
+    public synchronized CompletableFuture<Void> flush() {
+        if (pending.isEmpty()) {
+            return lastFlush;
+        }
+
+        Map<UUID, PlayerProfile> batch = new HashMap<>();
+        Map<UUID, PlayerData> snapshot = new HashMap<>();
+        for (UUID playerId : pending.keySet()) {
+            PlayerProfile profile = pending.remove(playerId);
+            if (profile != null && profile.clearDirty()) {
+                batch.put(playerId, profile);
+                snapshot.put(playerId, profile.snapshot());
+            }
+        }
+        if (snapshot.isEmpty()) {
+            return lastFlush;
+        }
+
+        lastFlush = lastFlush
+            .exceptionally(ignored -> null)
+            .thenCompose(v -> write(batch, snapshot));
+        return lastFlush;
+    }
+
+    private CompletableFuture<Void> write(Map<UUID, PlayerProfile> batch, Map<UUID, PlayerData> snapshot) {
+        long start = System.nanoTime();
+        return DatabaseManager.saveBatch(snapshot).whenComplete((v, error) -> {
+            long elapsed = System.nanoTime() - start;
+            lastFlushNanos = elapsed;
+            maxFlushNanos = Math.max(maxFlushNanos, elapsed);
+            totalFlushNanos.addAndGet(elapsed);
+            flushCount.incrementAndGet();
+            lastBatchSize = snapshot.size();
+
+            if (error != null) {
+                failedFlushes.incrementAndGet();
+                logger.warning("Write-behind flush of " + snapshot.size() + " profiles failed: " + error.getMessage());
+                // Re-queue without clobbering newer entries queued since the drain
+                for (PlayerProfile profile : batch.values()) {
+                    profile.markDirty();
+                    pending.putIfAbsent(profile.getPlayerId(), profile);
+                }
+            } else {
+                recordsWritten.addAndGet(snapshot.size());
+            }
+        });
+    }
+
+    /**
+     * Stops the periodic flush and synchronously writes everything still queued.
+     * Only intended for onDisable.
+     */
+    public void shutdown() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        try {
+            flush().join();
+        } catch (Exception e) {
+            logger.severe("Failed to flush write-behind queue on shutdown: " + e.getMessage());
+        }
+    }
+
+    public int getDepth() {
+        return pending.size();
+    }
+
+    public double getAverageFlushMillis() {
+        long count = flushCount.get();
+        return count == 0 ? 0 : totalFlushNanos.get() / (double) count / 1_000_000.0;
+    }
+
+    public String getStats() {
+        return String.format("Queue: %d, Flushes: %d (failed %d), Written: %d, Last batch: %d, " +
+                        "Flush ms last/avg/max: %.2f/%.2f/%.2f",
+                pending.size(), flushCount.get(), failedFlushes.get(), recordsWritten.get(), lastBatchSize,
+                lastFlushNanos / 1_000_000.0, getAverageFlushMillis(), maxFlushNanos / 1_000_000.0);
+    }
+}
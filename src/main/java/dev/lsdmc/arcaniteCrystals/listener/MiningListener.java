@@ -1,233 +1,373 @@
-// src/main/java/dev/lsdmc/arcaniteCrystals/listener/MiningListener.java
-package dev.lsdmc.arcaniteCrystals.listener;
-
-import dev.lsdmc.arcaniteCrystals.manager.MiningEffectManager;
-import dev.lsdmc.arcaniteCrystals.util.ParticleManager;
-import dev.lsdmc.arcaniteCrystals.util.SoundManager;
-import dev.lsdmc.arcaniteCrystals.util.MessageManager;
-import dev.lsdmc.arcaniteCrystals.config.ConfigManager;
-import org.bukkit.Material;
-import org.bukkit.event.Listener;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.block.BlockBreakEvent;
-import org.bukkit.inventory.ItemStack;
-import org.bukkit.enchantments.Enchantment;
-import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.ChatColor;
-
-import java.util.*;
-import java.util.concurrent.ThreadLocalRandom;
-
-/**
- * Professional mining effects listener with comprehensive ore processing,
- * enhanced drop mechanics, advanced fortune system, and immersive feedback.
- */
-public class MiningListener implements Listener {
-
-    // Comprehensive ore type mappings for auto-smelt
-    private static final Map<Material, Material> SMELTABLE_ORES = Map.of(
-        // Basic ores
-        Material.IRON_ORE, Material.IRON_INGOT,
-        Material.DEEPSLATE_IRON_ORE, Material.IRON_INGOT,
-        Material.GOLD_ORE, Material.GOLD_INGOT,
-        Material.DEEPSLATE_GOLD_ORE, Material.GOLD_INGOT,
-        Material.COPPER_ORE, Material.COPPER_INGOT,
-        Material.DEEPSLATE_COPPER_ORE, Material.COPPER_INGOT,
-        // Ancient debris special case
-        Material.ANCIENT_DEBRIS, Material.NETHERITE_SCRAP
-    );
-
-    // Enhanced fortune-affected blocks with custom multipliers
-    private static final Map<Material, FortuneConfig> FORTUNE_BLOCKS;
-    
-    static {
-        Map<Material, FortuneConfig> fortuneMap = new HashMap<>();
-        
-        // Gem ores with high fortune multipliers
-        fortuneMap.put(Material.DIAMOND_ORE, new FortuneConfig(Material.DIAMOND, 1, 4, 0.3));
-        fortuneMap.put(Material.DEEPSLATE_DIAMOND_ORE, new FortuneConfig(Material.DIAMOND, 1, 4, 0.3));
-        fortuneMap.put(Material.EMERALD_ORE, new FortuneConfig(Material.EMERALD, 1, 4, 0.25));
-        fortuneMap.put(Material.DEEPSLATE_EMERALD_ORE, new FortuneConfig(Material.EMERALD, 1, 4, 0.25));
-        
-        // Coal with moderate fortune
-        fortuneMap.put(Material.COAL_ORE, new FortuneConfig(Material.COAL, 1, 3, 0.4));
-        fortuneMap.put(Material.DEEPSLATE_COAL_ORE, new FortuneConfig(Material.COAL, 1, 3, 0.4));
-        
-        // Redstone with high yield
-        fortuneMap.put(Material.REDSTONE_ORE, new FortuneConfig(Material.REDSTONE, 2, 6, 0.5));
-        fortuneMap.put(Material.DEEPSLATE_REDSTONE_ORE, new FortuneConfig(Material.REDSTONE, 2, 6, 0.5));
-        
-        // Lapis with high yield
-        fortuneMap.put(Material.LAPIS_ORE, new FortuneConfig(Material.LAPIS_LAZULI, 3, 8, 0.45));
-        fortuneMap.put(Material.DEEPSLATE_LAPIS_ORE, new FortuneConfig(Material.LAPIS_LAZULI, 3, 8, 0.45));
-        
-        // Quartz
-        fortuneMap.put(Material.NETHER_QUARTZ_ORE, new FortuneConfig(Material.QUARTZ, 1, 3, 0.35));
-        
-        // Amethyst
-        fortuneMap.put(Material.AMETHYST_CLUSTER, new FortuneConfig(Material.AMETHYST_SHARD, 2, 6, 0.4));
-        
-        FORTUNE_BLOCKS = Collections.unmodifiableMap(fortuneMap);
-    }
-
-    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
-    public void onBlockBreak(BlockBreakEvent event) {
-        var player = event.getPlayer();
-        var block = event.getBlock();
-        Material blockType = block.getType();
-        
-        boolean hasAutoSmelt = MiningEffectManager.hasAutoSmelt(player.getUniqueId());
-        boolean hasFortune = MiningEffectManager.hasFortune(player.getUniqueId());
-        
-        // Early return if no mining effects are active
-        if (!hasAutoSmelt && !hasFortune) return;
-        
-        boolean processed = false;
-        
-        // Auto-smelt processing with enhanced feedback
-        if (hasAutoSmelt && SMELTABLE_ORES.containsKey(blockType)) {
-            processed = processAutoSmelt(event, blockType);
-        }
-        
-        // Fortune processing with sophisticated drop calculation
-        if (hasFortune && FORTUNE_BLOCKS.containsKey(blockType)) {
-            processed = processFortune(event, blockType) || processed;
-        }
-        
-        // Provide feedback only if effects were applied
-        if (processed) {
-            // Experience bonus for enhanced mining
-            int baseExp = event.getExpToDrop();
-            if (baseExp > 0) {
-                int bonusExp = (int) (baseExp * 0.25); // 25% bonus XP
-                event.setExpToDrop(baseExp + bonusExp);
-            }
-            
-            // Professional feedback message (rate-limited)
-            if (ThreadLocalRandom.current().nextDouble() < 0.1) { // 10% chance
-                String effectType = hasAutoSmelt && hasFortune ? "Auto-Smelt & Fortune" :
-                                  hasAutoSmelt ? "Auto-Smelt" : "Fortune";
-                player.sendMessage(MessageManager.ACCENT + "⚡ " + effectType + " activated!");
-            }
-        }
-    }
-    
-    /**
-     * Processes auto-smelt effects with comprehensive ore handling and tool enchantment respect.
-     */
-    private boolean processAutoSmelt(BlockBreakEvent event, Material blockType) {
-        Material smeltedMaterial = SMELTABLE_ORES.get(blockType);
-        if (smeltedMaterial == null) return false;
-        
-        var player = event.getPlayer();
-        var block = event.getBlock();
-        
-        // Cancel default drops
-        event.setDropItems(false);
-        
-        // Calculate drop amount (respect silk touch but not fortune for auto-smelt)
-        ItemStack tool = player.getInventory().getItemInMainHand();
-        int dropAmount = 1;
-        
-        // Don't apply fortune to auto-smelted items to prevent double fortune
-        if (tool.hasItemMeta() && tool.getItemMeta().hasEnchant(Enchantment.SILK_TOUCH)) {
-            // Silk touch overrides auto-smelt - drop original block
-            ItemStack originalDrop = new ItemStack(blockType, 1);
-            block.getWorld().dropItemNaturally(block.getLocation(), originalDrop);
-            return false;
-        }
-        
-        // Special handling for ancient debris (no fortune ever)
-        if (blockType == Material.ANCIENT_DEBRIS) {
-            dropAmount = 1; // Always 1 scrap
-        }
-        
-        // Drop smelted items
-        ItemStack smeltedDrop = new ItemStack(smeltedMaterial, dropAmount);
-        block.getWorld().dropItemNaturally(block.getLocation(), smeltedDrop);
-        
-        // Enhanced visual and audio feedback
-        ParticleManager.playMiningEffect(block.getLocation(), true);
-        SoundManager.playMiningSound(block.getLocation(), true);
-        
-        return true;
-    }
-    
-    /**
-     * Processes fortune effects with sophisticated drop calculation and proper stacking prevention.
-     */
-    private boolean processFortune(BlockBreakEvent event, Material blockType) {
-        FortuneConfig config = FORTUNE_BLOCKS.get(blockType);
-        if (config == null) return false;
-        
-        var player = event.getPlayer();
-        var block = event.getBlock();
-        ItemStack tool = player.getInventory().getItemInMainHand();
-        
-        // Check if fortune should trigger (independent of tool fortune)
-        if (ThreadLocalRandom.current().nextDouble() > config.triggerChance) {
-            return false; // Crystal fortune didn't trigger this time
-        }
-        
-        // Get existing tool fortune level for calculation separation
-        int toolFortuneLevel = 0;
-        if (tool.hasItemMeta() && tool.getItemMeta().hasEnchant(Enchantment.FORTUNE)) {
-            toolFortuneLevel = tool.getItemMeta().getEnchantLevel(Enchantment.FORTUNE);
-        }
-        
-        // Calculate crystal fortune bonus (separate from tool fortune)
-        int crystalFortuneBonus = ThreadLocalRandom.current().nextInt(
-            config.minBonus, config.maxBonus + 1);
-        
-        // Apply crystal fortune multiplier (more controlled than before)
-        crystalFortuneBonus = Math.max(1, (int) (crystalFortuneBonus * 1.2)); // 20% more effective, reduced from 50%
-        
-        // Cap total bonus items to prevent excessive drops
-        int maxBonusItems = ConfigManager.getConfig().getInt("mining.fortune.max-bonus-items", 5);
-        crystalFortuneBonus = Math.min(crystalFortuneBonus, maxBonusItems);
-        
-        // Only add crystal bonus if it provides meaningful improvement
-        if (crystalFortuneBonus > 0) {
-            // Create bonus drops that are clearly from crystal enhancement
-            ItemStack bonusDrop = new ItemStack(config.dropMaterial, crystalFortuneBonus);
-            
-            // Add custom metadata to track crystal-generated drops
-            ItemMeta bonusMeta = bonusDrop.getItemMeta();
-            if (bonusMeta != null) {
-                bonusMeta.setDisplayName("Crystal-Enhanced " + config.dropMaterial.name());
-                bonusDrop.setItemMeta(bonusMeta);
-            }
-            
-            block.getWorld().dropItemNaturally(block.getLocation(), bonusDrop);
-            
-            // Log for debugging/monitoring
-            if (ThreadLocalRandom.current().nextDouble() < 0.1) { // 10% chance to log
-                player.sendMessage(ChatColor.DARK_PURPLE + "⚡ Crystal Fortune: +" + crystalFortuneBonus + " " + config.dropMaterial.name());
-            }
-        }
-        
-        // Enhanced visual and audio feedback for fortune
-        ParticleManager.playMiningEffect(block.getLocation(), false);
-        SoundManager.playMiningSound(block.getLocation(), false);
-        
-        return true;
-    }
-    
-    /**
-     * Configuration for fortune-affected blocks.
-     */
-    private static class FortuneConfig {
-        final Material dropMaterial;
-        final int minBonus;
-        final int maxBonus;
-        final double triggerChance;
-        
-        FortuneConfig(Material dropMaterial, int minBonus, int maxBonus, double triggerChance) {
-            this.dropMaterial = dropMaterial;
-            this.minBonus = minBonus;
-            this.maxBonus = maxBonus;
-            this.triggerChance = triggerChance;
-        }
-    }
-}
+// src/main/java/dev/lsdmc/arcaniteCrystals/listener/MiningListener.java
+package dev.lsdmc.arcaniteCrystals.listener;
+
+import dev.lsdmc.arcaniteCrystals.ArcaniteCrystals;
+import dev.lsdmc.arcaniteCrystals.manager.MiningEffectManager;
+import dev.lsdmc.arcaniteCrystals.util.ParticleManager;
+import dev.lsdmc.arcaniteCrystals.util.SoundManager;
+import dev.lsdmc.arcaniteCrystals.util.MessageManager;
+import dev.lsdmc.arcaniteCrystals.config.ConfigManager;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Listener;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.ChatColor;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Professional mining effects listener with comprehensive ore processing,
+ * enhanced drop mechanics, advanced fortune system, and immersive feedback.
+ * <p>
+ * Every block break on the server passes through here, so the handler first looks the block up in
+ * a table indexed by material and returns before touching player state for anything that is not an
+ * ore. The table and the configured limits are built once in {@link #reloadConfig()}. Drops and
+ * feedback are collected per player and released together on the next tick, so a player breaking
+ * several ores in one tick gets merged stacks and a single effect.
+ */
+public class MiningListener implements Listener {
+
+    // Comprehensive ore type mappings for auto-smelt
+    private static final Map<Material, Material> SMELTABLE_ORES = Map.of(
+        // Basic ores
+        Material.IRON_ORE, Material.IRON_INGOT,
+        Material.DEEPSLATE_IRON_ORE, Material.IRON_INGOT,
+        Material.GOLD_ORE, Material.GOLD_INGOT,
+        Material.DEEPSLATE_GOLD_ORE, Material.GOLD_INGOT,
+        Material.COPPER_ORE, Material.COPPER_INGOT,
+        Material.DEEPSLATE_COPPER_ORE, Material.COPPER_INGOT,
+        // Ancient debris special case
+        Material.ANCIENT_DEBRIS, Material.NETHERITE_SCRAP
+    );
+
+    // Enhanced fortune-affected blocks with custom multipliers
+    private static final Map<Material, FortuneConfig> FORTUNE_BLOCKS;
+    
+    static {
+        Map<Material, FortuneConfig> fortuneMap = new HashMap<>();
+        
+        // Gem ores with high fortune multipliers
+        fortuneMap.put(Material.DIAMOND_ORE, new FortuneConfig(Material.DIAMOND, 1, 4, 0.3));
+        fortuneMap.put(Material.DEEPSLATE_DIAMOND_ORE, new FortuneConfig(Material.DIAMOND, 1, 4, 0.3));
+        fortuneMap.put(Material.EMERALD_ORE, new FortuneConfig(Material.EMERALD, 1, 4, 0.25));
+        fortuneMap.put(Material.DEEPSLATE_EMERALD_ORE, new FortuneConfig(Material.EMERALD, 1, 4, 0.25));
+        
+        // Coal with moderate fortune
+        fortuneMap.put(Material.COAL_ORE, new FortuneConfig(Material.COAL, 1, 3, 0.4));
+        fortuneMap.put(Material.DEEPSLATE_COAL_ORE, new FortuneConfig(Material.COAL, 1, 3, 0.4));
+        
+        // Redstone with high yield
+        fortuneMap.put(Material.REDSTONE_ORE, new FortuneConfig(Material.REDSTONE, 2, 6, 0.5));
+        fortuneMap.put(Material.DEEPSLATE_REDSTONE_ORE, new FortuneConfig(Material.REDSTONE, 2, 6, 0.5));
+        
+        // Lapis with high yield
+        fortuneMap.put(Material.LAPIS_ORE, new FortuneConfig(Material.LAPIS_LAZULI, 3, 8, 0.45));
+        fortuneMap.put(Material.DEEPSLATE_LAPIS_ORE, new FortuneConfig(Material.LAPIS_LAZULI, 3, 8, 0.45));
+        
+        // Quartz
+        fortuneMap.put(Material.NETHER_QUARTZ_ORE, new FortuneConfig(Material.QUARTZ, 1, 3, 0.35));
+        
+        // Amethyst
+        fortuneMap.put(Material.AMETHYST_CLUSTER, new FortuneConfig(Material.AMETHYST_SHARD, 2, 6, 0.4));
+        
+        FORTUNE_BLOCKS = Collections.unmodifiableMap(fortuneMap);
+    }
+    
+    /**
+     * Everything the listener needs to know about one ore, resolved when the config loads.
+     *
+     * @param smelted  auto-smelt result, or null
+     * @param fortune  fortune settings, or null
+     * @param bonuses  crystal fortune bonus for each possible roll, already multiplied and capped
+     */
+    private record Ore(Material smelted, FortuneConfig fortune, int[] bonuses) {}
+
+    // Tables built by reloadConfig(); replaced as a whole so readers never see a partial table
+    private static volatile Map<Material, Ore> ores = new EnumMap<>(Material.class);
+    private static volatile Map<Material, ItemStack> bonusTemplates = new EnumMap<>(Material.class);
+
+    // Configuration snapshot
+    private static volatile int maxBonusItems = 5;
+
+    /**
+     * Drops collected for one broken block, released where that block was.
+     */
+    private static final class Spot {
+        final Block block;
+        final Map<Material, int[]> plainDrops = new EnumMap<>(Material.class);
+        final Map<Material, int[]> bonusDrops = new EnumMap<>(Material.class);
+        
+        Spot(Block block) {
+            this.block = block;
+        }
+    }
+    
+    /**
+     * Drops and feedback collected for one player during the current tick.
+     */
+    private static final class Batch {
+        final Player player;
+        final List<Spot> spots = new ArrayList<>();
+        final Set<Material> bonusMaterials = EnumSet.noneOf(Material.class);
+        boolean smelted;
+        boolean fortune;
+        int bonusItems;
+        
+        Batch(Player player) {
+            this.player = player;
+        }
+        
+        Spot spot(Block block) {
+            // Smelt and fortune handling of the same break share one spot
+            Spot last = spots.isEmpty() ? null : spots.get(spots.size() - 1);
+            if (last != null && last.block.equals(block)) return last;
+            Spot spot = new Spot(block);
+            spots.add(spot);
+            return spot;
+        }
+    }
+
+    // Only touched on the main thread
+    private static final Map<UUID, Batch> batches = new HashMap<>();
+    private static boolean flushScheduled;
+
+    private static final AtomicLong breaks = new AtomicLong();
+    private static final AtomicLong oreBreaks = new AtomicLong();
+    private static final AtomicLong processedBreaks = new AtomicLong();
+    private static final AtomicLong dropStacks = new AtomicLong();
+
+    public MiningListener() {
+        reloadConfig();
+    }
+    
+    /**
+     * Rebuilds the ore table and config snapshot.
+     */
+    public static void reloadConfig() {
+        int cap = ConfigManager.getConfig().getInt("mining.fortune.max-bonus-items", 5);
+        
+        Map<Material, Ore> table = new EnumMap<>(Material.class);
+        Map<Material, ItemStack> templates = new EnumMap<>(Material.class);
+        SMELTABLE_ORES.forEach((ore, result) -> table.put(ore, new Ore(result, null, null)));
+        FORTUNE_BLOCKS.forEach((ore, config) -> {
+            // Crystal fortune is 20% more effective than its base roll, then capped
+            int[] bonuses = new int[config.maxBonus - config.minBonus + 1];
+            for (int roll = config.minBonus; roll <= config.maxBonus; roll++) {
+                bonuses[roll - config.minBonus] = Math.min(Math.max(1, (int) (roll * 1.2)), cap);
+            }
+            // Bonus drops are named so they can be told apart from regular drops
+            templates.computeIfAbsent(config.dropMaterial, material -> {
+                ItemStack template = new ItemStack(material);
+                ItemMeta meta = template.getItemMeta();
+                if (meta != null) {
+                    meta.setDisplayName("Crystal-Enhanced " + material.name());
+                    template.setItemMeta(meta);
+                }
+                return template;
+            });
+            Ore smelt = table.get(ore);
+            table.put(ore, new Ore(smelt != null ? smelt.smelted() : null, config, bonuses));
+        });
+        
+        maxBonusItems = cap;
+        ores = table;
+        bonusTemplates = templates;
+    }
+
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        breaks.incrementAndGet();
+        var block = event.getBlock();
+        Material blockType = block.getType();
+        
+        // Most breaks are not ores; skip them before looking at the player
+        Ore ore = ores.get(blockType);
+        if (ore == null) return;
+        oreBreaks.incrementAndGet();
+        
+        var player = event.getPlayer();
+        boolean hasAutoSmelt = ore.smelted() != null && MiningEffectManager.hasAutoSmelt(player.getUniqueId());
+        boolean hasFortune = ore.fortune() != null && MiningEffectManager.hasFortune(player.getUniqueId());
+        
+        // Early return if no mining effects are active
+        if (!hasAutoSmelt && !hasFortune) return;
+        
+        boolean processed = false;
+        
+        // Auto-smelt processing with enhanced feedback
+        if (hasAutoSmelt) {
+            processed = processAutoSmelt(event, blockType, ore);
+        }
+        
+        // Fortune processing with sophisticated drop calculation
+        if (hasFortune) {
+            processed = processFortune(event, ore) || processed;
+        }
+        
+        // Provide feedback only if effects were applied
+        if (processed) {
+            processedBreaks.incrementAndGet();
+            
+            // Experience bonus for enhanced mining
+            int baseExp = event.getExpToDrop();
+            if (baseExp > 0) {
+                int bonusExp = (int) (baseExp * 0.25); // 25% bonus XP
+                event.setExpToDrop(baseExp + bonusExp);
+            }
+            
+            // Professional feedback message (rate-limited)
+            if (ThreadLocalRandom.current().nextDouble() < 0.1) { // 10% chance
+                String effectType = hasAutoSmelt && hasFortune ? "Auto-Smelt & Fortune" :
+                                  hasAutoSmelt ? "Auto-Smelt" : "Fortune";
+                player.sendMessage(MessageManager.ACCENT + "⚡ " + effectType + " activated!");
+            }
+        }
+    }
+    
+    /**
+     * Processes auto-smelt effects with comprehensive ore handling and tool enchantment respect.
+     */
+    private boolean processAutoSmelt(BlockBreakEvent event, Material blockType, Ore ore) {
+        var player = event.getPlayer();
+        
+        // Cancel default drops
+        event.setDropItems(false);
+        
+        // Calculate drop amount (respect silk touch but not fortune for auto-smelt)
+        ItemStack tool = player.getInventory().getItemInMainHand();
+        
+        // Don't apply fortune to auto-smelted items to prevent double fortune
+        if (tool.containsEnchantment(Enchantment.SILK_TOUCH)) {
+            // Silk touch overrides auto-smelt - drop original block
+            add(batch(event).spot(event.getBlock()).plainDrops, blockType, 1);
+            return false;
+        }
+        
+        // Always one smelted item; ancient debris in particular never gets fortune
+        Batch batch = batch(event);
+        add(batch.spot(event.getBlock()).plainDrops, ore.smelted(), 1);
+        batch.smelted = true;
+        
+        return true;
+    }
+    
+    /**
+     * Processes fortune effects with sophisticated drop calculation and proper stacking prevention.
+     */
+    private boolean processFortune(BlockBreakEvent event, Ore ore) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        
+        // Check if fortune should trigger (independent of tool fortune)
+        if (random.nextDouble() > ore.fortune().triggerChance) {
+            return false; // Crystal fortune didn't trigger this time
+        }
+        
+        // Crystal fortune bonus, separate from tool fortune
+        int crystalFortuneBonus = ore.bonuses()[random.nextInt(ore.bonuses().length)];
+        
+        Batch batch = batch(event);
+        if (crystalFortuneBonus > 0) {
+            add(batch.spot(event.getBlock()).bonusDrops, ore.fortune().dropMaterial, crystalFortuneBonus);
+            batch.bonusMaterials.add(ore.fortune().dropMaterial);
+            batch.bonusItems += crystalFortuneBonus;
+        }
+        batch.fortune = true;
+        
+        return true;
+    }
+    
+    private static Batch batch(BlockBreakEvent event) {
+        if (!flushScheduled) {
+            flushScheduled = true;
+            Bukkit.getScheduler().runTask(ArcaniteCrystals.getInstance(), MiningListener::flush);
+        }
+        Player player = event.getPlayer();
+        return batches.computeIfAbsent(player.getUniqueId(), id -> new Batch(player));
+    }
+    
+    private static void add(Map<Material, int[]> drops, Material material, int amount) {
+        drops.computeIfAbsent(material, m -> new int[1])[0] += amount;
+    }
+    
+    /**
+     * Drops everything collected during the last tick at the block it came from, and plays one
+     * effect per player at the last block they broke.
+     */
+    private static void flush() {
+        flushScheduled = false;
+        Map<Material, ItemStack> templates = bonusTemplates;
+        for (Batch batch : batches.values()) {
+            Location location = null;
+            for (Spot spot : batch.spots) {
+                Location at = spot.block.getLocation();
+                if (at.getWorld() == null) continue;
+                spot.plainDrops.forEach((material, amount) -> drop(at, new ItemStack(material), amount[0]));
+                spot.bonusDrops.forEach((material, amount) -> drop(at,
+                        templates.getOrDefault(material, new ItemStack(material)), amount[0]));
+                location = at;
+            }
+            if (location == null) continue;
+            
+            // Enhanced visual and audio feedback
+            if (batch.smelted) {
+                ParticleManager.playMiningEffect(location, true);
+                SoundManager.playMiningSound(location, true);
+            }
+            if (batch.fortune) {
+                ParticleManager.playMiningEffect(location, false);
+                SoundManager.playMiningSound(location, false);
+            }
+            
+            // Occasional summary of crystal bonus drops
+            if (batch.bonusItems > 0 && batch.player.isOnline()
+                    && ThreadLocalRandom.current().nextDouble() < 0.1) { // 10% chance
+                batch.player.sendMessage(ChatColor.DARK_PURPLE + "⚡ Crystal Fortune: +" + batch.bonusItems + " "
+                        + String.join(", ", batch.bonusMaterials.stream().map(Material::name).toList()));
+            }
+        }
+        batches.clear();
+    }
+    
+    private static void drop(Location location, ItemStack template, int amount) {
+        int maxStack = template.getMaxStackSize();
+        while (amount > 0) {
+            ItemStack stack = template.clone();
+            stack.setAmount(Math.min(amount, maxStack));
+            amount -= stack.getAmount();
+            location.getWorld().dropItemNaturally(location, stack);
+            dropStacks.incrementAndGet();
+        }
+    }
+
+    public static String getStats() {
+        return String.format("Breaks: %d, Ores: %d, Enhanced: %d, Drop stacks: %d, Bonus cap: %d",
+                breaks.get(), oreBreaks.get(), processedBreaks.get(), dropStacks.get(), maxBonusItems);
+    }
+    
+    /**
+     * Configuration for fortune-affected blocks.
+     */
+    private static class FortuneConfig {
+        final Material dropMaterial;
+        final int minBonus;
+        final int maxBonus;
+        final double triggerChance;
+        
+        FortuneConfig(Material dropMaterial, int minBonus, int maxBonus, double triggerChance) {
+            this.dropMaterial = dropMaterial;
+            this.minBonus = minBonus;
+            this.maxBonus = maxBonus;
+            this.triggerChance = triggerChance;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package dev.lsdmc.arcaniteCrystals.listener;
+
+import dev.lsdmc.arcaniteCrystals.placeholder.PlaceholderCache;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerItemBreakEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
+
+/**
+ * Drops cached crystal placeholders whenever a player's inventory may have changed the off-hand
+ * crystal. Invalidation runs on the next tick, once the event's change has been applied.
+ */
+public class PlaceholderInvalidationListener implements Listener {
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHandSwap(PlayerSwapHandItemsEvent event) {
+        PlaceholderCache.invalidateLater(event.getPlayer().getUniqueId(), PlaceholderCache.CRYSTAL);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryClick(InventoryClickEvent event) {
+        PlaceholderCache.invalidateLater(event.getWhoClicked().getUniqueId(), PlaceholderCache.CRYSTAL);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryDrag(InventoryDragEvent event) {
+        PlaceholderCache.invalidateLater(event.getWhoClicked().getUniqueId(), PlaceholderCache.CRYSTAL);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDrop(PlayerDropItemEvent event) {
+        PlaceholderCache.invalidateLater(event.getPlayer().getUniqueId(), PlaceholderCache.CRYSTAL);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(EntityPickupItemEvent event) {
+        if (event.getEntity() instanceof Player player) {
+            PlaceholderCache.invalidateLater(player.getUniqueId(), PlaceholderCache.CRYSTAL);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onItemBreak(PlayerItemBreakEvent event) {
+        PlaceholderCache.invalidateLater(event.getPlayer().getUniqueId(), PlaceholderCache.CRYSTAL);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDeath(PlayerDeathEvent event) {
+        PlaceholderCache.invalidateLater(event.getEntity().getUniqueId(), PlaceholderCache.CRYSTAL);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        PlaceholderCache.invalidateLater(event.getPlayer().getUniqueId(), PlaceholderCache.CRYSTAL);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        PlaceholderCache.remove(event.getPlayer().getUniqueId());
+    }
+}
@@ -0,0 +1,89 @@
+package dev.lsdmc.arcaniteCrystals.listener;
+
+import dev.lsdmc.arcaniteCrystals.ArcaniteCrystals;
+import dev.lsdmc.arcaniteCrystals.database.PlayerDataManager;
+import dev.lsdmc.arcaniteCrystals.manager.CrystalCooldownManager;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads session profiles off the main thread before login and writes them back on quit,
+ * so the rest of the plugin can read player data from memory.
+ */
+public class PlayerProfileListener implements Listener {
+
+    private static final int LOAD_ATTEMPTS = 3;
+    private static final long RETRY_DELAY_MS = 500L;
+
+    // Logins this listener opened a session for, so a rejection only ends sessions begun here
+    private final Set<AsyncPlayerPreLoginEvent> startedSessions = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Runs on the async login thread, so waiting for the database here never stalls a tick.
+     * A player whose profile cannot be read is turned away rather than let in with defaults
+     * that would later be saved over their real data.
+     */
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+
+        UUID playerId = event.getUniqueId();
+        PlayerDataManager.beginSession(playerId);
+        for (int attempt = 1; attempt <= LOAD_ATTEMPTS; attempt++) {
+            try {
+                PlayerDataManager.loadProfile(playerId).join();
+                startedSessions.add(event);
+                return;
+            } catch (Exception e) {
+                ArcaniteCrystals.getInstance().getLogger().warning("Could not load profile for "
+                    + event.getName() + " (attempt " + attempt + "/" + LOAD_ATTEMPTS + "): " + e.getMessage());
+            }
+            if (attempt < LOAD_ATTEMPTS) {
+                try {
+                    Thread.sleep(RETRY_DELAY_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+
+        PlayerDataManager.endSession(playerId);
+        event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_OTHER,
+            "Your player data could not be loaded. Please try again in a moment.");
+    }
+
+    /**
+     * Releases the session begun in {@link #onPreLogin} if a later listener turned the player away.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLoginResult(AsyncPlayerPreLoginEvent event) {
+        if (startedSessions.remove(event)
+                && event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            PlayerDataManager.endSession(event.getUniqueId());
+        }
+    }
+
+    /**
+     * The profile is in memory by now, so saved cooldowns can be put back on the timer.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        CrystalCooldownManager.resume(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        PlayerDataManager.endSession(event.getPlayer().getUniqueId());
+    }
+}
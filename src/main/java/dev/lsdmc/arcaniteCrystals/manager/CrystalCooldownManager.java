@@ -1,151 +1,332 @@
-package dev.lsdmc.arcaniteCrystals.manager;
-
-import dev.lsdmc.arcaniteCrystals.ArcaniteCrystals;
-import dev.lsdmc.arcaniteCrystals.util.MessageManager;
-import dev.lsdmc.arcaniteCrystals.util.ParticleManager;
-import dev.lsdmc.arcaniteCrystals.util.SoundManager;
-import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
-
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-
-public class CrystalCooldownManager {
-    private static final Map<UUID, Long> cooldowns = new ConcurrentHashMap<>();
-    private static final Map<UUID, BukkitRunnable> cooldownTasks = new ConcurrentHashMap<>();
-    private static final long DEFAULT_COOLDOWN = 300000; // 5 minutes in milliseconds
-    
-    /**
-     * Checks if a player is on cooldown.
-     */
-    public static boolean isOnCooldown(Player player) {
-        UUID playerId = player.getUniqueId();
-        Long cooldownEnd = cooldowns.get(playerId);
-        
-        if (cooldownEnd == null) {
-            return false;
-        }
-        
-        if (System.currentTimeMillis() >= cooldownEnd) {
-            cooldowns.remove(playerId);
-            return false;
-        }
-        
-        return true;
-    }
-    
-    /**
-     * Gets the remaining cooldown time in milliseconds.
-     */
-    public static long getRemainingCooldown(Player player) {
-        UUID playerId = player.getUniqueId();
-        Long cooldownEnd = cooldowns.get(playerId);
-        
-        if (cooldownEnd == null) {
-            return 0;
-        }
-        
-        long remaining = cooldownEnd - System.currentTimeMillis();
-        return Math.max(0, remaining);
-    }
-    
-    /**
-     * Starts a cooldown for a player.
-     */
-    public static void startCooldown(Player player) {
-        UUID playerId = player.getUniqueId();
-        
-        // Cancel existing cooldown task if any
-        cancelCooldown(player);
-        
-        // Set cooldown end time
-        long cooldownEnd = System.currentTimeMillis() + DEFAULT_COOLDOWN;
-        cooldowns.put(playerId, cooldownEnd);
-        
-        // Start cooldown task
-        BukkitRunnable task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (!player.isOnline()) {
-                    cancelCooldown(player);
-                    return;
-                }
-                
-                long remaining = getRemainingCooldown(player);
-                if (remaining <= 0) {
-                    cancelCooldown(player);
-                    return;
-                }
-                
-                // Play warning effects when cooldown is about to end
-                if (remaining <= 5000) { // 5 seconds
-                    ParticleManager.playCooldownWarningEffect(player);
-                    SoundManager.playCooldownSound(player);
-                }
-            }
-        };
-        task.runTaskTimer(ArcaniteCrystals.getInstance(), 0L, 20L); // Every second
-        cooldownTasks.put(playerId, task);
-        
-        // Notify player
-        MessageManager.sendNotification(player, 
-            "Crystal cooldown started. Time remaining: " + formatTime(DEFAULT_COOLDOWN / 1000), 
-            MessageManager.NotificationType.INFO);
-    }
-    
-    /**
-     * Cancels a player's cooldown.
-     */
-    public static void cancelCooldown(Player player) {
-        UUID playerId = player.getUniqueId();
-        
-        // Cancel cooldown task
-        BukkitRunnable task = cooldownTasks.remove(playerId);
-        if (task != null) {
-            task.cancel();
-        }
-        
-        // Remove cooldown
-        cooldowns.remove(playerId);
-    }
-    
-    /**
-     * Formats time in seconds to readable format.
-     */
-    private static String formatTime(long seconds) {
-        if (seconds < 60) {
-            return seconds + "s";
-        } else if (seconds < 3600) {
-            return (seconds / 60) + "m " + (seconds % 60) + "s";
-        } else {
-            long hours = seconds / 3600;
-            long minutes = (seconds % 3600) / 60;
-            return hours + "h " + minutes + "m";
-        }
-    }
-    
-    /**
-     * Gets the cooldown duration for a crystal tier.
-     */
-    public static long getCooldownDuration(int tier) {
-        return switch (tier) {
-            case 1 -> 300000;  // 5 minutes
-            case 2 -> 600000;  // 10 minutes
-            case 3 -> 900000;  // 15 minutes
-            case 4 -> 1800000; // 30 minutes
-            default -> 300000;
-        };
-    }
-    
-    /**
-     * Cleans up all cooldown tasks.
-     */
-    public static void cleanup() {
-        for (BukkitRunnable task : cooldownTasks.values()) {
-            task.cancel();
-        }
-        cooldownTasks.clear();
-        cooldowns.clear();
-    }
-} 
\ No newline at end of file
+package dev.lsdmc.arcaniteCrystals.manager;
+
+import dev.lsdmc.arcaniteCrystals.ArcaniteCrystals;
+import dev.lsdmc.arcaniteCrystals.database.PlayerDataManager;
+import dev.lsdmc.arcaniteCrystals.util.MessageManager;
+import dev.lsdmc.arcaniteCrystals.util.ParticleManager;
+import dev.lsdmc.arcaniteCrystals.util.SoundManager;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Cooldowns for crystal activation, socketing, fusion and identification.
+ * <p>
+ * Deadlines live in the player's profile, so they are saved through the write-behind path and
+ * survive restarts. Warning effects and expiry are driven by one min-heap of events and a single
+ * task that is scheduled for the earliest event only, so waiting cooldowns cost nothing per tick.
+ * Events made stale by a cancel or restart are dropped when they come up.
+ * <p>
+ * Starting, cancelling and resuming must happen on the main thread.
+ */
+public class CrystalCooldownManager {
+    private static final long DEFAULT_COOLDOWN = 300000; // 5 minutes in milliseconds
+    private static final long WARNING_WINDOW = 5000;
+    private static final long WARNING_INTERVAL = 1000;
+    
+    /**
+     * The kinds of cooldown. Only activation plays warning effects before it ends.
+     */
+    public enum Type {
+        ACTIVATION("crystal", true),
+        SOCKET("socket", false),
+        FUSION("fusion", false),
+        IDENTIFICATION("identification", false);
+        
+        private final String id;
+        private final boolean warns;
+        
+        Type(String id, boolean warns) {
+            this.id = id;
+            this.warns = warns;
+        }
+        
+        public String getId() {
+            return id;
+        }
+        
+        String storageName(String subject) {
+            return subject == null ? id : id + ":" + subject;
+        }
+        
+        static Type fromStorageName(String name) {
+            int colon = name.indexOf(':');
+            String id = colon < 0 ? name : name.substring(0, colon);
+            for (Type type : values()) {
+                if (type.id.equals(id)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+    
+    private record Key(UUID playerId, Type type, String name) {}
+    
+    private record Event(long at, Key key, long deadline, boolean expiry) {}
+    
+    private static final PriorityQueue<Event> events = new PriorityQueue<>(Comparator.comparingLong(Event::at));
+    private static final Map<Key, Long> scheduled = new HashMap<>();
+    private static BukkitTask ticker;
+    private static long tickerAt = Long.MAX_VALUE;
+    private static long warningsPlayed = 0;
+    private static long expired = 0;
+    
+    /**
+     * Starts a cooldown, replacing any running one of the same type and subject.
+     *
+     * @param subject what the cooldown applies to, such as an item id, or null for the player
+     */
+    public static void start(Player player, Type type, String subject, long durationMs) {
+        if (durationMs <= 0) {
+            cancel(player.getUniqueId(), type, subject);
+            return;
+        }
+        Key key = new Key(player.getUniqueId(), type, type.storageName(subject));
+        long deadline = System.currentTimeMillis() + durationMs;
+        store(key, deadline);
+        schedule(key, deadline);
+    }
+    
+    public static void start(Player player, Type type, long durationMs) {
+        start(player, type, null, durationMs);
+    }
+    
+    public static boolean isOnCooldown(UUID playerId, Type type, String subject) {
+        return getRemaining(playerId, type, subject) > 0;
+    }
+    
+    public static boolean isOnCooldown(UUID playerId, Type type) {
+        return isOnCooldown(playerId, type, null);
+    }
+    
+    /**
+     * Gets the remaining cooldown time in milliseconds.
+     */
+    public static long getRemaining(UUID playerId, Type type, String subject) {
+        long deadline = stored(new Key(playerId, type, type.storageName(subject)));
+        return Math.max(0, deadline - System.currentTimeMillis());
+    }
+    
+    public static long getRemaining(UUID playerId, Type type) {
+        return getRemaining(playerId, type, null);
+    }
+    
+    /**
+     * Ends a cooldown early. Its pending events are dropped when they come up.
+     */
+    public static void cancel(UUID playerId, Type type, String subject) {
+        Key key = new Key(playerId, type, type.storageName(subject));
+        scheduled.remove(key);
+        store(key, 0L);
+    }
+    
+    /**
+     * Reschedules a joining player's saved cooldowns.
+     */
+    public static void resume(Player player) {
+        UUID playerId = player.getUniqueId();
+        long now = System.currentTimeMillis();
+        
+        long activation = PlayerDataManager.getCooldown(playerId);
+        if (activation > now) {
+            schedule(new Key(playerId, Type.ACTIVATION, Type.ACTIVATION.id), activation);
+        }
+        for (Map.Entry<String, Long> entry : PlayerDataManager.getCooldowns(playerId).entrySet()) {
+            Type type = Type.fromStorageName(entry.getKey());
+            if (type != null && entry.getValue() > now) {
+                schedule(new Key(playerId, type, entry.getKey()), entry.getValue());
+            }
+        }
+    }
+    
+    /**
+     * Checks if a player is on crystal cooldown.
+     */
+    public static boolean isOnCooldown(Player player) {
+        return isOnCooldown(player.getUniqueId(), Type.ACTIVATION);
+    }
+    
+    /**
+     * Gets the remaining crystal cooldown time in milliseconds.
+     */
+    public static long getRemainingCooldown(Player player) {
+        return getRemaining(player.getUniqueId(), Type.ACTIVATION);
+    }
+    
+    /**
+     * Starts the default crystal cooldown for a player.
+     */
+    public static void startCooldown(Player player) {
+        startActivation(player, DEFAULT_COOLDOWN);
+    }
+    
+    /**
+     * Starts the crystal cooldown for a crystal tier.
+     */
+    public static void startCooldown(Player player, int tier) {
+        startActivation(player, getCooldownDuration(tier));
+    }
+    
+    private static void startActivation(Player player, long durationMs) {
+        start(player, Type.ACTIVATION, durationMs);
+        
+        // Notify player
+        MessageManager.sendNotification(player,
+            "Crystal cooldown started. Time remaining: " + formatTime(durationMs / 1000),
+            MessageManager.NotificationType.INFO);
+    }
+    
+    /**
+     * Cancels a player's crystal cooldown.
+     */
+    public static void cancelCooldown(Player player) {
+        cancel(player.getUniqueId(), Type.ACTIVATION, null);
+    }
+    
+    /**
+     * Gets the cooldown duration for a crystal tier.
+     */
+    public static long getCooldownDuration(int tier) {
+        return switch (tier) {
+            case 1 -> 300000;  // 5 minutes
+            case 2 -> 600000;  // 10 minutes
+            case 3 -> 900000;  // 15 minutes
+            case 4 -> 1800000; // 30 minutes
+            default -> 300000;
+        };
+    }
+    
+    /**
+     * Formats time in seconds to readable format.
+     */
+    private static String formatTime(long seconds) {
+        if (seconds < 60) {
+            return seconds + "s";
+        } else if (seconds < 3600) {
+            return (seconds / 60) + "m " + (seconds % 60) + "s";
+        } else {
+            long hours = seconds / 3600;
+            long minutes = (seconds % 3600) / 60;
+            return hours + "h " + minutes + "m";
+        }
+    }
+    
+    // ===== DEADLINE STORAGE =====
+    
+    private static long stored(Key key) {
+        return key.type() == Type.ACTIVATION
+                ? PlayerDataManager.getCooldown(key.playerId())
+                : PlayerDataManager.getCooldown(key.playerId(), key.name());
+    }
+    
+    private static void store(Key key, long deadline) {
+        if (key.type() == Type.ACTIVATION) {
+            PlayerDataManager.setCooldown(key.playerId(), deadline);
+        } else {
+            PlayerDataManager.setCooldown(key.playerId(), key.name(), deadline);
+        }
+    }
+    
+    // ===== EVENT QUEUE =====
+    
+    private static void schedule(Key key, long deadline) {
+        Long current = scheduled.put(key, deadline);
+        if (current != null && current == deadline) {
+            return; // Already queued, e.g. a quick rejoin
+        }
+        if (key.type().warns) {
+            push(new Event(Math.max(System.currentTimeMillis(), deadline - WARNING_WINDOW), key, deadline, false));
+        }
+        push(new Event(deadline, key, deadline, true));
+    }
+    
+    private static void push(Event event) {
+        events.add(event);
+        if (event.at() < tickerAt) {
+            arm(event.at());
+        }
+    }
+    
+    private static void arm(long at) {
+        if (ticker != null) {
+            ticker.cancel();
+        }
+        tickerAt = at;
+        long delayTicks = Math.max(1, (at - System.currentTimeMillis() + 49) / 50);
+        ticker = Bukkit.getScheduler().runTaskLater(ArcaniteCrystals.getInstance(), CrystalCooldownManager::fire, delayTicks);
+    }
+    
+    private static void fire() {
+        ticker = null;
+        tickerAt = Long.MAX_VALUE;
+        
+        // Half a tick of slack so events due mid-tick are not pushed to the next one
+        long now = System.currentTimeMillis();
+        while (!events.isEmpty() && events.peek().at() <= now + 25) {
+            handle(events.poll(), now);
+        }
+        
+        if (!events.isEmpty()) {
+            arm(events.peek().at());
+        }
+    }
+    
+    private static void handle(Event event, long now) {
+        Key key = event.key();
+        Long current = scheduled.get(key);
+        if (current == null || current != event.deadline()) {
+            return; // Cancelled or restarted since this was queued
+        }
+        
+        Player player = Bukkit.getPlayer(key.playerId());
+        if (player == null || stored(key) != event.deadline()) {
+            scheduled.remove(key); // Rescheduled by resume() if the player comes back
+            return;
+        }
+        
+        if (event.expiry()) {
+            scheduled.remove(key);
+            if (key.type() != Type.ACTIVATION) {
+                store(key, 0L); // Keep expired entries out of the profile
+            }
+            expired++;
+            return;
+        }
+        
+        // Play warning effects when cooldown is about to end
+        ParticleManager.playCooldownWarningEffect(player);
+        SoundManager.playCooldownSound(player);
+        warningsPlayed++;
+        if (now + WARNING_INTERVAL < event.deadline()) {
+            events.add(new Event(now + WARNING_INTERVAL, key, event.deadline(), false));
+        }
+    }
+    
+    /**
+     * Gets cooldown statistics.
+     */
+    public static String getStats() {
+        return String.format("%d running, %d queued events, %d warnings, %d expired",
+                scheduled.size(), events.size(), warningsPlayed, expired);
+    }
+    
+    /**
+     * Stops the ticker. Deadlines stay in player profiles and are resumed on the next join.
+     */
+    public static void cleanup() {
+        if (ticker != null) {
+            ticker.cancel();
+            ticker = null;
+        }
+        tickerAt = Long.MAX_VALUE;
+        events.clear();
+        scheduled.clear();
+    }
+}
@@ -1,318 +1,434 @@
-package dev.lsdmc.arcaniteCrystals.manager;
-
-import dev.lsdmc.arcaniteCrystals.ArcaniteCrystals;
-import dev.lsdmc.arcaniteCrystals.config.ConfigManager;
-import dev.lsdmc.arcaniteCrystals.util.MessageManager;
-import dev.lsdmc.arcaniteCrystals.util.ParticleManager;
-import dev.lsdmc.arcaniteCrystals.util.SoundManager;
-import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
-import org.bukkit.Material;
-import org.bukkit.NamespacedKey;
-import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.persistence.PersistentDataContainer;
-import org.bukkit.persistence.PersistentDataType;
-import org.bukkit.scheduler.BukkitTask;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.Random;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-
-/**
- * Manages crystal decay and corruption mechanics with proper tracking and effects.
- */
-public class CrystalDecayManager {
-    private static final Map<UUID, DecayState> decayStates = new ConcurrentHashMap<>();
-    private static final Map<UUID, BukkitTask> decayTasks = new ConcurrentHashMap<>();
-    
-    private static final NamespacedKey KEY_DECAY_LEVEL = new NamespacedKey(ArcaniteCrystals.getInstance(), "decay_level");
-    private static final NamespacedKey KEY_CORRUPTION_LEVEL = new NamespacedKey(ArcaniteCrystals.getInstance(), "corruption_level");
-    
-    private static final Random random = new Random();
-    private final FileConfiguration config;
-    private final int decayInterval;
-    private final double decayChance;
-    private final double corruptionChance;
-    private final int maxDecayLevel;
-    private final int maxCorruptionLevel;
-    
-    public CrystalDecayManager() {
-        this.config = ConfigManager.getConfig();
-        this.decayInterval = config.getInt("crystal.decay.interval", 300); // 5 minutes
-        this.decayChance = config.getDouble("crystal.decay.chance", 0.1); // 10%
-        this.corruptionChance = config.getDouble("crystal.decay.corruption-chance", 0.05); // 5%
-        this.maxDecayLevel = config.getInt("crystal.decay.max-level", 5);
-        this.maxCorruptionLevel = config.getInt("crystal.decay.max-corruption", 3);
-    }
-    
-    /**
-     * Initializes decay tracking for a player's crystal.
-     */
-    public void initializeDecay(Player player, ItemStack crystal) {
-        UUID playerId = player.getUniqueId();
-        
-        // Create new decay state
-        DecayState state = new DecayState();
-        decayStates.put(playerId, state);
-        
-        // Start decay task
-        startDecayTask(player);
-    }
-    
-    /**
-     * Starts the decay task for a player.
-     */
-    private void startDecayTask(Player player) {
-        UUID playerId = player.getUniqueId();
-        
-        BukkitTask task = Bukkit.getScheduler().runTaskTimer(ArcaniteCrystals.getInstance(), () -> {
-            DecayState state = decayStates.get(playerId);
-            if (state == null) return;
-            
-            // Check for decay
-            if (random.nextDouble() < decayChance) {
-                processDecay(player);
-            }
-            
-            // Check for corruption
-            if (state.decayLevel >= maxDecayLevel && random.nextDouble() < corruptionChance) {
-                processCorruption(player);
-            }
-        }, decayInterval * 20L, decayInterval * 20L);
-        
-        decayTasks.put(playerId, task);
-    }
-    
-    /**
-     * Processes decay for a player's crystal.
-     */
-    private void processDecay(Player player) {
-        UUID playerId = player.getUniqueId();
-        DecayState state = decayStates.get(playerId);
-        if (state == null) return;
-        
-        // Increase decay level
-        state.decayLevel = Math.min(state.decayLevel + 1, maxDecayLevel);
-        
-        // Update crystal
-        updateCrystalDecay(player, state);
-        
-        // Play effects
-        ParticleManager.playCrystalDecayEffect(player);
-        SoundManager.playCrystalDecaySound(player);
-        
-        // Notify player
-        MessageManager.sendNotification(player, 
-            MessageManager.get("crystal.decay").replace("%level%", String.valueOf(state.decayLevel)),
-            MessageManager.NotificationType.WARNING);
-    }
-    
-    /**
-     * Processes corruption for a player's crystal.
-     */
-    private void processCorruption(Player player) {
-        UUID playerId = player.getUniqueId();
-        DecayState state = decayStates.get(playerId);
-        if (state == null) return;
-        
-        // Increase corruption level
-        state.corruptionLevel = Math.min(state.corruptionLevel + 1, maxCorruptionLevel);
-        
-        // Update crystal
-        updateCrystalCorruption(player, state);
-        
-        // Play effects
-        ParticleManager.playCrystalCorruptionEffect(player);
-        SoundManager.playCrystalCorruptionSound(player);
-        
-        // Notify player
-        MessageManager.sendNotification(player, 
-            MessageManager.get("crystal.corruption").replace("%level%", String.valueOf(state.corruptionLevel)),
-            MessageManager.NotificationType.ERROR);
-        
-        // Check for crystal destruction
-        if (state.corruptionLevel >= maxCorruptionLevel) {
-            destroyCrystal(player);
-        }
-    }
-    
-    /**
-     * Updates a crystal's decay level.
-     */
-    private void updateCrystalDecay(Player player, DecayState state) {
-        ItemStack crystal = getPlayerCrystal(player);
-        if (crystal == null) return;
-        
-        ItemMeta meta = crystal.getItemMeta();
-        if (meta == null) return;
-        
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-        container.set(KEY_DECAY_LEVEL, PersistentDataType.INTEGER, state.decayLevel);
-        
-        // Update lore
-        updateCrystalLore(meta, state);
-        
-        crystal.setItemMeta(meta);
-    }
-    
-    /**
-     * Updates a crystal's corruption level.
-     */
-    private void updateCrystalCorruption(Player player, DecayState state) {
-        ItemStack crystal = getPlayerCrystal(player);
-        if (crystal == null) return;
-        
-        ItemMeta meta = crystal.getItemMeta();
-        if (meta == null) return;
-        
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-        container.set(KEY_CORRUPTION_LEVEL, PersistentDataType.INTEGER, state.corruptionLevel);
-        
-        // Update lore
-        updateCrystalLore(meta, state);
-        
-        crystal.setItemMeta(meta);
-    }
-    
-    /**
-     * Updates a crystal's lore to show decay and corruption levels.
-     */
-    private void updateCrystalLore(ItemMeta meta, DecayState state) {
-        List<String> lore = meta.getLore();
-        if (lore == null) {
-            lore = new ArrayList<>();
-        }
-        
-        // Remove old decay/corruption lore
-        lore.removeIf(line -> line.contains("Decay:") || line.contains("Corruption:"));
-        
-        // Add new decay lore
-        lore.add(ChatColor.GRAY + "Decay: " + getDecayColor(state.decayLevel) + 
-                String.valueOf(state.decayLevel) + "/" + maxDecayLevel);
-        
-        // Add corruption lore if any
-        if (state.corruptionLevel > 0) {
-            lore.add(ChatColor.DARK_RED + "Corruption: " + 
-                    String.valueOf(state.corruptionLevel) + "/" + maxCorruptionLevel);
-        }
-        
-        meta.setLore(lore);
-    }
-    
-    /**
-     * Gets the color for decay level display.
-     */
-    private ChatColor getDecayColor(int level) {
-        return switch (level) {
-            case 0 -> ChatColor.GREEN;
-            case 1, 2 -> ChatColor.YELLOW;
-            case 3, 4 -> ChatColor.RED;
-            default -> ChatColor.DARK_RED;
-        };
-    }
-    
-    /**
-     * Destroys a corrupted crystal.
-     */
-    private void destroyCrystal(Player player) {
-        ItemStack crystal = getPlayerCrystal(player);
-        if (crystal == null) return;
-        
-        // Remove crystal
-        player.getInventory().remove(crystal);
-        
-        // Play effects
-        ParticleManager.playCrystalDestructionEffect(player);
-        SoundManager.playCrystalDestructionSound(player);
-        
-        // Notify player
-        MessageManager.sendNotification(player, 
-            MessageManager.get("crystal.destroyed"),
-            MessageManager.NotificationType.ERROR);
-        
-        // Clean up decay state
-        cleanupDecay(player);
-    }
-    
-    /**
-     * Gets a player's crystal.
-     */
-    private ItemStack getPlayerCrystal(Player player) {
-        Material crystalMaterial = Material.valueOf(config.getString("crystal.material", "DIAMOND"));
-        for (ItemStack item : player.getInventory().getContents()) {
-            if (item != null && item.getType() == crystalMaterial && CrystalManager.isCrystal(item)) {
-                return item;
-            }
-        }
-        return null;
-    }
-    
-    /**
-     * Cleans up decay tracking for a player.
-     */
-    public void cleanupDecay(Player player) {
-        UUID playerId = player.getUniqueId();
-        
-        // Cancel decay task
-        BukkitTask task = decayTasks.remove(playerId);
-        if (task != null) {
-            task.cancel();
-        }
-        
-        // Remove decay state
-        decayStates.remove(playerId);
-    }
-    
-    /**
-     * Gets the decay level of a crystal.
-     */
-    public static int getDecayLevel(ItemStack crystal) {
-        if (!CrystalManager.isCrystal(crystal)) return 0;
-        
-        ItemMeta meta = crystal.getItemMeta();
-        if (meta == null) return 0;
-        
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-        return container.getOrDefault(KEY_DECAY_LEVEL, PersistentDataType.INTEGER, 0);
-    }
-    
-    /**
-     * Gets the corruption level of a crystal.
-     */
-    public static int getCorruptionLevel(ItemStack crystal) {
-        if (!CrystalManager.isCrystal(crystal)) return 0;
-        
-        ItemMeta meta = crystal.getItemMeta();
-        if (meta == null) return 0;
-        
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-        return container.getOrDefault(KEY_CORRUPTION_LEVEL, PersistentDataType.INTEGER, 0);
-    }
-    
-    /**
-     * Cleans up all decay tracking.
-     * Should be called on plugin disable.
-     */
-    public void cleanup() {
-        // Cancel all decay tasks
-        decayTasks.values().forEach(BukkitTask::cancel);
-        decayTasks.clear();
-        
-        // Clear all decay states
-        decayStates.clear();
-    }
-    
-    /**
-     * Holds the decay state for a crystal.
-     */
-    private static class DecayState {
-        int decayLevel = 0;
-        int corruptionLevel = 0;
-    }
-} 
\ No newline at end of file
+package dev.lsdmc.arcaniteCrystals.manager;
+
+import dev.lsdmc.arcaniteCrystals.ArcaniteCrystals;
+import dev.lsdmc.arcaniteCrystals.config.ConfigManager;
+import dev.lsdmc.arcaniteCrystals.util.MessageManager;
+import dev.lsdmc.arcaniteCrystals.util.ParticleManager;
+import dev.lsdmc.arcaniteCrystals.util.SoundManager;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Manages crystal decay and corruption mechanics with proper tracking and effects.
+ * <p>
+ * Tracked crystals are indexed by crystal id. Every {@code crystal.decay.interval} seconds a
+ * crystal rolls {@code crystal.decay.chance} to decay and, once fully decayed,
+ * {@code crystal.decay.corruption-chance} to corrupt. Instead of rolling each interval, the
+ * interval of the next success is drawn up front from the geometric distribution and the crystal
+ * waits on a single {@link TimerWheel} until then, so crystals between events cost nothing.
+ * <p>
+ * Dormant: the plugin never creates this manager, so no crystal decays or corrupts and the wheel
+ * task never starts. Enabling it would change gameplay, so it needs a decision and a config switch
+ * of its own, plus calls to {@link #initializeDecay} on equip, {@link #cleanupDecay} on quit and
+ * {@link #cleanup} on disable.
+ */
+public class CrystalDecayManager {
+    private static final long NEVER = Long.MAX_VALUE;
+    
+    // Only touched on the main thread
+    private static final Map<String, DecayState> decayStates = new HashMap<>();
+    private static final Map<UUID, Set<String>> crystalsByPlayer = new HashMap<>();
+    private static TimerWheel<DecayState> wheel;
+    private static BukkitTask wheelTask;
+    
+    private static final NamespacedKey KEY_DECAY_LEVEL = new NamespacedKey(ArcaniteCrystals.getInstance(), "decay_level");
+    private static final NamespacedKey KEY_CORRUPTION_LEVEL = new NamespacedKey(ArcaniteCrystals.getInstance(), "corruption_level");
+    
+    private static final AtomicLong decayEvents = new AtomicLong();
+    private static final AtomicLong corruptionEvents = new AtomicLong();
+    
+    private final FileConfiguration config;
+    private final int decayInterval;
+    private final long intervalTicks;
+    private final double decayChance;
+    private final double corruptionChance;
+    private final int maxDecayLevel;
+    private final int maxCorruptionLevel;
+    private final Material crystalMaterial;
+    
+    public CrystalDecayManager() {
+        this.config = ConfigManager.getConfig();
+        this.decayInterval = config.getInt("crystal.decay.interval", 300); // 5 minutes
+        this.intervalTicks = Math.max(1, decayInterval * 20L);
+        this.decayChance = config.getDouble("crystal.decay.chance", 0.1); // 10%
+        this.corruptionChance = config.getDouble("crystal.decay.corruption-chance", 0.05); // 5%
+        this.maxDecayLevel = config.getInt("crystal.decay.max-level", 5);
+        this.maxCorruptionLevel = config.getInt("crystal.decay.max-corruption", 3);
+        Material material = Material.matchMaterial(config.getString("crystal.material", "DIAMOND"));
+        this.crystalMaterial = material != null ? material : Material.DIAMOND;
+    }
+    
+    /**
+     * Initializes decay tracking for a player's crystal.
+     */
+    public void initializeDecay(Player player, ItemStack crystal) {
+        String crystalId = CrystalManager.getCrystalId(crystal);
+        if (crystalId == null) return;
+        
+        UUID playerId = player.getUniqueId();
+        DecayState previous = decayStates.get(crystalId);
+        if (previous != null) {
+            untrack(previous);
+        }
+        
+        // Continue from the levels already on the item
+        DecayState state = new DecayState(crystalId, playerId);
+        state.decayLevel = getDecayLevel(crystal);
+        state.corruptionLevel = getCorruptionLevel(crystal);
+        state.nextDecayRound = nextSuccess(0, decayChance);
+        state.nextCorruptionRound = state.decayLevel >= maxDecayLevel ? nextSuccess(0, corruptionChance) : NEVER;
+        
+        decayStates.put(crystalId, state);
+        crystalsByPlayer.computeIfAbsent(playerId, id -> new HashSet<>()).add(crystalId);
+        
+        startWheel();
+        state.origin = wheel.now();
+        schedule(state);
+    }
+    
+    /**
+     * Starts the shared wheel task if it is not running.
+     */
+    private void startWheel() {
+        if (wheelTask != null) return;
+        
+        wheel = new TimerWheel<>(0);
+        wheelTask = Bukkit.getScheduler().runTaskTimer(ArcaniteCrystals.getInstance(),
+                () -> wheel.advance(wheel.now() + 1, this::processRound), 1L, 1L);
+    }
+    
+    /**
+     * Returns the first round after {@code round} in which a roll with the given chance succeeds.
+     */
+    private static long nextSuccess(long round, double chance) {
+        if (chance <= 0) return NEVER;
+        if (chance >= 1) return round + 1;
+        
+        // Inverse CDF of the geometric distribution: rolls up to and including the first success
+        double u = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        double rolls = Math.floor(Math.log(u) / Math.log1p(-chance)) + 1;
+        return rolls > 1e12 ? NEVER : round + (long) rolls;
+    }
+    
+    private void schedule(DecayState state) {
+        long round = Math.min(state.nextDecayRound, state.nextCorruptionRound);
+        if (round == NEVER) {
+            wheel.cancel(state);
+            return;
+        }
+        wheel.schedule(state, state.origin + round * intervalTicks);
+    }
+    
+    /**
+     * Applies the decay and corruption due in a crystal's current round.
+     */
+    private void processRound(DecayState state) {
+        Player player = Bukkit.getPlayer(state.playerId);
+        ItemStack crystal = player != null ? getPlayerCrystal(player, state.crystalId) : null;
+        if (crystal == null) {
+            // Crystals only decay while their owner carries them
+            untrack(state);
+            return;
+        }
+        
+        long round = Math.min(state.nextDecayRound, state.nextCorruptionRound);
+        if (round == state.nextDecayRound) {
+            processDecay(player, crystal, state);
+            state.nextDecayRound = nextSuccess(round, decayChance);
+            
+            // Corruption rolls start in the round the crystal becomes fully decayed
+            if (state.decayLevel >= maxDecayLevel && state.nextCorruptionRound == NEVER) {
+                state.nextCorruptionRound = nextSuccess(round - 1, corruptionChance);
+            }
+        }
+        
+        if (round == state.nextCorruptionRound) {
+            if (processCorruption(player, crystal, state)) return;
+            state.nextCorruptionRound = nextSuccess(round, corruptionChance);
+        }
+        
+        schedule(state);
+    }
+    
+    /**
+     * Processes decay for a player's crystal.
+     */
+    private void processDecay(Player player, ItemStack crystal, DecayState state) {
+        decayEvents.incrementAndGet();
+        
+        // Increase decay level
+        state.decayLevel = Math.min(state.decayLevel + 1, maxDecayLevel);
+        
+        // Update crystal
+        updateCrystalDecay(crystal, state);
+        
+        // Play effects
+        ParticleManager.playCrystalDecayEffect(player);
+        SoundManager.playCrystalDecaySound(player);
+        
+        // Notify player
+        MessageManager.sendNotification(player,
+            MessageManager.get("crystal.decay").replace("%level%", String.valueOf(state.decayLevel)),
+            MessageManager.NotificationType.WARNING);
+    }
+    
+    /**
+     * Processes corruption for a player's crystal.
+     *
+     * @return true if the crystal was destroyed
+     */
+    private boolean processCorruption(Player player, ItemStack crystal, DecayState state) {
+        corruptionEvents.incrementAndGet();
+        
+        // Increase corruption level
+        state.corruptionLevel = Math.min(state.corruptionLevel + 1, maxCorruptionLevel);
+        
+        // Update crystal
+        updateCrystalCorruption(crystal, state);
+        
+        // Play effects
+        ParticleManager.playCrystalCorruptionEffect(player);
+        SoundManager.playCrystalCorruptionSound(player);
+        
+        // Notify player
+        MessageManager.sendNotification(player,
+            MessageManager.get("crystal.corruption").replace("%level%", String.valueOf(state.corruptionLevel)),
+            MessageManager.NotificationType.ERROR);
+        
+        // Check for crystal destruction
+        if (state.corruptionLevel >= maxCorruptionLevel) {
+            destroyCrystal(player, crystal, state);
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * Updates a crystal's decay level.
+     */
+    private void updateCrystalDecay(ItemStack crystal, DecayState state) {
+        ItemMeta meta = crystal.getItemMeta();
+        if (meta == null) return;
+        
+        PersistentDataContainer container = meta.getPersistentDataContainer();
+        container.set(KEY_DECAY_LEVEL, PersistentDataType.INTEGER, state.decayLevel);
+        
+        // Update lore
+        updateCrystalLore(meta, state);
+        
+        crystal.setItemMeta(meta);
+    }
+    
+    /**
+     * Updates a crystal's corruption level.
+     */
+    private void updateCrystalCorruption(ItemStack crystal, DecayState state) {
+        ItemMeta meta = crystal.getItemMeta();
+        if (meta == null) return;
+        
+        PersistentDataContainer container = meta.getPersistentDataContainer();
+        container.set(KEY_CORRUPTION_LEVEL, PersistentDataType.INTEGER, state.corruptionLevel);
+        
+        // Update lore
+        updateCrystalLore(meta, state);
+        
+        crystal.setItemMeta(meta);
+    }
+    
+    /**
+     * Updates a crystal's lore to show decay and corruption levels.
+     */
+    private void updateCrystalLore(ItemMeta meta, DecayState state) {
+        List<String> lore = meta.getLore();
+        if (lore == null) {
+            lore = new ArrayList<>();
+        }
+        
+        // Remove old decay/corruption lore
+        lore.removeIf(line -> line.contains("Decay:") || line.contains("Corruption:"));
+        
+        // Add new decay lore
+        lore.add(ChatColor.GRAY + "Decay: " + getDecayColor(state.decayLevel) +
+                String.valueOf(state.decayLevel) + "/" + maxDecayLevel);
+        
+        // Add corruption lore if any
+        if (state.corruptionLevel > 0) {
+            lore.add(ChatColor.DARK_RED + "Corruption: " +
+                    String.valueOf(state.corruptionLevel) + "/" + maxCorruptionLevel);
+        }
+        
+        meta.setLore(lore);
+    }
+    
+    /**
+     * Gets the color for decay level display.
+     */
+    private ChatColor getDecayColor(int level) {
+        return switch (level) {
+            case 0 -> ChatColor.GREEN;
+            case 1, 2 -> ChatColor.YELLOW;
+            case 3, 4 -> ChatColor.RED;
+            default -> ChatColor.DARK_RED;
+        };
+    }
+    
+    /**
+     * Destroys a corrupted crystal.
+     */
+    private void destroyCrystal(Player player, ItemStack crystal, DecayState state) {
+        // Remove crystal
+        player.getInventory().remove(crystal);
+        
+        // Play effects
+        ParticleManager.playCrystalDestructionEffect(player);
+        SoundManager.playCrystalDestructionSound(player);
+        
+        // Notify player
+        MessageManager.sendNotification(player,
+            MessageManager.get("crystal.destroyed"),
+            MessageManager.NotificationType.ERROR);
+        
+        // Clean up decay state
+        untrack(state);
+    }
+    
+    /**
+     * Finds the tracked crystal in a player's inventory, checking the off-hand first.
+     */
+    private ItemStack getPlayerCrystal(Player player, String crystalId) {
+        ItemStack offHand = player.getInventory().getItemInOffHand();
+        if (isTrackedCrystal(offHand, crystalId)) {
+            return offHand;
+        }
+        for (ItemStack item : player.getInventory().getContents()) {
+            if (isTrackedCrystal(item, crystalId)) {
+                return item;
+            }
+        }
+        return null;
+    }
+    
+    private boolean isTrackedCrystal(ItemStack item, String crystalId) {
+        return item != null && item.getType() == crystalMaterial && CrystalManager.isCrystal(item)
+                && crystalId.equals(CrystalManager.getCrystalId(item));
+    }
+    
+    private static void untrack(DecayState state) {
+        decayStates.remove(state.crystalId);
+        if (wheel != null) {
+            wheel.cancel(state);
+        }
+        Set<String> crystals = crystalsByPlayer.get(state.playerId);
+        if (crystals != null) {
+            crystals.remove(state.crystalId);
+            if (crystals.isEmpty()) {
+                crystalsByPlayer.remove(state.playerId);
+            }
+        }
+    }
+    
+    /**
+     * Cleans up decay tracking for a player.
+     */
+    public void cleanupDecay(Player player) {
+        Set<String> crystals = crystalsByPlayer.remove(player.getUniqueId());
+        if (crystals == null) return;
+        
+        for (String crystalId : crystals) {
+            DecayState state = decayStates.remove(crystalId);
+            if (state != null && wheel != null) {
+                wheel.cancel(state);
+            }
+        }
+    }
+    
+    /**
+     * Gets the decay level of a crystal.
+     */
+    public static int getDecayLevel(ItemStack crystal) {
+        if (!CrystalManager.isCrystal(crystal)) return 0;
+        
+        ItemMeta meta = crystal.getItemMeta();
+        if (meta == null) return 0;
+        
+        PersistentDataContainer container = meta.getPersistentDataContainer();
+        return container.getOrDefault(KEY_DECAY_LEVEL, PersistentDataType.INTEGER, 0);
+    }
+    
+    /**
+     * Gets the corruption level of a crystal.
+     */
+    public static int getCorruptionLevel(ItemStack crystal) {
+        if (!CrystalManager.isCrystal(crystal)) return 0;
+        
+        ItemMeta meta = crystal.getItemMeta();
+        if (meta == null) return 0;
+        
+        PersistentDataContainer container = meta.getPersistentDataContainer();
+        return container.getOrDefault(KEY_CORRUPTION_LEVEL, PersistentDataType.INTEGER, 0);
+    }
+    
+    public static String getStats() {
+        return String.format("Tracked: %d, Scheduled: %d, Decays: %d, Corruptions: %d",
+                decayStates.size(), wheel != null ? wheel.size() : 0, decayEvents.get(), corruptionEvents.get());
+    }
+    
+    /**
+     * Cleans up all decay tracking.
+     * Should be called on plugin disable.
+     */
+    public void cleanup() {
+        // Stop the wheel task
+        if (wheelTask != null) {
+            wheelTask.cancel();
+            wheelTask = null;
+        }
+        if (wheel != null) {
+            wheel.clear();
+            wheel = null;
+        }
+        
+        // Clear all decay states
+        decayStates.clear();
+        crystalsByPlayer.clear();
+    }
+    
+    /**
+     * Holds the decay state for a crystal, and its place on the wheel.
+     */
+    private static class DecayState extends TimerWheel.Timer {
+        final String crystalId;
+        final UUID playerId;
+        int decayLevel = 0;
+        int corruptionLevel = 0;
+        
+        // Rounds are counted in decay intervals from origin, the tick tracking started
+        long origin;
+        long nextDecayRound;
+        long nextCorruptionRound;
+        
+        DecayState(String crystalId, UUID playerId) {
+            this.crystalId = crystalId;
+            this.playerId = playerId;
+        }
+    }
+}
@@ -1,205 +1,343 @@
-package dev.lsdmc.arcaniteCrystals.manager;
-
-import dev.lsdmc.arcaniteCrystals.ArcaniteCrystals;
-import dev.lsdmc.arcaniteCrystals.util.ParticleManager;
-import dev.lsdmc.arcaniteCrystals.util.SoundManager;
-import org.bukkit.Bukkit;
-import org.bukkit.NamespacedKey;
-import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.persistence.PersistentDataContainer;
-import org.bukkit.persistence.PersistentDataType;
-import org.bukkit.scheduler.BukkitTask;
-
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.logging.Logger;
-
-/**
- * Manages crystal energy regeneration mechanics.
- */
-public class CrystalEnergyRegenManager {
-    private static final Map<UUID, Map<String, RegenState>> regenStates = new ConcurrentHashMap<>();
-    private static final Map<String, BukkitTask> regenTasks = new ConcurrentHashMap<>();
-    private static final Logger logger = ArcaniteCrystals.getInstance().getLogger();
-    
-    private static final NamespacedKey KEY_CRYSTAL_ID = new NamespacedKey(ArcaniteCrystals.getInstance(), "crystal_id");
-    private static final NamespacedKey KEY_ENERGY = new NamespacedKey(ArcaniteCrystals.getInstance(), "energy");
-    private static final NamespacedKey KEY_MAX_ENERGY = new NamespacedKey(ArcaniteCrystals.getInstance(), "max_energy");
-    
-    private static final int REGEN_CHECK_INTERVAL = 20 * 5; // 5 seconds
-    private static final int BASE_REGEN_AMOUNT = 1;
-    private static final double REGEN_MULTIPLIER = 1.0;
-    
-    /**
-     * Represents the regeneration state of a crystal.
-     */
-    public static class RegenState {
-        private final String crystalId;
-        private final int maxEnergy;
-        private int currentEnergy;
-        private long lastRegen;
-        private boolean isRegenerating;
-        
-        public RegenState(String crystalId, int maxEnergy) {
-            this.crystalId = crystalId;
-            this.maxEnergy = maxEnergy;
-            this.currentEnergy = maxEnergy;
-            this.lastRegen = System.currentTimeMillis();
-            this.isRegenerating = false;
-        }
-        
-        public String getCrystalId() { return crystalId; }
-        public int getMaxEnergy() { return maxEnergy; }
-        public int getCurrentEnergy() { return currentEnergy; }
-        public long getLastRegen() { return lastRegen; }
-        public boolean isRegenerating() { return isRegenerating; }
-        
-        public void setCurrentEnergy(int energy) {
-            this.currentEnergy = Math.min(maxEnergy, Math.max(0, energy));
-        }
-        
-        public void setLastRegen(long time) {
-            this.lastRegen = time;
-        }
-        
-        public void setRegenerating(boolean regenerating) {
-            this.isRegenerating = regenerating;
-        }
-    }
-    
-    /**
-     * Initializes regeneration tracking for a crystal.
-     */
-    public static void initializeCrystal(UUID playerId, String crystalId, int maxEnergy) {
-        Map<String, RegenState> states = regenStates.computeIfAbsent(playerId, k -> new ConcurrentHashMap<>());
-        states.put(crystalId, new RegenState(crystalId, maxEnergy));
-        
-        // Start regen task if not already running
-        if (!regenTasks.containsKey(crystalId)) {
-            startRegenTask(playerId, crystalId);
-        }
-    }
-    
-    /**
-     * Starts the regeneration task for a crystal.
-     */
-    private static void startRegenTask(UUID playerId, String crystalId) {
-        BukkitTask task = Bukkit.getScheduler().runTaskTimer(ArcaniteCrystals.getInstance(), () -> {
-            processRegeneration(playerId, crystalId);
-        }, REGEN_CHECK_INTERVAL, REGEN_CHECK_INTERVAL);
-        
-        regenTasks.put(crystalId, task);
-    }
-    
-    /**
-     * Processes energy regeneration for a crystal.
-     */
-    private static void processRegeneration(UUID playerId, String crystalId) {
-        Map<String, RegenState> states = regenStates.get(playerId);
-        if (states == null) return;
-        
-        RegenState state = states.get(crystalId);
-        if (state == null) return;
-        
-        if (state.getCurrentEnergy() >= state.getMaxEnergy()) {
-            state.setRegenerating(false);
-            return;
-        }
-        
-        // Calculate regeneration amount
-        int regenAmount = calculateRegenAmount(state);
-        state.setCurrentEnergy(state.getCurrentEnergy() + regenAmount);
-        state.setLastRegen(System.currentTimeMillis());
-        
-        // Update crystal item
-        Player player = Bukkit.getPlayer(playerId);
-        if (player != null) {
-            updateCrystalEnergy(player, crystalId, state.getCurrentEnergy());
-            
-            // Visual and sound effects
-            if (regenAmount > 0) {
-                ParticleManager.playCrystalRegenEffect(player);
-                SoundManager.playCrystalRegenSound(player);
-            }
-        }
-    }
-    
-    /**
-     * Calculates regeneration amount based on crystal state.
-     */
-    private static int calculateRegenAmount(RegenState state) {
-        double amount = BASE_REGEN_AMOUNT * REGEN_MULTIPLIER;
-        
-        // Add some randomness
-        amount *= (0.8 + Math.random() * 0.4);
-        
-        return (int) Math.ceil(amount);
-    }
-    
-    /**
-     * Updates the energy level of a crystal item.
-     */
-    private static void updateCrystalEnergy(Player player, String crystalId, int energy) {
-        for (ItemStack item : player.getInventory().getContents()) {
-            if (item == null || !item.hasItemMeta()) continue;
-            
-            PersistentDataContainer container = item.getItemMeta().getPersistentDataContainer();
-            String itemCrystalId = container.get(KEY_CRYSTAL_ID, PersistentDataType.STRING);
-            
-            if (crystalId.equals(itemCrystalId)) {
-                ItemMeta meta = item.getItemMeta();
-                container = meta.getPersistentDataContainer();
-                container.set(KEY_ENERGY, PersistentDataType.INTEGER, energy);
-                item.setItemMeta(meta);
-                break;
-            }
-        }
-    }
-    
-    /**
-     * Gets the regeneration state of a crystal.
-     */
-    public static RegenState getRegenState(UUID playerId, String crystalId) {
-        Map<String, RegenState> states = regenStates.get(playerId);
-        return states != null ? states.get(crystalId) : null;
-    }
-    
-    /**
-     * Sets the regeneration state of a crystal.
-     */
-    public static void setRegenState(UUID playerId, String crystalId, boolean regenerating) {
-        Map<String, RegenState> states = regenStates.get(playerId);
-        if (states == null) return;
-        
-        RegenState state = states.get(crystalId);
-        if (state == null) return;
-        
-        state.setRegenerating(regenerating);
-    }
-    
-    /**
-     * Cleans up regeneration tracking for a crystal.
-     */
-    public static void cleanupCrystal(UUID playerId, String crystalId) {
-        Map<String, RegenState> states = regenStates.get(playerId);
-        if (states != null) {
-            states.remove(crystalId);
-        }
-        
-        BukkitTask task = regenTasks.remove(crystalId);
-        if (task != null) {
-            task.cancel();
-        }
-    }
-    
-    /**
-     * Cleans up all regeneration tracking.
-     */
-    public static void cleanup() {
-        regenStates.clear();
-        regenTasks.values().forEach(BukkitTask::cancel);
-        regenTasks.clear();
-    }
-} 
\ No newline at end of file
+package dev.lsdmc.arcaniteCrystals.manager;
+
+import dev.lsdmc.arcaniteCrystals.ArcaniteCrystals;
+import dev.lsdmc.arcaniteCrystals.util.ParticleManager;
+import dev.lsdmc.arcaniteCrystals.util.SoundManager;
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Manages crystal energy regeneration mechanics.
+ * <p>
+ * Regeneration is never ticked. A crystal stores its energy, the time that energy was reached
+ * and its regeneration rate; the energy at any later time follows from those three values, so a
+ * crystal regenerates the same way in an inventory, a chest or while its owner is offline. The
+ * stored values are brought up to date on the item only when it is read through
+ * {@link #materialize(ItemStack)}, and one low-frequency sweep refreshes the crystals online
+ * players carry so their energy stays visible. Regeneration works on the crystal's own energy value,
+ * and any other write to it through {@link CrystalManager#storeEnergy} restarts accrual from there.
+ */
+public class CrystalEnergyRegenManager {
+    private static final Map<UUID, Map<String, RegenState>> regenStates = new ConcurrentHashMap<>();
+    private static final Map<String, RegenState> statesByCrystal = new ConcurrentHashMap<>();
+    private static BukkitTask sweepTask;
+    private static final Logger logger = ArcaniteCrystals.getInstance().getLogger();
+    
+    private static final NamespacedKey KEY_CRYSTAL_ID = new NamespacedKey(ArcaniteCrystals.getInstance(), "crystal_id");
+    private static final NamespacedKey KEY_ENERGY = CrystalManager.KEY_ENERGY;
+    private static final NamespacedKey KEY_MAX_ENERGY = new NamespacedKey(ArcaniteCrystals.getInstance(), "max_energy");
+    private static final NamespacedKey KEY_REGEN_SINCE = new NamespacedKey(ArcaniteCrystals.getInstance(), "energy_regen_since");
+    private static final NamespacedKey KEY_REGEN_RATE = new NamespacedKey(ArcaniteCrystals.getInstance(), "energy_regen_rate");
+    
+    private static final int REGEN_CHECK_INTERVAL = 20 * 5; // 5 seconds
+    private static final int BASE_REGEN_AMOUNT = 1;
+    private static final double REGEN_MULTIPLIER = 1.0;
+    private static final int SWEEP_INTERVAL = 20 * 15; // 15 seconds
+    
+    // Mean of the former per-interval roll, ceil(amount * [0.8, 1.2)), for whole amounts
+    private static final double REGEN_PER_INTERVAL = BASE_REGEN_AMOUNT * REGEN_MULTIPLIER + 0.5;
+    
+    /** Default regeneration rate, in energy per millisecond. */
+    public static final double DEFAULT_RATE = REGEN_PER_INTERVAL / (REGEN_CHECK_INTERVAL * 50.0);
+    
+    /**
+     * Represents the regeneration state of a crystal.
+     */
+    public static class RegenState {
+        private final String crystalId;
+        private final int maxEnergy;
+        private final double rate;
+        private int energy;
+        private long lastRegen;
+        private boolean isRegenerating;
+        private int shownEnergy;
+        
+        public RegenState(String crystalId, int maxEnergy) {
+            this(crystalId, maxEnergy, maxEnergy, System.currentTimeMillis(), DEFAULT_RATE);
+        }
+        
+        RegenState(String crystalId, int maxEnergy, int energy, long lastRegen, double rate) {
+            this.crystalId = crystalId;
+            this.maxEnergy = maxEnergy;
+            this.rate = rate;
+            this.energy = Math.min(maxEnergy, Math.max(0, energy));
+            this.lastRegen = lastRegen;
+            this.isRegenerating = true;
+            this.shownEnergy = this.energy;
+        }
+        
+        public String getCrystalId() { return crystalId; }
+        public int getMaxEnergy() { return maxEnergy; }
+        public double getRate() { return rate; }
+        public long getLastRegen() { return lastRegen; }
+        
+        public int getCurrentEnergy() {
+            return isRegenerating ? energyAt(energy, maxEnergy, lastRegen, rate, System.currentTimeMillis()) : energy;
+        }
+        
+        public boolean isRegenerating() {
+            return isRegenerating && getCurrentEnergy() < maxEnergy;
+        }
+        
+        public void setCurrentEnergy(int energy) {
+            this.energy = Math.min(maxEnergy, Math.max(0, energy));
+            this.lastRegen = System.currentTimeMillis();
+        }
+        
+        public void setLastRegen(long time) {
+            this.lastRegen = time;
+        }
+        
+        /**
+         * Pauses or resumes regeneration, keeping the energy gained so far.
+         */
+        public void setRegenerating(boolean regenerating) {
+            settle(System.currentTimeMillis());
+            this.isRegenerating = regenerating;
+        }
+        
+        // Folds the energy gained up to now into the stored value, keeping partial progress
+        private void settle(long now) {
+            if (isRegenerating) {
+                int current = energyAt(energy, maxEnergy, lastRegen, rate, now);
+                lastRegen = current >= maxEnergy ? now : lastRegen + sinceFor(current - energy, rate);
+                energy = current;
+            } else {
+                lastRegen = now;
+            }
+        }
+    }
+    
+    /**
+     * Energy reached at {@code now} by a crystal that had {@code energy} at {@code since}.
+     */
+    static int energyAt(int energy, int maxEnergy, long since, double rate, long now) {
+        if (energy >= maxEnergy || rate <= 0 || now <= since) return Math.min(energy, maxEnergy);
+        long gained = (long) Math.floor((now - since) * rate);
+        return (int) Math.min(maxEnergy, energy + gained);
+    }
+    
+    // Time needed to regenerate exactly {@code gained} energy
+    private static long sinceFor(int gained, double rate) {
+        return gained <= 0 ? 0 : (long) Math.ceil(gained / rate);
+    }
+    
+    /**
+     * Initializes regeneration tracking for a crystal.
+     */
+    public static void initializeCrystal(UUID playerId, String crystalId, int maxEnergy) {
+        Map<String, RegenState> states = regenStates.computeIfAbsent(playerId, k -> new ConcurrentHashMap<>());
+        RegenState state = new RegenState(crystalId, maxEnergy);
+        states.put(crystalId, state);
+        statesByCrystal.put(crystalId, state);
+        
+        // One sweep covers every tracked crystal
+        if (sweepTask == null) {
+            sweepTask = Bukkit.getScheduler().runTaskTimer(ArcaniteCrystals.getInstance(),
+                    CrystalEnergyRegenManager::sweep, SWEEP_INTERVAL, SWEEP_INTERVAL);
+        }
+    }
+    
+    /**
+     * Returns a crystal's current energy without writing to it.
+     */
+    public static int getEnergy(ItemStack crystal) {
+        if (crystal == null || !crystal.hasItemMeta()) return 0;
+        
+        PersistentDataContainer container = crystal.getItemMeta().getPersistentDataContainer();
+        String crystalId = container.get(KEY_CRYSTAL_ID, PersistentDataType.STRING);
+        RegenState state = crystalId != null ? statesByCrystal.get(crystalId) : null;
+        if (state != null) {
+            return state.getCurrentEnergy();
+        }
+        return energyAt(container.getOrDefault(KEY_ENERGY, PersistentDataType.INTEGER, 0),
+                container.getOrDefault(KEY_MAX_ENERGY, PersistentDataType.INTEGER, Integer.MAX_VALUE),
+                container.getOrDefault(KEY_REGEN_SINCE, PersistentDataType.LONG, Long.MAX_VALUE),
+                container.getOrDefault(KEY_REGEN_RATE, PersistentDataType.DOUBLE, DEFAULT_RATE),
+                System.currentTimeMillis());
+    }
+    
+    /**
+     * Brings the energy stored on a crystal up to date. Call when a crystal is read, equipped or
+     * shown, wherever it is kept.
+     *
+     * @return the crystal's current energy
+     */
+    public static int materialize(ItemStack crystal) {
+        if (crystal == null || !crystal.hasItemMeta()) return 0;
+        
+        ItemMeta meta = crystal.getItemMeta();
+        PersistentDataContainer container = meta.getPersistentDataContainer();
+        String crystalId = container.get(KEY_CRYSTAL_ID, PersistentDataType.STRING);
+        RegenState state = crystalId != null ? statesByCrystal.get(crystalId) : null;
+        if (state == null) {
+            Integer stored = container.get(KEY_ENERGY, PersistentDataType.INTEGER);
+            Long since = container.get(KEY_REGEN_SINCE, PersistentDataType.LONG);
+            Integer maxEnergy = container.get(KEY_MAX_ENERGY, PersistentDataType.INTEGER);
+            if (stored == null || since == null || maxEnergy == null) {
+                return stored != null ? stored : 0;
+            }
+            state = new RegenState(crystalId, maxEnergy, stored, since,
+                    container.getOrDefault(KEY_REGEN_RATE, PersistentDataType.DOUBLE, DEFAULT_RATE));
+        }
+        
+        state.settle(System.currentTimeMillis());
+        if (writeState(container, state)) {
+            crystal.setItemMeta(meta);
+        }
+        return state.energy;
+    }
+    
+    /**
+     * Restarts regeneration from energy just written to a crystal, so time before the write is not
+     * credited on top of it.
+     */
+    static void energyWritten(PersistentDataContainer container, int energy) {
+        String crystalId = container.get(KEY_CRYSTAL_ID, PersistentDataType.STRING);
+        RegenState state = crystalId != null ? statesByCrystal.get(crystalId) : null;
+        long now = System.currentTimeMillis();
+        if (state != null) {
+            state.setCurrentEnergy(energy);
+            state.shownEnergy = state.energy;
+            now = state.lastRegen;
+        }
+        if (container.has(KEY_REGEN_SINCE, PersistentDataType.LONG)) {
+            container.set(KEY_REGEN_SINCE, PersistentDataType.LONG, now);
+        }
+    }
+    
+    /**
+     * Writes a state's stored values to a crystal.
+     *
+     * @return true if anything changed
+     */
+    private static boolean writeState(PersistentDataContainer container, RegenState state) {
+        Integer stored = container.get(KEY_ENERGY, PersistentDataType.INTEGER);
+        Long since = container.get(KEY_REGEN_SINCE, PersistentDataType.LONG);
+        if (stored != null && stored == state.energy && since != null && since == state.lastRegen) {
+            return false;
+        }
+        container.set(KEY_ENERGY, PersistentDataType.INTEGER, state.energy);
+        container.set(KEY_MAX_ENERGY, PersistentDataType.INTEGER, state.maxEnergy);
+        container.set(KEY_REGEN_SINCE, PersistentDataType.LONG, state.lastRegen);
+        container.set(KEY_REGEN_RATE, PersistentDataType.DOUBLE, state.rate);
+        CrystalManager.markModified(container);
+        state.shownEnergy = state.energy;
+        return true;
+    }
+    
+    /**
+     * Refreshes the crystals online players carry whose energy has visibly changed.
+     */
+    private static void sweep() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<UUID, Map<String, RegenState>> entry : regenStates.entrySet()) {
+            Player player = Bukkit.getPlayer(entry.getKey());
+            if (player == null) continue;
+            
+            Map<String, RegenState> states = entry.getValue();
+            boolean changed = false;
+            for (RegenState state : states.values()) {
+                if (state.getCurrentEnergy() != state.shownEnergy) {
+                    changed = true;
+                    break;
+                }
+            }
+            if (!changed) continue;
+            
+            try {
+                if (updateCrystalEnergy(player, states, now)) {
+                    // Visual and sound effects
+                    ParticleManager.playCrystalRegenEffect(player);
+                    SoundManager.playCrystalRegenSound(player);
+                }
+            } catch (Exception e) {
+                logger.warning("Error refreshing crystal energy for " + player.getName() + ": " + e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Writes current energy to the player's tracked crystals, reading each item's meta once.
+     *
+     * @return true if any crystal gained energy
+     */
+    private static boolean updateCrystalEnergy(Player player, Map<String, RegenState> states, long now) {
+        boolean gained = false;
+        for (ItemStack item : player.getInventory().getContents()) {
+            if (item == null || !item.hasItemMeta()) continue;
+            
+            ItemMeta meta = item.getItemMeta();
+            PersistentDataContainer container = meta.getPersistentDataContainer();
+            String itemCrystalId = container.get(KEY_CRYSTAL_ID, PersistentDataType.STRING);
+            RegenState state = itemCrystalId != null ? states.get(itemCrystalId) : null;
+            if (state == null) continue;
+            
+            int shown = state.shownEnergy;
+            state.settle(now);
+            if (writeState(container, state)) {
+                item.setItemMeta(meta);
+                gained |= state.energy > shown;
+            }
+        }
+        return gained;
+    }
+    
+    /**
+     * Gets the regeneration state of a crystal.
+     */
+    public static RegenState getRegenState(UUID playerId, String crystalId) {
+        Map<String, RegenState> states = regenStates.get(playerId);
+        return states != null ? states.get(crystalId) : null;
+    }
+    
+    /**
+     * Sets the regeneration state of a crystal.
+     */
+    public static void setRegenState(UUID playerId, String crystalId, boolean regenerating) {
+        Map<String, RegenState> states = regenStates.get(playerId);
+        if (states == null) return;
+        
+        RegenState state = states.get(crystalId);
+        if (state == null) return;
+        
+        state.setRegenerating(regenerating);
+    }
+    
+    /**
+     * Cleans up regeneration tracking for a crystal. The crystal keeps regenerating from the values
+     * last written to it.
+     */
+    public static void cleanupCrystal(UUID playerId, String crystalId) {
+        Map<String, RegenState> states = regenStates.get(playerId);
+        if (states != null) {
+            states.remove(crystalId);
+            if (states.isEmpty()) {
+                regenStates.remove(playerId);
+            }
+        }
+        statesByCrystal.remove(crystalId);
+    }
+    
+    /**
+     * Cleans up all regeneration tracking.
+     */
+    public static void cleanup() {
+        regenStates.clear();
+        statesByCrystal.clear();
+        if (sweepTask != null) {
+            sweepTask.cancel();
+            sweepTask = null;
+        }
+    }
+}
@@ -0,0 +1,412 @@
+package dev.lsdmc.arcaniteCrystals.manager;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Append-only, segment-rotated log of crystal ownership and usage events.
+ * <p>
+ * Events are queued by the caller and written by a single background thread. Each record carries
+ * a pointer to the previous record of the same crystal, so a crystal's history is a chain that can
+ * be paged newest-first straight from disk. Segments roll over at {@code segmentBytes}; once the
+ * log holds more than {@code maxSegments} full segments of data the oldest files are deleted and
+ * chains simply end there. Retention counts bytes rather than files, so the short segments left by
+ * restarts do not push real history out early.
+ * <p>
+ * A pointer packs the segment number in the high 32 bits and the byte offset in the low 32.
+ */
+class CrystalEventLog {
+
+    static final byte OWNERSHIP = 0;
+    static final byte USAGE = 1;
+    static final byte DESTROYED = 2;
+
+    /**
+     * Links the writer thread to the index that stores each crystal's newest event.
+     */
+    interface Chain {
+        long lastEvent(int slot);
+
+        void setLastEvent(int slot, long pointer);
+    }
+
+    /**
+     * A decoded log record. {@code owner} is only set for ownership events, {@code details} only for usage.
+     */
+    static final class Event {
+        final int slot;
+        final byte type;
+        final long timestamp;
+        final UUID owner;
+        final String text;
+        final Map<String, String> details;
+
+        Event(int slot, byte type, long timestamp, UUID owner, String text, Map<String, String> details) {
+            this.slot = slot;
+            this.type = type;
+            this.timestamp = timestamp;
+            this.owner = owner;
+            this.text = text;
+            this.details = details;
+        }
+    }
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("events-(\\d+)\\.log");
+    private static final int MAX_BATCH = 256;
+
+    private final File directory;
+    private final long segmentBytes;
+    private final int maxSegments;
+    private final Chain chain;
+    private final Logger logger;
+
+    private final BlockingQueue<Event> queue = new LinkedBlockingQueue<>();
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    // Writer thread state
+    private DataOutputStream out;
+    private int segment;
+    private long segmentSize;
+    private volatile int firstSegment;
+    private long totalBytes;
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rotations = new AtomicLong();
+
+    CrystalEventLog(File directory, long segmentBytes, int maxSegments, Chain chain, Logger logger) throws IOException {
+        this.directory = directory;
+        // Offsets must fit the low half of a pointer
+        this.segmentBytes = Math.max(64 * 1024, Math.min(segmentBytes, Integer.MAX_VALUE));
+        this.maxSegments = Math.max(0, maxSegments);
+        this.chain = chain;
+        this.logger = logger;
+
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Could not create " + directory);
+        }
+        List<Integer> existing = listSegments();
+        this.firstSegment = existing.isEmpty() ? 0 : existing.get(0);
+        for (int number : existing) {
+            totalBytes += segmentFile(number).length();
+        }
+        // Start a fresh segment so nothing is ever appended after a torn tail, unless the last one is still empty
+        int next = existing.isEmpty() ? 0 : existing.get(existing.size() - 1);
+        if (!existing.isEmpty() && segmentFile(next).length() > 0) {
+            next++;
+        }
+        openSegment(next);
+        prune();
+
+        this.writerThread = new Thread(this::writerLoop, "arcanite-registry-log");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Queues an event for the writer. Null text and detail entries are written as empty strings;
+     * an ownership event without an owner cannot be encoded and is dropped.
+     */
+    void append(Event event) {
+        if (!running) {
+            failed.incrementAndGet();
+            return;
+        }
+        if (event.type == OWNERSHIP && event.owner == null) {
+            failed.incrementAndGet();
+            logger.warning("Dropped crystal ownership event without an owner for slot " + event.slot);
+            return;
+        }
+        queue.add(sanitize(event));
+    }
+
+    /**
+     * Walks a crystal's chain from {@code head}, skipping {@code skip} events of the given type
+     * and returning at most {@code limit} of them, newest first.
+     */
+    List<Event> read(long head, byte type, int skip, int limit) throws IOException {
+        List<Event> page = new ArrayList<>();
+        Map<Integer, RandomAccessFile> files = new HashMap<>();
+        try {
+            long pointer = head;
+            int skipped = 0;
+            while (pointer != CrystalRegistryIndex.NO_EVENT && page.size() < limit) {
+                int seg = (int) (pointer >>> 32);
+                if (seg < firstSegment) break;
+
+                RandomAccessFile file = files.get(seg);
+                if (file == null) {
+                    File segmentFile = segmentFile(seg);
+                    if (!segmentFile.exists()) break;
+                    file = new RandomAccessFile(segmentFile, "r");
+                    files.put(seg, file);
+                }
+
+                file.seek(pointer & 0xFFFFFFFFL);
+                byte[] body = new byte[file.readInt()];
+                file.readFully(body);
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+
+                byte recordType = in.readByte();
+                int slot = in.readInt();
+                long previous = in.readLong();
+                long timestamp = in.readLong();
+                if (recordType == type) {
+                    if (skipped < skip) {
+                        skipped++;
+                    } else {
+                        page.add(decode(in, slot, recordType, timestamp));
+                    }
+                }
+                pointer = previous;
+            }
+        } finally {
+            for (RandomAccessFile file : files.values()) {
+                file.close();
+            }
+        }
+        return page;
+    }
+
+    void shutdown() {
+        running = false;
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            logger.warning("Crystal event log writer did not stop in time; " + queue.size() + " events dropped");
+            return;
+        }
+        closeSegment();
+    }
+
+    int getQueueDepth() {
+        return queue.size();
+    }
+
+    String getStats() {
+        return String.format("Segments: %d-%d, Events: %d, Queued: %d, Failed: %d, Rotations: %d",
+                firstSegment, segment, written.get(), queue.size(), failed.get(), rotations.get());
+    }
+
+    private void writerLoop() {
+        List<Event> batch = new ArrayList<>();
+        while (true) {
+            try {
+                Event first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    if (!running) break;
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<Event> batch) {
+        // Pointers become visible only after the batch is flushed, so readers never chase unwritten records
+        Map<Integer, Long> heads = new LinkedHashMap<>();
+        int count = 0;
+        try {
+            for (Event event : batch) {
+                if (segmentSize >= segmentBytes) {
+                    out.flush();
+                    publish(heads);
+                    rotate();
+                }
+                Long pending = heads.get(event.slot);
+                long previous = pending != null ? pending : chain.lastEvent(event.slot);
+                long pointer = ((long) segment << 32) | segmentSize;
+
+                // Encode before writing so a bad event is skipped without tearing the segment
+                byte[] body;
+                try {
+                    body = encode(event, previous);
+                } catch (IOException | RuntimeException e) {
+                    failed.incrementAndGet();
+                    logger.warning("Dropped unencodable crystal event for slot " + event.slot + ": " + e);
+                    continue;
+                }
+                out.writeInt(body.length);
+                out.write(body);
+                segmentSize += Integer.BYTES + body.length;
+                totalBytes += Integer.BYTES + body.length;
+                heads.put(event.slot, pointer);
+                count++;
+            }
+            out.flush();
+            publish(heads);
+            written.addAndGet(count);
+        } catch (IOException | RuntimeException e) {
+            // Keep the writer alive; only this batch is lost
+            failed.addAndGet(batch.size() - count);
+            logger.log(Level.WARNING, "Failed to write crystal events", e);
+        }
+    }
+
+    private static Event sanitize(Event event) {
+        Map<String, String> details = event.details;
+        boolean clean = details != null;
+        if (clean) {
+            for (Map.Entry<String, String> entry : details.entrySet()) {
+                if (entry.getKey() == null || entry.getValue() == null) {
+                    clean = false;
+                    break;
+                }
+            }
+        }
+        if (clean && event.text != null) return event;
+
+        Map<String, String> copy = new LinkedHashMap<>();
+        if (details != null) {
+            details.forEach((key, value) -> copy.put(String.valueOf(key), value == null ? "" : value));
+        }
+        return new Event(event.slot, event.type, event.timestamp, event.owner,
+                event.text == null ? "" : event.text, copy);
+    }
+
+    private void publish(Map<Integer, Long> heads) {
+        heads.forEach(chain::setLastEvent);
+        heads.clear();
+    }
+
+    private static byte[] encode(Event event, long previous) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream body = new DataOutputStream(bytes);
+        body.writeByte(event.type);
+        body.writeInt(event.slot);
+        body.writeLong(previous);
+        body.writeLong(event.timestamp);
+        switch (event.type) {
+            case OWNERSHIP -> {
+                body.writeLong(event.owner.getMostSignificantBits());
+                body.writeLong(event.owner.getLeastSignificantBits());
+                body.writeUTF(event.text);
+            }
+            case USAGE -> {
+                body.writeUTF(event.text);
+                body.writeShort(event.details.size());
+                for (Map.Entry<String, String> entry : event.details.entrySet()) {
+                    body.writeUTF(entry.getKey());
+                    body.writeUTF(entry.getValue());
+                }
+            }
+            default -> body.writeUTF(event.text);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Event decode(DataInputStream in, int slot, byte type, long timestamp) throws IOException {
+        switch (type) {
+            case OWNERSHIP -> {
+                UUID owner = new UUID(in.readLong(), in.readLong());
+                return new Event(slot, type, timestamp, owner, in.readUTF(), Collections.emptyMap());
+            }
+            case USAGE -> {
+                String action = in.readUTF();
+                int count = in.readUnsignedShort();
+                Map<String, String> details = new LinkedHashMap<>();
+                for (int i = 0; i < count; i++) {
+                    details.put(in.readUTF(), in.readUTF());
+                }
+                return new Event(slot, type, timestamp, null, action, details);
+            }
+            default -> {
+                return new Event(slot, type, timestamp, null, in.readUTF(), Collections.emptyMap());
+            }
+        }
+    }
+
+    private void rotate() throws IOException {
+        closeSegment();
+        openSegment(segment + 1);
+        rotations.incrementAndGet();
+
+        prune();
+    }
+
+    private void prune() {
+        if (maxSegments <= 0) return;
+
+        long budget = maxSegments * segmentBytes;
+        while (totalBytes > budget && firstSegment < segment) {
+            int oldest = firstSegment;
+            // Advance first so concurrent readers stop before the file disappears
+            firstSegment = oldest + 1;
+            File file = segmentFile(oldest);
+            long length = file.length();
+            if (file.exists() && !file.delete()) {
+                logger.warning("Could not delete old crystal event segment " + file.getName());
+                continue;
+            }
+            totalBytes -= length;
+        }
+    }
+
+    private void openSegment(int number) throws IOException {
+        segment = number;
+        segmentSize = 0;
+        out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(segmentFile(number), true), 64 * 1024));
+    }
+
+    private void closeSegment() {
+        if (out == null) return;
+        try {
+            out.close();
+        } catch (IOException e) {
+            logger.warning("Error closing crystal event segment: " + e.getMessage());
+        }
+        out = null;
+    }
+
+    private List<Integer> listSegments() {
+        List<Integer> segments = new ArrayList<>();
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                Matcher matcher = SEGMENT_NAME.matcher(file.getName());
+                if (matcher.matches()) {
+                    segments.add(Integer.parseInt(matcher.group(1)));
+                }
+            }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    private File segmentFile(int number) {
+        return new File(directory, String.format("events-%08d.log", number));
+    }
+}
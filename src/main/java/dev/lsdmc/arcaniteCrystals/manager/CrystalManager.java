@@ -4,6 +4,8 @@ package dev.lsdmc.arcaniteCrystals.manager;
 import dev.lsdmc.arcaniteCrystals.ArcaniteCrystals;
 import dev.lsdmc.arcaniteCrystals.config.ConfigManager;
 import dev.lsdmc.arcaniteCrystals.database.PlayerDataManager;
+import dev.lsdmc.arcaniteCrystals.model.CrystalState;
+import dev.lsdmc.arcaniteCrystals.placeholder.PlaceholderCache;
 import dev.lsdmc.arcaniteCrystals.util.EffectUtils;
 import dev.lsdmc.arcaniteCrystals.util.MessageManager;
 import dev.lsdmc.arcaniteCrystals.util.ParticleManager;
@@ -22,14 +24,13 @@ import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 
 /**
  * Comprehensive crystal management system handling activation, energy, cooldowns,
@@ -49,11 +50,23 @@ public class CrystalManager {
     private static final NamespacedKey CRYSTAL_CREATED_KEY = new NamespacedKey(ArcaniteCrystals.getInstance(), "crystal_created");
     private static final NamespacedKey CRYSTAL_ACTIVATED_KEY = new NamespacedKey(ArcaniteCrystals.getInstance(), "crystal_activated");
     private static final NamespacedKey CRYSTAL_TYPE_KEY = new NamespacedKey(ArcaniteCrystals.getInstance(), "crystal_type");
+    private static final NamespacedKey CRYSTAL_VERSION_KEY = new NamespacedKey(ArcaniteCrystals.getInstance(), "crystal_version");
     
-    // Active crystal tracking
-    private static final Map<UUID, ItemStack> activeCrystals = new ConcurrentHashMap<>();
-    private static final Map<UUID, Long> lastEffectTick = new ConcurrentHashMap<>();
     private static final Random random = new Random();
+    private static final Gson gson = new Gson();
+    
+    // Decoded states by crystal id; an entry is only used if its version stamp matches the item's
+    private static final int STATE_CACHE_SIZE = 4096;
+    private static final Map<String, CrystalState> stateCache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CrystalState> eldest) {
+            return size() > STATE_CACHE_SIZE;
+        }
+    };
+    // Seeded from the clock so stamps from a previous run are never reissued
+    private static final AtomicLong versionClock = new AtomicLong(System.currentTimeMillis() << 16);
+    private static final AtomicLong stateHits = new AtomicLong();
+    private static final AtomicLong stateDecodes = new AtomicLong();
     
     // Configuration cache
     private static int maxEnergy;
@@ -80,14 +93,8 @@ public class CrystalManager {
             rechargeMaterial = Material.matchMaterial(rechargeName);
             if (rechargeMaterial == null) rechargeMaterial = Material.QUARTZ;
             
-            // Start energy drain task
-            startEnergyDrainTask();
-            
-            // Start aura effect task
-            startAuraEffectTask();
-            
-            // Start effect applier
-            EffectApplierManager.start(ArcaniteCrystals.getInstance());
+            // Start the crystal runtime (drain, effects, aura and lore in one tick loop)
+            CrystalRuntime.start();
             
             ArcaniteCrystals.getInstance().getLogger().info("CrystalManager initialized successfully");
         } catch (Exception e) {
@@ -130,39 +137,153 @@ public class CrystalManager {
      * Checks if an item is an Arcanite Crystal.
      */
     public static boolean isCrystal(ItemStack item) {
-        if (item == null || !item.hasItemMeta()) return false;
-        try {
-            return item.getItemMeta().getPersistentDataContainer().has(KEY_CRYSTAL, PersistentDataType.BYTE);
-        } catch (Exception e) {
-            return false;
-        }
+        return getState(item) != null;
     }
 
     /**
      * Checks if a crystal is activated.
      */
     public static boolean isActivatedCrystal(ItemStack crystal) {
-        if (!isCrystal(crystal)) return false;
-        
-        ItemMeta meta = crystal.getItemMeta();
-        if (meta == null) return false;
-        
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-        return container.has(CRYSTAL_ACTIVATED_KEY, PersistentDataType.BYTE) &&
-               container.get(CRYSTAL_ACTIVATED_KEY, PersistentDataType.BYTE) == 1;
+        CrystalState state = getState(crystal);
+        return state != null && state.isActivated();
     }
 
     /**
      * Checks if a crystal is depleted (has no energy).
      */
     public static boolean isDepletedCrystal(ItemStack item) {
-        if (!isCrystal(item)) return false;
+        CrystalState state = getState(item);
+        return state != null && state.hasEnergy() && state.getEnergy() <= 0;
+    }
+    
+    /**
+     * Returns the decoded state of a crystal, or null if the item is not an Arcanite Crystal.
+     * <p>
+     * Stamped crystals with an id are decoded once and served from the state cache until their
+     * version stamp changes; anything else is decoded on every call.
+     */
+    public static CrystalState getState(ItemStack item) {
+        if (item == null || !item.hasItemMeta()) return null;
+        return getState(item.getItemMeta());
+    }
+    
+    /**
+     * Returns the decoded state of a crystal from meta the caller already holds. getItemMeta()
+     * copies the meta, so an operation that also writes the item should fetch it once and use this.
+     */
+    public static CrystalState getState(ItemMeta meta) {
+        if (meta == null) return null;
         try {
-            Integer energy = item.getItemMeta().getPersistentDataContainer().get(KEY_ENERGY, PersistentDataType.INTEGER);
-            return energy != null && energy <= 0;
+            PersistentDataContainer container = meta.getPersistentDataContainer();
+            if (!container.has(KEY_CRYSTAL, PersistentDataType.BYTE)) return null;
+            
+            String id = container.get(CRYSTAL_ID_KEY, PersistentDataType.STRING);
+            long version = container.getOrDefault(CRYSTAL_VERSION_KEY, PersistentDataType.LONG, 0L);
+            boolean cacheable = id != null && version != 0L;
+            
+            if (cacheable) {
+                CrystalState cached;
+                synchronized (stateCache) {
+                    cached = stateCache.get(id);
+                }
+                if (cached != null && cached.getVersion() == version) {
+                    stateHits.incrementAndGet();
+                    return cached;
+                }
+            }
+            
+            CrystalState state = decodeState(container, id, version);
+            if (cacheable) {
+                synchronized (stateCache) {
+                    stateCache.put(id, state);
+                }
+            }
+            return state;
         } catch (Exception e) {
-            return false;
+            return null;
+        }
+    }
+    
+    /**
+     * Stamps a crystal's data container with a new version. Must be called by anything that
+     * writes crystal data, before the meta is applied back to the item.
+     */
+    public static void markModified(PersistentDataContainer container) {
+        container.set(CRYSTAL_VERSION_KEY, PersistentDataType.LONG, versionClock.incrementAndGet());
+    }
+    
+    /**
+     * Returns the newest version stamped on any crystal. It moves whenever any crystal's data,
+     * including its energy, is written.
+     */
+    public static long getVersionClock() {
+        return versionClock.get();
+    }
+    
+    /**
+     * Stores an existing crystal's energy and stamps a new version. Energy writes go through here
+     * so lazy regeneration restarts from the written value instead of crediting time before it.
+     */
+    public static void storeEnergy(PersistentDataContainer container, int energy) {
+        container.set(KEY_ENERGY, PersistentDataType.INTEGER, energy);
+        CrystalEnergyRegenManager.energyWritten(container, energy);
+        markModified(container);
+    }
+    
+    private static CrystalState decodeState(PersistentDataContainer container, String id, long version) {
+        stateDecodes.incrementAndGet();
+        
+        Byte activated = container.get(CRYSTAL_ACTIVATED_KEY, PersistentDataType.BYTE);
+        Integer energy = container.get(KEY_ENERGY, PersistentDataType.INTEGER);
+        int tier = container.getOrDefault(KEY_TIER, PersistentDataType.INTEGER, 1);
+        
+        // Prefer the modern KEY_ABILITIES key, but allow legacy CRYSTAL_EFFECTS_KEY for backward compatibility
+        String effectsStr = container.get(KEY_ABILITIES, PersistentDataType.STRING);
+        if (effectsStr == null || effectsStr.isEmpty()) {
+            effectsStr = container.get(CRYSTAL_EFFECTS_KEY, PersistentDataType.STRING);
         }
+        
+        return new CrystalState(id, version,
+                activated != null && activated == 1,
+                energy != null,
+                energy != null ? energy : 0,
+                tier,
+                decodeEffects(effectsStr),
+                container.has(CRYSTAL_EFFECTS_KEY, PersistentDataType.STRING),
+                container.get(CRYSTAL_TYPE_KEY, PersistentDataType.STRING));
+    }
+    
+    /**
+     * Decodes stored effects, which are either comma separated or a JSON array (setCrystalEffects).
+     */
+    private static List<String> decodeEffects(String effectsStr) {
+        if (effectsStr == null || effectsStr.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (effectsStr.startsWith("[")) {
+            try {
+                String[] parsed = gson.fromJson(effectsStr, String[].class);
+                if (parsed == null) return Collections.emptyList();
+                return Arrays.stream(parsed).filter(Objects::nonNull).collect(Collectors.toList());
+            } catch (JsonParseException e) {
+                return Collections.emptyList();
+            }
+        }
+        return Arrays.asList(effectsStr.split(","));
+    }
+    
+    /**
+     * Gets state cache statistics.
+     */
+    public static String getStateCacheStats() {
+        int size;
+        synchronized (stateCache) {
+            size = stateCache.size();
+        }
+        long hits = stateHits.get();
+        long total = hits + stateDecodes.get();
+        return String.format("State cache: %d/%d, Hit rate: %.1f%%, Decodes: %d",
+                size, STATE_CACHE_SIZE, total == 0 ? 0 : hits * 100.0 / total, stateDecodes.get());
     }
 
     /**
@@ -257,10 +378,11 @@ public class CrystalManager {
         ItemMeta meta = crystal.getItemMeta();
         PersistentDataContainer container = meta.getPersistentDataContainer();
         container.set(CRYSTAL_ACTIVATED_KEY, PersistentDataType.BYTE, (byte) 1);
+        markModified(container);
         crystal.setItemMeta(meta);
         
         // Set cooldown for activation
-        PlayerDataManager.setCooldown(player.getUniqueId(), System.currentTimeMillis() + cooldownMs);
+        CrystalCooldownManager.start(player, CrystalCooldownManager.Type.ACTIVATION, cooldownMs);
         
         // Feedback
         String effectNames = effects.stream()
@@ -294,14 +416,11 @@ public class CrystalManager {
             return false;
         }
         
-        // Start tracking this crystal for effects
-        activeCrystals.put(player.getUniqueId(), crystal.clone());
-        
         // Apply effects
         applyEffects(player, effects);
         
-        // Start effect applier for this player
-        EffectApplierManager.addActive(player.getUniqueId());
+        // Hand the crystal to the runtime for draining and effect upkeep
+        CrystalRuntime.track(player, crystal, effects, energy);
         
         player.sendMessage(ChatColor.GREEN + "Crystal effects are now active!");
         
@@ -312,14 +431,11 @@ public class CrystalManager {
      * Stops crystal effects when removed from offhand.
      */
     public static void stopCrystalEffects(Player player) {
-        ItemStack activeCrystal = activeCrystals.remove(player.getUniqueId());
-        if (activeCrystal == null) return;
+        CrystalRuntime.Holder holder = CrystalRuntime.untrack(player.getUniqueId());
+        if (holder == null) return;
         
         // Remove effects
-        removeEffects(player, getCrystalEffects(activeCrystal));
-        
-        // Remove from effect applier
-        EffectApplierManager.removeActive(player.getUniqueId());
+        removeEffects(player, holder.effects);
         
         player.sendMessage(ChatColor.GRAY + "Crystal effects have stopped.");
     }
@@ -376,6 +492,7 @@ public class CrystalManager {
      * Recharges a depleted crystal.
      */
     public static void rechargeCrystal(Player player) {
+        PlaceholderCache.invalidateLater(player.getUniqueId(), PlaceholderCache.CRYSTAL);
         try {
             ItemStack crystal = player.getInventory().getItemInOffHand();
             if (!isDepletedCrystal(crystal)) {
@@ -395,19 +512,16 @@ public class CrystalManager {
                 }
             }
 
+            // Get abilities for lore update
+            List<String> abilities = getCrystalEffects(crystal);
+
             // Recharge crystal
             ItemMeta meta = crystal.getItemMeta();
             if (meta == null) return;
 
             int maxEnergy = ConfigManager.getConfig().getInt("crystal.energy", 18000);
             int rechargedEnergy = maxEnergy / 2; // Half energy on recharge
-            meta.getPersistentDataContainer().set(KEY_ENERGY, PersistentDataType.INTEGER, rechargedEnergy);
-
-            // Get abilities for lore update
-            String abilitiesData = meta.getPersistentDataContainer().get(KEY_ABILITIES, PersistentDataType.STRING);
-            List<String> abilities = (abilitiesData != null && !abilitiesData.isEmpty()) 
-                    ? Arrays.asList(abilitiesData.split(","))
-                    : Collections.emptyList();
+            storeEnergy(meta.getPersistentDataContainer(), rechargedEnergy);
             
             // Update lore and restore appearance
             updateCrystalLore(crystal, meta, abilities, rechargedEnergy, maxEnergy);
@@ -450,17 +564,28 @@ public class CrystalManager {
      * Gets the energy from a crystal using NBT as single source of truth.
      */
     public static int getEnergy(ItemStack item) {
-        if (!isCrystal(item)) return 0;
-        try {
-            ItemMeta meta = item.getItemMeta();
-            if (meta == null) return 0;
-            
-            Integer energy = meta.getPersistentDataContainer().get(KEY_ENERGY, PersistentDataType.INTEGER);
-            return energy != null ? Math.max(0, energy) : 0;
-        } catch (Exception e) {
-            ArcaniteCrystals.getInstance().getLogger().warning("Error getting crystal energy: " + e.getMessage());
-            return 0;
-        }
+        CrystalState state = getState(item);
+        return state != null ? Math.max(0, state.getEnergy()) : 0;
+    }
+    
+    /**
+     * Writes energy, lore and appearance to a crystal in a single meta update.
+     */
+    static void writeEnergy(ItemStack crystal, int energy, List<String> effects, int maxEnergy) {
+        ItemMeta meta = crystal.getItemMeta();
+        if (meta == null) return;
+        writeEnergy(crystal, meta, energy, effects, maxEnergy);
+    }
+    
+    /**
+     * Writes energy like {@link #writeEnergy(ItemStack, int, List, int)} using meta the caller
+     * already fetched from the crystal.
+     */
+    static void writeEnergy(ItemStack crystal, ItemMeta meta, int energy, List<String> effects, int maxEnergy) {
+        int clampedEnergy = Math.max(0, Math.min(energy, CrystalManager.maxEnergy));
+        storeEnergy(meta.getPersistentDataContainer(), clampedEnergy);
+        updateCrystalLore(crystal, meta, effects, clampedEnergy, maxEnergy);
+        updateCrystalAppearance(crystal, clampedEnergy);
     }
     
     /**
@@ -616,6 +741,7 @@ public class CrystalManager {
         // Mark as an Arcanite crystal
         PersistentDataContainer container = meta.getPersistentDataContainer();
         container.set(KEY_CRYSTAL, PersistentDataType.BYTE, (byte) 1);
+        container.set(CRYSTAL_ID_KEY, PersistentDataType.STRING, UUID.randomUUID().toString());
 
         // Store effects under both modern and legacy keys for safety
         String effectCsv = String.join(",", effects);
@@ -625,6 +751,7 @@ public class CrystalManager {
         // Set initial energy
         int initialEnergy = ConfigManager.getConfig().getInt("crystal.energy", 18000);
         container.set(KEY_ENERGY, PersistentDataType.INTEGER, initialEnergy);
+        markModified(container);
 
         // Standard display name
         meta.setDisplayName(ChatColor.LIGHT_PURPLE + "" + ChatColor.BOLD + "ARCANITE CRYSTAL");
@@ -658,9 +785,10 @@ public class CrystalManager {
      * Updates crystal display with current state.
      */
     private static void updateCrystalDisplay(ItemStack crystal, List<String> effects, int energy) {
-        if (crystal == null || !isCrystal(crystal)) return;
+        if (crystal == null) return;
         
         ItemMeta meta = crystal.getItemMeta();
+        if (getState(meta) == null) return;
         List<String> lore = new ArrayList<>();
         
         if (effects.isEmpty()) {
@@ -709,39 +837,27 @@ public class CrystalManager {
      * Gets crystal effects from metadata.
      */
     public static List<String> getCrystalEffects(ItemStack crystal) {
-        if (!isCrystal(crystal)) return new ArrayList<>();
-
-        ItemMeta meta = crystal.getItemMeta();
-        if (meta == null) return new ArrayList<>();
-
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-        // Prefer the modern KEY_ABILITIES key, but allow legacy CRYSTAL_EFFECTS_KEY for backward compatibility
-        String effectsStr = container.get(KEY_ABILITIES, PersistentDataType.STRING);
-        if (effectsStr == null || effectsStr.isEmpty()) {
-            effectsStr = container.get(CRYSTAL_EFFECTS_KEY, PersistentDataType.STRING);
-        }
+        CrystalState state = getState(crystal);
+        if (state == null) return new ArrayList<>();
 
-        if (effectsStr == null || effectsStr.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        return Arrays.asList(effectsStr.split(","));
+        // Callers are free to modify the returned list; the cached state stays immutable
+        return new ArrayList<>(state.getEffects());
     }
     
     /**
      * Sets crystal energy using NBT as single source of truth with validation.
      */
     public static void setEnergy(ItemStack item, int energy) {
-        if (!isCrystal(item)) return;
+        if (item == null || !item.hasItemMeta()) return;
         
         try {
             ItemMeta meta = item.getItemMeta();
-            if (meta == null) return;
+            if (getState(meta) == null) return;
             
             // Validate energy bounds
             int clampedEnergy = Math.max(0, Math.min(energy, maxEnergy));
             
-            meta.getPersistentDataContainer().set(KEY_ENERGY, PersistentDataType.INTEGER, clampedEnergy);
+            storeEnergy(meta.getPersistentDataContainer(), clampedEnergy);
             item.setItemMeta(meta);
             
             // Update visual appearance based on energy level
@@ -778,17 +894,7 @@ public class CrystalManager {
      */
     public static void synchronizeCrystalState(Player player) {
         try {
-            ItemStack offHandCrystal = player.getInventory().getItemInOffHand();
-            ItemStack activeCrystal = activeCrystals.get(player.getUniqueId());
-            
-            if (activeCrystal != null && isCrystal(offHandCrystal)) {
-                // Sync energy from memory to off-hand item
-                int memoryEnergy = getEnergy(activeCrystal);
-                setEnergy(offHandCrystal, memoryEnergy);
-                
-                // Update the active crystal in memory to match
-                activeCrystals.put(player.getUniqueId(), offHandCrystal.clone());
-            }
+            CrystalRuntime.synchronize(player);
         } catch (Exception e) {
             ArcaniteCrystals.getInstance().getLogger().warning("Error synchronizing crystal state for " + player.getName() + ": " + e.getMessage());
         }
@@ -798,30 +904,28 @@ public class CrystalManager {
      * Checks if player is on crystal cooldown.
      */
     public static boolean isOnCooldown(Player player) {
-        long cooldownEnd = PlayerDataManager.getCooldown(player.getUniqueId());
-        return System.currentTimeMillis() < cooldownEnd;
+        return CrystalCooldownManager.isOnCooldown(player);
     }
     
     /**
      * Gets remaining cooldown in milliseconds.
      */
     public static long getRemainingCooldown(Player player) {
-        long cooldownEnd = PlayerDataManager.getCooldown(player.getUniqueId());
-        return Math.max(0, cooldownEnd - System.currentTimeMillis());
+        return CrystalCooldownManager.getRemainingCooldown(player);
     }
     
     /**
      * Checks if player has an active crystal.
      */
     public static boolean hasActiveCrystal(Player player) {
-        return activeCrystals.containsKey(player.getUniqueId());
+        return CrystalRuntime.isActive(player.getUniqueId());
     }
     
     /**
      * Gets the active crystal for a player.
      */
     public static ItemStack getActiveCrystal(Player player) {
-        return activeCrystals.get(player.getUniqueId());
+        return CrystalRuntime.getCrystal(player.getUniqueId());
     }
     
     /**
@@ -829,76 +933,6 @@ public class CrystalManager {
      */
     public static void handlePlayerDisconnect(Player player) {
         stopCrystalEffects(player);
-        lastEffectTick.remove(player.getUniqueId());
-    }
-    
-    /**
-     * Starts the energy drain task for active crystals.
-     */
-    private static void startEnergyDrainTask() {
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                for (Map.Entry<UUID, ItemStack> entry : activeCrystals.entrySet()) {
-                    Player player = ArcaniteCrystals.getInstance().getServer().getPlayer(entry.getKey());
-                    if (player == null || !player.isOnline()) {
-                        activeCrystals.remove(entry.getKey());
-                        continue;
-                    }
-                    
-                    ItemStack crystal = entry.getValue();
-                    int currentEnergy = getEnergy(crystal);
-                    
-                    if (currentEnergy <= 0) {
-                        // Crystal depleted
-                        stopCrystalEffects(player);
-                        
-                        player.sendMessage(ChatColor.RED + "Your crystal has been depleted!");
-                        SoundManager.playCrystalDepletionSound(player);
-                        ParticleManager.playCrystalDepletionEffect(player);
-                        continue;
-                    }
-                    
-                    // Drain energy
-                    int newEnergy = Math.max(0, currentEnergy - energyDrain);
-                    setEnergy(crystal, newEnergy);
-                    
-                    // Update the crystal in player's inventory
-                    ItemStack offhand = player.getInventory().getItemInOffHand();
-                    if (isCrystal(offhand)) {
-                        setEnergy(offhand, newEnergy);
-                        
-                        // Update crystal lore with new energy
-                        ItemMeta meta = offhand.getItemMeta();
-                        if (meta != null) {
-                            List<String> effects = getCrystalEffects(offhand);
-                            int maxEnergy = getMaxEnergy(offhand);
-                            updateCrystalLore(offhand, meta, effects, newEnergy, maxEnergy);
-                        }
-                    }
-                    
-                    // Update active crystal in memory
-                    activeCrystals.put(entry.getKey(), offhand != null && isCrystal(offhand) ? offhand.clone() : crystal);
-                }
-            }
-        }.runTaskTimer(ArcaniteCrystals.getInstance(), 0L, 20L); // Every second
-    }
-    
-    /**
-     * Starts the aura effect task for active crystals.
-     */
-    private static void startAuraEffectTask() {
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                for (UUID playerId : activeCrystals.keySet()) {
-                    Player player = ArcaniteCrystals.getInstance().getServer().getPlayer(playerId);
-                    if (player != null && player.isOnline()) {
-                        ParticleManager.playActiveAuraEffect(player);
-                    }
-                }
-            }
-        }.runTaskTimer(ArcaniteCrystals.getInstance(), 0L, 40L); // Every 2 seconds
     }
     
     /**
@@ -921,12 +955,8 @@ public class CrystalManager {
      */
     public static void shutdown() {
         try {
-            // Stop effect applier
-            EffectApplierManager.stop();
-            
-            // Clear active crystals
-            activeCrystals.clear();
-            lastEffectTick.clear();
+            // Stop the crystal runtime
+            CrystalRuntime.stop();
             
             ArcaniteCrystals.getInstance().getLogger().info("CrystalManager shutdown complete");
         } catch (Exception e) {
@@ -943,6 +973,11 @@ public class CrystalManager {
         }
         
         ItemMeta meta = crystal.getItemMeta();
+        CrystalState state = getState(meta);
+        if (state != null) {
+            return state.getTier();
+        }
+        
         if (meta == null) {
             return 1;
         }
@@ -996,6 +1031,11 @@ public class CrystalManager {
         }
         
         ItemMeta meta = crystal.getItemMeta();
+        CrystalState state = getState(meta);
+        if (state != null) {
+            return state.getEnergy();
+        }
+        
         if (meta == null) {
             return 0;
         }
@@ -1011,26 +1051,22 @@ public class CrystalManager {
      * Gets the unique ID of a crystal.
      */
     public static String getCrystalId(ItemStack crystal) {
-        if (!isCrystal(crystal)) return null;
-        
-        ItemMeta meta = crystal.getItemMeta();
-        if (meta == null) return null;
-        
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-        return container.get(CRYSTAL_ID_KEY, PersistentDataType.STRING);
+        CrystalState state = getState(crystal);
+        return state != null ? state.getId() : null;
     }
     
     /**
      * Sets the unique ID of a crystal.
      */
     public static void setCrystalId(ItemStack crystal, String id) {
-        if (!isCrystal(crystal)) return;
+        if (crystal == null || !crystal.hasItemMeta()) return;
         
         ItemMeta meta = crystal.getItemMeta();
-        if (meta == null) return;
+        if (getState(meta) == null) return;
         
         PersistentDataContainer container = meta.getPersistentDataContainer();
         container.set(CRYSTAL_ID_KEY, PersistentDataType.STRING, id);
+        markModified(container);
         crystal.setItemMeta(meta);
     }
 
@@ -1087,16 +1123,11 @@ public class CrystalManager {
      * Get crystal type
      */
     public static CrystalType getCrystalType(ItemStack crystal) {
-        if (!isCrystal(crystal)) return CrystalType.BASIC;
-        
-        ItemMeta meta = crystal.getItemMeta();
-        if (meta == null) return CrystalType.BASIC;
-        
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-        String typeStr = container.get(CRYSTAL_TYPE_KEY, PersistentDataType.STRING);
+        CrystalState state = getState(crystal);
+        if (state == null || state.getType() == null) return CrystalType.BASIC;
         
         try {
-            return CrystalType.valueOf(typeStr);
+            return CrystalType.valueOf(state.getType());
         } catch (IllegalArgumentException e) {
             return CrystalType.BASIC;
         }
@@ -1171,28 +1202,24 @@ public class CrystalManager {
      * Check if a crystal has been identified
      */
     public static boolean isIdentified(ItemStack crystal) {
-        if (!isCrystal(crystal)) return false;
-        
-        ItemMeta meta = crystal.getItemMeta();
-        if (meta == null) return false;
-        
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-        return container.has(CRYSTAL_EFFECTS_KEY, PersistentDataType.STRING);
+        CrystalState state = getState(crystal);
+        return state != null && state.isIdentified();
     }
     
     /**
      * Set crystal effects
      */
     public static void setCrystalEffects(ItemStack crystal, List<String> effects) {
-        if (!isCrystal(crystal)) return;
+        if (crystal == null || !crystal.hasItemMeta()) return;
         
         ItemMeta meta = crystal.getItemMeta();
-        if (meta == null) return;
+        if (getState(meta) == null) return;
         
         // Store effects in NBT
         PersistentDataContainer container = meta.getPersistentDataContainer();
-        String effectsJson = new Gson().toJson(effects);
+        String effectsJson = gson.toJson(effects);
         container.set(CRYSTAL_EFFECTS_KEY, PersistentDataType.STRING, effectsJson);
+        markModified(container);
         
         // Update lore
         List<String> lore = meta.getLore();
@@ -1243,7 +1270,7 @@ public class CrystalManager {
         }
         
         // Set effects
-        String effectsJson = new Gson().toJson(effects);
+        String effectsJson = gson.toJson(effects);
         container.set(CRYSTAL_EFFECTS_KEY, PersistentDataType.STRING, effectsJson);
         
         // Set energy
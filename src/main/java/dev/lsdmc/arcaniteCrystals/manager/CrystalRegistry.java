@@ -1,236 +1,422 @@
-package dev.lsdmc.arcaniteCrystals.manager;
-
-import dev.lsdmc.arcaniteCrystals.ArcaniteCrystals;
-import dev.lsdmc.arcaniteCrystals.database.DatabaseManager;
-import dev.lsdmc.arcaniteCrystals.util.MessageManager;
-import org.bukkit.NamespacedKey;
-import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.persistence.PersistentDataContainer;
-import org.bukkit.persistence.PersistentDataType;
-
-import java.time.Instant;
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.logging.Logger;
-
-/**
- * Central registry for tracking all crystals in circulation.
- * Provides crystal ownership, history, and management functionality.
- */
-public class CrystalRegistry {
-    private static final Map<String, CrystalInfo> crystalRegistry = new ConcurrentHashMap<>();
-    private static final Map<UUID, Set<String>> playerCrystals = new ConcurrentHashMap<>();
-    private static final Logger logger = ArcaniteCrystals.getInstance().getLogger();
-    
-    private static final NamespacedKey KEY_CRYSTAL_ID = new NamespacedKey(ArcaniteCrystals.getInstance(), "crystal_id");
-    
-    /**
-     * Information about a registered crystal.
-     */
-    public static class CrystalInfo {
-        private final String crystalId;
-        private final UUID creator;
-        private final Instant creationTime;
-        private UUID currentOwner;
-        private final List<OwnershipRecord> ownershipHistory;
-        private final List<UsageRecord> usageHistory;
-        private boolean destroyed;
-        private String destructionReason;
-        
-        public CrystalInfo(String crystalId, UUID creator) {
-            this.crystalId = crystalId;
-            this.creator = creator;
-            this.creationTime = Instant.now();
-            this.currentOwner = creator;
-            this.ownershipHistory = new ArrayList<>();
-            this.usageHistory = new ArrayList<>();
-            this.destroyed = false;
-            
-            // Add initial ownership record
-            this.ownershipHistory.add(new OwnershipRecord(creator, creationTime, "Creation"));
-        }
-        
-        public String getCrystalId() { return crystalId; }
-        public UUID getCreator() { return creator; }
-        public Instant getCreationTime() { return creationTime; }
-        public UUID getCurrentOwner() { return currentOwner; }
-        public List<OwnershipRecord> getOwnershipHistory() { return Collections.unmodifiableList(ownershipHistory); }
-        public List<UsageRecord> getUsageHistory() { return Collections.unmodifiableList(usageHistory); }
-        public boolean isDestroyed() { return destroyed; }
-        public String getDestructionReason() { return destructionReason; }
-    }
-    
-    /**
-     * Record of crystal ownership transfer.
-     */
-    public static class OwnershipRecord {
-        private final UUID owner;
-        private final Instant timestamp;
-        private final String reason;
-        
-        public OwnershipRecord(UUID owner, Instant timestamp, String reason) {
-            this.owner = owner;
-            this.timestamp = timestamp;
-            this.reason = reason;
-        }
-        
-        public UUID getOwner() { return owner; }
-        public Instant getTimestamp() { return timestamp; }
-        public String getReason() { return reason; }
-    }
-    
-    /**
-     * Record of crystal usage.
-     */
-    public static class UsageRecord {
-        private final String action;
-        private final Instant timestamp;
-        private final Map<String, Object> details;
-        
-        public UsageRecord(String action, Map<String, Object> details) {
-            this.action = action;
-            this.timestamp = Instant.now();
-            this.details = new HashMap<>(details);
-        }
-        
-        public String getAction() { return action; }
-        public Instant getTimestamp() { return timestamp; }
-        public Map<String, Object> getDetails() { return Collections.unmodifiableMap(details); }
-    }
-    
-    /**
-     * Registers a new crystal in the system.
-     */
-    public static String registerCrystal(ItemStack crystal, UUID creator) {
-        String crystalId = generateCrystalId();
-        
-        // Create crystal info
-        CrystalInfo info = new CrystalInfo(crystalId, creator);
-        crystalRegistry.put(crystalId, info);
-        
-        // Add to player's crystals
-        playerCrystals.computeIfAbsent(creator, k -> ConcurrentHashMap.newKeySet())
-            .add(crystalId);
-        
-        // Store crystal ID in item
-        ItemMeta meta = crystal.getItemMeta();
-        if (meta != null) {
-            PersistentDataContainer container = meta.getPersistentDataContainer();
-            container.set(KEY_CRYSTAL_ID, PersistentDataType.STRING, crystalId);
-            crystal.setItemMeta(meta);
-        }
-        
-        logger.info("Registered new crystal " + crystalId + " created by " + creator);
-        return crystalId;
-    }
-    
-    /**
-     * Looks up information about a crystal.
-     */
-    public static CrystalInfo lookupCrystal(String crystalId) {
-        return crystalRegistry.get(crystalId);
-    }
-    
-    /**
-     * Transfers crystal ownership.
-     */
-    public static void transferOwnership(String crystalId, UUID fromPlayer, UUID toPlayer, String reason) {
-        CrystalInfo info = crystalRegistry.get(crystalId);
-        if (info == null) {
-            logger.warning("Attempted to transfer non-existent crystal: " + crystalId);
-            return;
-        }
-        
-        if (!fromPlayer.equals(info.getCurrentOwner())) {
-            logger.warning("Invalid ownership transfer attempt for crystal " + crystalId);
-            return;
-        }
-        
-        // Update ownership
-        info.currentOwner = toPlayer;
-        info.ownershipHistory.add(new OwnershipRecord(toPlayer, Instant.now(), reason));
-        
-        // Update player crystal sets
-        Set<String> fromCrystals = playerCrystals.get(fromPlayer);
-        if (fromCrystals != null) {
-            fromCrystals.remove(crystalId);
-        }
-        
-        playerCrystals.computeIfAbsent(toPlayer, k -> ConcurrentHashMap.newKeySet())
-            .add(crystalId);
-        
-        logger.info("Transferred crystal " + crystalId + " from " + fromPlayer + " to " + toPlayer);
-    }
-    
-    /**
-     * Gets all crystals owned by a player.
-     */
-    public static Set<String> getPlayerCrystals(UUID playerId) {
-        return Collections.unmodifiableSet(
-            playerCrystals.getOrDefault(playerId, Collections.emptySet())
-        );
-    }
-    
-    /**
-     * Records crystal usage.
-     */
-    public static void recordUsage(String crystalId, String action, Map<String, Object> details) {
-        CrystalInfo info = crystalRegistry.get(crystalId);
-        if (info == null) {
-            logger.warning("Attempted to record usage for non-existent crystal: " + crystalId);
-            return;
-        }
-        
-        info.usageHistory.add(new UsageRecord(action, details));
-    }
-    
-    /**
-     * Marks a crystal as destroyed.
-     */
-    public static void destroyCrystal(String crystalId, String reason) {
-        CrystalInfo info = crystalRegistry.get(crystalId);
-        if (info == null) {
-            logger.warning("Attempted to destroy non-existent crystal: " + crystalId);
-            return;
-        }
-        
-        info.destroyed = true;
-        info.destructionReason = reason;
-        
-        // Remove from player's crystals
-        Set<String> playerCrystalSet = playerCrystals.get(info.getCurrentOwner());
-        if (playerCrystalSet != null) {
-            playerCrystalSet.remove(crystalId);
-        }
-        
-        logger.info("Destroyed crystal " + crystalId + " owned by " + info.getCurrentOwner() + 
-            " for reason: " + reason);
-    }
-    
-    /**
-     * Gets crystal ID from an item stack.
-     */
-    public static String getCrystalId(ItemStack crystal) {
-        ItemMeta meta = crystal.getItemMeta();
-        if (meta == null) return null;
-        
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-        return container.get(KEY_CRYSTAL_ID, PersistentDataType.STRING);
-    }
-    
-    /**
-     * Generates a unique crystal ID.
-     */
-    private static String generateCrystalId() {
-        return UUID.randomUUID().toString().replace("-", "").substring(0, 8);
-    }
-    
-    /**
-     * Cleans up registry data.
-     */
-    public static void cleanup() {
-        crystalRegistry.clear();
-        playerCrystals.clear();
-    }
-} 
\ No newline at end of file
+package dev.lsdmc.arcaniteCrystals.manager;
+
+import dev.lsdmc.arcaniteCrystals.ArcaniteCrystals;
+import dev.lsdmc.arcaniteCrystals.config.ConfigManager;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Central registry for tracking all crystals in circulation.
+ * Provides crystal ownership, history, and management functionality.
+ * <p>
+ * Current state lives in a memory-mapped fixed-width index ({@code registry/crystals.idx});
+ * ownership and usage history is appended off-thread to a segment-rotated event log and paged
+ * back from disk on request, so neither survives only in memory nor grows the heap.
+ */
+public class CrystalRegistry {
+    private static final Logger logger = ArcaniteCrystals.getInstance().getLogger();
+
+    private static final NamespacedKey KEY_CRYSTAL_ID = new NamespacedKey(ArcaniteCrystals.getInstance(), "crystal_id");
+
+    private static final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private static CrystalRegistryIndex index;
+    private static CrystalEventLog eventLog;
+
+    /**
+     * Information about a registered crystal.
+     */
+    public static class CrystalInfo {
+        private final String crystalId;
+        private final UUID creator;
+        private final Instant creationTime;
+        private final UUID currentOwner;
+        private final boolean destroyed;
+        private final String destructionReason;
+
+        public CrystalInfo(String crystalId, UUID creator, Instant creationTime, UUID currentOwner,
+                           boolean destroyed, String destructionReason) {
+            this.crystalId = crystalId;
+            this.creator = creator;
+            this.creationTime = creationTime;
+            this.currentOwner = currentOwner;
+            this.destroyed = destroyed;
+            this.destructionReason = destructionReason;
+        }
+
+        public String getCrystalId() { return crystalId; }
+        public UUID getCreator() { return creator; }
+        public Instant getCreationTime() { return creationTime; }
+        public UUID getCurrentOwner() { return currentOwner; }
+        public boolean isDestroyed() { return destroyed; }
+        public String getDestructionReason() { return destructionReason; }
+    }
+
+    /**
+     * Record of crystal ownership transfer.
+     */
+    public static class OwnershipRecord {
+        private final UUID owner;
+        private final Instant timestamp;
+        private final String reason;
+
+        public OwnershipRecord(UUID owner, Instant timestamp, String reason) {
+            this.owner = owner;
+            this.timestamp = timestamp;
+            this.reason = reason;
+        }
+
+        public UUID getOwner() { return owner; }
+        public Instant getTimestamp() { return timestamp; }
+        public String getReason() { return reason; }
+    }
+
+    /**
+     * Record of crystal usage. Detail values are stored as strings.
+     */
+    public static class UsageRecord {
+        private final String action;
+        private final Instant timestamp;
+        private final Map<String, Object> details;
+
+        public UsageRecord(String action, Map<String, Object> details) {
+            this(action, Instant.now(), details);
+        }
+
+        public UsageRecord(String action, Instant timestamp, Map<String, ?> details) {
+            this.action = action;
+            this.timestamp = timestamp;
+            this.details = new HashMap<>(details);
+        }
+
+        public String getAction() { return action; }
+        public Instant getTimestamp() { return timestamp; }
+        public Map<String, Object> getDetails() { return Collections.unmodifiableMap(details); }
+    }
+
+    /**
+     * Opens the index and event log under the plugin's data folder.
+     */
+    public static void initialize() {
+        long started = System.currentTimeMillis();
+        File directory = new File(ArcaniteCrystals.getInstance().getDataFolder(), "registry");
+        long segmentBytes = ConfigManager.getConfig().getLong("registry.segment-size-mb", 16) * 1024L * 1024L;
+        int maxSegments = ConfigManager.getConfig().getInt("registry.max-segments", 32);
+
+        lock.writeLock().lock();
+        try {
+            if (!directory.exists() && !directory.mkdirs()) {
+                throw new IOException("Could not create " + directory);
+            }
+            index = new CrystalRegistryIndex(new File(directory, "crystals.idx"));
+            eventLog = new CrystalEventLog(directory, segmentBytes, maxSegments, new CrystalEventLog.Chain() {
+                @Override
+                public long lastEvent(int slot) {
+                    lock.readLock().lock();
+                    try {
+                        return index.getLastEvent(slot);
+                    } finally {
+                        lock.readLock().unlock();
+                    }
+                }
+
+                @Override
+                public void setLastEvent(int slot, long pointer) {
+                    lock.writeLock().lock();
+                    try {
+                        index.setLastEvent(slot, pointer);
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                }
+            }, logger);
+            logger.info("Crystal registry loaded " + index.size() + " crystals in " + (System.currentTimeMillis() - started) + "ms");
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.SEVERE, "Failed to open crystal registry; crystals will not be tracked", e);
+            index = null;
+            eventLog = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Registers a new crystal in the system.
+     */
+    public static String registerCrystal(ItemStack crystal, UUID creator) {
+        if (index == null) return null;
+
+        long now = System.currentTimeMillis();
+        String crystalId;
+        int slot;
+        lock.writeLock().lock();
+        try {
+            do {
+                crystalId = generateCrystalId();
+            } while (index.find(crystalId) != 0);
+            slot = index.insert(crystalId, creator, now);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // Add initial ownership record
+        eventLog.append(new CrystalEventLog.Event(slot, CrystalEventLog.OWNERSHIP, now, creator, "Creation", Collections.emptyMap()));
+
+        // Store crystal ID in item
+        ItemMeta meta = crystal.getItemMeta();
+        if (meta != null) {
+            PersistentDataContainer container = meta.getPersistentDataContainer();
+            container.set(KEY_CRYSTAL_ID, PersistentDataType.STRING, crystalId);
+            CrystalManager.markModified(container);
+            crystal.setItemMeta(meta);
+        }
+
+        logger.info("Registered new crystal " + crystalId + " created by " + creator);
+        return crystalId;
+    }
+
+    /**
+     * Looks up information about a crystal.
+     */
+    public static CrystalInfo lookupCrystal(String crystalId) {
+        if (index == null) return null;
+
+        int slot;
+        CrystalInfo info;
+        long lastEvent;
+        lock.readLock().lock();
+        try {
+            slot = index.find(crystalId);
+            if (slot == 0) return null;
+            lastEvent = index.getLastEvent(slot);
+            info = new CrystalInfo(crystalId, index.getCreator(slot), Instant.ofEpochMilli(index.getCreatedAt(slot)),
+                    index.getOwner(slot), index.isDestroyed(slot), null);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (!info.isDestroyed()) return info;
+
+        // The destruction reason only lives in the log; it is normally the newest event
+        String reason = null;
+        try {
+            List<CrystalEventLog.Event> events = eventLog.read(lastEvent, CrystalEventLog.DESTROYED, 0, 1);
+            if (!events.isEmpty()) reason = events.get(0).text;
+        } catch (IOException e) {
+            logger.warning("Failed to read destruction reason for crystal " + crystalId + ": " + e.getMessage());
+        }
+        return new CrystalInfo(info.getCrystalId(), info.getCreator(), info.getCreationTime(),
+                info.getCurrentOwner(), true, reason);
+    }
+
+    /**
+     * Transfers crystal ownership.
+     */
+    public static void transferOwnership(String crystalId, UUID fromPlayer, UUID toPlayer, String reason) {
+        if (index == null) return;
+
+        int slot;
+        lock.writeLock().lock();
+        try {
+            slot = index.find(crystalId);
+            if (slot == 0) {
+                logger.warning("Attempted to transfer non-existent crystal: " + crystalId);
+                return;
+            }
+
+            if (index.isDestroyed(slot) || !fromPlayer.equals(index.getOwner(slot))) {
+                logger.warning("Invalid ownership transfer attempt for crystal " + crystalId);
+                return;
+            }
+
+            // Update ownership
+            index.setOwner(slot, toPlayer);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        eventLog.append(new CrystalEventLog.Event(slot, CrystalEventLog.OWNERSHIP, System.currentTimeMillis(),
+                toPlayer, reason, Collections.emptyMap()));
+
+        logger.info("Transferred crystal " + crystalId + " from " + fromPlayer + " to " + toPlayer);
+    }
+
+    /**
+     * Gets all crystals owned by a player.
+     */
+    public static Set<String> getPlayerCrystals(UUID playerId) {
+        if (index == null) return Collections.emptySet();
+
+        lock.readLock().lock();
+        try {
+            return Collections.unmodifiableSet(new LinkedHashSet<>(index.getOwnedIds(playerId)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Records crystal usage.
+     */
+    public static void recordUsage(String crystalId, String action, Map<String, Object> details) {
+        if (index == null) return;
+
+        int slot;
+        lock.readLock().lock();
+        try {
+            slot = index.find(crystalId);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (slot == 0) {
+            logger.warning("Attempted to record usage for non-existent crystal: " + crystalId);
+            return;
+        }
+
+        Map<String, String> encoded = new LinkedHashMap<>();
+        details.forEach((key, value) -> encoded.put(key, String.valueOf(value)));
+        eventLog.append(new CrystalEventLog.Event(slot, CrystalEventLog.USAGE, System.currentTimeMillis(),
+                null, action, encoded));
+    }
+
+    /**
+     * Marks a crystal as destroyed.
+     */
+    public static void destroyCrystal(String crystalId, String reason) {
+        if (index == null) return;
+
+        int slot;
+        UUID owner;
+        lock.writeLock().lock();
+        try {
+            slot = index.find(crystalId);
+            if (slot == 0) {
+                logger.warning("Attempted to destroy non-existent crystal: " + crystalId);
+                return;
+            }
+            if (index.isDestroyed(slot)) return;
+
+            owner = index.getOwner(slot);
+            index.markDestroyed(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        eventLog.append(new CrystalEventLog.Event(slot, CrystalEventLog.DESTROYED, System.currentTimeMillis(),
+                null, reason, Collections.emptyMap()));
+
+        logger.info("Destroyed crystal " + crystalId + " owned by " + owner +
+            " for reason: " + reason);
+    }
+
+    /**
+     * Reads up to {@code limit} ownership transfers of a crystal, newest first, after skipping the
+     * newest {@code offset}. Reads files, so call it off the main thread.
+     */
+    public static List<OwnershipRecord> getOwnershipHistory(String crystalId, int offset, int limit) {
+        List<OwnershipRecord> records = new ArrayList<>();
+        for (CrystalEventLog.Event event : readHistory(crystalId, CrystalEventLog.OWNERSHIP, offset, limit)) {
+            records.add(new OwnershipRecord(event.owner, Instant.ofEpochMilli(event.timestamp), event.text));
+        }
+        return records;
+    }
+
+    /**
+     * Reads up to {@code limit} usage records of a crystal, newest first, after skipping the
+     * newest {@code offset}. Reads files, so call it off the main thread.
+     */
+    public static List<UsageRecord> getUsageHistory(String crystalId, int offset, int limit) {
+        List<UsageRecord> records = new ArrayList<>();
+        for (CrystalEventLog.Event event : readHistory(crystalId, CrystalEventLog.USAGE, offset, limit)) {
+            records.add(new UsageRecord(event.text, Instant.ofEpochMilli(event.timestamp), event.details));
+        }
+        return records;
+    }
+
+    private static List<CrystalEventLog.Event> readHistory(String crystalId, byte type, int offset, int limit) {
+        if (index == null || offset < 0 || limit <= 0) return Collections.emptyList();
+
+        long head;
+        lock.readLock().lock();
+        try {
+            int slot = index.find(crystalId);
+            if (slot == 0) return Collections.emptyList();
+            head = index.getLastEvent(slot);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        try {
+            return eventLog.read(head, type, offset, limit);
+        } catch (IOException e) {
+            logger.warning("Failed to read history for crystal " + crystalId + ": " + e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Gets crystal ID from an item stack.
+     */
+    public static String getCrystalId(ItemStack crystal) {
+        ItemMeta meta = crystal.getItemMeta();
+        if (meta == null) return null;
+
+        PersistentDataContainer container = meta.getPersistentDataContainer();
+        return container.get(KEY_CRYSTAL_ID, PersistentDataType.STRING);
+    }
+
+    /**
+     * Generates a unique crystal ID.
+     */
+    private static String generateCrystalId() {
+        // Full 128 bits; eight hex characters collide long before a registry reaches a million crystals
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+
+    /**
+     * Gets registry statistics, including the index's memory footprint.
+     */
+    public static String getStats() {
+        if (index == null) return "Registry: disabled";
+
+        lock.readLock().lock();
+        try {
+            int size = index.size();
+            return String.format("Crystals: %d, Owners: %d, Heap index: %d KB (%.1f B/crystal), Mapped: %d MB, %s",
+                    size, index.getOwnerCount(), index.getTableBytes() / 1024,
+                    size == 0 ? 0.0 : (double) index.getTableBytes() / size,
+                    index.getMappedBytes() / (1024 * 1024), eventLog.getStats());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Flushes pending events and closes the registry files.
+     */
+    public static void cleanup() {
+        if (index == null) return;
+
+        eventLog.shutdown();
+        lock.writeLock().lock();
+        try {
+            index.close();
+        } catch (IOException e) {
+            logger.warning("Error closing crystal registry index: " + e.getMessage());
+        } finally {
+            index = null;
+            eventLog = null;
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package dev.lsdmc.arcaniteCrystals.manager;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Memory-mapped, fixed-width current-state index for the crystal registry.
+ * <p>
+ * Slot 0 holds the file header; every registered crystal owns one {@link #RECORD_SIZE}-byte slot
+ * after it. The only on-heap structures are an open-addressed {@code int[]} table from crystal id
+ * to slot and the head slot of each owner's chain. Crystals of the same owner are linked through
+ * their records, so per-owner lookups never scan the index.
+ * <p>
+ * Not thread-safe; {@link CrystalRegistry} guards every call with its lock.
+ */
+class CrystalRegistryIndex {
+
+    static final int RECORD_SIZE = 96;
+    static final int MAX_ID_LENGTH = 36;
+    static final long NO_EVENT = -1L;
+
+    private static final int MAGIC = 0x41435249; // "ACRI"
+    private static final int FORMAT_VERSION = 1;
+    private static final int CHUNK_SHIFT = 16;
+    private static final int CHUNK_RECORDS = 1 << CHUNK_SHIFT;
+    private static final long CHUNK_BYTES = (long) CHUNK_RECORDS * RECORD_SIZE;
+    private static final int NONE = 0;
+
+    // Header layout (slot 0)
+    private static final int H_MAGIC = 0;
+    private static final int H_VERSION = 4;
+    private static final int H_COUNT = 8;
+
+    // Record layout
+    private static final int R_ID_LENGTH = 0;
+    private static final int R_ID = 1;
+    private static final int R_DESTROYED = 37;
+    private static final int R_CREATOR = 40;
+    private static final int R_CREATED = 56;
+    private static final int R_OWNER = 64;
+    private static final int R_NEXT_BY_OWNER = 80;
+    private static final int R_LAST_EVENT = 88;
+
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> chunks = new ArrayList<>();
+    private final Map<UUID, Integer> ownerHeads = new HashMap<>();
+    private int[] table;
+    private int count;
+
+    CrystalRegistryIndex(File file) throws IOException {
+        this.channel = FileChannel.open(file.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        boolean fresh = channel.size() == 0;
+        chunk(0);
+
+        if (fresh) {
+            header().putInt(H_MAGIC, MAGIC);
+            header().putInt(H_VERSION, FORMAT_VERSION);
+            header().putInt(H_COUNT, 0);
+        } else if (header().getInt(H_MAGIC) != MAGIC || header().getInt(H_VERSION) != FORMAT_VERSION) {
+            throw new IOException("Unrecognised crystal index format in " + file.getName());
+        }
+
+        this.count = header().getInt(H_COUNT);
+        this.table = new int[tableCapacityFor(count)];
+        for (int slot = 1; slot <= count; slot++) {
+            insertIntoTable(slot);
+            // Chains are rebuilt rather than trusted, so a torn write can never lose a crystal
+            if (!isDestroyed(slot)) {
+                link(slot, getOwner(slot));
+            } else {
+                record(slot).putInt(offset(slot) + R_NEXT_BY_OWNER, NONE);
+            }
+        }
+    }
+
+    int size() {
+        return count;
+    }
+
+    /**
+     * Returns the crystal's slot, or 0 if it is not registered.
+     */
+    int find(String crystalId) {
+        int mask = table.length - 1;
+        for (int i = hash(crystalId) & mask; ; i = (i + 1) & mask) {
+            int slot = table[i];
+            if (slot == NONE || idEquals(slot, crystalId)) {
+                return slot;
+            }
+        }
+    }
+
+    int insert(String crystalId, UUID creator, long createdAt) {
+        if (crystalId.length() > MAX_ID_LENGTH || !crystalId.chars().allMatch(c -> c < 128)) {
+            throw new IllegalArgumentException("Crystal ids must be ASCII and at most " + MAX_ID_LENGTH + " characters: " + crystalId);
+        }
+        int slot = count + 1;
+        MappedByteBuffer buffer = record(slot);
+        int base = offset(slot);
+
+        buffer.put(base + R_ID_LENGTH, (byte) crystalId.length());
+        for (int i = 0; i < crystalId.length(); i++) {
+            buffer.put(base + R_ID + i, (byte) crystalId.charAt(i));
+        }
+        buffer.put(base + R_DESTROYED, (byte) 0);
+        putUuid(buffer, base + R_CREATOR, creator);
+        buffer.putLong(base + R_CREATED, createdAt);
+        putUuid(buffer, base + R_OWNER, creator);
+        buffer.putInt(base + R_NEXT_BY_OWNER, NONE);
+        buffer.putLong(base + R_LAST_EVENT, NO_EVENT);
+
+        count = slot;
+        header().putInt(H_COUNT, count);
+        if (count * 2 > table.length) {
+            rehash();
+        } else {
+            insertIntoTable(slot);
+        }
+        link(slot, creator);
+        return slot;
+    }
+
+    void setOwner(int slot, UUID owner) {
+        unlink(slot, getOwner(slot));
+        putUuid(record(slot), offset(slot) + R_OWNER, owner);
+        link(slot, owner);
+    }
+
+    void markDestroyed(int slot) {
+        unlink(slot, getOwner(slot));
+        record(slot).put(offset(slot) + R_DESTROYED, (byte) 1);
+    }
+
+    String getId(int slot) {
+        MappedByteBuffer buffer = record(slot);
+        int base = offset(slot);
+        int length = buffer.get(base + R_ID_LENGTH);
+        char[] id = new char[length];
+        for (int i = 0; i < length; i++) {
+            id[i] = (char) buffer.get(base + R_ID + i);
+        }
+        return new String(id);
+    }
+
+    boolean isDestroyed(int slot) {
+        return record(slot).get(offset(slot) + R_DESTROYED) != 0;
+    }
+
+    UUID getCreator(int slot) {
+        return getUuid(record(slot), offset(slot) + R_CREATOR);
+    }
+
+    long getCreatedAt(int slot) {
+        return record(slot).getLong(offset(slot) + R_CREATED);
+    }
+
+    UUID getOwner(int slot) {
+        return getUuid(record(slot), offset(slot) + R_OWNER);
+    }
+
+    long getLastEvent(int slot) {
+        return record(slot).getLong(offset(slot) + R_LAST_EVENT);
+    }
+
+    void setLastEvent(int slot, long pointer) {
+        record(slot).putLong(offset(slot) + R_LAST_EVENT, pointer);
+    }
+
+    /**
+     * Collects the ids of every live crystal the owner holds by walking the owner chain.
+     */
+    List<String> getOwnedIds(UUID owner) {
+        List<String> ids = new ArrayList<>();
+        Integer head = ownerHeads.get(owner);
+        for (int slot = head == null ? NONE : head; slot != NONE; slot = next(slot)) {
+            ids.add(getId(slot));
+        }
+        return ids;
+    }
+
+    int getOwnerCount() {
+        return ownerHeads.size();
+    }
+
+    long getTableBytes() {
+        return (long) table.length * Integer.BYTES;
+    }
+
+    long getMappedBytes() {
+        return chunks.size() * CHUNK_BYTES;
+    }
+
+    void force() {
+        for (MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+    }
+
+    void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private void link(int slot, UUID owner) {
+        Integer head = ownerHeads.get(owner);
+        record(slot).putInt(offset(slot) + R_NEXT_BY_OWNER, head == null ? NONE : head);
+        ownerHeads.put(owner, slot);
+    }
+
+    private void unlink(int slot, UUID owner) {
+        Integer head = ownerHeads.get(owner);
+        if (head == null) return;
+        if (head == slot) {
+            int next = next(slot);
+            if (next == NONE) {
+                ownerHeads.remove(owner);
+            } else {
+                ownerHeads.put(owner, next);
+            }
+            return;
+        }
+        for (int previous = head, current = next(head); current != NONE; previous = current, current = next(current)) {
+            if (current == slot) {
+                record(previous).putInt(offset(previous) + R_NEXT_BY_OWNER, next(slot));
+                return;
+            }
+        }
+    }
+
+    private int next(int slot) {
+        return record(slot).getInt(offset(slot) + R_NEXT_BY_OWNER);
+    }
+
+    private boolean idEquals(int slot, String crystalId) {
+        MappedByteBuffer buffer = record(slot);
+        int base = offset(slot);
+        if (buffer.get(base + R_ID_LENGTH) != crystalId.length()) return false;
+        for (int i = 0; i < crystalId.length(); i++) {
+            if (buffer.get(base + R_ID + i) != (byte) crystalId.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private void insertIntoTable(int slot) {
+        int mask = table.length - 1;
+        int i = hash(getId(slot)) & mask;
+        while (table[i] != NONE) {
+            i = (i + 1) & mask;
+        }
+        table[i] = slot;
+    }
+
+    private void rehash() {
+        table = new int[tableCapacityFor(count)];
+        for (int slot = 1; slot <= count; slot++) {
+            insertIntoTable(slot);
+        }
+    }
+
+    private static int tableCapacityFor(int entries) {
+        // Keep the load factor at or below 0.5 so probe sequences stay short
+        return Integer.highestOneBit(Math.max(16, entries * 2) - 1) << 1;
+    }
+
+    private static int hash(String crystalId) {
+        int h = crystalId.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private MappedByteBuffer header() {
+        return chunks.get(0);
+    }
+
+    private MappedByteBuffer record(int slot) {
+        return chunk(slot >>> CHUNK_SHIFT);
+    }
+
+    private static int offset(int slot) {
+        return (slot & (CHUNK_RECORDS - 1)) * RECORD_SIZE;
+    }
+
+    private MappedByteBuffer chunk(int index) {
+        while (chunks.size() <= index) {
+            try {
+                // Mapping past the end of the file grows it
+                chunks.add(channel.map(FileChannel.MapMode.READ_WRITE, chunks.size() * CHUNK_BYTES, CHUNK_BYTES));
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to map crystal index chunk " + chunks.size(), e);
+            }
+        }
+        return chunks.get(index);
+    }
+
+    private static void putUuid(MappedByteBuffer buffer, int position, UUID uuid) {
+        buffer.putLong(position, uuid.getMostSignificantBits());
+        buffer.putLong(position + 8, uuid.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(MappedByteBuffer buffer, int position) {
+        return new UUID(buffer.getLong(position), buffer.getLong(position + 8));
+    }
+}
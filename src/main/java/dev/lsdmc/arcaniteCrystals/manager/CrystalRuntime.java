@@ -0,0 +1,391 @@
+package dev.lsdmc.arcaniteCrystals.manager;
+
+import dev.lsdmc.arcaniteCrystals.ArcaniteCrystals;
+import dev.lsdmc.arcaniteCrystals.config.ConfigManager;
+import dev.lsdmc.arcaniteCrystals.model.CrystalState;
+import dev.lsdmc.arcaniteCrystals.placeholder.PlaceholderCache;
+import dev.lsdmc.arcaniteCrystals.util.EffectUtils;
+import dev.lsdmc.arcaniteCrystals.util.MessageManager;
+import dev.lsdmc.arcaniteCrystals.util.ParticleManager;
+import dev.lsdmc.arcaniteCrystals.util.SoundManager;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Single runtime for every player holding an active crystal in their off-hand.
+ * <p>
+ * Holders are indexed once when their crystal starts and keep the crystal's decoded
+ * effects and energy in memory. One task runs every tick and visits one of
+ * {@link #BUCKETS} buckets, so each holder is processed once a second and the work
+ * is spread evenly. Each visit runs the phases in order:
+ * <ol>
+ *     <li>drain - every {@code crystal.task-interval} ticks, remove {@code crystal.drain} energy</li>
+ *     <li>apply - on the same cadence, refresh potion and mining effects</li>
+ *     <li>visuals - every other visit, play the aura</li>
+ *     <li>lore - write energy and lore back to the item only when energy changed</li>
+ * </ol>
+ */
+public class CrystalRuntime {
+
+    private static final int BUCKETS = 20; // One visit per holder per second
+    private static final int VISUAL_CYCLES = 2; // Aura every 2 seconds
+
+    /**
+     * An online player with an active crystal and its decoded state.
+     */
+    static class Holder {
+        final UUID playerId;
+        final String crystalId;
+        final List<String> effects;
+        final boolean autoSmelt;
+        final boolean fortune;
+        final int maxEnergy;
+        ItemStack snapshot;
+        int energy;
+        int cycles;
+        int bucket;
+        boolean loreDirty;
+        boolean snapshotStale;
+
+        Holder(UUID playerId, ItemStack crystal, List<String> effects, int energy) {
+            this.playerId = playerId;
+            this.crystalId = CrystalManager.getCrystalId(crystal);
+            this.snapshot = crystal.clone();
+            this.effects = List.copyOf(effects);
+            this.energy = energy;
+            this.maxEnergy = CrystalManager.getMaxEnergy(crystal);
+            this.autoSmelt = effects.stream().anyMatch(id ->
+                    id.toLowerCase().contains("auto_smelt") || id.toLowerCase().contains("haste"));
+            this.fortune = effects.stream().anyMatch(id ->
+                    id.toLowerCase().contains("fortune") || id.toLowerCase().contains("strength"));
+        }
+    }
+
+    private static final Map<UUID, Holder> holders = new ConcurrentHashMap<>();
+    @SuppressWarnings("unchecked")
+    private static final Set<UUID>[] buckets = new Set[BUCKETS];
+    static {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = ConcurrentHashMap.newKeySet();
+        }
+    }
+
+    private static BukkitTask task;
+    private static Logger logger;
+    private static int currentBucket = 0;
+
+    // Configuration snapshot
+    private static int energyDrain;
+    private static int drainCycles;
+    private static long miningEffectDuration;
+    private static int effectRefreshTicks;
+
+    // Per-phase cost, in nanoseconds
+    private static final AtomicLong ticks = new AtomicLong();
+    private static final AtomicLong totalTickNanos = new AtomicLong();
+    private static final AtomicLong maxTickNanos = new AtomicLong();
+    private static final AtomicLong drainNanos = new AtomicLong();
+    private static final AtomicLong applyNanos = new AtomicLong();
+    private static final AtomicLong visualNanos = new AtomicLong();
+    private static final AtomicLong loreNanos = new AtomicLong();
+    private static final AtomicLong errors = new AtomicLong();
+    private static long peakHolders = 0;
+
+    /**
+     * Starts the runtime task. Safe to call again after a reload.
+     */
+    public static void start() {
+        ArcaniteCrystals plugin = ArcaniteCrystals.getInstance();
+        logger = plugin.getLogger();
+        if (task != null) {
+            task.cancel();
+        }
+
+        FileConfiguration config = ConfigManager.getConfig();
+        energyDrain = config.getInt("crystal.drain", 80);
+        if (energyDrain <= 0) {
+            logger.warning("Invalid drain amount: " + energyDrain + ". Using default of 80.");
+            energyDrain = 80;
+        }
+        long intervalTicks = config.getLong("crystal.task-interval", 80L);
+        if (intervalTicks <= 0 || intervalTicks > 1200) { // Max 1 minute
+            logger.warning("Invalid task interval: " + intervalTicks + ". Using default of 80 ticks.");
+            intervalTicks = 80L;
+        }
+        drainCycles = (int) Math.max(1, Math.round(intervalTicks / (double) BUCKETS));
+        miningEffectDuration = config.getLong("mining.effect-duration", 200);
+        // Effects are only re-applied when they would run out before the next apply phase
+        effectRefreshTicks = drainCycles * BUCKETS + BUCKETS;
+
+        task = Bukkit.getScheduler().runTaskTimer(plugin, CrystalRuntime::tick, 1L, 1L);
+        logger.info("Crystal runtime started: Drain=" + energyDrain + " every " + (drainCycles * BUCKETS) + " ticks");
+    }
+
+    /**
+     * Stops the runtime and forgets every holder.
+     */
+    public static void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+            logger.info("Crystal runtime stopped. " + getStats());
+        }
+        holders.clear();
+        for (Set<UUID> bucket : buckets) {
+            bucket.clear();
+        }
+    }
+
+    public static boolean isRunning() {
+        return task != null && !task.isCancelled();
+    }
+
+    // ===== HOLDER INDEX =====
+
+    /**
+     * Starts tracking a player's crystal.
+     */
+    static synchronized void track(Player player, ItemStack crystal, List<String> effects, int energy) {
+        untrack(player.getUniqueId());
+
+        Holder holder = new Holder(player.getUniqueId(), crystal, effects, energy);
+        int target = 0;
+        for (int i = 1; i < BUCKETS; i++) {
+            if (buckets[i].size() < buckets[target].size()) {
+                target = i;
+            }
+        }
+        holder.bucket = target;
+        holders.put(holder.playerId, holder);
+        buckets[target].add(holder.playerId);
+        peakHolders = Math.max(peakHolders, holders.size());
+        PlaceholderCache.invalidate(holder.playerId, PlaceholderCache.CRYSTAL);
+    }
+
+    /**
+     * Stops tracking a player, returning the holder if there was one.
+     */
+    static Holder untrack(UUID playerId) {
+        Holder holder = holders.remove(playerId);
+        if (holder != null) {
+            buckets[holder.bucket].remove(playerId);
+            PlaceholderCache.invalidate(playerId, PlaceholderCache.CRYSTAL);
+        }
+        return holder;
+    }
+
+    public static boolean isActive(UUID playerId) {
+        return holders.containsKey(playerId);
+    }
+
+    /**
+     * Gets a copy of the crystal as currently tracked, with in-memory energy applied.
+     */
+    public static ItemStack getCrystal(UUID playerId) {
+        Holder holder = holders.get(playerId);
+        if (holder == null) return null;
+        if (holder.snapshotStale) {
+            CrystalManager.setEnergy(holder.snapshot, holder.energy);
+            holder.snapshotStale = false;
+        }
+        return holder.snapshot;
+    }
+
+    /**
+     * Returns the meta of the off-hand item if it is the crystal the holder tracks. If another item
+     * is there, the cached state belongs to a crystal that is gone, so the holder is dropped.
+     */
+    private static ItemMeta trackedMeta(Player player, Holder holder, ItemStack offhand) {
+        ItemMeta meta = offhand.hasItemMeta() ? offhand.getItemMeta() : null;
+        CrystalState state = CrystalManager.getState(meta);
+        if (state != null && Objects.equals(holder.crystalId, state.getId())) {
+            return meta;
+        }
+        CrystalManager.stopCrystalEffects(player);
+        return null;
+    }
+
+    /**
+     * Writes the in-memory energy back to the player's off-hand crystal immediately.
+     */
+    public static void synchronize(Player player) {
+        Holder holder = holders.get(player.getUniqueId());
+        if (holder == null) return;
+        ItemStack offhand = player.getInventory().getItemInOffHand();
+        ItemMeta meta = trackedMeta(player, holder, offhand);
+        if (meta != null) {
+            CrystalManager.writeEnergy(offhand, meta, holder.energy, holder.effects, holder.maxEnergy);
+            holder.loreDirty = false;
+            holder.snapshot = offhand.clone();
+            holder.snapshotStale = false;
+        }
+    }
+
+    public static int getActiveCount() {
+        return holders.size();
+    }
+
+    // ===== TICK PIPELINE =====
+
+    private static void tick() {
+        long start = System.nanoTime();
+        Set<UUID> bucket = buckets[currentBucket];
+        currentBucket = (currentBucket + 1) % BUCKETS;
+
+        for (UUID playerId : bucket) {
+            Holder holder = holders.get(playerId);
+            Player player = Bukkit.getPlayer(playerId);
+            if (holder == null || player == null || !player.isOnline()) {
+                bucket.remove(playerId);
+                if (holder != null) {
+                    holders.remove(playerId, holder);
+                }
+                continue;
+            }
+
+            try {
+                process(player, holder);
+            } catch (Exception e) {
+                // Keep the holder; it is retried on its next visit
+                errors.incrementAndGet();
+                logger.warning("Error in crystal runtime for " + player.getName() + ": " + e.getMessage());
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        ticks.incrementAndGet();
+        totalTickNanos.addAndGet(elapsed);
+        maxTickNanos.accumulateAndGet(elapsed, Math::max);
+    }
+
+    private static void process(Player player, Holder holder) {
+        holder.cycles++;
+        boolean drainCycle = holder.cycles % drainCycles == 0;
+
+        // Phase 1: drain
+        if (drainCycle) {
+            long phaseStart = System.nanoTime();
+            boolean keep = drain(player, holder);
+            drainNanos.addAndGet(System.nanoTime() - phaseStart);
+            if (!keep) return;
+        }
+
+        // Phase 2: apply
+        if (drainCycle) {
+            long phaseStart = System.nanoTime();
+            apply(player, holder);
+            applyNanos.addAndGet(System.nanoTime() - phaseStart);
+        }
+
+        // Phase 3: visuals
+        if (holder.cycles % VISUAL_CYCLES == 0) {
+            long phaseStart = System.nanoTime();
+            ParticleManager.playActiveAuraEffect(player);
+            visualNanos.addAndGet(System.nanoTime() - phaseStart);
+        }
+
+        // Phase 4: lore
+        if (holder.loreDirty) {
+            long phaseStart = System.nanoTime();
+            ItemStack offhand = player.getInventory().getItemInOffHand();
+            ItemMeta meta = trackedMeta(player, holder, offhand);
+            if (meta == null) {
+                loreNanos.addAndGet(System.nanoTime() - phaseStart);
+                return;
+            }
+            CrystalManager.writeEnergy(offhand, meta, holder.energy, holder.effects, holder.maxEnergy);
+            holder.loreDirty = false;
+            PlaceholderCache.invalidate(holder.playerId, PlaceholderCache.CRYSTAL);
+            loreNanos.addAndGet(System.nanoTime() - phaseStart);
+        }
+    }
+
+    /**
+     * Removes one cycle of energy. Returns false if the crystal is depleted and the holder was dropped.
+     */
+    private static boolean drain(Player player, Holder holder) {
+        if (holder.energy <= 0) {
+            deplete(player);
+            return false;
+        }
+
+        holder.energy = Math.max(0, holder.energy - energyDrain);
+        holder.loreDirty = true;
+        holder.snapshotStale = true;
+
+        if (holder.energy <= 0) {
+            // Write the empty crystal back before the holder is dropped
+            ItemStack offhand = player.getInventory().getItemInOffHand();
+            ItemMeta meta = trackedMeta(player, holder, offhand);
+            if (meta == null) {
+                return false;
+            }
+            CrystalManager.writeEnergy(offhand, meta, 0, holder.effects, holder.maxEnergy);
+            deplete(player);
+            return false;
+        }
+
+        double energyPercent = (double) holder.energy / holder.maxEnergy * 100;
+        if (energyPercent <= 10) {
+            MessageManager.sendNotification(player,
+                    "⚠ Crystal energy critically low: " + String.format("%.0f%%", energyPercent),
+                    MessageManager.NotificationType.WARNING);
+        }
+        return true;
+    }
+
+    private static void deplete(Player player) {
+        CrystalManager.stopCrystalEffects(player);
+        player.sendMessage(ChatColor.RED + "Your crystal has been depleted!");
+        SoundManager.playCrystalDepletionSound(player);
+        ParticleManager.playCrystalDepletionEffect(player);
+    }
+
+    private static void apply(Player player, Holder holder) {
+        for (String upgrade : holder.effects) {
+            try {
+                EffectUtils.applyEffect(player, upgrade, effectRefreshTicks);
+            } catch (Exception e) {
+                errors.incrementAndGet();
+                logger.fine("Failed to apply effect " + upgrade + " to " + player.getName() + ": " + e.getMessage());
+            }
+        }
+        if (holder.autoSmelt) {
+            MiningEffectManager.applyAutoSmelt(player, miningEffectDuration);
+        }
+        if (holder.fortune) {
+            MiningEffectManager.applyFortune(player, miningEffectDuration);
+        }
+    }
+
+    // ===== METRICS =====
+
+    private static double millis(AtomicLong nanos, long count) {
+        return count == 0 ? 0 : nanos.get() / (double) count / 1_000_000.0;
+    }
+
+    public static String getStats() {
+        long n = ticks.get();
+        return String.format(
+                "Active: %d, Peak: %d, Tick avg/max: %.3f/%.3fms " +
+                "(drain %.3f, apply %.3f, visuals %.3f, lore %.3f), Errors: %d",
+                holders.size(), peakHolders,
+                millis(totalTickNanos, n), maxTickNanos.get() / 1_000_000.0,
+                millis(drainNanos, n), millis(applyNanos, n), millis(visualNanos, n), millis(loreNanos, n),
+                errors.get());
+    }
+}
@@ -1,362 +1,523 @@
-package dev.lsdmc.arcaniteCrystals.manager;
-
-import dev.lsdmc.arcaniteCrystals.ArcaniteCrystals;
-import dev.lsdmc.arcaniteCrystals.util.ParticleManager;
-import dev.lsdmc.arcaniteCrystals.util.SoundManager;
-import org.bukkit.Bukkit;
-import org.bukkit.Material;
-import org.bukkit.NamespacedKey;
-import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.persistence.PersistentDataContainer;
-import org.bukkit.persistence.PersistentDataType;
-
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.logging.Logger;
-
-/**
- * Manages crystal socketing mechanics.
- */
-public class CrystalSocketManager {
-    private static final Map<UUID, Map<String, List<String>>> playerSockets = new ConcurrentHashMap<>();
-    private static final Map<UUID, Map<String, Integer>> socketCooldowns = new ConcurrentHashMap<>();
-    
-    private static final NamespacedKey KEY_SOCKETED_CRYSTALS = new NamespacedKey("arcanitecrystals", "socketed_crystals");
-    private static final NamespacedKey KEY_SOCKET_COOLDOWN = new NamespacedKey("arcanitecrystals", "socket_cooldown");
-    
-    private static final int MAX_SOCKETS = 3;
-    private static final int SOCKET_COOLDOWN = 3600; // 1 hour in seconds
-    
-    private static final Logger logger = ArcaniteCrystals.getInstance().getLogger();
-    
-    private static final NamespacedKey KEY_CRYSTAL_ID = new NamespacedKey(ArcaniteCrystals.getInstance(), "crystal_id");
-    private static final NamespacedKey KEY_ITEM_ID = new NamespacedKey(ArcaniteCrystals.getInstance(), "item_id");
-    
-    private static final double SOCKET_SUCCESS_CHANCE = 0.7; // 70% base success rate
-    private static final double SOCKET_DESTROY_CHANCE = 0.1; // 10% chance to destroy crystal on failure
-    
-    /**
-     * Attempts to socket a crystal into an item.
-     */
-    public static boolean socketCrystal(Player player, ItemStack targetItem, ItemStack crystal) {
-        if (!isValidSocketTarget(targetItem) || !CrystalManager.isCrystal(crystal)) {
-            return false;
-        }
-        
-        String itemId = getItemId(targetItem);
-        if (itemId == null) {
-            itemId = UUID.randomUUID().toString();
-            setItemId(targetItem, itemId);
-        }
-        
-        // Check cooldown
-        if (isOnCooldown(player, itemId)) {
-            player.sendMessage("§cThis item is still on socket cooldown!");
-            return false;
-        }
-        
-        // Get current sockets
-        List<String> socketedCrystals = getSocketedCrystals(targetItem);
-        if (socketedCrystals.size() >= MAX_SOCKETS) {
-            player.sendMessage("§cThis item has reached its maximum socket capacity!");
-            return false;
-        }
-        
-        // Add crystal to sockets
-        String crystalId = CrystalManager.getCrystalId(crystal);
-        if (crystalId == null) {
-            crystalId = UUID.randomUUID().toString();
-            CrystalManager.setCrystalId(crystal, crystalId);
-        }
-        
-        socketedCrystals.add(crystalId);
-        setSocketedCrystals(targetItem, socketedCrystals);
-        
-        // Set cooldown
-        setCooldown(player, itemId);
-        
-        // Play effects
-        ParticleManager.playCrystalSocketEffect(player);
-        SoundManager.playCrystalSocketSound(player);
-        
-        // Update item lore
-        updateSocketLore(targetItem);
-        
-        return true;
-    }
-    
-    /**
-     * Removes a socketed crystal from an item.
-     */
-    public static boolean removeSocketedCrystal(Player player, ItemStack item, int socketIndex) {
-        if (!isValidSocketTarget(item)) {
-            return false;
-        }
-        
-        String itemId = getItemId(item);
-        if (itemId == null) {
-            return false;
-        }
-        
-        List<String> socketedCrystals = getSocketedCrystals(item);
-        if (socketIndex < 0 || socketIndex >= socketedCrystals.size()) {
-            return false;
-        }
-        
-        // Remove crystal
-        socketedCrystals.remove(socketIndex);
-        setSocketedCrystals(item, socketedCrystals);
-        
-        // Play effects
-        ParticleManager.playCrystalSocketRemoveEffect(player);
-        SoundManager.playCrystalSocketRemoveSound(player);
-        
-        // Update item lore
-        updateSocketLore(item);
-        
-        return true;
-    }
-    
-    /**
-     * Gets all socketed crystals in an item.
-     */
-    public static List<String> getSocketedCrystals(ItemStack item) {
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null) return new ArrayList<>();
-        
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-        String data = container.get(KEY_SOCKETED_CRYSTALS, PersistentDataType.STRING);
-        
-        if (data == null || data.isEmpty()) {
-            return new ArrayList<>();
-        }
-        
-        return new ArrayList<>(Arrays.asList(data.split(",")));
-    }
-    
-    /**
-     * Sets the socketed crystals for an item.
-     */
-    private static void setSocketedCrystals(ItemStack item, List<String> crystalIds) {
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null) return;
-        
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-        String data = String.join(",", crystalIds);
-        container.set(KEY_SOCKETED_CRYSTALS, PersistentDataType.STRING, data);
-        
-        item.setItemMeta(meta);
-    }
-    
-    /**
-     * Updates the item's lore to show socketed crystals.
-     */
-    private static void updateSocketLore(ItemStack item) {
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null) return;
-        
-        List<String> lore = meta.getLore();
-        if (lore == null) {
-            lore = new ArrayList<>();
-        }
-        
-        // Remove old socket lore
-        lore.removeIf(line -> line.startsWith("§7Socketed Crystal:"));
-        
-        // Add new socket lore
-        List<String> socketedCrystals = getSocketedCrystals(item);
-        for (String crystalId : socketedCrystals) {
-            lore.add("§7Socketed Crystal: §b" + crystalId);
-        }
-        
-        meta.setLore(lore);
-        item.setItemMeta(meta);
-    }
-    
-    /**
-     * Checks if an item is valid for socketing.
-     */
-    private static boolean isValidSocketTarget(ItemStack item) {
-        if (item == null) return false;
-        
-        // Add your item type validation here
-        return item.getType() == Material.DIAMOND_SWORD ||
-               item.getType() == Material.NETHERITE_SWORD ||
-               item.getType() == Material.DIAMOND_CHESTPLATE ||
-               item.getType() == Material.NETHERITE_CHESTPLATE;
-    }
-    
-    /**
-     * Gets the unique ID of an item.
-     */
-    private static String getItemId(ItemStack item) {
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null) return null;
-        
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-        return container.get(KEY_SOCKETED_CRYSTALS, PersistentDataType.STRING);
-    }
-    
-    /**
-     * Sets a unique ID for an item.
-     */
-    private static void setItemId(ItemStack item, String id) {
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null) return;
-        
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-        container.set(KEY_SOCKETED_CRYSTALS, PersistentDataType.STRING, id);
-        
-        item.setItemMeta(meta);
-    }
-    
-    /**
-     * Checks if an item is on socket cooldown.
-     */
-    private static boolean isOnCooldown(Player player, String itemId) {
-        Map<String, Integer> cooldowns = socketCooldowns.get(player.getUniqueId());
-        if (cooldowns == null) return false;
-        
-        Integer cooldown = cooldowns.get(itemId);
-        if (cooldown == null) return false;
-        
-        return cooldown > 0;
-    }
-    
-    /**
-     * Sets the socket cooldown for an item.
-     */
-    private static void setCooldown(Player player, String itemId) {
-        Map<String, Integer> cooldowns = socketCooldowns.computeIfAbsent(
-            player.getUniqueId(), k -> new ConcurrentHashMap<>());
-        cooldowns.put(itemId, SOCKET_COOLDOWN);
-    }
-    
-    /**
-     * Updates all socket cooldowns.
-     */
-    public static void updateCooldowns() {
-        for (Map<String, Integer> cooldowns : socketCooldowns.values()) {
-            cooldowns.replaceAll((k, v) -> Math.max(0, v - 1));
-        }
-    }
-    
-    /**
-     * Checks if an item can be socketed.
-     */
-    private static boolean isSocketable(ItemStack item) {
-        if (item == null) return false;
-        
-        Material type = item.getType();
-        return type.name().endsWith("_SWORD") ||
-               type.name().endsWith("_AXE") ||
-               type.name().endsWith("_PICKAXE") ||
-               type.name().endsWith("_SHOVEL") ||
-               type.name().endsWith("_HOE") ||
-               type.name().endsWith("_HELMET") ||
-               type.name().endsWith("_CHESTPLATE") ||
-               type.name().endsWith("_LEGGINGS") ||
-               type.name().endsWith("_BOOTS");
-    }
-    
-    /**
-     * Checks if an item is a valid crystal.
-     */
-    private static boolean isValidCrystal(ItemStack item) {
-        if (item == null) return false;
-        
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null) return false;
-        
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-        return container.has(KEY_CRYSTAL_ID, PersistentDataType.STRING);
-    }
-    
-    /**
-     * Calculates the success chance for socketing.
-     */
-    private static double calculateSuccessChance(Player player, ItemStack item, ItemStack crystal) {
-        double chance = SOCKET_SUCCESS_CHANCE;
-        
-        // Add player level bonus
-        int playerLevel = player.getLevel();
-        chance += playerLevel * 0.01; // 1% per level
-        
-        // Add item quality bonus
-        if (item.hasItemMeta() && item.getItemMeta().hasEnchants()) {
-            chance += 0.05; // 5% for enchanted items
-        }
-        
-        // Add crystal quality bonus
-        if (crystal.hasItemMeta() && crystal.getItemMeta().hasEnchants()) {
-            chance += 0.1; // 10% for enchanted crystals
-        }
-        
-        return Math.min(0.95, chance); // Cap at 95%
-    }
-    
-    /**
-     * Applies the effects of a socketed crystal.
-     */
-    private static void applySocketEffects(Player player, ItemStack item, ItemStack crystal) {
-        List<String> effects = CrystalManager.getCrystalEffects(crystal);
-        for (String effect : effects) {
-            UpgradeManager.applyUpgradeEffect(player, effect);
-        }
-        
-        // Store active effects
-        Map<String, List<String>> sockets = playerSockets.computeIfAbsent(
-            player.getUniqueId(), k -> new ConcurrentHashMap<>());
-        String itemId = getItemId(item);
-        sockets.put(itemId, effects);
-    }
-    
-    /**
-     * Removes the effects of a socketed crystal.
-     */
-    private static void removeSocketEffects(Player player, ItemStack item, String crystalId) {
-        Map<String, List<String>> sockets = playerSockets.get(player.getUniqueId());
-        if (sockets == null) return;
-        
-        String itemId = getItemId(item);
-        List<String> effects = sockets.get(itemId);
-        if (effects != null) {
-            for (String effect : effects) {
-                UpgradeManager.removeUpgradeEffect(player, effect);
-            }
-            sockets.remove(itemId);
-        }
-    }
-    
-    /**
-     * Gets the unique ID of a crystal.
-     */
-    private static String getCrystalId(ItemStack crystal) {
-        if (!crystal.hasItemMeta()) return null;
-        
-        PersistentDataContainer container = crystal.getItemMeta().getPersistentDataContainer();
-        return container.get(KEY_CRYSTAL_ID, PersistentDataType.STRING);
-    }
-    
-    /**
-     * Sets the unique ID of a crystal.
-     */
-    private static void setCrystalId(ItemStack crystal, String id) {
-        ItemMeta meta = crystal.getItemMeta();
-        if (meta == null) return;
-        
-        PersistentDataContainer container = meta.getPersistentDataContainer();
-        container.set(KEY_CRYSTAL_ID, PersistentDataType.STRING, id);
-        crystal.setItemMeta(meta);
-    }
-    
-    /**
-     * Cleans up all socket data.
-     */
-    public static void cleanup() {
-        playerSockets.clear();
-        socketCooldowns.clear();
-    }
+package dev.lsdmc.arcaniteCrystals.manager;
+
+import dev.lsdmc.arcaniteCrystals.ArcaniteCrystals;
+import dev.lsdmc.arcaniteCrystals.util.ParticleManager;
+import dev.lsdmc.arcaniteCrystals.util.SoundManager;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Manages crystal socketing mechanics.
+ * <p>
+ * Each socketed item carries its own id, the ids of its socketed crystals and the effects they
+ * brought with them. Decoded sockets are cached by item id and validated against a version stamp
+ * written with every change, so stat and damage code can read them without reparsing.
+ */
+public class CrystalSocketManager {
+    private static final Map<UUID, Map<String, List<String>>> playerSockets = new ConcurrentHashMap<>();
+    
+    private static final NamespacedKey KEY_SOCKETED_CRYSTALS = new NamespacedKey("arcanitecrystals", "socketed_crystals");
+    private static final NamespacedKey KEY_SOCKETED_EFFECTS = new NamespacedKey("arcanitecrystals", "socketed_effects");
+    private static final NamespacedKey KEY_SOCKET_VERSION = new NamespacedKey("arcanitecrystals", "socket_version");
+    
+    // Decoded sockets by item id; an entry is only used if its version stamp matches the item's
+    private static final int INDEX_CACHE_SIZE = 2048;
+    private static final Map<String, SocketIndex> indexCache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SocketIndex> eldest) {
+            return size() > INDEX_CACHE_SIZE;
+        }
+    };
+    // Seeded from the clock so stamps from a previous run are never reissued
+    private static final AtomicLong versionClock = new AtomicLong(System.currentTimeMillis() << 16);
+    private static final AtomicLong indexHits = new AtomicLong();
+    private static final AtomicLong indexDecodes = new AtomicLong();
+    
+    private static final int MAX_SOCKETS = 3;
+    private static final int SOCKET_COOLDOWN = 3600; // 1 hour in seconds
+    
+    private static final Logger logger = ArcaniteCrystals.getInstance().getLogger();
+    
+    private static final NamespacedKey KEY_CRYSTAL_ID = new NamespacedKey(ArcaniteCrystals.getInstance(), "crystal_id");
+    private static final NamespacedKey KEY_ITEM_ID = new NamespacedKey(ArcaniteCrystals.getInstance(), "item_id");
+    
+    private static final double SOCKET_SUCCESS_CHANCE = 0.7; // 70% base success rate
+    private static final double SOCKET_DESTROY_CHANCE = 0.1; // 10% chance to destroy crystal on failure
+    
+    /**
+     * The decoded sockets of one item. Immutable, so it can be shared from the cache.
+     */
+    public static class SocketIndex {
+        private static final SocketIndex EMPTY = new SocketIndex(null, 0L, List.of(), List.of());
+        
+        private final String itemId;
+        private final long version;
+        private final List<String> crystalIds;
+        private final List<List<String>> socketEffects;
+        private final List<String> effects;
+        
+        SocketIndex(String itemId, long version, List<String> crystalIds, List<List<String>> socketEffects) {
+            this.itemId = itemId;
+            this.version = version;
+            this.crystalIds = List.copyOf(crystalIds);
+            this.socketEffects = socketEffects.stream().map(List::copyOf).toList();
+            this.effects = this.socketEffects.stream().flatMap(List::stream).toList();
+        }
+        
+        public String getItemId() { return itemId; }
+        public long getVersion() { return version; }
+        public List<String> getCrystalIds() { return crystalIds; }
+        public int size() { return crystalIds.size(); }
+        public boolean isEmpty() { return crystalIds.isEmpty(); }
+        
+        /**
+         * Effects of the crystal in one socket.
+         */
+        public List<String> getEffects(int socket) {
+            return socket < socketEffects.size() ? socketEffects.get(socket) : List.of();
+        }
+        
+        /**
+         * Effects of every socketed crystal, in socket order.
+         */
+        public List<String> getEffects() { return effects; }
+    }
+    
+    /**
+     * Attempts to socket a crystal into an item.
+     */
+    public static boolean socketCrystal(Player player, ItemStack targetItem, ItemStack crystal) {
+        if (!isValidSocketTarget(targetItem) || !CrystalManager.isCrystal(crystal)) {
+            return false;
+        }
+        
+        migrateLegacyItemId(targetItem);
+        String itemId = getItemId(targetItem);
+        if (itemId == null) {
+            itemId = UUID.randomUUID().toString();
+            setItemId(targetItem, itemId);
+        }
+        
+        // Check cooldown
+        if (isOnCooldown(player, itemId)) {
+            player.sendMessage("§cThis item is still on socket cooldown!");
+            return false;
+        }
+        
+        // Get current sockets
+        SocketIndex index = getSocketIndex(targetItem);
+        if (index.size() >= MAX_SOCKETS) {
+            player.sendMessage("§cThis item has reached its maximum socket capacity!");
+            return false;
+        }
+        
+        // Add crystal to sockets
+        String crystalId = CrystalManager.getCrystalId(crystal);
+        if (crystalId == null) {
+            crystalId = UUID.randomUUID().toString();
+            CrystalManager.setCrystalId(crystal, crystalId);
+        }
+        
+        List<String> socketedCrystals = new ArrayList<>(index.getCrystalIds());
+        List<List<String>> socketEffects = new ArrayList<>();
+        for (int i = 0; i < index.size(); i++) {
+            socketEffects.add(index.getEffects(i));
+        }
+        socketedCrystals.add(crystalId);
+        socketEffects.add(CrystalManager.getCrystalEffects(crystal));
+        setSocketedCrystals(targetItem, socketedCrystals, socketEffects);
+        
+        // Set cooldown
+        setCooldown(player, itemId);
+        
+        // Play effects
+        ParticleManager.playCrystalSocketEffect(player);
+        SoundManager.playCrystalSocketSound(player);
+        
+        // Update item lore
+        updateSocketLore(targetItem);
+        SocketStatManager.markDirty(player);
+        
+        return true;
+    }
+    
+    /**
+     * Removes a socketed crystal from an item.
+     */
+    public static boolean removeSocketedCrystal(Player player, ItemStack item, int socketIndex) {
+        if (!isValidSocketTarget(item)) {
+            return false;
+        }
+        
+        migrateLegacyItemId(item);
+        String itemId = getItemId(item);
+        if (itemId == null) {
+            return false;
+        }
+        
+        SocketIndex index = getSocketIndex(item);
+        if (socketIndex < 0 || socketIndex >= index.size()) {
+            return false;
+        }
+        
+        // Remove crystal
+        List<String> socketedCrystals = new ArrayList<>(index.getCrystalIds());
+        List<List<String>> socketEffects = new ArrayList<>();
+        for (int i = 0; i < index.size(); i++) {
+            socketEffects.add(index.getEffects(i));
+        }
+        socketedCrystals.remove(socketIndex);
+        socketEffects.remove(socketIndex);
+        setSocketedCrystals(item, socketedCrystals, socketEffects);
+        
+        // Play effects
+        ParticleManager.playCrystalSocketRemoveEffect(player);
+        SoundManager.playCrystalSocketRemoveSound(player);
+        
+        // Update item lore
+        updateSocketLore(item);
+        SocketStatManager.markDirty(player);
+        
+        return true;
+    }
+    
+    /**
+     * Gets all socketed crystals in an item.
+     */
+    public static List<String> getSocketedCrystals(ItemStack item) {
+        // Callers are free to modify the returned list; the cached index stays immutable
+        return new ArrayList<>(getSocketIndex(item).getCrystalIds());
+    }
+    
+    /**
+     * Returns the decoded sockets of an item, empty if it has none.
+     * <p>
+     * Items with an id and a version stamp are decoded once and served from the index cache until
+     * their stamp changes; anything else is decoded on every call.
+     */
+    public static SocketIndex getSocketIndex(ItemStack item) {
+        if (item == null || !item.hasItemMeta()) return SocketIndex.EMPTY;
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) return SocketIndex.EMPTY;
+        
+        PersistentDataContainer container = meta.getPersistentDataContainer();
+        String itemId = container.get(KEY_ITEM_ID, PersistentDataType.STRING);
+        long version = container.getOrDefault(KEY_SOCKET_VERSION, PersistentDataType.LONG, 0L);
+        boolean cacheable = itemId != null && version != 0L;
+        
+        if (cacheable) {
+            SocketIndex cached;
+            synchronized (indexCache) {
+                cached = indexCache.get(itemId);
+            }
+            if (cached != null && cached.getVersion() == version) {
+                indexHits.incrementAndGet();
+                return cached;
+            }
+        }
+        
+        SocketIndex index = decodeIndex(container, itemId, version);
+        if (cacheable) {
+            synchronized (indexCache) {
+                indexCache.put(itemId, index);
+            }
+        }
+        return index;
+    }
+    
+    /**
+     * Decodes the socket list, a comma separated list of crystal ids, and the matching effects,
+     * one comma separated list per socket joined with semicolons. An item without an item id key is
+     * in the legacy layout, whose leading entry is the item id rather than a crystal.
+     */
+    private static SocketIndex decodeIndex(PersistentDataContainer container, String itemId, long version) {
+        indexDecodes.incrementAndGet();
+        
+        String data = container.get(KEY_SOCKETED_CRYSTALS, PersistentDataType.STRING);
+        if (data == null || data.isEmpty()) {
+            return new SocketIndex(itemId, version, List.of(), List.of());
+        }
+        List<String> crystalIds = Arrays.asList(data.split(","));
+        if (itemId == null) {
+            // Not migrated yet, see migrateLegacyItemId
+            crystalIds = crystalIds.subList(1, crystalIds.size());
+        }
+        
+        String effectData = container.get(KEY_SOCKETED_EFFECTS, PersistentDataType.STRING);
+        String[] perSocket = effectData != null ? effectData.split(";", -1) : new String[0];
+        List<List<String>> socketEffects = new ArrayList<>(crystalIds.size());
+        for (int i = 0; i < crystalIds.size(); i++) {
+            String effects = i < perSocket.length ? perSocket[i] : "";
+            socketEffects.add(effects.isEmpty() ? List.of() : Arrays.asList(effects.split(",")));
+        }
+        return new SocketIndex(itemId, version, crystalIds, socketEffects);
+    }
+    
+    /**
+     * Sets the socketed crystals and their effects for an item and stamps it with a new version.
+     */
+    private static void setSocketedCrystals(ItemStack item, List<String> crystalIds, List<List<String>> socketEffects) {
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) return;
+        
+        PersistentDataContainer container = meta.getPersistentDataContainer();
+        container.set(KEY_SOCKETED_CRYSTALS, PersistentDataType.STRING, String.join(",", crystalIds));
+        StringJoiner effects = new StringJoiner(";");
+        for (List<String> socket : socketEffects) {
+            effects.add(String.join(",", socket));
+        }
+        container.set(KEY_SOCKETED_EFFECTS, PersistentDataType.STRING, effects.toString());
+        long version = versionClock.incrementAndGet();
+        container.set(KEY_SOCKET_VERSION, PersistentDataType.LONG, version);
+        
+        item.setItemMeta(meta);
+        
+        String itemId = container.get(KEY_ITEM_ID, PersistentDataType.STRING);
+        if (itemId != null) {
+            SocketIndex index = new SocketIndex(itemId, version, crystalIds, socketEffects);
+            synchronized (indexCache) {
+                indexCache.put(itemId, index);
+            }
+        }
+    }
+    
+    /**
+     * Older versions stored the item id at the front of the socket list. Moves it to its own key.
+     */
+    private static void migrateLegacyItemId(ItemStack item) {
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) return;
+        
+        PersistentDataContainer container = meta.getPersistentDataContainer();
+        String data = container.get(KEY_SOCKETED_CRYSTALS, PersistentDataType.STRING);
+        if (container.has(KEY_ITEM_ID, PersistentDataType.STRING) || data == null || data.isEmpty()) {
+            return;
+        }
+        
+        List<String> entries = new ArrayList<>(Arrays.asList(data.split(",")));
+        container.set(KEY_ITEM_ID, PersistentDataType.STRING, entries.remove(0));
+        container.set(KEY_SOCKETED_CRYSTALS, PersistentDataType.STRING, String.join(",", entries));
+        container.set(KEY_SOCKET_VERSION, PersistentDataType.LONG, versionClock.incrementAndGet());
+        item.setItemMeta(meta);
+    }
+    
+    /**
+     * Gets socket index cache statistics.
+     */
+    public static String getStats() {
+        int size;
+        synchronized (indexCache) {
+            size = indexCache.size();
+        }
+        long hits = indexHits.get();
+        long total = hits + indexDecodes.get();
+        return String.format("Socket index: %d/%d, Hit rate: %.1f%%, Decodes: %d",
+                size, INDEX_CACHE_SIZE, total == 0 ? 0 : hits * 100.0 / total, indexDecodes.get());
+    }
+    
+    /**
+     * Updates the item's lore to show socketed crystals.
+     */
+    private static void updateSocketLore(ItemStack item) {
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) return;
+        
+        List<String> lore = meta.getLore();
+        if (lore == null) {
+            lore = new ArrayList<>();
+        }
+        
+        // Remove old socket lore
+        lore.removeIf(line -> line.startsWith("§7Socketed Crystal:"));
+        
+        // Add new socket lore
+        for (String crystalId : getSocketIndex(item).getCrystalIds()) {
+            lore.add("§7Socketed Crystal: §b" + crystalId);
+        }
+        
+        meta.setLore(lore);
+        item.setItemMeta(meta);
+    }
+    
+    /**
+     * Checks if an item is valid for socketing.
+     */
+    private static boolean isValidSocketTarget(ItemStack item) {
+        if (item == null) return false;
+        
+        // Add your item type validation here
+        return item.getType() == Material.DIAMOND_SWORD ||
+               item.getType() == Material.NETHERITE_SWORD ||
+               item.getType() == Material.DIAMOND_CHESTPLATE ||
+               item.getType() == Material.NETHERITE_CHESTPLATE;
+    }
+    
+    /**
+     * Gets the unique ID of an item.
+     */
+    private static String getItemId(ItemStack item) {
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) return null;
+        
+        PersistentDataContainer container = meta.getPersistentDataContainer();
+        return container.get(KEY_ITEM_ID, PersistentDataType.STRING);
+    }
+    
+    /**
+     * Sets a unique ID for an item.
+     */
+    private static void setItemId(ItemStack item, String id) {
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) return;
+        
+        PersistentDataContainer container = meta.getPersistentDataContainer();
+        container.set(KEY_ITEM_ID, PersistentDataType.STRING, id);
+        
+        item.setItemMeta(meta);
+    }
+    
+    /**
+     * Checks if an item is on socket cooldown. The deadline is absolute, so this is a single lookup.
+     */
+    private static boolean isOnCooldown(Player player, String itemId) {
+        return CrystalCooldownManager.isOnCooldown(player.getUniqueId(), CrystalCooldownManager.Type.SOCKET, itemId);
+    }
+    
+    /**
+     * Sets the socket cooldown for an item.
+     */
+    private static void setCooldown(Player player, String itemId) {
+        CrystalCooldownManager.start(player, CrystalCooldownManager.Type.SOCKET, itemId, SOCKET_COOLDOWN * 1000L);
+    }
+    
+    /**
+     * Checks if an item can be socketed.
+     */
+    private static boolean isSocketable(ItemStack item) {
+        if (item == null) return false;
+        
+        Material type = item.getType();
+        return type.name().endsWith("_SWORD") ||
+               type.name().endsWith("_AXE") ||
+               type.name().endsWith("_PICKAXE") ||
+               type.name().endsWith("_SHOVEL") ||
+               type.name().endsWith("_HOE") ||
+               type.name().endsWith("_HELMET") ||
+               type.name().endsWith("_CHESTPLATE") ||
+               type.name().endsWith("_LEGGINGS") ||
+               type.name().endsWith("_BOOTS");
+    }
+    
+    /**
+     * Checks if an item is a valid crystal.
+     */
+    private static boolean isValidCrystal(ItemStack item) {
+        if (item == null) return false;
+        
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) return false;
+        
+        PersistentDataContainer container = meta.getPersistentDataContainer();
+        return container.has(KEY_CRYSTAL_ID, PersistentDataType.STRING);
+    }
+    
+    /**
+     * Calculates the success chance for socketing.
+     */
+    private static double calculateSuccessChance(Player player, ItemStack item, ItemStack crystal) {
+        double chance = SOCKET_SUCCESS_CHANCE;
+        
+        // Add player level bonus
+        int playerLevel = player.getLevel();
+        chance += playerLevel * 0.01; // 1% per level
+        
+        // Add item quality bonus
+        if (item.hasItemMeta() && item.getItemMeta().hasEnchants()) {
+            chance += 0.05; // 5% for enchanted items
+        }
+        
+        // Add crystal quality bonus
+        if (crystal.hasItemMeta() && crystal.getItemMeta().hasEnchants()) {
+            chance += 0.1; // 10% for enchanted crystals
+        }
+        
+        return Math.min(0.95, chance); // Cap at 95%
+    }
+    
+    /**
+     * Applies the effects of a socketed crystal.
+     */
+    private static void applySocketEffects(Player player, ItemStack item, ItemStack crystal) {
+        List<String> effects = CrystalManager.getCrystalEffects(crystal);
+        for (String effect : effects) {
+            UpgradeManager.applyUpgradeEffect(player, effect);
+        }
+        
+        // Store active effects
+        Map<String, List<String>> sockets = playerSockets.computeIfAbsent(
+            player.getUniqueId(), k -> new ConcurrentHashMap<>());
+        String itemId = getItemId(item);
+        sockets.put(itemId, effects);
+    }
+    
+    /**
+     * Removes the effects of a socketed crystal.
+     */
+    private static void removeSocketEffects(Player player, ItemStack item, String crystalId) {
+        Map<String, List<String>> sockets = playerSockets.get(player.getUniqueId());
+        if (sockets == null) return;
+        
+        String itemId = getItemId(item);
+        List<String> effects = sockets.get(itemId);
+        if (effects != null) {
+            for (String effect : effects) {
+                UpgradeManager.removeUpgradeEffect(player, effect);
+            }
+            sockets.remove(itemId);
+        }
+    }
+    
+    /**
+     * Gets the unique ID of a crystal.
+     */
+    private static String getCrystalId(ItemStack crystal) {
+        if (!crystal.hasItemMeta()) return null;
+        
+        PersistentDataContainer container = crystal.getItemMeta().getPersistentDataContainer();
+        return container.get(KEY_CRYSTAL_ID, PersistentDataType.STRING);
+    }
+    
+    /**
+     * Sets the unique ID of a crystal.
+     */
+    private static void setCrystalId(ItemStack crystal, String id) {
+        ItemMeta meta = crystal.getItemMeta();
+        if (meta == null) return;
+        
+        PersistentDataContainer container = meta.getPersistentDataContainer();
+        container.set(KEY_CRYSTAL_ID, PersistentDataType.STRING, id);
+        CrystalManager.markModified(container);
+        crystal.setItemMeta(meta);
+    }
+    
+    /**
+     * Cleans up all socket data.
+     */
+    public static void cleanup() {
+        playerSockets.clear();
+        synchronized (indexCache) {
+            indexCache.clear();
+        }
+    }
 } 
\ No newline at end of file
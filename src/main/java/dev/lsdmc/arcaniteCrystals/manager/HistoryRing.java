@@ -0,0 +1,274 @@
+package dev.lsdmc.arcaniteCrystals.manager;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Fixed-capacity history of one player's events, stored as primitive columns: a timestamp plus up
+ * to {@link #MAX_COLUMNS} ints per record.
+ * <p>
+ * Appends take a short per-ring lock and never shift data. When the ring is full the oldest half is
+ * copied out and appended to the ring's spill file by a single background thread, so on-disk records
+ * are fixed-width and always in order. Queries walk newest-first and continue into spilled records
+ * only when the caller asks for more than memory holds. Those are read on the caller's thread under
+ * the ring's file lock, from blocks still waiting for the spill thread and then from the file, so a
+ * query never waits behind other rings' spills.
+ * <p>
+ * Once the spill file holds twice {@code maxSpilled} records it is rewritten with only the newest
+ * {@code maxSpilled}, so disk use per ring is bounded and the rewrite cost is amortized.
+ */
+class HistoryRing {
+
+    static final int MAX_COLUMNS = 8;
+    private static final int COPY_BUFFER = 64 * 1024;
+
+    /**
+     * Receives one record. The array holds the ring's columns and is reused for the next record.
+     */
+    interface Visitor {
+        void accept(long timestamp, int[] record);
+    }
+
+    private static final ExecutorService spiller = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "arcanite-history-spill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final File file;
+    private final int columns;
+    private final int recordBytes;
+    private final long maxSpilled;
+    private final int mask;
+    private final long[] timestamps;
+    private final int[] values;
+    private final Logger logger;
+    // Held for file access; taken before this when both are needed
+    private final Object fileLock = new Object();
+
+    // Spilled blocks not yet written, oldest first, guarded by this
+    private final ArrayDeque<byte[]> unwritten = new ArrayDeque<>();
+    // Session-relative sequence numbers, guarded by this
+    private long next;
+    private long firstInMemory;
+    private volatile long lastAppend = System.currentTimeMillis();
+
+    HistoryRing(File file, int columns, int capacity, long maxSpilled, Logger logger) {
+        if (columns < 1 || columns > MAX_COLUMNS) {
+            throw new IllegalArgumentException("History records hold 1-" + MAX_COLUMNS + " columns: " + columns);
+        }
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.file = file;
+        this.columns = columns;
+        this.recordBytes = Long.BYTES + columns * Integer.BYTES;
+        this.maxSpilled = Math.max(capacity, maxSpilled);
+        this.mask = size - 1;
+        this.timestamps = new long[size];
+        this.values = new int[size * columns];
+        this.logger = logger;
+    }
+
+    /**
+     * Runs a task on the spill thread, after every spill submitted before it.
+     */
+    static void submit(Runnable task) {
+        spiller.execute(task);
+    }
+
+    /**
+     * Waits for queued spills to reach disk and stops the spill thread.
+     */
+    static void shutdown() {
+        spiller.shutdown();
+        try {
+            if (!spiller.awaitTermination(10, TimeUnit.SECONDS)) {
+                spiller.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Appends one record; {@code record} must hold at least this ring's column count.
+     */
+    synchronized void append(long timestamp, int[] record) {
+        if (next - firstInMemory == timestamps.length) {
+            spill(timestamps.length / 2);
+        }
+        int slot = (int) (next & mask);
+        timestamps[slot] = timestamp;
+        System.arraycopy(record, 0, values, slot * columns, columns);
+        next++;
+        lastAppend = System.currentTimeMillis();
+    }
+
+    /**
+     * Visits up to {@code limit} records newest-first, skipping the {@code skip} newest. Reads reach
+     * the spill file only for records that are no longer in memory.
+     */
+    void query(int skip, int limit, Visitor visitor) {
+        // The file lock keeps the spill thread from moving a block to disk while it is being read
+        synchronized (fileLock) {
+            int[] record = new int[columns];
+            long inMemory;
+            int visited = 0;
+            List<byte[]> pending;
+            synchronized (this) {
+                inMemory = next - firstInMemory;
+                long sequence = next - 1 - skip;
+                for (; visited < limit && sequence >= firstInMemory; sequence--, visited++) {
+                    int slot = (int) (sequence & mask);
+                    System.arraycopy(values, slot * columns, record, 0, columns);
+                    visitor.accept(timestamps[slot], record);
+                }
+                if (visited == limit) return;
+                pending = new ArrayList<>(unwritten);
+            }
+
+            int spilledSkip = (int) Math.max(0, skip - inMemory);
+            int remaining = limit - visited;
+            // Unwritten blocks are newer than anything in the file
+            for (int block = pending.size() - 1; block >= 0 && remaining > 0; block--) {
+                byte[] bytes = pending.get(block);
+                for (int index = bytes.length / recordBytes - 1; index >= 0 && remaining > 0; index--) {
+                    if (spilledSkip > 0) {
+                        spilledSkip--;
+                        continue;
+                    }
+                    decode(ByteBuffer.wrap(bytes, index * recordBytes, recordBytes), record, visitor);
+                    remaining--;
+                }
+            }
+            if (remaining > 0) {
+                readDisk(spilledSkip, remaining, record, visitor);
+            }
+        }
+    }
+
+    /**
+     * Moves everything still in memory to the spill file.
+     */
+    synchronized void spillAll() {
+        spill((int) (next - firstInMemory));
+    }
+
+    synchronized int size() {
+        return (int) (next - firstInMemory);
+    }
+
+    long getLastAppend() {
+        return lastAppend;
+    }
+
+    private void spill(int count) {
+        if (count <= 0) return;
+        ByteBuffer block = ByteBuffer.allocate(count * recordBytes);
+        for (long sequence = firstInMemory, end = firstInMemory + count; sequence < end; sequence++) {
+            int slot = (int) (sequence & mask);
+            block.putLong(timestamps[slot]);
+            for (int column = 0, base = slot * columns; column < columns; column++) {
+                block.putInt(values[base + column]);
+            }
+        }
+        firstInMemory += count;
+        byte[] bytes = block.array();
+        unwritten.addLast(bytes);
+        spiller.execute(() -> {
+            synchronized (fileLock) {
+                try {
+                    writeDisk(bytes);
+                } finally {
+                    synchronized (this) {
+                        unwritten.pollFirst();
+                    }
+                }
+            }
+        });
+    }
+
+    private void writeDisk(byte[] bytes) {
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            logger.warning("Could not create history directory " + parent);
+            return;
+        }
+        try {
+            long length = file.length();
+            if (length % recordBytes != 0) {
+                // Drop a torn tail so every record stays aligned
+                try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                    raf.setLength(length - length % recordBytes);
+                }
+            }
+            try (FileOutputStream out = new FileOutputStream(file, true)) {
+                out.write(bytes);
+            }
+            if (file.length() / recordBytes >= 2 * maxSpilled) {
+                compact();
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to spill history to " + file.getName(), e);
+        }
+    }
+
+    /**
+     * Rewrites the spill file with only its newest {@code maxSpilled} records. Called on the spill
+     * thread under the file lock; the old file is replaced in one move.
+     */
+    private void compact() throws IOException {
+        File temp = new File(file.getPath() + ".tmp");
+        try (RandomAccessFile in = new RandomAccessFile(file, "r");
+             FileOutputStream out = new FileOutputStream(temp)) {
+            long end = in.length() / recordBytes * recordBytes;
+            long position = end - maxSpilled * recordBytes;
+            in.seek(position);
+            byte[] buffer = new byte[COPY_BUFFER];
+            while (position < end) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, end - position));
+                if (read < 0) break;
+                out.write(buffer, 0, read);
+                position += read;
+            }
+        }
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void readDisk(int skip, int limit, int[] record, Visitor visitor) {
+        if (!file.exists()) return;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            long records = raf.length() / recordBytes;
+            byte[] bytes = new byte[recordBytes];
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            for (long index = records - 1 - skip; index >= 0 && limit > 0; index--, limit--) {
+                raf.seek(index * recordBytes);
+                raf.readFully(bytes);
+                buffer.clear();
+                decode(buffer, record, visitor);
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to read history from " + file.getName(), e);
+        }
+    }
+
+    private void decode(ByteBuffer buffer, int[] record, Visitor visitor) {
+        long timestamp = buffer.getLong();
+        for (int column = 0; column < columns; column++) {
+            record[column] = buffer.getInt();
+        }
+        visitor.accept(timestamp, record);
+    }
+}
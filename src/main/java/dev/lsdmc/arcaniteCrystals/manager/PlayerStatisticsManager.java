@@ -1,251 +1,689 @@
-package dev.lsdmc.arcaniteCrystals.manager;
-
-import dev.lsdmc.arcaniteCrystals.ArcaniteCrystals;
-import dev.lsdmc.arcaniteCrystals.config.ConfigManager;
-import dev.lsdmc.arcaniteCrystals.database.DatabaseManager;
-import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.entity.Player;
-
-import java.time.Instant;
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.logging.Logger;
-
-/**
- * Manages player statistics and crystal usage tracking.
- */
-public class PlayerStatisticsManager {
-    private static final Map<UUID, PlayerStats> playerStats = new ConcurrentHashMap<>();
-    private static final Map<UUID, Map<String, Long>> stats = new ConcurrentHashMap<>();
-    private static final Map<UUID, List<CrystalUsageRecord>> usageHistory = new ConcurrentHashMap<>();
-    private static final Map<UUID, List<PurchaseRecord>> purchaseHistory = new ConcurrentHashMap<>();
-    private static final Logger logger = ArcaniteCrystals.getInstance().getLogger();
-    
-    private static PlayerStatisticsManager instance;
-    private final FileConfiguration config;
-    private final int saveInterval;
-    
-    public static class PlayerStats {
-        public final AtomicInteger crystalsActivated = new AtomicInteger(0);
-        public final AtomicInteger successfulFusions = new AtomicInteger(0);
-        public final AtomicInteger failedFusions = new AtomicInteger(0);
-        public final AtomicInteger successfulSockets = new AtomicInteger(0);
-        public final AtomicInteger failedSockets = new AtomicInteger(0);
-        public final AtomicInteger totalEnergyUsed = new AtomicInteger(0);
-        public final AtomicInteger crystalsDecayed = new AtomicInteger(0);
-        public final AtomicInteger crystalsCorrupted = new AtomicInteger(0);
-        public final AtomicInteger successfulIdentifications = new AtomicInteger(0);
-        public final AtomicInteger failedIdentifications = new AtomicInteger(0);
-    }
-    
-    public PlayerStatisticsManager() {
-        this.config = ConfigManager.getConfig();
-        this.saveInterval = config.getInt("statistics.save-interval", 300); // 5 minutes
-        instance = this;
-    }
-    
-    public static PlayerStatisticsManager getInstance() {
-        return instance;
-    }
-    
-    /**
-     * Record of crystal usage.
-     */
-    public static class CrystalUsageRecord {
-        private final String crystalId;
-        private final String action;
-        private final int energyBefore;
-        private final int energyAfter;
-        private final Instant timestamp;
-        
-        public CrystalUsageRecord(String crystalId, String action, int energyBefore, int energyAfter) {
-            this.crystalId = crystalId;
-            this.action = action;
-            this.energyBefore = energyBefore;
-            this.energyAfter = energyAfter;
-            this.timestamp = Instant.now();
-        }
-        
-        public String getCrystalId() { return crystalId; }
-        public String getAction() { return action; }
-        public int getEnergyBefore() { return energyBefore; }
-        public int getEnergyAfter() { return energyAfter; }
-        public Instant getTimestamp() { return timestamp; }
-    }
-    
-    /**
-     * Record of upgrade purchase.
-     */
-    public static class PurchaseRecord {
-        private final String upgradeId;
-        private final String costType;
-        private final int costAmount;
-        private final Instant timestamp;
-        
-        public PurchaseRecord(String upgradeId, String costType, int costAmount) {
-            this.upgradeId = upgradeId;
-            this.costType = costType;
-            this.costAmount = costAmount;
-            this.timestamp = Instant.now();
-        }
-        
-        public String getUpgradeId() { return upgradeId; }
-        public String getCostType() { return costType; }
-        public int getCostAmount() { return costAmount; }
-        public Instant getTimestamp() { return timestamp; }
-    }
-    
-    /**
-     * Increments a player's statistic.
-     */
-    public static void incrementStat(UUID playerId, String statName, long amount) {
-        PlayerStats stats = playerStats.computeIfAbsent(playerId, k -> new PlayerStats());
-        switch (statName) {
-            case "crystals_activated" -> stats.crystalsActivated.addAndGet((int)amount);
-            case "successful_fusions" -> stats.successfulFusions.addAndGet((int)amount);
-            case "failed_fusions" -> stats.failedFusions.addAndGet((int)amount);
-            case "successful_sockets" -> stats.successfulSockets.addAndGet((int)amount);
-            case "failed_sockets" -> stats.failedSockets.addAndGet((int)amount);
-            case "total_energy_used" -> stats.totalEnergyUsed.addAndGet((int)amount);
-            case "crystals_decayed" -> stats.crystalsDecayed.addAndGet((int)amount);
-            case "crystals_corrupted" -> stats.crystalsCorrupted.addAndGet((int)amount);
-            case "successful_identifications" -> stats.successfulIdentifications.addAndGet((int)amount);
-            case "failed_identifications" -> stats.failedIdentifications.addAndGet((int)amount);
-        }
-        
-        // Log significant stat changes
-        if (amount > 1000) {
-            logger.info("Player " + playerId + " gained " + amount + " " + statName);
-        }
-    }
-    
-    /**
-     * Gets a player's statistic value.
-     */
-    public static long getStat(UUID playerId, String statName) {
-        PlayerStats stats = playerStats.get(playerId);
-        if (stats == null) return 0L;
-        
-        return switch (statName) {
-            case "crystals_activated" -> stats.crystalsActivated.get();
-            case "successful_fusions" -> stats.successfulFusions.get();
-            case "failed_fusions" -> stats.failedFusions.get();
-            case "successful_sockets" -> stats.successfulSockets.get();
-            case "failed_sockets" -> stats.failedSockets.get();
-            case "total_energy_used" -> stats.totalEnergyUsed.get();
-            case "crystals_decayed" -> stats.crystalsDecayed.get();
-            case "crystals_corrupted" -> stats.crystalsCorrupted.get();
-            case "successful_identifications" -> stats.successfulIdentifications.get();
-            case "failed_identifications" -> stats.failedIdentifications.get();
-            default -> 0L;
-        };
-    }
-    
-    /**
-     * Gets all statistics for a player.
-     */
-    public static Map<String, Long> getAllStats(UUID playerId) {
-        PlayerStats stats = playerStats.get(playerId);
-        if (stats == null) return new HashMap<>();
-        
-        Map<String, Long> result = new HashMap<>();
-        result.put("crystals_activated", (long)stats.crystalsActivated.get());
-        result.put("successful_fusions", (long)stats.successfulFusions.get());
-        result.put("failed_fusions", (long)stats.failedFusions.get());
-        result.put("successful_sockets", (long)stats.successfulSockets.get());
-        result.put("failed_sockets", (long)stats.failedSockets.get());
-        result.put("total_energy_used", (long)stats.totalEnergyUsed.get());
-        result.put("crystals_decayed", (long)stats.crystalsDecayed.get());
-        result.put("crystals_corrupted", (long)stats.crystalsCorrupted.get());
-        result.put("successful_identifications", (long)stats.successfulIdentifications.get());
-        result.put("failed_identifications", (long)stats.failedIdentifications.get());
-        return result;
-    }
-    
-    /**
-     * Logs crystal usage.
-     */
-    public static void logCrystalUsage(UUID playerId, String crystalId, String action, int energyBefore, int energyAfter) {
-        List<CrystalUsageRecord> history = usageHistory.computeIfAbsent(playerId, k -> new ArrayList<>());
-        history.add(new CrystalUsageRecord(crystalId, action, energyBefore, energyAfter));
-        
-        // Keep history size manageable
-        if (history.size() > 1000) {
-            history.subList(0, history.size() - 1000).clear();
-        }
-        
-        // Update relevant stats
-        incrementStat(playerId, "crystal_uses", 1);
-        incrementStat(playerId, "energy_used", energyBefore - energyAfter);
-    }
-    
-    /**
-     * Logs upgrade purchase.
-     */
-    public static void logUpgradePurchase(UUID playerId, String upgradeId, String costType, int amount) {
-        List<PurchaseRecord> history = purchaseHistory.computeIfAbsent(playerId, k -> new ArrayList<>());
-        history.add(new PurchaseRecord(upgradeId, costType, amount));
-        
-        // Keep history size manageable
-        if (history.size() > 1000) {
-            history.subList(0, history.size() - 1000).clear();
-        }
-        
-        // Update relevant stats
-        incrementStat(playerId, "upgrades_purchased", 1);
-        incrementStat(playerId, "total_spent_" + costType, amount);
-    }
-    
-    /**
-     * Gets crystal usage history for a player.
-     */
-    public static List<CrystalUsageRecord> getCrystalHistory(UUID playerId, int limit) {
-        List<CrystalUsageRecord> history = usageHistory.get(playerId);
-        if (history == null) return Collections.emptyList();
-        
-        int startIndex = Math.max(0, history.size() - limit);
-        return new ArrayList<>(history.subList(startIndex, history.size()));
-    }
-    
-    /**
-     * Gets purchase history for a player.
-     */
-    public static List<PurchaseRecord> getPurchaseHistory(UUID playerId, int limit) {
-        List<PurchaseRecord> history = purchaseHistory.get(playerId);
-        if (history == null) return Collections.emptyList();
-        
-        int startIndex = Math.max(0, history.size() - limit);
-        return new ArrayList<>(history.subList(startIndex, history.size()));
-    }
-    
-    /**
-     * Gets top players by a specific statistic.
-     */
-    public static List<Map.Entry<UUID, Long>> getTopPlayers(String statName, int limit) {
-        List<Map.Entry<UUID, Long>> topPlayers = new ArrayList<>();
-        
-        for (Map.Entry<UUID, PlayerStats> entry : playerStats.entrySet()) {
-            long value = getStat(entry.getKey(), statName);
-            if (value > 0) {
-                topPlayers.add(new AbstractMap.SimpleEntry<>(entry.getKey(), value));
-            }
-        }
-        
-        topPlayers.sort(Map.Entry.<UUID, Long>comparingByValue().reversed());
-        return topPlayers.subList(0, Math.min(limit, topPlayers.size()));
-    }
-    
-    /**
-     * Cleans up all statistics data.
-     */
-    public static void cleanup() {
-        playerStats.clear();
-        usageHistory.clear();
-        purchaseHistory.clear();
-    }
-    
-    public PlayerStats getStats(UUID playerId) {
-        return playerStats.computeIfAbsent(playerId, k -> new PlayerStats());
-    }
-} 
\ No newline at end of file
+package dev.lsdmc.arcaniteCrystals.manager;
+
+import dev.lsdmc.arcaniteCrystals.ArcaniteCrystals;
+import dev.lsdmc.arcaniteCrystals.config.ConfigManager;
+import dev.lsdmc.arcaniteCrystals.database.DatabaseManager;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UTFDataFormatException;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Manages player statistics and crystal usage tracking.
+ * <p>
+ * Stat names are interned to dense ids; each player holds one {@link LongAdder} per id, so the
+ * hot path is an array index and an uncontended add. Totals are the stored base loaded on first
+ * touch plus the in-memory counter. Every save interval only the unsaved part of each counter is
+ * added to the store, and per-stat leaderboards are kept up to date as counters move.
+ * <p>
+ * Usage and purchase history live in per-player {@link HistoryRing}s. Crystal ids are stored as
+ * their 128 bits across four columns. The small, config-driven set of actions, upgrade ids and
+ * cost types is stored as ids into a bounded append-only dictionary, {@code history/strings.dat},
+ * so spilled records stay fixed-width.
+ */
+public class PlayerStatisticsManager {
+    private static final Map<UUID, PlayerStats> playerStats = new ConcurrentHashMap<>();
+    private static final Map<UUID, HistoryRing> usageHistory = new ConcurrentHashMap<>();
+    private static final Map<UUID, HistoryRing> purchaseHistory = new ConcurrentHashMap<>();
+    private static final Logger logger = ArcaniteCrystals.getInstance().getLogger();
+
+    // History string dictionary; ids are positions in strings.dat
+    private static final File historyDirectory = new File(ArcaniteCrystals.getInstance().getDataFolder(), "history");
+    private static final Map<String, Integer> historyIds = new ConcurrentHashMap<>();
+    private static volatile String[] historyStrings = loadHistoryStrings();
+    private static final int historySize = Math.max(2, ConfigManager.getConfig().getInt("statistics.history-size", 1000));
+    private static final long historyFileRecords = ConfigManager.getConfig().getLong("statistics.history-file-records", 10000);
+    private static final int MAX_HISTORY_STRINGS = 4096;
+    private static boolean historyDictionaryFull = false;
+    private static final int USAGE_COLUMNS = 7;
+    private static final int PURCHASE_COLUMNS = 3;
+
+    // Stat name <-> id registry; ids are never reused
+    private static final Map<String, Integer> statIds = new ConcurrentHashMap<>();
+    private static volatile String[] statNames = new String[0];
+    private static volatile Leaderboard[] leaderboards = new Leaderboard[0];
+    private static final int leaderboardSize = Math.max(1, ConfigManager.getConfig().getInt("statistics.leaderboard-size", 100));
+
+    public static final int CRYSTALS_ACTIVATED = statId("crystals_activated");
+    public static final int SUCCESSFUL_FUSIONS = statId("successful_fusions");
+    public static final int FAILED_FUSIONS = statId("failed_fusions");
+    public static final int SUCCESSFUL_SOCKETS = statId("successful_sockets");
+    public static final int FAILED_SOCKETS = statId("failed_sockets");
+    public static final int TOTAL_ENERGY_USED = statId("total_energy_used");
+    public static final int CRYSTALS_DECAYED = statId("crystals_decayed");
+    public static final int CRYSTALS_CORRUPTED = statId("crystals_corrupted");
+    public static final int SUCCESSFUL_IDENTIFICATIONS = statId("successful_identifications");
+    public static final int FAILED_IDENTIFICATIONS = statId("failed_identifications");
+    public static final int CRYSTAL_USES = statId("crystal_uses");
+    public static final int ENERGY_USED = statId("energy_used");
+    public static final int UPGRADES_PURCHASED = statId("upgrades_purchased");
+
+    private static final AtomicBoolean saving = new AtomicBoolean(false);
+    private static final AtomicLong deltasSaved = new AtomicLong();
+    private static final AtomicLong failedSaves = new AtomicLong();
+    private static BukkitTask saveTask;
+
+    private static PlayerStatisticsManager instance;
+    private final FileConfiguration config;
+    private final int saveInterval;
+
+    /**
+     * Per-player counters. Only the save task touches {@code flushed}.
+     */
+    private static final class PlayerStats {
+        private volatile LongAdder[] counters = new LongAdder[statNames.length];
+        private volatile long[] persisted = new long[0];
+        private long[] flushed = new long[0];
+        private volatile boolean loaded;
+        private volatile boolean dirty;
+        private volatile long lastTouched = System.currentTimeMillis();
+
+        LongAdder counter(int id) {
+            LongAdder[] current = counters;
+            if (id < current.length) {
+                LongAdder adder = current[id];
+                if (adder != null) return adder;
+            }
+            synchronized (this) {
+                current = counters;
+                if (id >= current.length) {
+                    current = Arrays.copyOf(current, Math.max(id + 1, statNames.length));
+                } else if (current[id] != null) {
+                    return current[id];
+                } else {
+                    current = current.clone();
+                }
+                LongAdder adder = new LongAdder();
+                current[id] = adder;
+                counters = current;
+                return adder;
+            }
+        }
+
+        long pending(int id) {
+            LongAdder[] current = counters;
+            if (id >= current.length || current[id] == null) return 0L;
+            return current[id].sum();
+        }
+
+        long get(int id) {
+            long[] base = persisted;
+            return (id < base.length ? base[id] : 0L) + pending(id);
+        }
+    }
+
+    public PlayerStatisticsManager() {
+        this.config = ConfigManager.getConfig();
+        this.saveInterval = Math.max(1, config.getInt("statistics.save-interval", 300)); // 5 minutes
+        instance = this;
+
+        for (Leaderboard board : leaderboards) {
+            board.seed();
+        }
+
+        long ticks = saveInterval * 20L;
+        long evictAfter = saveInterval * 2000L;
+        saveTask = Bukkit.getScheduler().runTaskTimerAsynchronously(ArcaniteCrystals.getInstance(),
+                () -> save(evictAfter), ticks, ticks);
+    }
+
+    public static PlayerStatisticsManager getInstance() {
+        return instance;
+    }
+
+    /**
+     * Record of crystal usage.
+     */
+    public static class CrystalUsageRecord {
+        private final String crystalId;
+        private final String action;
+        private final int energyBefore;
+        private final int energyAfter;
+        private final long timestamp;
+
+        public CrystalUsageRecord(String crystalId, String action, int energyBefore, int energyAfter) {
+            this(crystalId, action, energyBefore, energyAfter, System.currentTimeMillis());
+        }
+
+        public CrystalUsageRecord(String crystalId, String action, int energyBefore, int energyAfter, long timestamp) {
+            this.crystalId = crystalId;
+            this.action = action;
+            this.energyBefore = energyBefore;
+            this.energyAfter = energyAfter;
+            this.timestamp = timestamp;
+        }
+
+        public String getCrystalId() { return crystalId; }
+        public String getAction() { return action; }
+        public int getEnergyBefore() { return energyBefore; }
+        public int getEnergyAfter() { return energyAfter; }
+        public Instant getTimestamp() { return Instant.ofEpochMilli(timestamp); }
+    }
+
+    /**
+     * Record of upgrade purchase.
+     */
+    public static class PurchaseRecord {
+        private final String upgradeId;
+        private final String costType;
+        private final int costAmount;
+        private final long timestamp;
+
+        public PurchaseRecord(String upgradeId, String costType, int costAmount) {
+            this(upgradeId, costType, costAmount, System.currentTimeMillis());
+        }
+
+        public PurchaseRecord(String upgradeId, String costType, int costAmount, long timestamp) {
+            this.upgradeId = upgradeId;
+            this.costType = costType;
+            this.costAmount = costAmount;
+            this.timestamp = timestamp;
+        }
+
+        public String getUpgradeId() { return upgradeId; }
+        public String getCostType() { return costType; }
+        public int getCostAmount() { return costAmount; }
+        public Instant getTimestamp() { return Instant.ofEpochMilli(timestamp); }
+    }
+
+    /**
+     * Returns the dense id for a stat name, registering it on first use.
+     */
+    public static int statId(String statName) {
+        Integer id = statIds.get(statName);
+        if (id != null) return id;
+
+        Leaderboard created;
+        synchronized (statIds) {
+            id = statIds.get(statName);
+            if (id != null) return id;
+
+            id = statNames.length;
+            String[] names = Arrays.copyOf(statNames, id + 1);
+            names[id] = statName;
+            Leaderboard[] boards = Arrays.copyOf(leaderboards, id + 1);
+            created = new Leaderboard(statName, leaderboardSize);
+            boards[id] = created;
+
+            statNames = names;
+            leaderboards = boards;
+            statIds.put(statName, id);
+        }
+        if (instance != null) {
+            created.seed();
+        }
+        return id;
+    }
+
+    /**
+     * Increments a player's statistic.
+     */
+    public static void incrementStat(UUID playerId, String statName, long amount) {
+        incrementStat(playerId, statId(statName), amount);
+
+        // Log significant stat changes
+        if (amount > 1000) {
+            logger.info("Player " + playerId + " gained " + amount + " " + statName);
+        }
+    }
+
+    /**
+     * Increments a player's statistic by id.
+     */
+    public static void incrementStat(UUID playerId, int statId, long amount) {
+        if (amount == 0) return;
+        PlayerStats stats = statsFor(playerId);
+        stats.counter(statId).add(amount);
+        stats.lastTouched = System.currentTimeMillis();
+        stats.dirty = true;
+
+        if (stats.loaded) {
+            leaderboards[statId].offer(playerId, stats.get(statId));
+        }
+    }
+
+    /**
+     * Gets a player's statistic value.
+     */
+    public static long getStat(UUID playerId, String statName) {
+        Integer id = statIds.get(statName);
+        return id == null ? 0L : getStat(playerId, id);
+    }
+
+    /**
+     * Gets a player's statistic value by id, loading the stored total if needed.
+     */
+    public static long getStat(UUID playerId, int statId) {
+        return statsFor(playerId).get(statId);
+    }
+
+    /**
+     * Gets all non-zero statistics for a player.
+     */
+    public static Map<String, Long> getAllStats(UUID playerId) {
+        PlayerStats stats = playerStats.get(playerId);
+        if (stats == null) return new HashMap<>();
+
+        String[] names = statNames;
+        Map<String, Long> result = new HashMap<>();
+        for (int id = 0; id < names.length; id++) {
+            long value = stats.get(id);
+            if (value != 0) {
+                result.put(names[id], value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Logs crystal usage.
+     */
+    public static void logCrystalUsage(UUID playerId, String crystalId, String action, int energyBefore, int energyAfter) {
+        UUID crystal = crystalBits(crystalId);
+        long high = crystal != null ? crystal.getMostSignificantBits() : 0L;
+        long low = crystal != null ? crystal.getLeastSignificantBits() : 0L;
+        historyRing(usageHistory, playerId, "usage", USAGE_COLUMNS).append(System.currentTimeMillis(), new int[] {
+                (int) (high >>> 32), (int) high, (int) (low >>> 32), (int) low,
+                historyId(action), energyBefore, energyAfter});
+
+        // Update relevant stats
+        incrementStat(playerId, CRYSTAL_USES, 1);
+        incrementStat(playerId, ENERGY_USED, energyBefore - energyAfter);
+    }
+
+    /**
+     * Logs upgrade purchase.
+     */
+    public static void logUpgradePurchase(UUID playerId, String upgradeId, String costType, int amount) {
+        historyRing(purchaseHistory, playerId, "purchases", PURCHASE_COLUMNS).append(System.currentTimeMillis(),
+                new int[] {historyId(upgradeId), historyId(costType), amount});
+
+        // Update relevant stats
+        incrementStat(playerId, UPGRADES_PURCHASED, 1);
+        incrementStat(playerId, "total_spent_" + costType, amount);
+    }
+
+    /**
+     * Gets a player's most recent crystal usage, newest first.
+     */
+    public static List<CrystalUsageRecord> getCrystalHistory(UUID playerId, int limit) {
+        return getCrystalHistory(playerId, 0, limit);
+    }
+
+    /**
+     * Gets one page of crystal usage history, newest first. Only the page is materialized; pages
+     * older than the in-memory window are read from the player's spill file. Crystal ids are
+     * reported in UUID form.
+     */
+    public static List<CrystalUsageRecord> getCrystalHistory(UUID playerId, int skip, int limit) {
+        if (limit <= 0) return Collections.emptyList();
+        HistoryRing ring = existingRing(usageHistory, playerId, "usage", USAGE_COLUMNS);
+        if (ring == null) return Collections.emptyList();
+        String[] strings = historyStrings;
+        List<CrystalUsageRecord> page = new ArrayList<>(Math.min(limit, historySize));
+        ring.query(skip, limit, (timestamp, record) -> {
+            long high = (long) record[0] << 32 | (record[1] & 0xFFFFFFFFL);
+            long low = (long) record[2] << 32 | (record[3] & 0xFFFFFFFFL);
+            String crystal = high == 0L && low == 0L ? null : new UUID(high, low).toString();
+            page.add(new CrystalUsageRecord(crystal, historyString(strings, record[4]), record[5], record[6], timestamp));
+        });
+        return page;
+    }
+
+    /**
+     * Gets a player's most recent upgrade purchases, newest first.
+     */
+    public static List<PurchaseRecord> getPurchaseHistory(UUID playerId, int limit) {
+        return getPurchaseHistory(playerId, 0, limit);
+    }
+
+    /**
+     * Gets one page of purchase history, newest first.
+     */
+    public static List<PurchaseRecord> getPurchaseHistory(UUID playerId, int skip, int limit) {
+        if (limit <= 0) return Collections.emptyList();
+        HistoryRing ring = existingRing(purchaseHistory, playerId, "purchases", PURCHASE_COLUMNS);
+        if (ring == null) return Collections.emptyList();
+        String[] strings = historyStrings;
+        List<PurchaseRecord> page = new ArrayList<>(Math.min(limit, historySize));
+        ring.query(skip, limit, (timestamp, record) ->
+                page.add(new PurchaseRecord(historyString(strings, record[0]), historyString(strings, record[1]), record[2], timestamp)));
+        return page;
+    }
+
+    /**
+     * Gets top players by a specific statistic, at most {@code statistics.leaderboard-size} of them.
+     */
+    public static List<Map.Entry<UUID, Long>> getTopPlayers(String statName, int limit) {
+        Integer id = statIds.get(statName);
+        if (id == null) return Collections.emptyList();
+        return leaderboards[id].top(limit);
+    }
+
+    /**
+     * Writes every unsaved delta now, spills in-memory history and stops background work.
+     */
+    public static void shutdown() {
+        if (saveTask != null) {
+            saveTask.cancel();
+            saveTask = null;
+        }
+        save(-1);
+        usageHistory.values().forEach(HistoryRing::spillAll);
+        purchaseHistory.values().forEach(HistoryRing::spillAll);
+        HistoryRing.shutdown();
+    }
+
+    /**
+     * Cleans up all statistics data.
+     */
+    public static void cleanup() {
+        playerStats.clear();
+        usageHistory.clear();
+        purchaseHistory.clear();
+    }
+
+    public static String getEngineStats() {
+        long pending = playerStats.values().stream().filter(stats -> stats.dirty).count();
+        return String.format("Players: %d, Stats: %d, Dirty: %d, Deltas saved: %d, Failed saves: %d, History rings: %d",
+                playerStats.size(), statNames.length, pending, deltasSaved.get(), failedSaves.get(),
+                usageHistory.size() + purchaseHistory.size());
+    }
+
+    private static HistoryRing historyRing(Map<UUID, HistoryRing> rings, UUID playerId, String kind, int columns) {
+        HistoryRing ring = rings.get(playerId);
+        if (ring != null) return ring;
+        return rings.computeIfAbsent(playerId, id ->
+                new HistoryRing(historyFile(id, kind), columns, historySize, historyFileRecords, logger));
+    }
+
+    /**
+     * Returns the player's live ring for reading. Without one, the player's spill file is read
+     * through a small ring that is not registered, so looking up history never keeps a ring alive.
+     */
+    private static HistoryRing existingRing(Map<UUID, HistoryRing> rings, UUID playerId, String kind, int columns) {
+        HistoryRing ring = rings.get(playerId);
+        if (ring != null) return ring;
+        File file = historyFile(playerId, kind);
+        return file.exists() ? new HistoryRing(file, columns, 2, historyFileRecords, logger) : null;
+    }
+
+    private static File historyFile(UUID playerId, String kind) {
+        return new File(historyDirectory, playerId + "." + kind);
+    }
+
+    /**
+     * Returns the 128 bits of a crystal id, which is a UUID with or without dashes, or null for
+     * anything else. Such ids are recorded without a crystal.
+     */
+    private static UUID crystalBits(String crystalId) {
+        if (crystalId == null) return null;
+        try {
+            if (crystalId.length() == 32) {
+                return new UUID(Long.parseUnsignedLong(crystalId, 0, 16, 16),
+                        Long.parseUnsignedLong(crystalId, 16, 32, 16));
+            }
+            return UUID.fromString(crystalId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the dictionary id of a history string, or -1 for null or once the dictionary is full.
+     */
+    private static int historyId(String value) {
+        if (value == null) return -1;
+        Integer id = historyIds.get(value);
+        if (id != null) return id;
+
+        synchronized (historyIds) {
+            id = historyIds.get(value);
+            if (id != null) return id;
+            if (historyStrings.length >= MAX_HISTORY_STRINGS) {
+                if (!historyDictionaryFull) {
+                    historyDictionaryFull = true;
+                    logger.warning("History dictionary is full (" + MAX_HISTORY_STRINGS + " names), new names are recorded blank");
+                }
+                return -1;
+            }
+
+            id = historyStrings.length;
+            String[] strings = Arrays.copyOf(historyStrings, id + 1);
+            strings[id] = value;
+            historyStrings = strings;
+            historyIds.put(value, id);
+            // Queued under the lock so strings.dat is written in id order, ahead of any record using it
+            HistoryRing.submit(() -> appendHistoryString(value));
+        }
+        return id;
+    }
+
+    private static String historyString(String[] strings, int id) {
+        if (id < 0) return null;
+        // A record may name a string interned after the caller took its snapshot
+        if (id >= strings.length) strings = historyStrings;
+        return id < strings.length ? strings[id] : null;
+    }
+
+    private static String[] loadHistoryStrings() {
+        File file = new File(historyDirectory, "strings.dat");
+        if (!file.exists()) return new String[0];
+
+        List<String> strings = new ArrayList<>();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            long valid = 0;
+            try {
+                while (valid < raf.length()) {
+                    strings.add(raf.readUTF());
+                    valid = raf.getFilePointer();
+                }
+            } catch (EOFException | UTFDataFormatException e) {
+                // Torn final entry; drop it so new entries keep their ids
+                raf.setLength(valid);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to load history dictionary, older history will show no names: " + e.getMessage());
+        }
+        for (int id = 0; id < strings.size(); id++) {
+            historyIds.put(strings.get(id), id);
+        }
+        return strings.toArray(new String[0]);
+    }
+
+    private static void appendHistoryString(String value) {
+        if (!historyDirectory.exists() && !historyDirectory.mkdirs()) {
+            logger.warning("Could not create history directory " + historyDirectory);
+            return;
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(new File(historyDirectory, "strings.dat"), "rw")) {
+            raf.seek(raf.length());
+            raf.writeUTF(value);
+        } catch (IOException e) {
+            logger.warning("Failed to write history dictionary entry: " + e.getMessage());
+        }
+    }
+
+    private static PlayerStats statsFor(UUID playerId) {
+        PlayerStats stats = playerStats.get(playerId);
+        if (stats != null) return stats;
+
+        PlayerStats created = new PlayerStats();
+        stats = playerStats.putIfAbsent(playerId, created);
+        if (stats != null) return stats;
+
+        if (!DatabaseManager.isInitialized()) {
+            created.loaded = true;
+            return created;
+        }
+        DatabaseManager.loadStatistics(playerId).whenComplete((stored, error) -> {
+            long[] base = new long[statNames.length];
+            if (error != null) {
+                logger.warning("Failed to load statistics for " + playerId + ": " + error.getMessage());
+            } else {
+                for (Map.Entry<String, Long> entry : stored.entrySet()) {
+                    int id = statId(entry.getKey());
+                    if (id >= base.length) {
+                        base = Arrays.copyOf(base, statNames.length);
+                    }
+                    base[id] = entry.getValue();
+                }
+            }
+            created.persisted = base;
+            created.loaded = true;
+
+            Leaderboard[] boards = leaderboards;
+            for (int id = 0; id < boards.length; id++) {
+                long total = created.get(id);
+                if (total != 0) {
+                    boards[id].offer(playerId, total);
+                }
+            }
+        });
+        return created;
+    }
+
+    /**
+     * Adds every unsaved counter delta to the store. Players whose base has not loaded yet are
+     * skipped, and a failed write leaves the deltas in memory for the next attempt.
+     *
+     * @param evictAfter evict clean, offline players untouched for this many millis; negative to keep all
+     */
+    private static void save(long evictAfter) {
+        if (!saving.compareAndSet(false, true)) return;
+        try {
+            String[] names = statNames;
+            Map<UUID, Map<String, Long>> deltas = new HashMap<>();
+            Map<PlayerStats, long[]> snapshots = new HashMap<>();
+
+            for (Map.Entry<UUID, PlayerStats> entry : playerStats.entrySet()) {
+                PlayerStats stats = entry.getValue();
+                if (!stats.loaded || !stats.dirty) continue;
+                // Clear first so increments racing with the snapshot re-mark the player
+                stats.dirty = false;
+
+                long[] sums = new long[names.length];
+                long[] flushed = stats.flushed;
+                Map<String, Long> changed = new HashMap<>();
+                for (int id = 0; id < names.length; id++) {
+                    sums[id] = stats.pending(id);
+                    long delta = sums[id] - (id < flushed.length ? flushed[id] : 0L);
+                    if (delta != 0) {
+                        changed.put(names[id], delta);
+                    }
+                }
+                if (!changed.isEmpty()) {
+                    deltas.put(entry.getKey(), changed);
+                    snapshots.put(stats, sums);
+                }
+            }
+
+            if (!deltas.isEmpty()) {
+                try {
+                    DatabaseManager.addStatistics(deltas).join();
+                    snapshots.forEach((stats, sums) -> stats.flushed = sums);
+                    deltasSaved.addAndGet(deltas.values().stream().mapToInt(Map::size).sum());
+                } catch (Exception e) {
+                    failedSaves.incrementAndGet();
+                    snapshots.keySet().forEach(stats -> stats.dirty = true);
+                    logger.warning("Failed to save statistics for " + deltas.size() + " players, will retry: " + e.getMessage());
+                }
+            }
+
+            if (evictAfter >= 0) {
+                long cutoff = System.currentTimeMillis() - evictAfter;
+                playerStats.entrySet().removeIf(entry -> {
+                    PlayerStats stats = entry.getValue();
+                    return stats.loaded && !stats.dirty && stats.lastTouched < cutoff
+                            && Bukkit.getPlayer(entry.getKey()) == null;
+                });
+                evictHistory(usageHistory, cutoff);
+                evictHistory(purchaseHistory, cutoff);
+            }
+        } finally {
+            saving.set(false);
+        }
+    }
+
+    private static void evictHistory(Map<UUID, HistoryRing> rings, long cutoff) {
+        rings.entrySet().removeIf(entry -> {
+            HistoryRing ring = entry.getValue();
+            if (ring.getLastAppend() >= cutoff || Bukkit.getPlayer(entry.getKey()) != null) return false;
+            ring.spillAll();
+            return true;
+        });
+    }
+
+    /**
+     * Bounded top-N for one stat. Offers below the current cut-off from non-members are rejected
+     * without taking the lock, so most increments never touch it.
+     */
+    private static final class Leaderboard {
+        private record Entry(UUID playerId, long value) {}
+
+        private static final Comparator<Entry> ORDER = Comparator.comparingLong(Entry::value).reversed()
+                .thenComparing(Entry::playerId);
+
+        private final String statName;
+        private final int capacity;
+        private final TreeSet<Entry> ranking = new TreeSet<>(ORDER);
+        private final Map<UUID, Entry> entries = new HashMap<>();
+        private final Set<UUID> members = ConcurrentHashMap.newKeySet();
+        private volatile long threshold = Long.MIN_VALUE;
+
+        Leaderboard(String statName, int capacity) {
+            this.statName = statName;
+            this.capacity = capacity;
+        }
+
+        void seed() {
+            if (!DatabaseManager.isInitialized()) return;
+            DatabaseManager.loadTopStatistic(statName, capacity).thenAccept(stored -> stored.forEach(this::offer));
+        }
+
+        void offer(UUID playerId, long value) {
+            if (value <= threshold && !members.contains(playerId)) return;
+            synchronized (this) {
+                Entry previous = entries.get(playerId);
+                if (previous != null) {
+                    // Stored leaders can arrive after a fresher in-memory total
+                    if (previous.value() >= value) return;
+                    ranking.remove(previous);
+                }
+                Entry entry = new Entry(playerId, value);
+                ranking.add(entry);
+                entries.put(playerId, entry);
+                members.add(playerId);
+
+                if (ranking.size() > capacity) {
+                    Entry dropped = ranking.pollLast();
+                    entries.remove(dropped.playerId());
+                    members.remove(dropped.playerId());
+                }
+                threshold = ranking.size() >= capacity ? ranking.last().value() : Long.MIN_VALUE;
+            }
+        }
+
+        synchronized List<Map.Entry<UUID, Long>> top(int limit) {
+            List<Map.Entry<UUID, Long>> result = new ArrayList<>(Math.min(limit, ranking.size()));
+            for (Entry entry : ranking) {
+                if (result.size() >= limit) break;
+                if (entry.value() <= 0) break;
+                result.add(new AbstractMap.SimpleEntry<>(entry.playerId(), entry.value()));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package dev.lsdmc.arcaniteCrystals.manager;
+
+import dev.lsdmc.arcaniteCrystals.ArcaniteCrystals;
+import dev.lsdmc.arcaniteCrystals.config.ConfigManager;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.block.BlockDispenseArmorEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerItemBreakEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-player totals of the effects socketed into their equipped armour, main hand and off hand.
+ * <p>
+ * Totals are kept as one int per {@link Stat}, summing effect levels (amplifier + 1), and are only
+ * recomputed when equipment may have changed. Changes seen in one tick are coalesced into a single
+ * recompute on the next tick, and socket contents come from {@link CrystalSocketManager}'s index
+ * cache, so combat code can read a player's totals with one map lookup and an array index.
+ */
+public class SocketStatManager implements Listener {
+
+    /**
+     * Effect types that sockets can contribute, in vector order.
+     */
+    public enum Stat {
+        SPEED,
+        REGENERATION,
+        JUMP_BOOST,
+        HASTE,
+        STRENGTH,
+        DAMAGE_RESISTANCE,
+        POISON;
+
+        private static final Stat[] VALUES = values();
+
+        static Stat fromEffect(String effect) {
+            if (effect == null) return null;
+            String name = effect.toUpperCase();
+            if (name.equals("RESISTANCE")) return DAMAGE_RESISTANCE;
+            for (Stat stat : VALUES) {
+                if (stat.name().equals(name)) return stat;
+            }
+            return null;
+        }
+    }
+
+    private static final int[] EMPTY = new int[Stat.VALUES.length];
+    private static final int UNRESOLVED = -1;
+
+    private static final Map<UUID, int[]> vectors = new ConcurrentHashMap<>();
+    // Upgrade id to (stat ordinal << 16 | level), or UNRESOLVED for ids that add nothing
+    private static final Map<String, Integer> resolved = new ConcurrentHashMap<>();
+    private static final Set<UUID> pending = new HashSet<>();
+    private static boolean flushScheduled = false;
+    private static final AtomicLong recomputes = new AtomicLong();
+
+    /**
+     * Returns the player's socket totals indexed by {@link Stat#ordinal()}. The array is shared and
+     * replaced rather than updated, so it must not be modified.
+     */
+    public static int[] getVector(UUID playerId) {
+        return vectors.getOrDefault(playerId, EMPTY);
+    }
+
+    /**
+     * Returns the player's total level of one socketed effect.
+     */
+    public static int getLevel(UUID playerId, Stat stat) {
+        return getVector(playerId)[stat.ordinal()];
+    }
+
+    /**
+     * Queues a recompute of the player's totals for the next tick.
+     */
+    public static void markDirty(Player player) {
+        if (pending.add(player.getUniqueId()) && !flushScheduled) {
+            flushScheduled = true;
+            Bukkit.getScheduler().runTask(ArcaniteCrystals.getInstance(), SocketStatManager::flush);
+        }
+    }
+
+    /**
+     * Recomputes the player's totals now.
+     */
+    public static void recompute(Player player) {
+        PlayerInventory inventory = player.getInventory();
+        int[] vector = new int[Stat.VALUES.length];
+        boolean any = false;
+        for (ItemStack armor : inventory.getArmorContents()) {
+            any |= accumulate(vector, armor);
+        }
+        any |= accumulate(vector, inventory.getItemInMainHand());
+        any |= accumulate(vector, inventory.getItemInOffHand());
+
+        if (any) {
+            vectors.put(player.getUniqueId(), vector);
+        } else {
+            vectors.remove(player.getUniqueId());
+        }
+        recomputes.incrementAndGet();
+    }
+
+    /**
+     * Forgets resolved upgrade ids and recomputes every online player, for after a config reload.
+     */
+    public static void reloadConfig() {
+        resolved.clear();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            recompute(player);
+        }
+    }
+
+    /**
+     * Gets socket stat statistics.
+     */
+    public static String getStats() {
+        return String.format("%d players with socket stats, %d upgrades resolved, %d recomputes",
+                vectors.size(), resolved.size(), recomputes.get());
+    }
+
+    private static void flush() {
+        flushScheduled = false;
+        for (UUID playerId : pending) {
+            Player player = Bukkit.getPlayer(playerId);
+            if (player != null) {
+                recompute(player);
+            }
+        }
+        pending.clear();
+    }
+
+    private static boolean accumulate(int[] vector, ItemStack item) {
+        if (item == null || !item.hasItemMeta()) return false;
+        CrystalSocketManager.SocketIndex index = CrystalSocketManager.getSocketIndex(item);
+        if (index.isEmpty()) return false;
+
+        boolean any = false;
+        for (String upgradeId : index.getEffects()) {
+            int packed = resolved.computeIfAbsent(upgradeId, SocketStatManager::resolve);
+            if (packed != UNRESOLVED) {
+                vector[packed >>> 16] += packed & 0xFFFF;
+                any = true;
+            }
+        }
+        return any;
+    }
+
+    private static int resolve(String upgradeId) {
+        ConfigurationSection upgrade = ConfigManager.getUpgradesConfig()
+                .getConfigurationSection("upgrades." + upgradeId);
+        if (upgrade == null) return UNRESOLVED;
+
+        Stat stat = Stat.fromEffect(upgrade.getString("effect"));
+        if (stat == null) return UNRESOLVED;
+        int level = Math.max(1, Math.min(0xFFFF, upgrade.getInt("amplifier", 0) + 1));
+        return stat.ordinal() << 16 | level;
+    }
+
+    // ===== EQUIPMENT CHANGES =====
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        recompute(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        UUID playerId = event.getPlayer().getUniqueId();
+        vectors.remove(playerId);
+        pending.remove(playerId);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHeldItem(PlayerItemHeldEvent event) {
+        markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onSwapHands(PlayerSwapHandItemsEvent event) {
+        markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryClick(InventoryClickEvent event) {
+        markDirtyIfPlayer(event.getWhoClicked());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryDrag(InventoryDragEvent event) {
+        markDirtyIfPlayer(event.getWhoClicked());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDrop(PlayerDropItemEvent event) {
+        markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(EntityPickupItemEvent event) {
+        markDirtyIfPlayer(event.getEntity());
+    }
+
+    /**
+     * Right-clicking armour equips it without an inventory click. Right-clicking air arrives already
+     * cancelled, so cancelled events are not skipped; a needless recompute costs little.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInteract(PlayerInteractEvent event) {
+        if (event.getAction() != Action.RIGHT_CLICK_AIR && event.getAction() != Action.RIGHT_CLICK_BLOCK) return;
+        ItemStack item = event.getItem();
+        if (item == null) return;
+        EquipmentSlot slot = item.getType().getEquipmentSlot();
+        if (slot == EquipmentSlot.HEAD || slot == EquipmentSlot.CHEST
+                || slot == EquipmentSlot.LEGS || slot == EquipmentSlot.FEET) {
+            markDirty(event.getPlayer());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDispenseArmor(BlockDispenseArmorEvent event) {
+        markDirtyIfPlayer(event.getTargetEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onItemBreak(PlayerItemBreakEvent event) {
+        markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDeath(PlayerDeathEvent event) {
+        markDirty(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        markDirty(event.getPlayer());
+    }
+
+    private static void markDirtyIfPlayer(Entity entity) {
+        if (entity instanceof Player player) {
+            markDirty(player);
+        }
+    }
+}
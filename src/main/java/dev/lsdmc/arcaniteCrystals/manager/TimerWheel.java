@@ -0,0 +1,154 @@
+package dev.lsdmc.arcaniteCrystals.manager;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel with one-tick resolution.
+ * <p>
+ * Four levels of 64 slots cover deadlines up to 2^24 ticks (about 9.7 days) ahead; later
+ * deadlines wait in the top level and are placed again when their slot comes round. Scheduling
+ * and cancelling are O(1), and {@link #advance} only looks at the current slot, plus one slot of
+ * a higher level every 64 ticks, so timers cost nothing while they wait.
+ * <p>
+ * Not thread-safe; the owner drives it from one thread.
+ */
+final class TimerWheel<T extends TimerWheel.Timer> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    /**
+     * Something that can be scheduled on the wheel. An instance is on at most one wheel at a time.
+     */
+    static class Timer {
+        long deadline;
+        Timer prev;
+        Timer next;
+
+        boolean isScheduled() {
+            return next != null;
+        }
+    }
+
+    // Sentinel head of each slot's circular list
+    private final Timer[][] slots = new Timer[LEVELS][SLOTS];
+    private long now;
+    private int size;
+
+    TimerWheel(long startTick) {
+        this.now = startTick;
+        for (Timer[] level : slots) {
+            for (int i = 0; i < SLOTS; i++) {
+                Timer head = new Timer();
+                head.prev = head;
+                head.next = head;
+                level[i] = head;
+            }
+        }
+    }
+
+    /**
+     * The last tick passed to {@link #advance}.
+     */
+    long now() {
+        return now;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Schedules {@code timer} to expire at {@code deadline}, moving it if it is already scheduled.
+     * Deadlines that are not in the future expire on the next tick.
+     */
+    void schedule(T timer, long deadline) {
+        if (timer.isScheduled()) {
+            unlink(timer);
+        } else {
+            size++;
+        }
+        timer.deadline = Math.max(deadline, now + 1);
+        place(timer);
+    }
+
+    /**
+     * Removes {@code timer} if it is scheduled.
+     */
+    void cancel(T timer) {
+        if (timer.isScheduled()) {
+            unlink(timer);
+            size--;
+        }
+    }
+
+    /**
+     * Moves time forward to {@code tick}, passing every expired timer to {@code expired} in deadline
+     * order. Timers may be rescheduled from inside the callback.
+     */
+    @SuppressWarnings("unchecked")
+    void advance(long tick, Consumer<T> expired) {
+        while (now < tick) {
+            now++;
+            cascade();
+            Timer head = slots[0][(int) (now & MASK)];
+            while (head.next != head) {
+                Timer timer = head.next;
+                unlink(timer);
+                size--;
+                expired.accept((T) timer);
+            }
+        }
+    }
+
+    /**
+     * Empties the wheel.
+     */
+    void clear() {
+        for (Timer[] level : slots) {
+            for (Timer head : level) {
+                while (head.next != head) {
+                    unlink(head.next);
+                }
+            }
+        }
+        size = 0;
+    }
+
+    // When a level wraps, the matching slot of the level above is due within the next lap
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            if (((now >> (SLOT_BITS * (level - 1))) & MASK) != 0) return;
+            Timer head = slots[level][(int) ((now >> (SLOT_BITS * level)) & MASK)];
+            while (head.next != head) {
+                Timer timer = head.next;
+                unlink(timer);
+                place(timer);
+            }
+        }
+    }
+
+    private void place(Timer timer) {
+        long delay = Math.max(0, timer.deadline - now);
+        long at = now + Math.min(delay, MAX_DELAY);
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        Timer head = slots[level][(int) ((at >> (SLOT_BITS * level)) & MASK)];
+        timer.prev = head.prev;
+        timer.next = head;
+        head.prev.next = timer;
+        head.prev = timer;
+    }
+
+    private static void unlink(Timer timer) {
+        timer.prev.next = timer.next;
+        timer.next.prev = timer.prev;
+        timer.prev = null;
+        timer.next = null;
+    }
+}
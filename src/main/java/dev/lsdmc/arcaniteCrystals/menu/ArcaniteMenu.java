@@ -0,0 +1,193 @@
+package dev.lsdmc.arcaniteCrystals.menu;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Base class for plugin menus. The menu is its inventory's holder, so {@link MenuDispatcher} routes
+ * click, drag and close events straight to it; menus never register listeners of their own.
+ * <p>
+ * Buttons are bound with {@link #onSlot}. Menus that need more than fixed buttons (item input
+ * slots, paging over dynamic content) override {@link #handleClick} instead.
+ * <p>
+ * Menus that own every slot of their inventory can render through {@link #setSlot}. The menu
+ * remembers what each slot shows and writes to the inventory only when the item actually changes,
+ * so a redraw between {@link #beginFrame} and {@link #commitFrame} sends just the changed slots.
+ */
+public abstract class ArcaniteMenu implements InventoryHolder {
+
+    /** Largest chest inventory a menu can create. */
+    private static final int MAX_SLOTS = 54;
+
+    private static final com.sun.management.ThreadMXBean threads =
+            ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported() ? bean : null;
+
+    static final LongAdder slotWrites = new LongAdder();
+    static final LongAdder slotsSkipped = new LongAdder();
+    static final LongAdder lorePatches = new LongAdder();
+
+    /**
+     * Action bound to one top-inventory slot.
+     */
+    @FunctionalInterface
+    protected interface SlotHandler {
+        void onClick(Player clicker, InventoryClickEvent event);
+    }
+
+    /** An item shown in a slot, with the template and lore it was patched from, if any. */
+    private record Rendered(ItemStack item, ItemStack template, List<String> lore) {}
+
+    private final SlotHandler[] slotHandlers = new SlotHandler[MAX_SLOTS];
+    private final Rendered[] shown = new Rendered[MAX_SLOTS];
+    private Rendered[] frame;
+
+    // Bytes the building thread had allocated when this menu was created, or -1 once measured
+    private long allocatedAtCreation = allocatedBytes();
+
+    /**
+     * Binds {@code handler} to a slot of this menu's inventory, replacing any previous binding.
+     */
+    protected final void onSlot(int slot, SlotHandler handler) {
+        slotHandlers[slot] = handler;
+    }
+
+    /**
+     * Starts a redraw. Slots that are not set again before {@link #commitFrame} are cleared.
+     */
+    protected final void beginFrame() {
+        frame = new Rendered[getInventory().getSize()];
+    }
+
+    /**
+     * Writes every slot that differs from what the inventory already shows, then ends the redraw.
+     */
+    protected final void commitFrame() {
+        Rendered[] pending = frame;
+        frame = null;
+        for (int slot = 0; slot < pending.length; slot++) {
+            show(slot, pending[slot]);
+        }
+    }
+
+    /**
+     * Shows {@code item} in a slot. Shared template instances may be passed directly; the inventory
+     * keeps its own copy.
+     */
+    protected final void setSlot(int slot, ItemStack item) {
+        put(slot, item == null ? null : new Rendered(item, null, null));
+    }
+
+    /**
+     * Shows a copy of {@code template} with the given lore. When the slot already shows this
+     * template with the same lore the existing item is reused and nothing is rebuilt.
+     */
+    protected final void setSlot(int slot, ItemStack template, List<String> lore) {
+        Rendered previous = shown[slot];
+        if (previous != null && previous.template() == template && lore.equals(previous.lore())) {
+            put(slot, previous);
+            return;
+        }
+        ItemStack item = template.clone();
+        ItemMeta meta = item.getItemMeta();
+        meta.setLore(lore);
+        item.setItemMeta(meta);
+        lorePatches.increment();
+        put(slot, new Rendered(item, template, List.copyOf(lore)));
+    }
+
+    /**
+     * Returns the item set for a slot in the current redraw, or the one shown outside a redraw.
+     */
+    protected final ItemStack getSlot(int slot) {
+        Rendered rendered = frame != null ? frame[slot] : shown[slot];
+        return rendered == null ? null : rendered.item();
+    }
+
+    /**
+     * Called for every click while this menu is the open top inventory, including clicks in the
+     * player's own inventory below it. By default the click is cancelled and the handler bound to the
+     * clicked slot, if any, runs.
+     */
+    protected void handleClick(InventoryClickEvent event) {
+        event.setCancelled(true);
+        int slot = event.getRawSlot();
+        if (slot < 0 || slot >= getInventory().getSize()) return;
+        SlotHandler handler = slotHandlers[slot];
+        if (handler != null && event.getWhoClicked() instanceof Player clicker) {
+            handler.onClick(clicker, event);
+        }
+    }
+
+    /**
+     * Called for drags while this menu is open. By default drags that touch the menu are cancelled.
+     */
+    protected void handleDrag(InventoryDragEvent event) {
+        int size = getInventory().getSize();
+        for (int slot : event.getRawSlots()) {
+            if (slot < size) {
+                event.setCancelled(true);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Called when a player closes this menu.
+     */
+    protected void handleClose(InventoryCloseEvent event) {
+    }
+
+    /**
+     * Called on the tick after the viewing player's own inventory changed outside of this menu, for
+     * example by picking up an item.
+     */
+    protected void handleViewerInventoryChange() {
+    }
+
+    /**
+     * Returns the bytes allocated between creating this menu and its first open, or -1 if that was
+     * already reported or cannot be measured.
+     */
+    long takeOpenAllocation() {
+        long start = allocatedAtCreation;
+        allocatedAtCreation = -1;
+        long now = allocatedBytes();
+        return start < 0 || now < start ? -1 : now - start;
+    }
+
+    private void put(int slot, Rendered rendered) {
+        if (frame != null) {
+            frame[slot] = rendered;
+        } else {
+            show(slot, rendered);
+        }
+    }
+
+    private void show(int slot, Rendered rendered) {
+        Rendered previous = shown[slot];
+        shown[slot] = rendered;
+        ItemStack before = previous == null ? null : previous.item();
+        ItemStack after = rendered == null ? null : rendered.item();
+        if (before == after || Objects.equals(before, after)) {
+            slotsSkipped.increment();
+            return;
+        }
+        getInventory().setItem(slot, after);
+        slotWrites.increment();
+    }
+
+    private static long allocatedBytes() {
+        return threads == null ? -1 : threads.getCurrentThreadAllocatedBytes();
+    }
+}
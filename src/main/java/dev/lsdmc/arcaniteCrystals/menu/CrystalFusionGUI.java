@@ -10,13 +10,10 @@ import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
@@ -27,7 +24,7 @@ import java.util.List;
  * Workshop for fusing two crystals into one using Fusion Catalysts.
  * Uses a 4-slot system: Crystal 1 + Crystal 2 + Catalyst = Fused Crystal
  */
-public class CrystalFusionGUI implements InventoryHolder, Listener {
+public class CrystalFusionGUI extends ArcaniteMenu {
     private final Player player;
     private final Inventory inventory;
     private boolean isOpen = false;
@@ -43,7 +40,6 @@ public class CrystalFusionGUI implements InventoryHolder, Listener {
         this.player = player;
         this.inventory = Bukkit.createInventory(this, 27, ChatColor.LIGHT_PURPLE + "Crystal Fusion Workshop");
         setupGUI();
-        Bukkit.getPluginManager().registerEvents(this, ArcaniteCrystals.getInstance());
     }
 
     private void setupGUI() {
@@ -187,10 +183,8 @@ public class CrystalFusionGUI implements InventoryHolder, Listener {
         inventory.setItem(16, button);
     }
 
-    @EventHandler
-    public void onInventoryClick(InventoryClickEvent event) {
-        if (event.getInventory().getHolder() != this) return;
-        
+    @Override
+    protected void handleClick(InventoryClickEvent event) {
         Player clicker = (Player) event.getWhoClicked();
         int slot = event.getRawSlot();
         ItemStack clickedItem = event.getCurrentItem();
@@ -291,9 +285,21 @@ public class CrystalFusionGUI implements InventoryHolder, Listener {
         }
     }
 
-    @EventHandler
-    public void onInventoryClose(InventoryCloseEvent event) {
-        if (event.getInventory().getHolder() == this && isOpen) {
+    @Override
+    protected void handleDrag(InventoryDragEvent event) {
+        // Items may only be spread across the input slots
+        for (int slot : event.getRawSlots()) {
+            if (slot < inventory.getSize() && slot != CRYSTAL1_SLOT && slot != CRYSTAL2_SLOT && slot != CATALYST_SLOT) {
+                event.setCancelled(true);
+                return;
+            }
+        }
+        Bukkit.getScheduler().runTaskLater(ArcaniteCrystals.getInstance(), this::updateProcessButton, 1L);
+    }
+
+    @Override
+    protected void handleClose(InventoryCloseEvent event) {
+        if (isOpen) {
             // Return items to player
             ItemStack crystal1 = inventory.getItem(CRYSTAL1_SLOT);
             ItemStack crystal2 = inventory.getItem(CRYSTAL2_SLOT);
@@ -306,7 +312,6 @@ public class CrystalFusionGUI implements InventoryHolder, Listener {
             if (result != null) player.getInventory().addItem(result);
             
             isOpen = false;
-            HandlerList.unregisterAll(this);
         }
     }
 
@@ -314,7 +319,6 @@ public class CrystalFusionGUI implements InventoryHolder, Listener {
         if (!isOpen) {
             player.openInventory(inventory);
             isOpen = true;
-            Bukkit.getPluginManager().registerEvents(this, ArcaniteCrystals.getInstance());
         }
     }
 
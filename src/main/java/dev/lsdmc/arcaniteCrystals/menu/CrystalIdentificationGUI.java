@@ -10,13 +10,10 @@ import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
@@ -27,7 +24,7 @@ import java.util.List;
  * Workshop for identifying mystery crystals using Identification Catalysts.
  * Uses a 3-slot system: Crystal + Catalyst = Identified Crystal
  */
-public class CrystalIdentificationGUI implements InventoryHolder, Listener {
+public class CrystalIdentificationGUI extends ArcaniteMenu {
     private final Player player;
     private final Inventory inventory;
     private boolean isOpen = false;
@@ -42,7 +39,6 @@ public class CrystalIdentificationGUI implements InventoryHolder, Listener {
         this.player = player;
         this.inventory = Bukkit.createInventory(this, 27, ChatColor.AQUA + "Crystal Identification Workshop");
         setupGUI();
-        Bukkit.getPluginManager().registerEvents(this, ArcaniteCrystals.getInstance());
     }
 
     private void setupGUI() {
@@ -161,10 +157,8 @@ public class CrystalIdentificationGUI implements InventoryHolder, Listener {
         inventory.setItem(PROCESS_BUTTON, button);
     }
 
-    @EventHandler
-    public void onInventoryClick(InventoryClickEvent event) {
-        if (event.getInventory().getHolder() != this) return;
-        
+    @Override
+    protected void handleClick(InventoryClickEvent event) {
         Player clicker = (Player) event.getWhoClicked();
         int slot = event.getRawSlot();
         ItemStack clickedItem = event.getCurrentItem();
@@ -262,9 +256,21 @@ public class CrystalIdentificationGUI implements InventoryHolder, Listener {
         }
     }
 
-    @EventHandler
-    public void onInventoryClose(InventoryCloseEvent event) {
-        if (event.getInventory().getHolder() == this && isOpen) {
+    @Override
+    protected void handleDrag(InventoryDragEvent event) {
+        // Items may only be spread across the input slots
+        for (int slot : event.getRawSlots()) {
+            if (slot < inventory.getSize() && slot != CRYSTAL_SLOT && slot != CATALYST_SLOT) {
+                event.setCancelled(true);
+                return;
+            }
+        }
+        Bukkit.getScheduler().runTaskLater(ArcaniteCrystals.getInstance(), this::updateProcessButton, 1L);
+    }
+
+    @Override
+    protected void handleClose(InventoryCloseEvent event) {
+        if (isOpen) {
             // Return items to player
             ItemStack crystal = inventory.getItem(CRYSTAL_SLOT);
             ItemStack catalyst = inventory.getItem(CATALYST_SLOT);
@@ -275,7 +281,6 @@ public class CrystalIdentificationGUI implements InventoryHolder, Listener {
             if (result != null) player.getInventory().addItem(result);
             
             isOpen = false;
-            HandlerList.unregisterAll(this);
         }
     }
 
@@ -283,7 +288,6 @@ public class CrystalIdentificationGUI implements InventoryHolder, Listener {
         if (!isOpen) {
             player.openInventory(inventory);
             isOpen = true;
-            Bukkit.getPluginManager().registerEvents(this, ArcaniteCrystals.getInstance());
         }
     }
 
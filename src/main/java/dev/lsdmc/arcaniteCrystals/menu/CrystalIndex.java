@@ -0,0 +1,314 @@
+package dev.lsdmc.arcaniteCrystals.menu;
+
+import dev.lsdmc.arcaniteCrystals.manager.CrystalManager;
+import dev.lsdmc.arcaniteCrystals.model.CrystalState;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Decoded view of the crystals a player carries in their inventory and ender chest, used by
+ * {@link CrystalInventoryGUI}. Each crystal is read once when the index is built; its state is held
+ * in parallel arrays (one row per crystal) together with a precomputed row order for every sort and
+ * a sorted word list for prefix search, so filtering, sorting and paging never touch item data.
+ * Each row keeps the version stamp its crystal was read at. {@link #refresh} only looks at the
+ * player's items once some crystal has been written since the last check, and then re-reads just
+ * the rows whose stamp moved, e.g. the off-hand crystal as its energy drains.
+ * <p>
+ * The index belongs to one open menu and is only used on the main thread.
+ */
+final class CrystalIndex {
+
+    static final int BY_NAME = 0;
+    static final int BY_ENERGY = 1;
+    static final int BY_TIER = 2;
+    static final int BY_RECENT = 3;
+
+    /** Slot of the off-hand in {@link org.bukkit.inventory.PlayerInventory#getContents()}. */
+    static final int OFF_HAND_SLOT = 40;
+
+    private static final String WORD_BREAK = "[^\\p{L}\\p{N}]+";
+
+    // When each crystal was last equipped from the menu, by player and crystal id
+    private static final Map<UUID, Map<String, Long>> lastUsedByPlayer = new ConcurrentHashMap<>();
+
+    static final LongAdder builds = new LongAdder();
+
+    private final UUID owner;
+
+    // Columns
+    private int size;
+    private ItemStack[] items;
+    private Inventory[] sources;
+    private int[] sourceSlots;
+    private String[] ids;
+    private String[] names;
+    private int[] types;
+    private int[] energy;
+    private int[] maxEnergy;
+    private boolean[] activated;
+    private boolean[] identified;
+    private List<String>[] effects;
+    private long[] lastUsed;
+    private long[] versions;
+
+    private final int[][] orders = new int[4][];
+    private long checkedAt;
+
+    // Prefix index: every lower-case word of every name, sorted, with the row it came from
+    private String[] words;
+    private int[] wordRows;
+
+    private CrystalIndex(UUID owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * Reads every crystal in the player's inventory and ender chest.
+     */
+    static CrystalIndex build(Player player) {
+        CrystalIndex index = new CrystalIndex(player.getUniqueId());
+        index.load(player);
+        return index;
+    }
+
+    /**
+     * Re-reads the player's crystals after their inventory changed.
+     */
+    void rebuild(Player player) {
+        load(player);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void load(Player player) {
+        builds.increment();
+        // Taken first so a write that lands while reading is still picked up by the next refresh
+        checkedAt = CrystalManager.getVersionClock();
+        List<ItemStack> foundItems = new ArrayList<>();
+        List<Inventory> foundIn = new ArrayList<>();
+        List<Integer> foundAt = new ArrayList<>();
+        collect(player.getInventory(), foundItems, foundIn, foundAt);
+        collect(player.getEnderChest(), foundItems, foundIn, foundAt);
+
+        int n = foundItems.size();
+        size = n;
+        items = foundItems.toArray(new ItemStack[0]);
+        sources = foundIn.toArray(new Inventory[0]);
+        sourceSlots = foundAt.stream().mapToInt(Integer::intValue).toArray();
+        ids = new String[n];
+        names = new String[n];
+        types = new int[n];
+        energy = new int[n];
+        maxEnergy = new int[n];
+        activated = new boolean[n];
+        identified = new boolean[n];
+        effects = new List[n];
+        lastUsed = new long[n];
+        versions = new long[n];
+
+        Map<String, Long> used = lastUsedByPlayer.getOrDefault(owner, Map.of());
+        for (int row = 0; row < n; row++) {
+            ItemStack item = items[row];
+            ItemMeta meta = item.getItemMeta();
+            read(row, item, meta, CrystalManager.getState(meta));
+            Long at = ids[row] != null ? used.get(ids[row]) : null;
+            lastUsed[row] = at != null ? at : 0L;
+        }
+        sort();
+    }
+
+    private void read(int row, ItemStack item, ItemMeta meta, CrystalState state) {
+        String name = meta != null && meta.hasDisplayName() ? meta.getDisplayName() : "";
+        items[row] = item;
+        ids[row] = state.getId();
+        versions[row] = state.getVersion();
+        names[row] = ChatColor.stripColor(name).toLowerCase(Locale.ROOT);
+        types[row] = CrystalManager.getCrystalType(item).ordinal();
+        energy[row] = Math.max(0, state.getEnergy());
+        maxEnergy[row] = CrystalManager.getMaxEnergy(item);
+        activated[row] = state.isActivated();
+        identified[row] = state.isIdentified();
+        effects[row] = state.getEffects();
+    }
+
+    private void sort() {
+        orders[BY_NAME] = sorted(Comparator.comparing(row -> names[row]));
+        orders[BY_ENERGY] = sorted((a, b) -> Integer.compare(energy[b], energy[a]));
+        orders[BY_TIER] = sorted((a, b) -> Integer.compare(types[b], types[a]));
+        sortRecent();
+        indexWords();
+    }
+
+    private static void collect(Inventory inventory, List<ItemStack> items, List<Inventory> in, List<Integer> at) {
+        ItemStack[] contents = inventory.getContents();
+        for (int slot = 0; slot < contents.length; slot++) {
+            ItemStack item = contents[slot];
+            if (item != null && CrystalManager.isCrystal(item)) {
+                items.add(item);
+                in.add(inventory);
+                at.add(slot);
+            }
+        }
+    }
+
+    private int[] sorted(Comparator<Integer> comparator) {
+        return IntStream.range(0, size).boxed().sorted(comparator).mapToInt(Integer::intValue).toArray();
+    }
+
+    private void sortRecent() {
+        // Never-used crystals keep their name order after every used one
+        orders[BY_RECENT] = Arrays.stream(orders[BY_NAME]).boxed()
+                .sorted((a, b) -> Long.compare(lastUsed[b], lastUsed[a]))
+                .mapToInt(Integer::intValue).toArray();
+    }
+
+    private void indexWords() {
+        List<String> allWords = new ArrayList<>();
+        List<Integer> rows = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            for (String word : names[row].split(WORD_BREAK)) {
+                if (!word.isEmpty()) {
+                    allWords.add(word);
+                    rows.add(row);
+                }
+            }
+        }
+        Integer[] order = IntStream.range(0, allWords.size()).boxed().toArray(Integer[]::new);
+        Arrays.sort(order, Comparator.comparing(allWords::get));
+        words = new String[order.length];
+        wordRows = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            words[i] = allWords.get(order[i]);
+            wordRows[i] = rows.get(order[i]);
+        }
+    }
+
+    /**
+     * Returns the rows with a name word starting with every word of {@code query}, or null when the
+     * query is blank and every row matches.
+     */
+    BitSet search(String query) {
+        BitSet result = null;
+        for (String prefix : query.toLowerCase(Locale.ROOT).split(WORD_BREAK)) {
+            if (prefix.isEmpty()) continue;
+            BitSet matches = new BitSet(size);
+            int from = lowerBound(prefix);
+            for (int i = from; i < words.length && words[i].startsWith(prefix); i++) {
+                matches.set(wordRows[i]);
+            }
+            if (result == null) {
+                result = matches;
+            } else {
+                result.and(matches);
+            }
+        }
+        return result;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = words.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (words[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Brings the rows up to date with the player's items and returns whether any row changed.
+     * Nothing is read unless some crystal was written since the last check. A row whose slot no
+     * longer holds its crystal means the inventory changed, so the whole index is re-read.
+     */
+    boolean refresh(Player player) {
+        long clock = CrystalManager.getVersionClock();
+        if (clock == checkedAt) return false;
+        checkedAt = clock;
+
+        boolean changed = false;
+        for (int row = 0; row < size; row++) {
+            ItemStack item = sources[row].getItem(sourceSlots[row]);
+            ItemMeta meta = item != null && item.hasItemMeta() ? item.getItemMeta() : null;
+            CrystalState state = CrystalManager.getState(meta);
+            if (state == null || !Objects.equals(state.getId(), ids[row])) {
+                load(player);
+                return true;
+            }
+            if (state.getVersion() != versions[row]) {
+                read(row, item, meta, state);
+                changed = true;
+            }
+        }
+        if (changed) {
+            sort();
+        }
+        return changed;
+    }
+
+    /**
+     * Returns the rows in the given sort order.
+     */
+    int[] order(int sort) {
+        return orders[sort];
+    }
+
+    /**
+     * Records that a crystal was just used and moves it to the front of the recent order.
+     */
+    void touch(int row) {
+        long now = System.currentTimeMillis();
+        lastUsed[row] = now;
+        if (ids[row] != null) {
+            lastUsedByPlayer.computeIfAbsent(owner, id -> new HashMap<>()).put(ids[row], now);
+        }
+        sortRecent();
+    }
+
+    /**
+     * Points a row at the slot its crystal was moved to.
+     */
+    void moved(int row, Inventory source, int slot) {
+        sources[row] = source;
+        sourceSlots[row] = slot;
+    }
+
+    /**
+     * Forgets a player's usage times, e.g. when they leave.
+     */
+    static void forget(UUID playerId) {
+        lastUsedByPlayer.remove(playerId);
+    }
+
+    int size() { return size; }
+    ItemStack item(int row) { return items[row]; }
+    Inventory source(int row) { return sources[row]; }
+    int sourceSlot(int row) { return sourceSlots[row]; }
+    String id(int row) { return ids[row]; }
+    CrystalManager.CrystalType type(int row) { return CrystalManager.CrystalType.values()[types[row]]; }
+    int energy(int row) { return energy[row]; }
+    int maxEnergy(int row) { return maxEnergy[row]; }
+    boolean isActivated(int row) { return activated[row]; }
+    boolean isIdentified(int row) { return identified[row]; }
+    List<String> effects(int row) { return effects[row]; }
+    long lastUsed(int row) { return lastUsed[row]; }
+}
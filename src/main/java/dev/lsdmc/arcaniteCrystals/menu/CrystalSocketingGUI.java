@@ -10,13 +10,10 @@ import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
@@ -27,7 +24,7 @@ import java.util.List;
  * Workshop for socketing crystals into items using Socketing Catalysts.
  * Uses a 4-slot system: Item + Crystal + Catalyst = Socketed Item
  */
-public class CrystalSocketingGUI implements InventoryHolder, Listener {
+public class CrystalSocketingGUI extends ArcaniteMenu {
     private final Player player;
     private final Inventory inventory;
     private boolean isOpen = false;
@@ -43,7 +40,6 @@ public class CrystalSocketingGUI implements InventoryHolder, Listener {
         this.player = player;
         this.inventory = Bukkit.createInventory(this, 27, ChatColor.GOLD + "Crystal Socketing Workshop");
         setupGUI();
-        Bukkit.getPluginManager().registerEvents(this, ArcaniteCrystals.getInstance());
     }
 
     private void setupGUI() {
@@ -184,10 +180,8 @@ public class CrystalSocketingGUI implements InventoryHolder, Listener {
         inventory.setItem(16, button);
     }
 
-    @EventHandler
-    public void onInventoryClick(InventoryClickEvent event) {
-        if (event.getInventory().getHolder() != this) return;
-        
+    @Override
+    protected void handleClick(InventoryClickEvent event) {
         Player clicker = (Player) event.getWhoClicked();
         int slot = event.getRawSlot();
         ItemStack clickedItem = event.getCurrentItem();
@@ -289,9 +283,21 @@ public class CrystalSocketingGUI implements InventoryHolder, Listener {
         }
     }
 
-    @EventHandler
-    public void onInventoryClose(InventoryCloseEvent event) {
-        if (event.getInventory().getHolder() == this && isOpen) {
+    @Override
+    protected void handleDrag(InventoryDragEvent event) {
+        // Items may only be spread across the input slots
+        for (int slot : event.getRawSlots()) {
+            if (slot < inventory.getSize() && slot != ITEM_SLOT && slot != CRYSTAL_SLOT && slot != CATALYST_SLOT) {
+                event.setCancelled(true);
+                return;
+            }
+        }
+        Bukkit.getScheduler().runTaskLater(ArcaniteCrystals.getInstance(), this::updateProcessButton, 1L);
+    }
+
+    @Override
+    protected void handleClose(InventoryCloseEvent event) {
+        if (isOpen) {
             // Return items to player
             ItemStack item = inventory.getItem(ITEM_SLOT);
             ItemStack crystal = inventory.getItem(CRYSTAL_SLOT);
@@ -304,7 +310,6 @@ public class CrystalSocketingGUI implements InventoryHolder, Listener {
             if (result != null) player.getInventory().addItem(result);
             
             isOpen = false;
-            HandlerList.unregisterAll(this);
         }
     }
 
@@ -312,7 +317,6 @@ public class CrystalSocketingGUI implements InventoryHolder, Listener {
         if (!isOpen) {
             player.openInventory(inventory);
             isOpen = true;
-            Bukkit.getPluginManager().registerEvents(this, ArcaniteCrystals.getInstance());
         }
     }
 
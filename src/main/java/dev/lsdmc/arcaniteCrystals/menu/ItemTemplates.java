@@ -0,0 +1,99 @@
+package dev.lsdmc.arcaniteCrystals.menu;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Menu items that are built once and shared by every menu that shows them. Templates are dropped on
+ * configuration reload and rebuilt on next use.
+ * <p>
+ * The returned stacks are shared: pass them to {@link ArcaniteMenu#setSlot} or
+ * {@code Inventory.setItem}, which copy them, and never modify them. Per-player lore is applied with
+ * {@link ArcaniteMenu#setSlot(int, ItemStack, List)}.
+ */
+public final class ItemTemplates {
+
+    private static final Map<String, ItemStack> templates = new ConcurrentHashMap<>();
+    private static final Map<Material, ItemStack> panes = new ConcurrentHashMap<>();
+
+    private static final LongAdder built = new LongAdder();
+    private static final LongAdder reused = new LongAdder();
+
+    private ItemTemplates() {
+    }
+
+    /**
+     * Returns the template stored under {@code key}, building it with {@code factory} on first use.
+     */
+    public static ItemStack get(String key, Supplier<ItemStack> factory) {
+        ItemStack template = templates.get(key);
+        if (template != null) {
+            reused.increment();
+            return template;
+        }
+        return templates.computeIfAbsent(key, k -> {
+            built.increment();
+            return factory.get();
+        });
+    }
+
+    /**
+     * Returns a named icon with no lore.
+     */
+    public static ItemStack icon(String key, Material material, String name) {
+        return get(key, () -> build(material, name, null));
+    }
+
+    /**
+     * Returns a named icon with fixed lore.
+     */
+    public static ItemStack icon(String key, Material material, String name, List<String> lore) {
+        return get(key, () -> build(material, name, lore));
+    }
+
+    /**
+     * Returns a blank-named filler pane.
+     */
+    public static ItemStack pane(Material material) {
+        ItemStack pane = panes.get(material);
+        if (pane != null) {
+            reused.increment();
+            return pane;
+        }
+        return panes.computeIfAbsent(material, m -> {
+            built.increment();
+            return build(m, " ", null);
+        });
+    }
+
+    /**
+     * Drops every template, e.g. after a configuration reload.
+     */
+    public static void clear() {
+        templates.clear();
+        panes.clear();
+    }
+
+    public static String getStats() {
+        return String.format("%d cached, %d built, %d reused",
+                templates.size() + panes.size(), built.sum(), reused.sum());
+    }
+
+    private static ItemStack build(Material material, String name, List<String> lore) {
+        ItemStack item = new ItemStack(material);
+        ItemMeta meta = item.getItemMeta();
+        meta.setDisplayName(name);
+        if (lore != null) {
+            meta.setLore(lore);
+        }
+        item.setItemMeta(meta);
+        return item;
+    }
+}
@@ -0,0 +1,133 @@
+package dev.lsdmc.arcaniteCrystals.menu;
+
+import dev.lsdmc.arcaniteCrystals.ArcaniteCrystals;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.event.player.AsyncPlayerChatEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * The one listener for every plugin menu. It is registered once at startup and hands each inventory
+ * event to the {@link ArcaniteMenu} holding the inventory, so the cost of an event does not grow with
+ * the number of menus open across the server.
+ */
+public class MenuDispatcher implements Listener {
+
+    private static final LongAdder dispatched = new LongAdder();
+    private static final LongAdder dispatchNanos = new LongAdder();
+    private static final LongAdder measuredOpens = new LongAdder();
+    private static final LongAdder openBytes = new LongAdder();
+
+    private static final long PROMPT_TIMEOUT_MS = 60_000L;
+
+    // Menus waiting for a player's next chat message, such as a search query
+    private record Prompt(Consumer<String> reply, long expiresAt) {}
+    private static final Map<UUID, Prompt> prompts = new ConcurrentHashMap<>();
+
+    /**
+     * Hands the player's next chat message to {@code reply} on the main thread instead of sending it to chat.
+     * The prompt lapses after a minute, or once the player opens and closes another menu.
+     */
+    public static void prompt(Player player, Consumer<String> reply) {
+        prompts.put(player.getUniqueId(), new Prompt(reply, System.currentTimeMillis() + PROMPT_TIMEOUT_MS));
+    }
+
+    /**
+     * Records how much the building thread allocated between creating a menu and opening it.
+     */
+    @EventHandler
+    public void onInventoryOpen(InventoryOpenEvent event) {
+        if (!(event.getInventory().getHolder() instanceof ArcaniteMenu menu)) return;
+        long bytes = menu.takeOpenAllocation();
+        if (bytes >= 0) {
+            openBytes.add(bytes);
+            measuredOpens.increment();
+        }
+    }
+
+    @EventHandler
+    public void onInventoryClick(InventoryClickEvent event) {
+        if (!(event.getInventory().getHolder() instanceof ArcaniteMenu menu)) return;
+        long start = System.nanoTime();
+        menu.handleClick(event);
+        record(start);
+    }
+
+    @EventHandler
+    public void onInventoryDrag(InventoryDragEvent event) {
+        if (!(event.getInventory().getHolder() instanceof ArcaniteMenu menu)) return;
+        long start = System.nanoTime();
+        menu.handleDrag(event);
+        record(start);
+    }
+
+    @EventHandler
+    public void onInventoryClose(InventoryCloseEvent event) {
+        if (!(event.getInventory().getHolder() instanceof ArcaniteMenu menu)) return;
+        // Closing a menu abandons any prompt it was waiting on; menus that prompt set it after closing
+        prompts.remove(event.getPlayer().getUniqueId());
+        long start = System.nanoTime();
+        menu.handleClose(event);
+        record(start);
+    }
+
+    /**
+     * Tells the menu a player has open that their inventory changed, once the pickup has been applied.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(EntityPickupItemEvent event) {
+        if (!(event.getEntity() instanceof Player player)) return;
+        if (!(player.getOpenInventory().getTopInventory().getHolder() instanceof ArcaniteMenu)) return;
+        Bukkit.getScheduler().runTask(ArcaniteCrystals.getInstance(), () -> {
+            if (player.getOpenInventory().getTopInventory().getHolder() instanceof ArcaniteMenu menu) {
+                menu.handleViewerInventoryChange();
+            }
+        });
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onChat(AsyncPlayerChatEvent event) {
+        Prompt prompt = prompts.remove(event.getPlayer().getUniqueId());
+        if (prompt == null || prompt.expiresAt() < System.currentTimeMillis()) return;
+        event.setCancelled(true);
+        String message = event.getMessage();
+        Bukkit.getScheduler().runTask(ArcaniteCrystals.getInstance(), () -> prompt.reply().accept(message));
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        CrystalIndex.forget(event.getPlayer().getUniqueId());
+        prompts.remove(event.getPlayer().getUniqueId());
+    }
+
+    public static String getStats() {
+        long count = dispatched.sum();
+        double averageMicros = count == 0 ? 0 : dispatchNanos.sum() / 1000.0 / count;
+        long opens = measuredOpens.sum();
+        double averageKb = opens == 0 ? 0 : openBytes.sum() / 1024.0 / opens;
+        return String.format("Events: %d, Avg handler: %.1fµs, Opens: %d (%.1f KB allocated each), "
+                        + "Slot writes: %d sent / %d unchanged, Lore patches: %d, Templates: %s, Crystal index builds: %d",
+                count, averageMicros, opens, averageKb, ArcaniteMenu.slotWrites.sum(),
+                ArcaniteMenu.slotsSkipped.sum(), ArcaniteMenu.lorePatches.sum(), ItemTemplates.getStats(),
+                CrystalIndex.builds.sum());
+    }
+
+    private static void record(long start) {
+        dispatchNanos.add(System.nanoTime() - start);
+        dispatched.increment();
+    }
+}
@@ -0,0 +1,87 @@
+// src/main/java/dev/lsdmc/arcaniteCrystals/model/CrystalState.java
+package dev.lsdmc.arcaniteCrystals.model;
+
+import java.util.List;
+
+/**
+ * Immutable, decoded view of a crystal item's persistent data.
+ * <p>
+ * Produced by {@code CrystalManager.getState}, which caches it by crystal id and version stamp;
+ * any write to the item's data bumps the stamp, so a state never outlives the data it was read from.
+ */
+public class CrystalState {
+
+    private final String id;
+    private final long version;
+    private final boolean activated;
+    private final boolean hasEnergy;
+    private final int energy;
+    private final int tier;
+    private final List<String> effects;
+    private final boolean identified;
+    private final String type;
+
+    public CrystalState(String id, long version, boolean activated, boolean hasEnergy, int energy, int tier,
+                        List<String> effects, boolean identified, String type) {
+        this.id = id;
+        this.version = version;
+        this.activated = activated;
+        this.hasEnergy = hasEnergy;
+        this.energy = energy;
+        this.tier = tier;
+        this.effects = List.copyOf(effects);
+        this.identified = identified;
+        this.type = type;
+    }
+
+    /**
+     * Crystal id, or null for crystals that were never assigned one.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Version stamp of the data this state was decoded from (0 if the item was never stamped).
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isActivated() {
+        return activated;
+    }
+
+    /**
+     * Whether the item stores an energy value at all (unidentified crystals may not).
+     */
+    public boolean hasEnergy() {
+        return hasEnergy;
+    }
+
+    /**
+     * Raw stored energy, which may be negative on legacy items.
+     */
+    public int getEnergy() {
+        return energy;
+    }
+
+    public int getTier() {
+        return tier;
+    }
+
+    public List<String> getEffects() {
+        return effects;
+    }
+
+    public boolean isIdentified() {
+        return identified;
+    }
+
+    /**
+     * Stored crystal type name, or null if none was recorded.
+     */
+    public String getType() {
+        return type;
+    }
+}
@@ -0,0 +1,124 @@
+package dev.lsdmc.arcaniteCrystals.placeholder;
+
+import dev.lsdmc.arcaniteCrystals.ArcaniteCrystals;
+import dev.lsdmc.arcaniteCrystals.config.ConfigManager;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Per-player snapshot of resolved placeholder values.
+ * <p>
+ * Each value is tagged with the state it was computed from ({@link #LEVEL}, {@link #UPGRADES},
+ * {@link #CRYSTAL}). The code that changes that state calls {@link #invalidate}, which drops only
+ * the affected values; everything else is served from the snapshot until then. Values that read
+ * {@link #REQUIREMENTS} (balance, kills, playtime) change without any event, so they are also
+ * recomputed after {@code placeholders.requirements-refresh-ms}.
+ */
+public class PlaceholderCache {
+
+    public static final int LEVEL = 1;
+    public static final int UPGRADES = 1 << 1;
+    public static final int CRYSTAL = 1 << 2;
+    public static final int REQUIREMENTS = 1 << 3;
+    public static final int ALL = LEVEL | UPGRADES | CRYSTAL | REQUIREMENTS;
+
+    private static final Map<UUID, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private static volatile long requirementsRefreshMillis =
+            ConfigManager.getConfig().getLong("placeholders.requirements-refresh-ms", 1000);
+
+    private static final long startedAt = System.currentTimeMillis();
+    private static final AtomicLong resolutions = new AtomicLong();
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong invalidations = new AtomicLong();
+
+    private record Value(String text, int dependencies, long computedAt) {}
+
+    private static final class Snapshot {
+        final Map<Object, Value> values = new ConcurrentHashMap<>();
+        volatile int epoch;
+    }
+
+    /**
+     * Returns the snapshot value for {@code key}, computing and storing it if it is missing or stale.
+     * A {@code dependencies} of 0 marks a value that is never cached.
+     */
+    static String get(Player player, Object key, int dependencies, Function<Player, String> compute) {
+        resolutions.incrementAndGet();
+        if (dependencies == 0) {
+            return compute.apply(player);
+        }
+
+        Snapshot snapshot = snapshots.computeIfAbsent(player.getUniqueId(), id -> new Snapshot());
+        long now = System.currentTimeMillis();
+        Value cached = snapshot.values.get(key);
+        if (cached != null && !expired(cached, now)) {
+            hits.incrementAndGet();
+            return cached.text();
+        }
+
+        misses.incrementAndGet();
+        int epoch = snapshot.epoch;
+        String text = compute.apply(player);
+        if (text != null) {
+            Value value = new Value(text, dependencies, now);
+            snapshot.values.put(key, value);
+            // An invalidation that raced with the computation wins
+            if (snapshot.epoch != epoch) {
+                snapshot.values.remove(key, value);
+            }
+        }
+        return text;
+    }
+
+    /**
+     * Drops a player's values that depend on any of the given state flags.
+     */
+    public static void invalidate(UUID playerId, int dependencies) {
+        Snapshot snapshot = snapshots.get(playerId);
+        if (snapshot == null) return;
+        snapshot.epoch++;
+        snapshot.values.values().removeIf(value -> (value.dependencies() & dependencies) != 0);
+        invalidations.incrementAndGet();
+    }
+
+    /**
+     * Invalidates on the next tick, after the change an event announces has been applied.
+     */
+    public static void invalidateLater(UUID playerId, int dependencies) {
+        if (!snapshots.containsKey(playerId)) return;
+        Bukkit.getScheduler().runTask(ArcaniteCrystals.getInstance(), () -> invalidate(playerId, dependencies));
+    }
+
+    /**
+     * Drops every snapshot, e.g. after a configuration reload.
+     */
+    public static void invalidateAll() {
+        requirementsRefreshMillis = ConfigManager.getConfig().getLong("placeholders.requirements-refresh-ms", 1000);
+        snapshots.clear();
+        invalidations.incrementAndGet();
+    }
+
+    public static void remove(UUID playerId) {
+        snapshots.remove(playerId);
+    }
+
+    public static String getStats() {
+        long hitCount = hits.get();
+        long cacheable = hitCount + misses.get();
+        double hitRate = cacheable == 0 ? 0 : hitCount * 100.0 / cacheable;
+        double seconds = Math.max(1, (System.currentTimeMillis() - startedAt) / 1000.0);
+        return String.format("Snapshots: %d, Resolutions: %d (%.0f/s), Hit rate: %.1f%%, Invalidations: %d",
+                snapshots.size(), resolutions.get(), resolutions.get() / seconds, hitRate, invalidations.get());
+    }
+
+    private static boolean expired(Value value, long now) {
+        return (value.dependencies() & REQUIREMENTS) != 0 && now - value.computedAt() >= requirementsRefreshMillis;
+    }
+}
@@ -0,0 +1,183 @@
+package dev.lsdmc.arcaniteCrystals.util;
+
+import dev.lsdmc.arcaniteCrystals.ArcaniteCrystals;
+import dev.lsdmc.arcaniteCrystals.config.ConfigManager;
+import dev.lsdmc.arcaniteCrystals.database.PlayerDataManager;
+import org.bukkit.entity.Player;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Level of detail for particles and sounds, driven by how long server ticks take.
+ * <p>
+ * {@link #sample()} runs once per tick on the main thread and measures the main thread's CPU time
+ * since the previous tick, smoothed over about a second. The level steps up when the smoothed
+ * MSPT reaches {@code particles.lod.reduced-mspt} or {@code particles.lod.minimal-mspt} and only
+ * steps back down once it is {@code particles.lod.recover-margin} below that threshold and the
+ * current level has been held for {@code particles.lod.hold-ticks}, so it does not flap around a
+ * threshold.
+ * <p>
+ * Players can opt out of effects independently of the server level. Their choice is one of the
+ * flags below, stored with their profile.
+ */
+public class EffectLod {
+
+    /** Skip multi-tick particle animations. */
+    public static final int NO_ANIMATIONS = 1;
+    /** Show particles as if the server were at {@link Level#MINIMAL}. */
+    public static final int REDUCED_PARTICLES = 1 << 1;
+    /** Play only the main sound of layered sounds. */
+    public static final int NO_LAYERED_SOUNDS = 1 << 2;
+
+    /**
+     * How much of each effect is played.
+     */
+    public enum Level {
+        FULL(1.0, 1, Integer.MAX_VALUE),
+        REDUCED(0.5, 2, 2),
+        MINIMAL(0.2, 4, 1);
+
+        /** Multiplier for particle counts. */
+        public final double particleScale;
+        /** Only every n-th animation frame is rendered. */
+        public final int frameStride;
+        /** Number of sound layers played, main sound first. */
+        public final int soundLayers;
+
+        Level(double particleScale, int frameStride, int soundLayers) {
+            this.particleScale = particleScale;
+            this.frameStride = frameStride;
+            this.soundLayers = soundLayers;
+        }
+    }
+
+    private static final double SMOOTHING = 0.05; // About one second at 20 TPS
+    private static final double TICK_MILLIS = 50.0;
+
+    private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    private static volatile Level level = Level.FULL;
+    private static volatile double smoothedMspt;
+    private static long lastCpuNanos = -1;
+    private static long lastWallNanos = -1;
+    private static long heldTicks;
+    private static long changes;
+
+    // Configuration snapshot
+    private static volatile boolean enabled = true;
+    private static volatile double reducedMspt = 40;
+    private static volatile double minimalMspt = 48;
+    private static volatile double recoverMargin = 5;
+    private static volatile long holdTicks = 100;
+    private static volatile int crowdSize = 12;
+
+    static {
+        reloadConfig();
+    }
+
+    public static void reloadConfig() {
+        var config = ConfigManager.getConfig();
+        enabled = config.getBoolean("particles.lod.enabled", true);
+        reducedMspt = config.getDouble("particles.lod.reduced-mspt", 40);
+        minimalMspt = Math.max(reducedMspt, config.getDouble("particles.lod.minimal-mspt", 48));
+        recoverMargin = Math.max(0, config.getDouble("particles.lod.recover-margin", 5));
+        holdTicks = Math.max(0, config.getLong("particles.lod.hold-ticks", 100));
+        crowdSize = Math.max(1, config.getInt("particles.lod.crowd-size", 12));
+        if (!enabled) {
+            level = Level.FULL;
+        }
+    }
+
+    /**
+     * Measures the tick that just ended and updates the level. Main thread only.
+     */
+    static void sample() {
+        long wall = System.nanoTime();
+        long cpu = threads.isCurrentThreadCpuTimeSupported() ? threads.getCurrentThreadCpuTime() : -1;
+        double mspt;
+        if (cpu >= 0 && lastCpuNanos >= 0) {
+            mspt = (cpu - lastCpuNanos) / 1_000_000.0;
+        } else if (cpu < 0 && lastWallNanos >= 0) {
+            // Without CPU timing only ticks that overran their 50 ms are visible
+            double interval = (wall - lastWallNanos) / 1_000_000.0;
+            mspt = interval > TICK_MILLIS ? interval : 0;
+        } else {
+            mspt = smoothedMspt;
+        }
+        lastCpuNanos = cpu;
+        lastWallNanos = wall;
+
+        smoothedMspt += (mspt - smoothedMspt) * SMOOTHING;
+        heldTicks++;
+        if (enabled) {
+            update();
+        }
+    }
+
+    private static void update() {
+        Level target = smoothedMspt >= minimalMspt ? Level.MINIMAL
+                : smoothedMspt >= reducedMspt ? Level.REDUCED
+                : Level.FULL;
+        Level current = level;
+        if (target.ordinal() > current.ordinal()) {
+            // Shed load straight away
+            setLevel(target);
+        } else if (target.ordinal() < current.ordinal() && heldTicks >= holdTicks) {
+            double threshold = current == Level.MINIMAL ? minimalMspt : reducedMspt;
+            if (smoothedMspt < threshold - recoverMargin) {
+                setLevel(Level.values()[current.ordinal() - 1]);
+            }
+        }
+    }
+
+    private static void setLevel(Level newLevel) {
+        ArcaniteCrystals.getInstance().getLogger().fine(String.format(
+                "Effect detail %s -> %s at %.1f MSPT", level, newLevel, smoothedMspt));
+        level = newLevel;
+        heldTicks = 0;
+        changes++;
+    }
+
+    public static Level getLevel() {
+        return level;
+    }
+
+    public static double getSmoothedMspt() {
+        return smoothedMspt;
+    }
+
+    /**
+     * Particle count multiplier for one viewer of a burst that {@code audience} players can see.
+     */
+    static double particleScale(Player viewer, int audience) {
+        double scale = hasOptOut(viewer, REDUCED_PARTICLES) ? Level.MINIMAL.particleScale : level.particleScale;
+        if (audience > crowdSize) {
+            scale *= (double) crowdSize / audience;
+        }
+        return scale;
+    }
+
+    /**
+     * Returns whether animation frame {@code frame} should be rendered at the current level.
+     */
+    static boolean renderFrame(int frame) {
+        return frame % level.frameStride == 0;
+    }
+
+    /**
+     * Number of layers of a layered sound to play for {@code player}.
+     */
+    public static int soundLayers(Player player) {
+        return hasOptOut(player, NO_LAYERED_SOUNDS) ? 1 : level.soundLayers;
+    }
+
+    public static boolean hasOptOut(Player player, int flag) {
+        return (PlayerDataManager.getEffectSettings(player.getUniqueId()) & flag) != 0;
+    }
+
+    public static String getStats() {
+        return String.format("Level: %s, MSPT: %.1f (reduced at %.0f, minimal at %.0f), Changes: %d",
+                level, smoothedMspt, reducedMspt, minimalMspt, changes);
+    }
+}
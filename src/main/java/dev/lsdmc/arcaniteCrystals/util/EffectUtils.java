@@ -16,6 +16,7 @@ import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Professional effect utility system with comprehensive potion effect management,
@@ -76,6 +77,10 @@ public class EffectUtils {
         EFFECT_TYPE_MAPPING = Collections.unmodifiableMap(effectMap);
     }
 
+    // Upgrade effects resolved on first use; upgrades.yml is not reloaded at runtime
+    private static final Map<String, ResolvedEffect> resolvedEffects = new ConcurrentHashMap<>();
+    private static final ResolvedEffect UNRESOLVED = new ResolvedEffect(null, null, 0, 0, 0);
+
     /**
      * Enhanced crystal item builder with professional formatting and validation.
      */
@@ -163,68 +168,46 @@ public class EffectUtils {
 
     /**
      * Enhanced effect application with dynamic scaling and professional validation.
+     * Always replaces the player's current effect of the same type.
      */
     public static void applyEffect(Player player, String upgradeId) {
+        applyEffect(player, upgradeId, 0);
+    }
+
+    /**
+     * Applies an upgrade's effect unless the player already has it at the same amplifier with more
+     * than {@code minRemainingTicks} left, so periodic callers only touch the player when the
+     * effect is about to run out.
+     */
+    public static void applyEffect(Player player, String upgradeId, int minRemainingTicks) {
         if (player == null || upgradeId == null || upgradeId.trim().isEmpty()) {
             plugin.getLogger().warning("Invalid parameters for effect application");
             return;
         }
         
         try {
-            // Get upgrade configuration with validation
-            ConfigurationSection upgradeSection = upgradesCfg.getConfigurationSection("upgrades." + upgradeId);
-            if (upgradeSection == null) {
-                plugin.getLogger().warning("No configuration found for upgrade: " + upgradeId);
+            ResolvedEffect resolved = resolvedEffects.computeIfAbsent(upgradeId, EffectUtils::resolveEffect);
+            if (resolved == UNRESOLVED) {
                 return;
             }
             
-            // Extract effect information
-            String effectName = upgradeSection.getString("effect");
-            int configAmplifier = upgradeSection.getInt("amplifier", 0);
-            int configDuration = upgradeSection.getInt("duration", 200);
-            
-            if (effectName == null || effectName.trim().isEmpty()) {
-                plugin.getLogger().warning("No effect name specified for upgrade: " + upgradeId);
-                return;
-            }
-            
-            // Get PotionEffectType with modern compatibility
-            PotionEffectType effectType = getEffectType(effectName);
-            if (effectType == null) {
-                plugin.getLogger().warning("Unknown effect type: " + effectName + " for upgrade: " + upgradeId);
+            PotionEffect effect = resolved.forLevel(PlayerDataManager.getLevel(player.getUniqueId()));
+            if (effect == null) {
                 return;
             }
             
-            // Calculate dynamic scaling
-            DynamicEffectData scaledEffect = calculateDynamicEffect(
-                player, upgradeId, configAmplifier, configDuration);
-            
-            // Validate final values
-            if (scaledEffect.duration <= 0) {
-                plugin.getLogger().warning("Invalid duration calculated for " + upgradeId + ": " + scaledEffect.duration);
-                return;
+            PotionEffect current = player.getPotionEffect(resolved.type);
+            if (current != null) {
+                if (minRemainingTicks > 0 && current.getAmplifier() == effect.getAmplifier()
+                        && (current.isInfinite() || current.getDuration() > minRemainingTicks)) {
+                    return;
+                }
+                // Remove existing effect of same type to prevent conflicts
+                player.removePotionEffect(resolved.type);
             }
             
-            // Apply the effect with enhanced parameters
-            PotionEffect effect = new PotionEffect(
-                effectType,
-                scaledEffect.duration,
-                Math.max(0, scaledEffect.amplifier), // Ensure non-negative
-                false, // Not ambient
-                false  // Show particles (false for cleaner look)
-            );
-            
-            // Remove existing effect of same type to prevent conflicts
-            player.removePotionEffect(effectType);
-            
-            // Apply new effect
-            boolean applied = player.addPotionEffect(effect, true);
-            
-            if (applied) {
-                plugin.getLogger().fine("Applied " + effectName + " (Level " + (scaledEffect.amplifier + 1) + 
-                                      ") to " + player.getName() + " for " + (scaledEffect.duration / 20) + "s");
-            } else {
-                plugin.getLogger().warning("Failed to apply effect " + effectName + " to " + player.getName());
+            if (!player.addPotionEffect(effect, true)) {
+                plugin.getLogger().warning("Failed to apply effect " + resolved.type.getKey() + " to " + player.getName());
             }
             
         } catch (Exception e) {
@@ -234,37 +217,56 @@ public class EffectUtils {
         }
     }
 
+    /**
+     * Reads an upgrade's effect settings once. Upgrades that cannot be applied are logged here and
+     * cached as {@link #UNRESOLVED}, so they are not looked up and reported again on every cycle.
+     */
+    private static ResolvedEffect resolveEffect(String upgradeId) {
+        ConfigurationSection upgradeSection = upgradesCfg.getConfigurationSection("upgrades." + upgradeId);
+        if (upgradeSection == null) {
+            plugin.getLogger().warning("No configuration found for upgrade: " + upgradeId);
+            return UNRESOLVED;
+        }
+        
+        String effectName = upgradeSection.getString("effect");
+        if (effectName == null || effectName.trim().isEmpty()) {
+            plugin.getLogger().warning("No effect name specified for upgrade: " + upgradeId);
+            return UNRESOLVED;
+        }
+        
+        // Get PotionEffectType with modern compatibility
+        PotionEffectType effectType = getEffectType(effectName);
+        if (effectType == null) {
+            plugin.getLogger().warning("Unknown effect type: " + effectName + " for upgrade: " + upgradeId);
+            return UNRESOLVED;
+        }
+        
+        return new ResolvedEffect(upgradeId, effectType,
+                upgradeSection.getInt("amplifier", 0), upgradeSection.getInt("duration", 200),
+                ServerLevelManager.getTier(upgradeId));
+    }
+
     /**
      * Calculates dynamic effect scaling based on player level and tier.
      */
-    private static DynamicEffectData calculateDynamicEffect(Player player, String upgradeId, 
+    private static DynamicEffectData calculateDynamicEffect(int playerLevel, int tier,
                                                            int baseAmplifier, int baseDuration) {
-        try {
-            UUID playerId = player.getUniqueId();
-            int playerLevel = PlayerDataManager.getLevel(playerId);
-            int tier = dev.lsdmc.arcaniteCrystals.manager.ServerLevelManager.getTier(upgradeId);
-            
-            // Calculate amplifier with level bonus
-            int levelBonus = LEVEL_AMPLIFIER_BONUS.getOrDefault(playerLevel, 0);
-            int finalAmplifier = Math.min(baseAmplifier + levelBonus, 10); // Cap at level 10 effect
-            
-            // Calculate duration with tier multiplier
-            double tierMultiplier = TIER_DURATION_MULTIPLIERS.getOrDefault(tier, 1.0);
-            int finalDuration = (int) (baseDuration * tierMultiplier);
-            
-            // Apply level-based duration bonus (max 50% bonus at level 10)
-            double levelDurationBonus = 1.0 + (playerLevel - 1) * 0.05; // 5% per level above 1
-            finalDuration = (int) (finalDuration * Math.min(levelDurationBonus, 1.5));
-            
-            // Ensure minimum duration
-            finalDuration = Math.max(finalDuration, 100); // At least 5 seconds
-            
-            return new DynamicEffectData(finalAmplifier, finalDuration);
-            
-        } catch (Exception e) {
-            plugin.getLogger().warning("Error calculating dynamic effect for " + upgradeId + ", using base values");
-            return new DynamicEffectData(baseAmplifier, baseDuration);
-        }
+        // Calculate amplifier with level bonus
+        int levelBonus = LEVEL_AMPLIFIER_BONUS.getOrDefault(playerLevel, 0);
+        int finalAmplifier = Math.min(baseAmplifier + levelBonus, 10); // Cap at level 10 effect
+        
+        // Calculate duration with tier multiplier
+        double tierMultiplier = TIER_DURATION_MULTIPLIERS.getOrDefault(tier, 1.0);
+        int finalDuration = (int) (baseDuration * tierMultiplier);
+        
+        // Apply level-based duration bonus (max 50% bonus at level 10)
+        double levelDurationBonus = 1.0 + (playerLevel - 1) * 0.05; // 5% per level above 1
+        finalDuration = (int) (finalDuration * Math.min(levelDurationBonus, 1.5));
+        
+        // Ensure minimum duration
+        finalDuration = Math.max(finalDuration, 100); // At least 5 seconds
+        
+        return new DynamicEffectData(finalAmplifier, finalDuration);
     }
 
     /**
@@ -520,6 +522,52 @@ public class EffectUtils {
         }
     }
 
+    /**
+     * An upgrade's effect settings, with the scaled effect built once per player level.
+     * PotionEffect is immutable, so every player at that level shares the same instance.
+     */
+    private static class ResolvedEffect {
+        final String upgradeId;
+        final PotionEffectType type;
+        final int baseAmplifier;
+        final int baseDuration;
+        final int tier;
+        final PotionEffect[] byLevel = new PotionEffect[LEVEL_AMPLIFIER_BONUS.size() + 1];
+        
+        ResolvedEffect(String upgradeId, PotionEffectType type, int baseAmplifier, int baseDuration, int tier) {
+            this.upgradeId = upgradeId;
+            this.type = type;
+            this.baseAmplifier = baseAmplifier;
+            this.baseDuration = baseDuration;
+            this.tier = tier;
+        }
+        
+        PotionEffect forLevel(int playerLevel) {
+            boolean cacheable = playerLevel >= 0 && playerLevel < byLevel.length;
+            PotionEffect effect = cacheable ? byLevel[playerLevel] : null;
+            if (effect != null) {
+                return effect;
+            }
+            
+            DynamicEffectData scaled = calculateDynamicEffect(playerLevel, tier, baseAmplifier, baseDuration);
+            if (scaled.duration <= 0) {
+                plugin.getLogger().warning("Invalid duration calculated for " + upgradeId + ": " + scaled.duration);
+                return null;
+            }
+            effect = new PotionEffect(
+                type,
+                scaled.duration,
+                Math.max(0, scaled.amplifier), // Ensure non-negative
+                false, // Not ambient
+                false  // Show particles (false for cleaner look)
+            );
+            if (cacheable) {
+                byLevel[playerLevel] = effect;
+            }
+            return effect;
+        }
+    }
+
     /**
      * Data class for dynamic effect calculations.
      */
@@ -1,655 +1,389 @@
-package dev.lsdmc.arcaniteCrystals.util;
-
-import dev.lsdmc.arcaniteCrystals.ArcaniteCrystals;
-import dev.lsdmc.arcaniteCrystals.util.MessageManager;
-import org.bukkit.Color;
-import org.bukkit.Location;
-import org.bukkit.Particle;
-import org.bukkit.World;
-import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.util.Vector;
-
-import java.util.concurrent.ThreadLocalRandom;
-
-/**
- * Professional particle effects system with dynamic visual feedback
- * for all plugin interactions and events.
- */
-public class ParticleManager {
-
-    // Configuration cache for performance
-    private static boolean particlesEnabled = true;
-    private static double densityMultiplier = 1.0;
-    private static int particleRange = 32;
-    private static int maxParticleCount = 100;
-    
-    static {
-        loadParticleConfig();
-    }
-    
-    /**
-     * Loads particle configuration from config.yml
-     */
-    private static void loadParticleConfig() {
-        try {
-            var config = dev.lsdmc.arcaniteCrystals.config.ConfigManager.getConfig();
-            particlesEnabled = config.getBoolean("particles.enabled", true);
-            densityMultiplier = config.getDouble("particles.density-multiplier", 1.0);
-            particleRange = config.getInt("particles.range", 32);
-            maxParticleCount = Math.max(10, config.getInt("particles.max-count", 100));
-        } catch (Exception e) {
-            // Use defaults if config loading fails
-            particlesEnabled = true;
-            densityMultiplier = 1.0;
-            particleRange = 32;
-            maxParticleCount = 100;
-        }
-    }
-    
-    /**
-     * Checks if particles should be spawned based on configuration and performance.
-     */
-    private static boolean shouldSpawnParticles() {
-        if (!particlesEnabled) return false;
-        
-        // Performance check - reduce particles on high player count servers
-        int onlinePlayers = ArcaniteCrystals.getInstance().getServer().getOnlinePlayers().size();
-        if (onlinePlayers > 50) {
-            // Reduce particle density for servers with many players
-            return Math.random() < (densityMultiplier * 0.5);
-        } else if (onlinePlayers > 20) {
-            return Math.random() < (densityMultiplier * 0.75);
-        }
-        
-        return Math.random() < densityMultiplier;
-    }
-    
-    /**
-     * Calculates appropriate particle count based on performance settings.
-     */
-    private static int calculateParticleCount(int requestedCount) {
-        if (!shouldSpawnParticles()) return 0;
-        
-        int onlinePlayers = ArcaniteCrystals.getInstance().getServer().getOnlinePlayers().size();
-        double performanceMultiplier = 1.0;
-        
-        // Scale down particles based on server load
-        if (onlinePlayers > 50) {
-            performanceMultiplier = 0.3;
-        } else if (onlinePlayers > 20) {
-            performanceMultiplier = 0.6;
-        }
-        
-        int adjustedCount = (int) (requestedCount * densityMultiplier * performanceMultiplier);
-        return Math.min(adjustedCount, maxParticleCount);
-    }
-    
-    /**
-     * Spawns particles for players within range.
-     */
-    private static void spawnParticleForNearbyPlayers(Location center, Particle particle, int count, 
-                                                     double offsetX, double offsetY, double offsetZ, double extra) {
-        try {
-            center.getWorld().getNearbyEntities(center, particleRange, particleRange, particleRange)
-                    .stream()
-                    .filter(entity -> entity instanceof Player)
-                    .map(entity -> (Player) entity)
-                    .forEach(player -> {
-                        try {
-                            player.spawnParticle(particle, center, count, offsetX, offsetY, offsetZ, extra);
-                        } catch (Exception e) {
-                            // Silently ignore individual player particle failures
-                        }
-                    });
-        } catch (Exception e) {
-            // Fallback to single player if nearby entity check fails
-            center.getWorld().spawnParticle(particle, center, count, offsetX, offsetY, offsetZ, extra);
-        }
-    }
-    
-    /**
-     * Spawns particles with data (like DustOptions) for players within range.
-     */
-    private static void spawnParticleForNearbyPlayers(Location center, Particle particle, int count, 
-                                                     double offsetX, double offsetY, double offsetZ, double extra, Object data) {
-        try {
-            center.getWorld().getNearbyEntities(center, particleRange, particleRange, particleRange)
-                    .stream()
-                    .filter(entity -> entity instanceof Player)
-                    .map(entity -> (Player) entity)
-                    .forEach(player -> {
-                        try {
-                            player.spawnParticle(particle, center, count, offsetX, offsetY, offsetZ, extra, data);
-                        } catch (Exception e) {
-                            // Silently ignore individual player particle failures
-                        }
-                    });
-        } catch (Exception e) {
-            // Fallback to world spawn if nearby entity check fails
-            center.getWorld().spawnParticle(particle, center, count, offsetX, offsetY, offsetZ, extra, data);
-        }
-    }
-
-    /**
-     * Plays crystal activation particle effect with mystical aura and performance optimization.
-     */
-    public static void playCrystalActivationEffect(Player player) {
-        int baseCount = calculateParticleCount(30);
-        if (baseCount == 0) return;
-        
-        Location loc = player.getLocation().add(0, 1, 0);
-        
-        // Central burst
-        player.spawnParticle(Particle.ENCHANT, loc, baseCount, 0.5, 0.5, 0.5, 0.1);
-        player.spawnParticle(Particle.ENCHANTED_HIT, loc, calculateParticleCount(15), 0.3, 0.3, 0.3, 0.05);
-        
-        // Delayed spiral effect (only if performance allows)
-        if (shouldSpawnParticles()) {
-            new BukkitRunnable() {
-                double angle = 0;
-                int ticks = 0;
-                
-                @Override
-                public void run() {
-                    if (ticks >= 20 || !shouldSpawnParticles()) {
-                        cancel();
-                        return;
-                    }
-                    
-                    for (int i = 0; i < 3; i++) {
-                        double x = Math.cos(angle + i * 2.0944) * 1.5; // 120 degrees apart
-                        double z = Math.sin(angle + i * 2.0944) * 1.5;
-                        Location spiralLoc = loc.clone().add(x, 0.5, z);
-                        
-                        player.spawnParticle(Particle.ENCHANT, spiralLoc, 2, 0.1, 0.1, 0.1, 0.01);
-                    }
-                    
-                    angle += 0.3;
-                    ticks++;
-                }
-            }.runTaskTimer(ArcaniteCrystals.getInstance(), 5L, 1L);
-        }
-    }
-
-    /**
-     * Plays upgrade unlock particle effect with celebration particles.
-     */
-    public static void playUpgradeEffect(Player player) {
-        Location loc = player.getLocation().add(0, 1, 0);
-        
-        // Celebration burst
-        player.spawnParticle(Particle.FIREWORK, loc, 50, 1.0, 1.0, 1.0, 0.1);
-        player.spawnParticle(Particle.HAPPY_VILLAGER, loc, 20, 0.8, 0.8, 0.8, 0.05);
-        
-        // Rising golden particles
-        new BukkitRunnable() {
-            int ticks = 0;
-            
-            @Override
-            public void run() {
-                if (ticks >= 30) {
-                    cancel();
-                    return;
-                }
-                
-                for (int i = 0; i < 5; i++) {
-                    double x = (Math.random() - 0.5) * 2;
-                    double z = (Math.random() - 0.5) * 2;
-                    double y = Math.random() * 3;
-                    
-                    Location particleLoc = loc.clone().add(x, y, z);
-                    player.spawnParticle(Particle.ENCHANTED_HIT, particleLoc, 1, 0, 0, 0, 0);
-                }
-                
-                ticks++;
-            }
-        }.runTaskTimer(ArcaniteCrystals.getInstance(), 0L, 2L);
-    }
-
-    /**
-     * Plays crystal recharge particle effect with energy restoration.
-     */
-    public static void playCrystalRechargeEffect(Player player) {
-        Location loc = player.getLocation().add(0, 1, 0);
-        
-        // Energy restoration burst
-        player.spawnParticle(Particle.SOUL, loc, 25, 0.5, 0.5, 0.5, 0.05);
-        player.spawnParticle(Particle.ENCHANT, loc, 20, 0.3, 0.3, 0.3, 0.02);
-        
-        // Healing particles
-        player.spawnParticle(Particle.HEART, loc.clone().add(0, 0.5, 0), 8, 0.5, 0.2, 0.5, 0.01);
-    }
-
-    /**
-     * Plays crystal depletion particle effect with warning visuals.
-     */
-    public static void playCrystalDepletionEffect(Player player) {
-        Location loc = player.getLocation().add(0, 1, 0);
-        
-        // Warning smoke and sparks
-        player.spawnParticle(Particle.SMOKE, loc, 15, 0.3, 0.3, 0.3, 0.02);
-        player.spawnParticle(Particle.CRIT, loc, 10, 0.4, 0.4, 0.4, 0.05);
-        
-        // Red warning particles
-        Particle.DustOptions redDust = new Particle.DustOptions(Color.RED, 1.0f);
-        player.spawnParticle(Particle.DUST, loc, 20, 0.5, 0.5, 0.5, 0.01, redDust);
-    }
-
-    /**
-     * Plays level up particle effect with dramatic celebration.
-     */
-    public static void playLevelUpEffect(Player player) {
-        Location loc = player.getLocation().add(0, 1, 0);
-        
-        // Dramatic celebration burst
-        player.spawnParticle(Particle.FIREWORK, loc, 100, 2.0, 2.0, 2.0, 0.15);
-        player.spawnParticle(Particle.END_ROD, loc, 30, 1.0, 1.0, 1.0, 0.1);
-        
-        // Golden shower effect
-        new BukkitRunnable() {
-            int ticks = 0;
-            
-            @Override
-            public void run() {
-                if (ticks >= 60) {
-                    cancel();
-                    return;
-                }
-                
-                // Golden rain
-                for (int i = 0; i < 3; i++) {
-                    double x = (Math.random() - 0.5) * 4;
-                    double z = (Math.random() - 0.5) * 4;
-                    Location rainLoc = loc.clone().add(x, 3, z);
-                    
-                    Particle.DustOptions goldDust = new Particle.DustOptions(Color.YELLOW, 1.5f);
-                    player.spawnParticle(Particle.DUST, rainLoc, 1, 0, 0, 0, 0, goldDust);
-                }
-                
-                ticks++;
-            }
-        }.runTaskTimer(ArcaniteCrystals.getInstance(), 10L, 1L);
-    }
-
-    /**
-     * Plays notification particle effect for MessageManager types.
-     */
-    public static void playNotificationEffect(Player player, MessageManager.NotificationType type) {
-        Location loc = player.getLocation().add(0, 1.5, 0);
-        
-        switch (type) {
-            case SUCCESS -> {
-                player.spawnParticle(Particle.HAPPY_VILLAGER, loc, 10, 0.5, 0.3, 0.5, 0.02);
-                Particle.DustOptions greenDust = new Particle.DustOptions(Color.GREEN, 1.0f);
-                player.spawnParticle(Particle.DUST, loc, 8, 0.3, 0.3, 0.3, 0.01, greenDust);
-            }
-            case ERROR -> {
-                player.spawnParticle(Particle.ANGRY_VILLAGER, loc, 8, 0.3, 0.3, 0.3, 0.02);
-                Particle.DustOptions redDust = new Particle.DustOptions(Color.RED, 1.0f);
-                player.spawnParticle(Particle.DUST, loc, 12, 0.4, 0.4, 0.4, 0.01, redDust);
-            }
-            case UPGRADE -> playUpgradeEffect(player);
-            case LEVEL_UP -> playLevelUpEffect(player);
-            case CRYSTAL_ACTIVATE -> playCrystalActivationEffect(player);
-            default -> {
-                // Generic notification
-                player.spawnParticle(Particle.ENCHANT, loc, 5, 0.3, 0.3, 0.3, 0.01);
-            }
-        }
-    }
-
-    /**
-     * Creates a continuous aura effect for active crystals.
-     */
-    public static void playActiveAuraEffect(Player player) {
-        Location loc = player.getLocation().add(0, 0.2, 0);
-        
-        // Subtle continuous aura
-        double angle = System.currentTimeMillis() * 0.003;
-        
-        for (int i = 0; i < 3; i++) {
-            double x = Math.cos(angle + i * 2.0944) * 0.8;
-            double z = Math.sin(angle + i * 2.0944) * 0.8;
-            Location auraLoc = loc.clone().add(x, 0, z);
-            
-            player.spawnParticle(Particle.ENCHANT, auraLoc, 1, 0.05, 0.05, 0.05, 0.001);
-        }
-    }
-
-    /**
-     * Plays mining enhancement particle effect.
-     */
-    public static void playMiningEnhanceEffect(Player player, Location blockLoc) {
-        // Enhanced mining particles
-        player.spawnParticle(Particle.ENCHANTED_HIT, blockLoc.add(0.5, 0.5, 0.5), 10, 0.3, 0.3, 0.3, 0.05);
-        player.spawnParticle(Particle.ENCHANT, blockLoc, 5, 0.2, 0.2, 0.2, 0.02);
-        
-        // Gold sparkles for fortune effect
-        Particle.DustOptions goldDust = new Particle.DustOptions(Color.YELLOW, 0.8f);
-        player.spawnParticle(Particle.DUST, blockLoc, 8, 0.4, 0.4, 0.4, 0.01, goldDust);
-    }
-
-    /**
-     * Plays mining effect particles at a location with performance optimization.
-     */
-    public static void playMiningEffect(Location blockLoc, boolean isAutoSmelt) {
-        if (!shouldSpawnParticles()) return;
-        
-        if (isAutoSmelt) {
-            // Auto-smelt fire effects
-            int flameCount = calculateParticleCount(8);
-            int smokeCount = calculateParticleCount(5);
-            
-            spawnParticleForNearbyPlayers(blockLoc.clone().add(0.5, 0.5, 0.5), 
-                Particle.FLAME, flameCount, 0.3, 0.3, 0.3, 0.02);
-            spawnParticleForNearbyPlayers(blockLoc.clone().add(0.5, 0.5, 0.5), 
-                Particle.SMOKE, smokeCount, 0.2, 0.2, 0.2, 0.01);
-            
-            // Orange dust for heat
-            Particle.DustOptions orangeDust = new Particle.DustOptions(Color.ORANGE, 1.0f);
-            spawnParticleForNearbyPlayers(blockLoc.clone().add(0.5, 0.5, 0.5), 
-                Particle.DUST, calculateParticleCount(6), 0.3, 0.3, 0.3, 0.01, orangeDust);
-        } else {
-            // Fortune luck effects
-            int enchantCount = calculateParticleCount(10);
-            int villagerCount = calculateParticleCount(3);
-            
-            spawnParticleForNearbyPlayers(blockLoc.clone().add(0.5, 0.5, 0.5), 
-                Particle.ENCHANT, enchantCount, 0.4, 0.4, 0.4, 0.05);
-            spawnParticleForNearbyPlayers(blockLoc.clone().add(0.5, 0.5, 0.5), 
-                Particle.HAPPY_VILLAGER, villagerCount, 0.2, 0.2, 0.2, 0.01);
-            
-            // Gold sparkles for fortune
-            Particle.DustOptions goldDust = new Particle.DustOptions(Color.YELLOW, 0.8f);
-            spawnParticleForNearbyPlayers(blockLoc.clone().add(0.5, 0.5, 0.5), 
-                Particle.DUST, calculateParticleCount(8), 0.4, 0.4, 0.4, 0.01, goldDust);
-        }
-    }
-
-    /**
-     * Plays cooldown warning particle effect.
-     */
-    public static void playCooldownWarningEffect(Player player) {
-        Location loc = player.getLocation().add(0, 1, 0);
-        
-        // Warning indicators
-        Particle.DustOptions orangeDust = new Particle.DustOptions(Color.ORANGE, 1.2f);
-        player.spawnParticle(Particle.DUST, loc, 15, 0.5, 0.3, 0.5, 0.01, orangeDust);
-        player.spawnParticle(Particle.SMOKE, loc, 5, 0.2, 0.2, 0.2, 0.01);
-    }
-
-    /**
-     * Plays error particle effects around a player.
-     */
-    public static void playErrorEffect(Player player) {
-        Location loc = player.getLocation();
-        player.getWorld().spawnParticle(Particle.SMOKE, loc, 20, 0.5, 0.5, 0.5, 0.1);
-        player.getWorld().spawnParticle(Particle.DUST, loc, 15, 0.5, 0.5, 0.5, 0.1, 
-            new Particle.DustOptions(Color.RED, 1));
-    }
-
-    /**
-     * Plays decay effect particles around a player.
-     */
-    public static void playCrystalDecayEffect(Player player) {
-        Location loc = player.getLocation();
-        World world = loc.getWorld();
-        
-        // Spawn smoke particles
-        for (int i = 0; i < 10; i++) {
-            double offsetX = (Math.random() - 0.5) * 2;
-            double offsetY = Math.random() * 2;
-            double offsetZ = (Math.random() - 0.5) * 2;
-            
-            Location particleLoc = loc.clone().add(offsetX, offsetY, offsetZ);
-            world.spawnParticle(Particle.SMOKE, particleLoc, 1, 0, 0, 0, 0);
-        }
-        
-        // Spawn dust particles
-        for (int i = 0; i < 5; i++) {
-            double offsetX = (Math.random() - 0.5) * 2;
-            double offsetY = Math.random() * 2;
-            double offsetZ = (Math.random() - 0.5) * 2;
-            
-            Location particleLoc = loc.clone().add(offsetX, offsetY, offsetZ);
-            world.spawnParticle(Particle.DUST, particleLoc, 1, 0, 0, 0, 0,
-                new Particle.DustOptions(Color.GRAY, 1.0f));
-        }
-    }
-
-    /**
-     * Plays corruption effect particles around a player.
-     */
-    public static void playCrystalCorruptionEffect(Player player) {
-        Location loc = player.getLocation();
-        World world = loc.getWorld();
-        
-        // Spawn smoke particles
-        for (int i = 0; i < 15; i++) {
-            double offsetX = (Math.random() - 0.5) * 2;
-            double offsetY = Math.random() * 2;
-            double offsetZ = (Math.random() - 0.5) * 2;
-            
-            Location particleLoc = loc.clone().add(offsetX, offsetY, offsetZ);
-            world.spawnParticle(Particle.SMOKE, particleLoc, 1, 0, 0, 0, 0);
-        }
-        
-        // Spawn dust particles
-        for (int i = 0; i < 8; i++) {
-            double offsetX = (Math.random() - 0.5) * 2;
-            double offsetY = Math.random() * 2;
-            double offsetZ = (Math.random() - 0.5) * 2;
-            
-            Location particleLoc = loc.clone().add(offsetX, offsetY, offsetZ);
-            world.spawnParticle(Particle.DUST, particleLoc, 1, 0, 0, 0, 0,
-                new Particle.DustOptions(Color.PURPLE, 1.0f));
-        }
-    }
-
-    /**
-     * Plays crystal destruction effect particles around a player.
-     */
-    public static void playCrystalDestructionEffect(Player player) {
-        Location loc = player.getLocation();
-        World world = loc.getWorld();
-        
-        // Spawn explosion particles
-        world.spawnParticle(Particle.EXPLOSION, loc, 1, 0, 0, 0, 0);
-        
-        // Spawn smoke particles
-        for (int i = 0; i < 20; i++) {
-            double offsetX = (Math.random() - 0.5) * 3;
-            double offsetY = Math.random() * 3;
-            double offsetZ = (Math.random() - 0.5) * 3;
-            
-            Location particleLoc = loc.clone().add(offsetX, offsetY, offsetZ);
-            world.spawnParticle(Particle.SMOKE, particleLoc, 1, 0, 0, 0, 0);
-        }
-        
-        // Spawn dust particles
-        for (int i = 0; i < 15; i++) {
-            double offsetX = (Math.random() - 0.5) * 3;
-            double offsetY = Math.random() * 3;
-            double offsetZ = (Math.random() - 0.5) * 3;
-            
-            Location particleLoc = loc.clone().add(offsetX, offsetY, offsetZ);
-            world.spawnParticle(Particle.DUST, particleLoc, 1, 0, 0, 0, 0,
-                new Particle.DustOptions(Color.fromRGB(75, 0, 130), 1.0f));
-        }
-    }
-
-    /**
-     * Plays socket effect particles around a player.
-     */
-    public static void playCrystalSocketEffect(Player player) {
-        Location loc = player.getLocation();
-        World world = loc.getWorld();
-        
-        // Spawn sparkle particles
-        for (int i = 0; i < 15; i++) {
-            double offsetX = (Math.random() - 0.5) * 2;
-            double offsetY = Math.random() * 2;
-            double offsetZ = (Math.random() - 0.5) * 2;
-            
-            Location particleLoc = loc.clone().add(offsetX, offsetY, offsetZ);
-            world.spawnParticle(Particle.END_ROD, particleLoc, 1, 0, 0, 0, 0);
-        }
-        
-        // Spawn dust particles
-        for (int i = 0; i < 8; i++) {
-            double offsetX = (Math.random() - 0.5) * 2;
-            double offsetY = Math.random() * 2;
-            double offsetZ = (Math.random() - 0.5) * 2;
-            
-            Location particleLoc = loc.clone().add(offsetX, offsetY, offsetZ);
-            world.spawnParticle(Particle.DUST, particleLoc, 1, 0, 0, 0, 0,
-                new Particle.DustOptions(Color.PURPLE, 1.0f));
-        }
-    }
-    
-    /**
-     * Plays socket failure effect particles around a player.
-     */
-    public static void playCrystalSocketFailEffect(Player player) {
-        Location loc = player.getLocation();
-        World world = loc.getWorld();
-        
-        // Spawn smoke particles
-        for (int i = 0; i < 20; i++) {
-            double offsetX = (Math.random() - 0.5) * 2;
-            double offsetY = Math.random() * 2;
-            double offsetZ = (Math.random() - 0.5) * 2;
-            
-            Location particleLoc = loc.clone().add(offsetX, offsetY, offsetZ);
-            world.spawnParticle(Particle.SMOKE, particleLoc, 1, 0, 0, 0, 0);
-        }
-        
-        // Spawn red particles
-        for (int i = 0; i < 10; i++) {
-            double offsetX = (Math.random() - 0.5) * 2;
-            double offsetY = Math.random() * 2;
-            double offsetZ = (Math.random() - 0.5) * 2;
-            
-            Location particleLoc = loc.clone().add(offsetX, offsetY, offsetZ);
-            world.spawnParticle(Particle.DUST, particleLoc, 1, 0, 0, 0, 0,
-                new Particle.DustOptions(Color.RED, 1.0f));
-        }
-    }
-    
-    /**
-     * Plays socket removal effect particles around a player.
-     */
-    public static void playCrystalSocketRemoveEffect(Player player) {
-        Location loc = player.getLocation();
-        World world = loc.getWorld();
-        
-        // Spawn smoke particles
-        for (int i = 0; i < 10; i++) {
-            double offsetX = (Math.random() - 0.5) * 2;
-            double offsetY = Math.random() * 2;
-            double offsetZ = (Math.random() - 0.5) * 2;
-            
-            Location particleLoc = loc.clone().add(offsetX, offsetY, offsetZ);
-            world.spawnParticle(Particle.SMOKE, particleLoc, 1, 0, 0, 0, 0);
-        }
-        
-        // Spawn dust particles
-        for (int i = 0; i < 5; i++) {
-            double offsetX = (Math.random() - 0.5) * 2;
-            double offsetY = Math.random() * 2;
-            double offsetZ = (Math.random() - 0.5) * 2;
-            
-            Location particleLoc = loc.clone().add(offsetX, offsetY, offsetZ);
-            world.spawnParticle(Particle.DUST, particleLoc, 1, 0, 0, 0, 0,
-                new Particle.DustOptions(Color.GRAY, 1.0f));
-        }
-    }
-
-    /**
-     * Plays fusion effect particles around a player.
-     */
-    public static void playCrystalFusionEffect(Player player) {
-        Location loc = player.getLocation();
-        World world = loc.getWorld();
-        
-        // Spawn sparkle particles
-        for (int i = 0; i < 40; i++) {
-            double offsetX = (Math.random() - 0.5) * 3;
-            double offsetY = Math.random() * 3;
-            double offsetZ = (Math.random() - 0.5) * 3;
-            
-            Location particleLoc = loc.clone().add(offsetX, offsetY, offsetZ);
-            world.spawnParticle(Particle.END_ROD, particleLoc, 1, 0, 0, 0, 0);
-        }
-        
-        // Spawn dust particles
-        for (int i = 0; i < 20; i++) {
-            double offsetX = (Math.random() - 0.5) * 3;
-            double offsetY = Math.random() * 3;
-            double offsetZ = (Math.random() - 0.5) * 3;
-            
-            Location particleLoc = loc.clone().add(offsetX, offsetY, offsetZ);
-            world.spawnParticle(Particle.DUST, particleLoc, 1, 0, 0, 0, 0,
-                new Particle.DustOptions(Color.PURPLE, 1.5f));
-        }
-    }
-    
-    /**
-     * Plays fusion failure effect particles around a player.
-     */
-    public static void playCrystalFusionFailEffect(Player player) {
-        Location loc = player.getLocation();
-        World world = loc.getWorld();
-        
-        // Spawn smoke particles
-        for (int i = 0; i < 30; i++) {
-            double offsetX = (Math.random() - 0.5) * 3;
-            double offsetY = Math.random() * 3;
-            double offsetZ = (Math.random() - 0.5) * 3;
-            
-            Location particleLoc = loc.clone().add(offsetX, offsetY, offsetZ);
-            world.spawnParticle(Particle.SMOKE, particleLoc, 1, 0, 0, 0, 0);
-        }
-        
-        // Spawn red particles
-        for (int i = 0; i < 15; i++) {
-            double offsetX = (Math.random() - 0.5) * 3;
-            double offsetY = Math.random() * 3;
-            double offsetZ = (Math.random() - 0.5) * 3;
-            
-            Location particleLoc = loc.clone().add(offsetX, offsetY, offsetZ);
-            world.spawnParticle(Particle.DUST, particleLoc, 1, 0, 0, 0, 0,
-                new Particle.DustOptions(Color.RED, 1.5f));
-        }
-    }
-
-    /**
-     * Plays regeneration effect particles around a player.
-     */
-    public static void playCrystalRegenEffect(Player player) {
-        Location loc = player.getLocation();
-        World world = loc.getWorld();
-        
-        // Spawn sparkle particles
-        for (int i = 0; i < 10; i++) {
-            double offsetX = (Math.random() - 0.5) * 2;
-            double offsetY = Math.random() * 2;
-            double offsetZ = (Math.random() - 0.5) * 2;
-            
-            Location particleLoc = loc.clone().add(offsetX, offsetY, offsetZ);
-            world.spawnParticle(Particle.END_ROD, particleLoc, 1, 0, 0, 0, 0);
-        }
-        
-        // Spawn dust particles
-        for (int i = 0; i < 5; i++) {
-            double offsetX = (Math.random() - 0.5) * 2;
-            double offsetY = Math.random() * 2;
-            double offsetZ = (Math.random() - 0.5) * 2;
-            
-            Location particleLoc = loc.clone().add(offsetX, offsetY, offsetZ);
-            world.spawnParticle(Particle.DUST, particleLoc, 1, 0, 0, 0, 0,
-                new Particle.DustOptions(Color.AQUA, 1.0f));
-        }
-    }
-} 
\ No newline at end of file
+package dev.lsdmc.arcaniteCrystals.util;
+
+import dev.lsdmc.arcaniteCrystals.util.MessageManager;
+import org.bukkit.Color;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.entity.Player;
+
+/**
+ * Professional particle effects system with dynamic visual feedback
+ * for all plugin interactions and events.
+ * <p>
+ * Effects never send packets themselves: every burst goes through {@link ParticleQueue}, which
+ * merges, culls and sends them once per tick, and multi-tick effects run as queue animations.
+ * Server load is handled there too: {@link EffectLod} scales counts and animation frame rates
+ * down while ticks run long.
+ */
+public class ParticleManager {
+
+    // Shared dust options so identical dust bursts can be merged
+    private static final Particle.DustOptions RED_DUST = new Particle.DustOptions(Color.RED, 1.0f);
+    private static final Particle.DustOptions GREEN_DUST = new Particle.DustOptions(Color.GREEN, 1.0f);
+    private static final Particle.DustOptions GRAY_DUST = new Particle.DustOptions(Color.GRAY, 1.0f);
+    private static final Particle.DustOptions PURPLE_DUST = new Particle.DustOptions(Color.PURPLE, 1.0f);
+    private static final Particle.DustOptions LARGE_PURPLE_DUST = new Particle.DustOptions(Color.PURPLE, 1.5f);
+    private static final Particle.DustOptions LARGE_RED_DUST = new Particle.DustOptions(Color.RED, 1.5f);
+    private static final Particle.DustOptions INDIGO_DUST = new Particle.DustOptions(Color.fromRGB(75, 0, 130), 1.0f);
+    private static final Particle.DustOptions AQUA_DUST = new Particle.DustOptions(Color.AQUA, 1.0f);
+    private static final Particle.DustOptions ORANGE_DUST = new Particle.DustOptions(Color.ORANGE, 1.0f);
+    private static final Particle.DustOptions WARNING_DUST = new Particle.DustOptions(Color.ORANGE, 1.2f);
+    private static final Particle.DustOptions GOLD_DUST = new Particle.DustOptions(Color.YELLOW, 0.8f);
+    private static final Particle.DustOptions GOLD_RAIN_DUST = new Particle.DustOptions(Color.YELLOW, 1.5f);
+
+    // Configuration cache for performance
+    private static boolean particlesEnabled = true;
+    private static double densityMultiplier = 1.0;
+    private static int maxParticleCount = 100;
+
+    static {
+        loadParticleConfig();
+    }
+
+    /**
+     * Loads particle configuration from config.yml
+     */
+    private static void loadParticleConfig() {
+        try {
+            var config = dev.lsdmc.arcaniteCrystals.config.ConfigManager.getConfig();
+            particlesEnabled = config.getBoolean("particles.enabled", true);
+            densityMultiplier = config.getDouble("particles.density-multiplier", 1.0);
+            maxParticleCount = Math.max(10, config.getInt("particles.max-count", 100));
+        } catch (Exception e) {
+            // Use defaults if config loading fails
+            particlesEnabled = true;
+            densityMultiplier = 1.0;
+            maxParticleCount = 100;
+        }
+    }
+
+    /**
+     * Re-reads particle settings after a configuration reload.
+     */
+    public static void reloadConfig() {
+        loadParticleConfig();
+        ParticleQueue.reloadConfig();
+        EffectLod.reloadConfig();
+    }
+
+    /**
+     * Checks if particles should be spawned based on configuration.
+     */
+    private static boolean shouldSpawnParticles() {
+        if (!particlesEnabled) return false;
+        return densityMultiplier >= 1.0 || Math.random() < densityMultiplier;
+    }
+
+    /**
+     * Calculates the configured particle count. Load-based scaling happens in {@link ParticleQueue}.
+     */
+    private static int calculateParticleCount(int requestedCount) {
+        if (!shouldSpawnParticles()) return 0;
+
+        int adjustedCount = (int) (requestedCount * densityMultiplier);
+        return Math.min(adjustedCount, maxParticleCount);
+    }
+
+    /**
+     * Queues particles seen only by {@code player}.
+     */
+    private static void show(Player player, Particle particle, Location location, int count,
+                             double offsetX, double offsetY, double offsetZ, double extra) {
+        ParticleQueue.show(player, particle, location, count, offsetX, offsetY, offsetZ, extra, null);
+    }
+
+    private static void show(Player player, Particle particle, Location location, int count,
+                             double offsetX, double offsetY, double offsetZ, double extra, Object data) {
+        ParticleQueue.show(player, particle, location, count, offsetX, offsetY, offsetZ, extra, data);
+    }
+
+    /**
+     * Queues particles for players within range.
+     */
+    private static void spawnParticleForNearbyPlayers(Location center, Particle particle, int count,
+                                                     double offsetX, double offsetY, double offsetZ, double extra) {
+        ParticleQueue.broadcast(particle, center, count, offsetX, offsetY, offsetZ, extra, null);
+    }
+
+    /**
+     * Queues particles with data (like DustOptions) for players within range.
+     */
+    private static void spawnParticleForNearbyPlayers(Location center, Particle particle, int count,
+                                                     double offsetX, double offsetY, double offsetZ, double extra, Object data) {
+        ParticleQueue.broadcast(particle, center, count, offsetX, offsetY, offsetZ, extra, data);
+    }
+
+    /**
+     * Queues a cloud of particles around a player for everyone nearby. The cloud is centred
+     * {@code height} above the player's feet and spreads {@code spread} blocks each way.
+     */
+    private static void spawnCloud(Player player, Particle particle, int count, double spread, double height, Object data) {
+        Location center = player.getLocation().add(0, height, 0);
+        spawnParticleForNearbyPlayers(center, particle, count, spread / 2, height / 2, spread / 2, 0, data);
+    }
+
+    /**
+     * Plays crystal activation particle effect with mystical aura and performance optimization.
+     */
+    public static void playCrystalActivationEffect(Player player) {
+        int baseCount = calculateParticleCount(30);
+        if (baseCount == 0) return;
+
+        Location loc = player.getLocation().add(0, 1, 0);
+
+        // Central burst
+        show(player, Particle.ENCHANT, loc, baseCount, 0.5, 0.5, 0.5, 0.1);
+        show(player, Particle.ENCHANTED_HIT, loc, calculateParticleCount(15), 0.3, 0.3, 0.3, 0.05);
+
+        // Delayed spiral effect (only if performance allows)
+        if (shouldSpawnParticles()) {
+            ParticleQueue.animate(player, 5L, 1L, 20, frame -> {
+                if (!shouldSpawnParticles()) return;
+                double angle = frame * 0.3;
+                for (int i = 0; i < 3; i++) {
+                    double x = Math.cos(angle + i * 2.0944) * 1.5; // 120 degrees apart
+                    double z = Math.sin(angle + i * 2.0944) * 1.5;
+                    Location spiralLoc = loc.clone().add(x, 0.5, z);
+
+                    show(player, Particle.ENCHANT, spiralLoc, 2, 0.1, 0.1, 0.1, 0.01);
+                }
+            });
+        }
+    }
+
+    /**
+     * Plays upgrade unlock particle effect with celebration particles.
+     */
+    public static void playUpgradeEffect(Player player) {
+        Location loc = player.getLocation().add(0, 1, 0);
+
+        // Celebration burst
+        show(player, Particle.FIREWORK, loc, 50, 1.0, 1.0, 1.0, 0.1);
+        show(player, Particle.HAPPY_VILLAGER, loc, 20, 0.8, 0.8, 0.8, 0.05);
+
+        // Rising golden particles
+        ParticleQueue.animate(player, 0L, 2L, 30, frame ->
+            show(player, Particle.ENCHANTED_HIT, loc.clone().add(0, 0.5, 0), 5, 0.5, 0.75, 0.5, 0));
+    }
+
+    /**
+     * Plays crystal recharge particle effect with energy restoration.
+     */
+    public static void playCrystalRechargeEffect(Player player) {
+        Location loc = player.getLocation().add(0, 1, 0);
+
+        // Energy restoration burst
+        show(player, Particle.SOUL, loc, 25, 0.5, 0.5, 0.5, 0.05);
+        show(player, Particle.ENCHANT, loc, 20, 0.3, 0.3, 0.3, 0.02);
+
+        // Healing particles
+        show(player, Particle.HEART, loc.clone().add(0, 0.5, 0), 8, 0.5, 0.2, 0.5, 0.01);
+    }
+
+    /**
+     * Plays crystal depletion particle effect with warning visuals.
+     */
+    public static void playCrystalDepletionEffect(Player player) {
+        Location loc = player.getLocation().add(0, 1, 0);
+
+        // Warning smoke and sparks
+        show(player, Particle.SMOKE, loc, 15, 0.3, 0.3, 0.3, 0.02);
+        show(player, Particle.CRIT, loc, 10, 0.4, 0.4, 0.4, 0.05);
+
+        // Red warning particles
+        show(player, Particle.DUST, loc, 20, 0.5, 0.5, 0.5, 0.01, RED_DUST);
+    }
+
+    /**
+     * Plays level up particle effect with dramatic celebration.
+     */
+    public static void playLevelUpEffect(Player player) {
+        Location loc = player.getLocation().add(0, 1, 0);
+
+        // Dramatic celebration burst
+        show(player, Particle.FIREWORK, loc, 100, 2.0, 2.0, 2.0, 0.15);
+        show(player, Particle.END_ROD, loc, 30, 1.0, 1.0, 1.0, 0.1);
+
+        // Golden shower effect
+        ParticleQueue.animate(player, 10L, 1L, 60, frame ->
+            show(player, Particle.DUST, loc.clone().add(0, 3, 0), 3, 1.0, 0, 1.0, 0, GOLD_RAIN_DUST));
+    }
+
+    /**
+     * Plays notification particle effect for MessageManager types.
+     */
+    public static void playNotificationEffect(Player player, MessageManager.NotificationType type) {
+        Location loc = player.getLocation().add(0, 1.5, 0);
+
+        switch (type) {
+            case SUCCESS -> {
+                show(player, Particle.HAPPY_VILLAGER, loc, 10, 0.5, 0.3, 0.5, 0.02);
+                show(player, Particle.DUST, loc, 8, 0.3, 0.3, 0.3, 0.01, GREEN_DUST);
+            }
+            case ERROR -> {
+                show(player, Particle.ANGRY_VILLAGER, loc, 8, 0.3, 0.3, 0.3, 0.02);
+                show(player, Particle.DUST, loc, 12, 0.4, 0.4, 0.4, 0.01, RED_DUST);
+            }
+            case UPGRADE -> playUpgradeEffect(player);
+            case LEVEL_UP -> playLevelUpEffect(player);
+            case CRYSTAL_ACTIVATE -> playCrystalActivationEffect(player);
+            default -> {
+                // Generic notification
+                show(player, Particle.ENCHANT, loc, 5, 0.3, 0.3, 0.3, 0.01);
+            }
+        }
+    }
+
+    /**
+     * Creates a continuous aura effect for active crystals.
+     */
+    public static void playActiveAuraEffect(Player player) {
+        Location loc = player.getLocation().add(0, 0.2, 0);
+
+        // Subtle continuous aura
+        double angle = System.currentTimeMillis() * 0.003;
+
+        for (int i = 0; i < 3; i++) {
+            double x = Math.cos(angle + i * 2.0944) * 0.8;
+            double z = Math.sin(angle + i * 2.0944) * 0.8;
+            Location auraLoc = loc.clone().add(x, 0, z);
+
+            show(player, Particle.ENCHANT, auraLoc, 1, 0.05, 0.05, 0.05, 0.001);
+        }
+    }
+
+    /**
+     * Plays mining enhancement particle effect.
+     */
+    public static void playMiningEnhanceEffect(Player player, Location blockLoc) {
+        Location center = blockLoc.clone().add(0.5, 0.5, 0.5);
+
+        // Enhanced mining particles
+        show(player, Particle.ENCHANTED_HIT, center, 10, 0.3, 0.3, 0.3, 0.05);
+        show(player, Particle.ENCHANT, center, 5, 0.2, 0.2, 0.2, 0.02);
+
+        // Gold sparkles for fortune effect
+        show(player, Particle.DUST, center, 8, 0.4, 0.4, 0.4, 0.01, GOLD_DUST);
+    }
+
+    /**
+     * Plays mining effect particles at a location with performance optimization.
+     */
+    public static void playMiningEffect(Location blockLoc, boolean isAutoSmelt) {
+        if (!shouldSpawnParticles()) return;
+
+        Location center = blockLoc.clone().add(0.5, 0.5, 0.5);
+        if (isAutoSmelt) {
+            // Auto-smelt fire effects
+            spawnParticleForNearbyPlayers(center, Particle.FLAME, calculateParticleCount(8), 0.3, 0.3, 0.3, 0.02);
+            spawnParticleForNearbyPlayers(center, Particle.SMOKE, calculateParticleCount(5), 0.2, 0.2, 0.2, 0.01);
+
+            // Orange dust for heat
+            spawnParticleForNearbyPlayers(center, Particle.DUST, calculateParticleCount(6), 0.3, 0.3, 0.3, 0.01, ORANGE_DUST);
+        } else {
+            // Fortune luck effects
+            spawnParticleForNearbyPlayers(center, Particle.ENCHANT, calculateParticleCount(10), 0.4, 0.4, 0.4, 0.05);
+            spawnParticleForNearbyPlayers(center, Particle.HAPPY_VILLAGER, calculateParticleCount(3), 0.2, 0.2, 0.2, 0.01);
+
+            // Gold sparkles for fortune
+            spawnParticleForNearbyPlayers(center, Particle.DUST, calculateParticleCount(8), 0.4, 0.4, 0.4, 0.01, GOLD_DUST);
+        }
+    }
+
+    /**
+     * Plays cooldown warning particle effect.
+     */
+    public static void playCooldownWarningEffect(Player player) {
+        Location loc = player.getLocation().add(0, 1, 0);
+
+        // Warning indicators
+        show(player, Particle.DUST, loc, 15, 0.5, 0.3, 0.5, 0.01, WARNING_DUST);
+        show(player, Particle.SMOKE, loc, 5, 0.2, 0.2, 0.2, 0.01);
+    }
+
+    /**
+     * Plays error particle effects around a player.
+     */
+    public static void playErrorEffect(Player player) {
+        Location loc = player.getLocation();
+        spawnParticleForNearbyPlayers(loc, Particle.SMOKE, 20, 0.5, 0.5, 0.5, 0.1);
+        spawnParticleForNearbyPlayers(loc, Particle.DUST, 15, 0.5, 0.5, 0.5, 0.1, RED_DUST);
+    }
+
+    /**
+     * Plays decay effect particles around a player.
+     */
+    public static void playCrystalDecayEffect(Player player) {
+        spawnCloud(player, Particle.SMOKE, 10, 2, 1, null);
+        spawnCloud(player, Particle.DUST, 5, 2, 1, GRAY_DUST);
+    }
+
+    /**
+     * Plays corruption effect particles around a player.
+     */
+    public static void playCrystalCorruptionEffect(Player player) {
+        spawnCloud(player, Particle.SMOKE, 15, 2, 1, null);
+        spawnCloud(player, Particle.DUST, 8, 2, 1, PURPLE_DUST);
+    }
+
+    /**
+     * Plays crystal destruction effect particles around a player.
+     */
+    public static void playCrystalDestructionEffect(Player player) {
+        spawnParticleForNearbyPlayers(player.getLocation(), Particle.EXPLOSION, 1, 0, 0, 0, 0);
+        spawnCloud(player, Particle.SMOKE, 20, 3, 1.5, null);
+        spawnCloud(player, Particle.DUST, 15, 3, 1.5, INDIGO_DUST);
+    }
+
+    /**
+     * Plays socket effect particles around a player.
+     */
+    public static void playCrystalSocketEffect(Player player) {
+        spawnCloud(player, Particle.END_ROD, 15, 2, 1, null);
+        spawnCloud(player, Particle.DUST, 8, 2, 1, PURPLE_DUST);
+    }
+
+    /**
+     * Plays socket failure effect particles around a player.
+     */
+    public static void playCrystalSocketFailEffect(Player player) {
+        spawnCloud(player, Particle.SMOKE, 20, 2, 1, null);
+        spawnCloud(player, Particle.DUST, 10, 2, 1, RED_DUST);
+    }
+
+    /**
+     * Plays socket removal effect particles around a player.
+     */
+    public static void playCrystalSocketRemoveEffect(Player player) {
+        spawnCloud(player, Particle.SMOKE, 10, 2, 1, null);
+        spawnCloud(player, Particle.DUST, 5, 2, 1, GRAY_DUST);
+    }
+
+    /**
+     * Plays fusion effect particles around a player.
+     */
+    public static void playCrystalFusionEffect(Player player) {
+        spawnCloud(player, Particle.END_ROD, 40, 3, 1.5, null);
+        spawnCloud(player, Particle.DUST, 20, 3, 1.5, LARGE_PURPLE_DUST);
+    }
+
+    /**
+     * Plays fusion failure effect particles around a player.
+     */
+    public static void playCrystalFusionFailEffect(Player player) {
+        spawnCloud(player, Particle.SMOKE, 30, 3, 1.5, null);
+        spawnCloud(player, Particle.DUST, 15, 3, 1.5, LARGE_RED_DUST);
+    }
+
+    /**
+     * Plays regeneration effect particles around a player.
+     */
+    public static void playCrystalRegenEffect(Player player) {
+        spawnCloud(player, Particle.END_ROD, 10, 2, 1, null);
+        spawnCloud(player, Particle.DUST, 5, 2, 1, AQUA_DUST);
+    }
+
+    public static String getStats() {
+        return ParticleQueue.getStats();
+    }
+}
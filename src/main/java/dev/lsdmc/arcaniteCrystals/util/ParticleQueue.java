@@ -0,0 +1,273 @@
+package dev.lsdmc.arcaniteCrystals.util;
+
+import dev.lsdmc.arcaniteCrystals.ArcaniteCrystals;
+import dev.lsdmc.arcaniteCrystals.config.ConfigManager;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Render queue behind {@link ParticleManager}.
+ * <p>
+ * Particle bursts requested during a tick are queued and sent together by one task at the start of
+ * the next tick. Before sending, bursts of the same particle at (almost) the same spot for the same
+ * audience are merged into a single packet, viewers out of {@code particles.range} are skipped, and
+ * each viewer receives at most {@code particles.viewer-budget} packets per tick; the rest of that
+ * viewer's bursts are dropped. Particle counts are scaled by the {@link EffectLod} level, the
+ * viewer's own setting and how many players can see the burst.
+ * <p>
+ * The same task drives every multi-tick effect, so a running animation costs a list entry instead of
+ * a scheduler task of its own.
+ */
+public class ParticleQueue {
+
+    /** Bursts closer than this, in blocks, are merged. */
+    private static final double MERGE_CELL = 0.25;
+
+    /**
+     * One frame of an animation; {@code frame} counts from 0.
+     */
+    @FunctionalInterface
+    public interface Frame {
+        void render(int frame);
+    }
+
+    /** What makes two bursts identical: audience, particle, spot and spread. */
+    private record Key(UUID viewer, World world, Particle particle, long cellX, long cellY, long cellZ,
+                       double offsetX, double offsetY, double offsetZ, double extra, Object data) {}
+
+    private record Burst(Player viewer, Location location, Particle particle, int count,
+                         double offsetX, double offsetY, double offsetZ, double extra, Object data) {
+        Key key() {
+            return new Key(viewer == null ? null : viewer.getUniqueId(), location.getWorld(), particle,
+                    Math.round(location.getX() / MERGE_CELL), Math.round(location.getY() / MERGE_CELL),
+                    Math.round(location.getZ() / MERGE_CELL), offsetX, offsetY, offsetZ, extra, data);
+        }
+    }
+
+    private static final class Animation {
+        final Player owner;
+        final long period;
+        final int frames;
+        final Frame frame;
+        long nextTick;
+        int played;
+
+        Animation(Player owner, long delay, long period, int frames, Frame frame) {
+            this.owner = owner;
+            this.period = Math.max(1, period);
+            this.frames = frames;
+            this.frame = frame;
+            this.nextTick = currentTick + Math.max(1, delay);
+        }
+    }
+
+    // Requests may come from any thread; the task drains them on the main thread
+    private static final Queue<Burst> pending = new ConcurrentLinkedQueue<>();
+    private static final Queue<Animation> startedAnimations = new ConcurrentLinkedQueue<>();
+    private static final List<Animation> animations = new ArrayList<>();
+
+    private static BukkitTask task;
+    private static volatile long currentTick;
+
+    // Configuration snapshot
+    private static volatile double rangeSquared = 32 * 32;
+    private static volatile int viewerBudget = 48;
+    private static volatile int maxMergedCount = 100;
+
+    private static final AtomicLong ticks = new AtomicLong();
+    private static final AtomicLong packets = new AtomicLong();
+    private static final AtomicLong peakPackets = new AtomicLong();
+    private static final AtomicLong requested = new AtomicLong();
+    private static final AtomicLong merged = new AtomicLong();
+    private static final AtomicLong outOfRange = new AtomicLong();
+    private static final AtomicLong overBudget = new AtomicLong();
+    private static final AtomicLong lodSkipped = new AtomicLong();
+
+    /**
+     * Starts the flush task. Safe to call again after a reload.
+     */
+    public static void start() {
+        if (task != null) {
+            task.cancel();
+        }
+        reloadConfig();
+        task = Bukkit.getScheduler().runTaskTimer(ArcaniteCrystals.getInstance(), ParticleQueue::tick, 1L, 1L);
+    }
+
+    /**
+     * Stops the flush task, dropping queued bursts and running animations.
+     */
+    public static void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        pending.clear();
+        startedAnimations.clear();
+        animations.clear();
+    }
+
+    public static void reloadConfig() {
+        var config = ConfigManager.getConfig();
+        int range = config.getInt("particles.range", 32);
+        rangeSquared = (double) range * range;
+        viewerBudget = Math.max(1, config.getInt("particles.viewer-budget", 48));
+        maxMergedCount = Math.max(10, config.getInt("particles.max-count", 100));
+    }
+
+    /**
+     * Queues a burst seen only by {@code viewer}.
+     */
+    public static void show(Player viewer, Particle particle, Location location, int count,
+                            double offsetX, double offsetY, double offsetZ, double extra, Object data) {
+        if (count <= 0) return;
+        requested.incrementAndGet();
+        pending.add(new Burst(viewer, location.clone(), particle, count, offsetX, offsetY, offsetZ, extra, data));
+    }
+
+    /**
+     * Queues a burst seen by every player in range of {@code location}.
+     */
+    public static void broadcast(Particle particle, Location location, int count,
+                                 double offsetX, double offsetY, double offsetZ, double extra, Object data) {
+        show(null, particle, location, count, offsetX, offsetY, offsetZ, extra, data);
+    }
+
+    /**
+     * Plays {@code frames} frames, the first after {@code delay} ticks and then every {@code period}
+     * ticks, for as long as {@code owner} stays online.
+     */
+    public static void animate(Player owner, long delay, long period, int frames, Frame frame) {
+        if (EffectLod.hasOptOut(owner, EffectLod.NO_ANIMATIONS)) return;
+        startedAnimations.add(new Animation(owner, delay, period, frames, frame));
+    }
+
+    private static void tick() {
+        currentTick++;
+        EffectLod.sample();
+        runAnimations();
+        flush();
+    }
+
+    private static void runAnimations() {
+        Animation started;
+        while ((started = startedAnimations.poll()) != null) {
+            animations.add(started);
+        }
+
+        Iterator<Animation> it = animations.iterator();
+        while (it.hasNext()) {
+            Animation animation = it.next();
+            if (!animation.owner.isOnline()) {
+                it.remove();
+                continue;
+            }
+            if (currentTick < animation.nextTick) continue;
+            try {
+                if (EffectLod.renderFrame(animation.played)) {
+                    animation.frame.render(animation.played);
+                }
+            } catch (Exception e) {
+                ArcaniteCrystals.getInstance().getLogger().warning("Particle animation failed: " + e.getMessage());
+                it.remove();
+                continue;
+            }
+            animation.played++;
+            animation.nextTick += animation.period;
+            if (animation.played >= animation.frames) {
+                it.remove();
+            }
+        }
+    }
+
+    private static void flush() {
+        ticks.incrementAndGet();
+        if (pending.isEmpty()) return;
+
+        // Merge identical bursts, keeping the first one's position
+        Map<Key, Burst> bursts = new LinkedHashMap<>();
+        Burst burst;
+        while ((burst = pending.poll()) != null) {
+            Burst first = bursts.putIfAbsent(burst.key(), burst);
+            if (first != null) {
+                int count = Math.min(maxMergedCount, first.count() + burst.count());
+                bursts.put(burst.key(), new Burst(first.viewer(), first.location(), first.particle(), count,
+                        first.offsetX(), first.offsetY(), first.offsetZ(), first.extra(), first.data()));
+                merged.incrementAndGet();
+            }
+        }
+
+        Map<UUID, int[]> sent = new HashMap<>();
+        List<Player> audience = new ArrayList<>();
+        long tickPackets = 0;
+        for (Burst b : bursts.values()) {
+            World world = b.location().getWorld();
+            if (world == null) continue;
+            if (b.viewer() != null) {
+                if (b.viewer().isOnline() && b.viewer().getWorld().equals(world)) {
+                    tickPackets += send(b.viewer(), b, sent, 1);
+                }
+                continue;
+            }
+            audience.clear();
+            for (Player viewer : world.getPlayers()) {
+                if (viewer.getLocation().distanceSquared(b.location()) > rangeSquared) {
+                    outOfRange.incrementAndGet();
+                } else {
+                    audience.add(viewer);
+                }
+            }
+            for (Player viewer : audience) {
+                tickPackets += send(viewer, b, sent, audience.size());
+            }
+        }
+
+        packets.addAndGet(tickPackets);
+        peakPackets.accumulateAndGet(tickPackets, Math::max);
+    }
+
+    private static int send(Player viewer, Burst b, Map<UUID, int[]> sent, int audience) {
+        int particles = (int) Math.round(b.count() * EffectLod.particleScale(viewer, audience));
+        if (particles <= 0) {
+            lodSkipped.incrementAndGet();
+            return 0;
+        }
+        int[] count = sent.computeIfAbsent(viewer.getUniqueId(), id -> new int[1]);
+        if (count[0] >= viewerBudget) {
+            overBudget.incrementAndGet();
+            return 0;
+        }
+        try {
+            viewer.spawnParticle(b.particle(), b.location(), particles,
+                    b.offsetX(), b.offsetY(), b.offsetZ(), b.extra(), b.data());
+        } catch (Exception e) {
+            // Silently ignore individual player particle failures
+            return 0;
+        }
+        count[0]++;
+        return 1;
+    }
+
+    public static String getStats() {
+        long tickCount = Math.max(1, ticks.get());
+        return String.format("Packets: %d (%.2f/tick, peak %d), Bursts: %d requested, %d merged, "
+                        + "Culled: %d out of range, %d over budget, %d by detail level, Animations: %d",
+                packets.get(), packets.get() / (double) tickCount, peakPackets.get(), requested.get(),
+                merged.get(), outOfRange.get(), overBudget.get(), lodSkipped.get(), animations.size());
+    }
+}